@@ -3,6 +3,7 @@ import type {
 	EmployeeCreateRequest,
 	EmployeeUpdateRequest,
 	EmployeeListResponse,
+	EmployeeChangeNotification,
 	ApiResponse
 } from '$lib/types/employee';
 
@@ -79,6 +80,29 @@ class EmployeeService {
 		}
 		return response.json();
 	}
+
+	/**
+	 * Calls onChange for every committed employee or employment information change, instead of polling pages.
+	 * The browser reconnects on its own when the server drops a slow subscriber; re-fetch after onReconnect.
+	 * Returns a function that closes the stream.
+	 */
+	subscribeToChanges(
+		onChange: (change: EmployeeChangeNotification) => void,
+		onReconnect?: () => void
+	): () => void {
+		const source = new EventSource(`${this.apiBase}/api/v1/employees/stream`);
+		let opened = false;
+		source.addEventListener('open', () => {
+			if (opened) {
+				onReconnect?.();
+			}
+			opened = true;
+		});
+		source.addEventListener('change', (event) => {
+			onChange(JSON.parse((event as MessageEvent<string>).data));
+		});
+		return () => source.close();
+	}
 }
 
 export const employeeService = new EmployeeService();
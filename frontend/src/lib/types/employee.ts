@@ -61,3 +61,10 @@ export interface EmployeeListResponse {
 	data: Employee[];
 	pagination: Pagination;
 }
+
+export interface EmployeeChangeNotification {
+	id: string;
+	type: 'EMPLOYEE' | 'EMPLOYMENT_INFORMATION';
+	action: 'CREATE' | 'UPDATE' | 'DELETE';
+	updatedAt: string;
+}
@@ -0,0 +1,200 @@
+package dev.araopj.hrplatformapi.audit.controller;
+
+import dev.araopj.hrplatformapi.audit.dto.request.AuditLogQuery;
+import dev.araopj.hrplatformapi.audit.dto.response.AuditStateResponse;
+import dev.araopj.hrplatformapi.audit.service.AuditLogService;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.StandardApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+/**
+ * REST controller for searching the audit trail and rebuilding past versions of an entity from it.
+ * Pages are streamed as they are read and addressed with an opaque cursor instead of a page number.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/audit-logs")
+@RequiredArgsConstructor
+@Tag(
+        name = "Audit Logs",
+        description = "Endpoints for searching the audit trail of creates, updates and deletes."
+)
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    /**
+     * Searches the audit logs, newest first.
+     *
+     * @param entityType The entity type to filter by.
+     * @param entityId   The entity ID to filter by.
+     * @param actor      The actor to filter by.
+     * @param from       The inclusive lower bound of the time range.
+     * @param to         The exclusive upper bound of the time range.
+     * @param cursor     The nextCursor of the previous page.
+     * @param size       The page size; defaults to 100.
+     * @return A ResponseEntity streaming a StandardApiResponse with the audit logs and the next cursor.
+     * @throws InvalidRequestException If the size, range or cursor is invalid.
+     */
+    @Operation(
+            summary = "Search audit logs",
+            description = "Retrieve audit logs newest first, filtered by entity type, entity ID, actor and a time range [from, to). Pass 'pagination.nextCursor' of a page as 'cursor' to get the next one; it is null on the last page. Only the 'jdbc' audit sink writes the table this reads; with another sink the request is refused with 501.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved audit logs",
+                            content = @Content(mediaType = "application/json")
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid parameters provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "501",
+                            description = "Audit events are not written to the audit_log table (hr-platform.audit.sink is not jdbc)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> search(
+            @RequestParam(required = false)
+            @Parameter(description = "Entity type, e.g. EMPLOYEE or SALARY")
+            EntityType entityType,
+            @RequestParam(required = false)
+            @Parameter(description = "Entity ID")
+            String entityId,
+            @RequestParam(required = false)
+            @Parameter(description = "Actor that made the change")
+            String actor,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Inclusive start of the time range (ISO-8601 instant)")
+            Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Exclusive end of the time range (ISO-8601 instant)")
+            Instant to,
+            @RequestParam(required = false)
+            @Parameter(description = "The 'pagination.nextCursor' of the previous page")
+            String cursor,
+            @RequestParam(defaultValue = "100")
+            @Parameter(description = "Number of audit logs per page")
+            int size
+    ) throws InvalidRequestException {
+        log.debug("Request to search audit logs of [{}] [{}] by [{}] from [{}] to [{}]", entityType, entityId, actor, from, to);
+        final var STREAM = auditLogService.search(AuditLogQuery.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .actor(actor)
+                .from(from)
+                .to(to)
+                .cursor(cursor)
+                .size(size)
+                .build());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(STREAM::writeTo);
+    }
+
+    /**
+     * Rebuilds the audited properties of an entity as they were at a point in time.
+     *
+     * @param entityType The entity type.
+     * @param entityId   The entity ID.
+     * @param asOf       The point in time; defaults to now.
+     * @return A ResponseEntity containing a StandardApiResponse with the AuditStateResponse.
+     * @throws NotFoundException If the entity has no audited version at that time or was deleted.
+     */
+    @Operation(
+            summary = "Get entity state as of a point in time",
+            description = "Rebuild the audited properties of an entity as of 'asOf' (defaults to now) from its latest create or checkpoint and the updates after it. Redacted properties read '****'. Only the 'jdbc' audit sink writes the table this reads; with another sink the request is refused with 501.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully rebuilt the entity state",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "No audited version at that time, or the entity was deleted",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "501",
+                            description = "Audit events are not written to the audit_log table (hr-platform.audit.sink is not jdbc)",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/{entityType}/{entityId}/state")
+    public ResponseEntity<StandardApiResponse<AuditStateResponse>> stateAt(
+            @PathVariable
+            @Parameter(description = "Entity type, e.g. EMPLOYEE or SALARY", required = true)
+            EntityType entityType,
+            @PathVariable
+            @Parameter(description = "Entity ID", required = true)
+            String entityId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Point in time to rebuild (ISO-8601 instant); defaults to now")
+            Instant asOf
+    ) throws NotFoundException {
+        final var AS_OF = asOf != null ? asOf : Instant.now();
+        log.debug("Request to rebuild [{}] [{}] as of [{}]", entityType, entityId, AS_OF);
+        return ResponseEntity.ok(StandardApiResponse.success(auditLogService.stateAt(entityType, entityId, AS_OF)));
+    }
+}
@@ -0,0 +1,22 @@
+package dev.araopj.hrplatformapi.audit.dto.request;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * Filters of an audit log search, combined with AND; a {@code null} filter does not filter.
+ * {@code from} is inclusive and {@code to} exclusive. {@code cursor} is the {@code nextCursor} of the previous page.
+ */
+@Builder
+public record AuditLogQuery(
+        EntityType entityType,
+        String entityId,
+        String actor,
+        Instant from,
+        Instant to,
+        String cursor,
+        int size
+) {
+}
@@ -0,0 +1,21 @@
+package dev.araopj.hrplatformapi.audit.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * The audited properties of an entity as of a point in time, rebuilt from the audit log. {@code auditLogId} and
+ * {@code occurredAt} identify the last change applied; redacted properties read {@code "****"}.
+ */
+@Builder
+public record AuditStateResponse(
+        EntityType entityType,
+        String entityId,
+        String auditLogId,
+        Instant occurredAt,
+        JsonNode state
+) {
+}
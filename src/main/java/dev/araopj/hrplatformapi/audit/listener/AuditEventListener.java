@@ -0,0 +1,154 @@
+package dev.araopj.hrplatformapi.audit.listener;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.service.AuditService;
+import dev.araopj.hrplatformapi.employee.model.*;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.*;
+
+/**
+ * Captures the changes of audited entities from the state arrays Hibernate holds at flush time and hands them to
+ * {@link AuditService}.
+ * <p>
+ * An update records only the dirty properties Hibernate found while flushing, with their old and new values, so no
+ * snapshot, extra SELECT or reflective diff is needed. A create records the non-null properties, a delete the
+ * non-null properties as they were. For checkpoints, an update also offers all non-null properties after the change,
+ * read lazily from the same state array. Collections and the {@link dev.araopj.hrplatformapi.utils.EntityTimestamp}
+ * timestamps are left out, and a to-one association is recorded as {@code <property>Id}. Set-based JDBC writes bypass
+ * the session and are not captured here; bulk salary adjustments record their changes through {@link AuditService}
+ * themselves.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Map<Class<?>, EntityType> AUDITED_ENTITIES = Map.of(
+            Employee.class, EMPLOYEE,
+            EmploymentInformation.class, EMPLOYMENT_INFORMATION,
+            IdDocument.class, ID_DOCUMENT,
+            IdDocumentType.class, ID_DOCUMENT_TYPE,
+            Position.class, POSITION,
+            Salary.class, SALARY,
+            Workplace.class, WORKPLACE
+    );
+    private static final Set<String> IGNORED_PROPERTIES = Set.of("createdAt", "updatedAt", "version");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditService auditService;
+
+    @PostConstruct
+    void register() {
+        final var REGISTRY = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        REGISTRY.appendListeners(EventType.POST_INSERT, this);
+        REGISTRY.appendListeners(EventType.POST_UPDATE, this);
+        REGISTRY.appendListeners(EventType.POST_DELETE, this);
+        log.info("Auditing changes of {}", AUDITED_ENTITIES.values());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        final var ENTITY_TYPE = AUDITED_ENTITIES.get(event.getPersister().getMappedClass());
+        if (ENTITY_TYPE == null) {
+            return;
+        }
+        final var AFTER = properties(event.getPersister(), event.getState(), null, event.getSession());
+        auditService.record(ENTITY_TYPE, String.valueOf(event.getId()), AuditAction.CREATE, null, AFTER);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        final var ENTITY_TYPE = AUDITED_ENTITIES.get(event.getPersister().getMappedClass());
+        if (ENTITY_TYPE == null) {
+            return;
+        }
+        final var OLD_STATE = event.getOldState();
+        if (OLD_STATE == null) {
+            // updated without being loaded first: the previous values are unknown
+            final var AFTER = properties(event.getPersister(), event.getState(), null, event.getSession());
+            auditService.record(ENTITY_TYPE, String.valueOf(event.getId()), AuditAction.UPDATE, null, AFTER, () -> AFTER);
+            return;
+        }
+
+        var dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            dirty = event.getPersister().findDirty(event.getState(), OLD_STATE, event.getEntity(), event.getSession());
+        }
+        if (dirty == null) {
+            return;
+        }
+        final var AFTER = properties(event.getPersister(), event.getState(), dirty, event.getSession());
+        if (AFTER.isEmpty()) {
+            log.debug("No audited property of [{}] with id [{}] changed", ENTITY_TYPE, event.getId());
+            return;
+        }
+        final var BEFORE = properties(event.getPersister(), OLD_STATE, dirty, event.getSession());
+        auditService.record(ENTITY_TYPE, String.valueOf(event.getId()), AuditAction.UPDATE, BEFORE, AFTER,
+                () -> properties(event.getPersister(), event.getState(), null, event.getSession()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        final var ENTITY_TYPE = AUDITED_ENTITIES.get(event.getPersister().getMappedClass());
+        if (ENTITY_TYPE == null) {
+            return;
+        }
+        final var BEFORE = properties(event.getPersister(), event.getDeletedState(), null, event.getSession());
+        auditService.record(ENTITY_TYPE, String.valueOf(event.getId()), AuditAction.DELETE, BEFORE, null);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Reads the audited properties at {@code indexes} (or all of them, skipping nulls, if {@code null}) out of a state
+     * array, keyed by property name.
+     */
+    static Map<String, Object> properties(EntityPersister persister, Object[] state, int[] indexes, SharedSessionContractImplementor session) {
+        final var NAMES = persister.getPropertyNames();
+        final var TYPES = persister.getPropertyTypes();
+        final var PROPERTIES = new LinkedHashMap<String, Object>();
+        final var COUNT = indexes != null ? indexes.length : state.length;
+        for (int i = 0; i < COUNT; i++) {
+            final var INDEX = indexes != null ? indexes[i] : i;
+            final var VALUE = state[INDEX];
+            if (TYPES[INDEX].isCollectionType() || IGNORED_PROPERTIES.contains(NAMES[INDEX]) || (indexes == null && VALUE == null)) {
+                continue;
+            }
+            if (TYPES[INDEX].isEntityType()) {
+                PROPERTIES.put(NAMES[INDEX] + "Id", VALUE != null ? identifier(VALUE, session) : null);
+            } else {
+                PROPERTIES.put(NAMES[INDEX], VALUE);
+            }
+        }
+        return PROPERTIES;
+    }
+
+    private static Object identifier(Object entity, SharedSessionContractImplementor session) {
+        final var LAZY_INITIALIZER = HibernateProxy.extractLazyInitializer(entity);
+        if (LAZY_INITIALIZER != null) {
+            return LAZY_INITIALIZER.getInternalIdentifier();
+        }
+        return session.getEntityPersister(null, entity).getIdentifier(entity, session);
+    }
+}
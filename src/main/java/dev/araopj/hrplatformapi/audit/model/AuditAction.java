@@ -0,0 +1,16 @@
+package dev.araopj.hrplatformapi.audit.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum AuditAction {
+
+    CREATE("C", "Created"),
+    UPDATE("U", "Updated"),
+    DELETE("D", "Deleted");
+
+    private final String code;
+    private final String description;
+}
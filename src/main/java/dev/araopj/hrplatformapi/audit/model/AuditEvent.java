@@ -0,0 +1,26 @@
+package dev.araopj.hrplatformapi.audit.model;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * A change waiting to be written to the {@code audit_log} table. {@code changes} is already redacted JSON, so an
+ * event holds no reference to the entity it describes and can be queued or spilled to disk as is.
+ * <p>
+ * {@code snapshot} is the redacted JSON of all audited properties after an update, set on every
+ * {@code hr-platform.audit.checkpoint-interval}th update of an entity so a version can be rebuilt without replaying
+ * its whole history; {@code null} otherwise.
+ */
+@Builder
+public record AuditEvent(
+        String actor,
+        EntityType entityType,
+        String entityId,
+        AuditAction action,
+        String changes,
+        String snapshot,
+        Instant occurredAt
+) {
+}
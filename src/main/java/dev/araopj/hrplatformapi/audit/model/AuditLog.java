@@ -0,0 +1,72 @@
+package dev.araopj.hrplatformapi.audit.model;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Length;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * One create, update or delete of an entity: who made it, when, and the redacted values of the fields it changed.
+ * <p>
+ * Rows are only ever inserted, in batches and off the request thread, by
+ * {@link dev.araopj.hrplatformapi.audit.service.impl.AuditLogWriter}. {@code payload} holds a JSON object with a
+ * {@code before} and/or {@code after} object of the changed fields; fields configured in
+ * {@code hr-platform.audit.redacted-fields} are replaced by {@code "****"}. On a checkpoint update, {@code snapshot}
+ * holds all audited fields after the change, so a version is rebuilt from the latest create or checkpoint before it
+ * plus the updates since. Both are Deflate-compressed with a preset dictionary; see
+ * {@code dev.araopj.hrplatformapi.audit.service.impl.AuditPayloadCodec}.
+ * <p>
+ * Every index ends in {@code (occurred_at, id)}, so each filter of {@code GET /api/v1/audit-logs} is a range scan in
+ * keyset order.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Immutable
+@Table(
+        name = "audit_log",
+        indexes = {
+                @Index(name = "idx_audit_log_entity", columnList = "entity_type, entity_id, occurred_at, id"),
+                @Index(name = "idx_audit_log_entity_type", columnList = "entity_type, occurred_at, id"),
+                @Index(name = "idx_audit_log_actor", columnList = "actor, occurred_at, id"),
+                @Index(name = "idx_audit_log_occurred_at_id", columnList = "occurred_at, id")
+        }
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class AuditLog extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    private String actor;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private EntityType entityType;
+
+    @Column(nullable = false, updatable = false)
+    private String entityId;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private AuditAction action;
+
+    @Column(nullable = false, updatable = false, length = Length.LONG32)
+    private byte[] payload;
+
+    @Column(updatable = false, length = Length.LONG32)
+    private byte[] snapshot;
+
+    @Column(nullable = false, updatable = false)
+    private Instant occurredAt;
+}
@@ -0,0 +1,9 @@
+package dev.araopj.hrplatformapi.audit.model;
+
+/**
+ * An {@link AuditEvent} read back from an audit segment, with the sequence number it was appended under.
+ * Sequence numbers increase by one per event across all segments, so a reader that tails the store resumes from
+ * {@code sequence + 1}.
+ */
+public record AuditSegmentRecord(long sequence, AuditEvent event) {
+}
@@ -0,0 +1,305 @@
+package dev.araopj.hrplatformapi.audit.segment;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import dev.araopj.hrplatformapi.audit.model.AuditSegmentRecord;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * One fixed-size, memory-mapped audit segment file named after the sequence number of its first record.
+ * <p>
+ * A record is {@code int length | int crc32c | body}, where the body is
+ * {@code long sequence | long epochSecond | int nano} followed by the actor, entity type, entity id, action and
+ * changes, each as {@code int byteLength | UTF-8 bytes}. The file is preallocated and zero-filled, so a length of 0
+ * marks the end. The length is written after the body and checksum, so a record whose length is visible is complete;
+ * a torn record left by a crash fails its checksum and is cut off when the segment is reopened.
+ * <p>
+ * Two sparse indexes are kept in memory and rebuilt by scanning the file on open. Every {@code indexInterval}
+ * bytes, the position, sequence and the latest timestamp of all records before it are noted, so a time or sequence
+ * seek only scans from the nearest entry. A Bloom filter over {@code entityType:entityId} lets entity lookups skip
+ * segments that never saw the entity.
+ * <p>
+ * Only one thread appends. Readers scan a duplicate of the mapping up to {@code committed}, which is volatile and
+ * advanced after a record is fully written.
+ */
+final class AuditSegment {
+
+    static final String EXTENSION = ".seg";
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    private static final int FILTER_BITS = 1 << 16;
+    private static final int FILTER_HASHES = 3;
+
+    private final long baseSequence;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int indexInterval;
+    private final long[] filter = new long[FILTER_BITS / Long.SIZE];
+    private int[] indexPositions = new int[16];
+    private long[] indexSequences = new long[16];
+    private long[] indexLatestBefore = new long[16];
+    private int indexSize;
+    private int lastIndexedPosition = Integer.MIN_VALUE;
+    private long latestTime = Long.MIN_VALUE;
+    private long nextSequence;
+    private volatile int committed;
+
+    private AuditSegment(long baseSequence, Path path, MappedByteBuffer buffer, int indexInterval) {
+        this.baseSequence = baseSequence;
+        this.path = path;
+        this.buffer = buffer;
+        this.indexInterval = indexInterval;
+        this.nextSequence = baseSequence;
+    }
+
+    static AuditSegment create(Path directory, long baseSequence, int size, int indexInterval) throws IOException {
+        final var PATH = directory.resolve("%020d%s".formatted(baseSequence, EXTENSION));
+        try (var channel = FileChannel.open(PATH, CREATE_NEW, READ, WRITE)) {
+            return new AuditSegment(baseSequence, PATH, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), indexInterval);
+        }
+    }
+
+    /**
+     * Maps an existing segment, rebuilds its indexes and cuts off a torn last record.
+     */
+    static AuditSegment open(Path path, int indexInterval) throws IOException {
+        try (var channel = FileChannel.open(path, READ, WRITE)) {
+            final var SEGMENT = new AuditSegment(baseSequenceOf(path), path, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()), indexInterval);
+            SEGMENT.recover();
+            return SEGMENT;
+        }
+    }
+
+    static long baseSequenceOf(Path path) {
+        final var NAME = path.getFileName().toString();
+        return Long.parseLong(NAME.substring(0, NAME.length() - EXTENSION.length()));
+    }
+
+    static String entityKey(EntityType entityType, String entityId) {
+        return entityType.name() + ':' + entityId;
+    }
+
+    static long timeKey(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * Appends an encoded body (see {@link #encode}).
+     *
+     * @return {@code false} if the record does not fit in the remaining space
+     */
+    synchronized boolean append(ByteBuffer body, long timeKey, String entityKey) {
+        final var LENGTH = body.remaining();
+        final var POSITION = committed;
+        if ((long) POSITION + HEADER_SIZE + LENGTH > buffer.capacity()) {
+            return false;
+        }
+        final var SEQUENCE = body.getLong(body.position());
+        final var CRC = new CRC32C();
+        CRC.update(body.duplicate());
+        buffer.put(POSITION + HEADER_SIZE, body, body.position(), LENGTH);
+        buffer.putInt(POSITION + Integer.BYTES, (int) CRC.getValue());
+        buffer.putInt(POSITION, LENGTH);
+
+        indexed(POSITION, SEQUENCE, timeKey, entityKey);
+        committed = POSITION + HEADER_SIZE + LENGTH;
+        return true;
+    }
+
+    /**
+     * Visits the records from {@code position}, a value returned by {@link #seekSequence} or {@link #seekTime},
+     * until the end or until {@code visitor} returns {@code false}.
+     *
+     * @return {@code false} if the visitor stopped the scan
+     */
+    boolean scan(int position, Predicate<AuditSegmentRecord> visitor) {
+        final var END = committed;
+        final var VIEW = buffer.duplicate();
+        for (var current = position; current < END; ) {
+            final var LENGTH = VIEW.getInt(current);
+            if (!visitor.test(decode(VIEW.slice(current + HEADER_SIZE, LENGTH)))) {
+                return false;
+            }
+            current += HEADER_SIZE + LENGTH;
+        }
+        return true;
+    }
+
+    /**
+     * @return the position of an index entry at or before the record with {@code sequence}
+     */
+    synchronized int seekSequence(long sequence) {
+        final var ENTRY = Arrays.binarySearch(indexSequences, 0, indexSize, sequence);
+        final var FLOOR = ENTRY >= 0 ? ENTRY : -ENTRY - 2;
+        return FLOOR >= 0 ? indexPositions[FLOOR] : 0;
+    }
+
+    /**
+     * @return a position before which every record is older than {@code timeKey}
+     */
+    synchronized int seekTime(long timeKey) {
+        int low = 0;
+        int high = indexSize - 1;
+        int found = -1;
+        while (low <= high) {
+            final var MIDDLE = (low + high) >>> 1;
+            if (indexLatestBefore[MIDDLE] < timeKey) {
+                found = MIDDLE;
+                low = MIDDLE + 1;
+            } else {
+                high = MIDDLE - 1;
+            }
+        }
+        return found >= 0 ? indexPositions[found] : 0;
+    }
+
+    synchronized boolean mightContain(String entityKey) {
+        final var HASH = entityKey.hashCode();
+        final var STEP = mix(HASH);
+        for (int i = 0; i < FILTER_HASHES; i++) {
+            final var BIT = Math.floorMod(HASH + i * STEP, FILTER_BITS);
+            if ((filter[BIT >>> 6] & (1L << BIT)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized long latestTime() {
+        return latestTime;
+    }
+
+    synchronized long nextSequence() {
+        return nextSequence;
+    }
+
+    long baseSequence() {
+        return baseSequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private void indexed(int position, long sequence, long timeKey, String entityKey) {
+        if (position - lastIndexedPosition >= indexInterval) {
+            if (indexSize == indexPositions.length) {
+                indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+                indexSequences = Arrays.copyOf(indexSequences, indexSize * 2);
+                indexLatestBefore = Arrays.copyOf(indexLatestBefore, indexSize * 2);
+            }
+            indexPositions[indexSize] = position;
+            indexSequences[indexSize] = sequence;
+            indexLatestBefore[indexSize] = latestTime;
+            indexSize++;
+            lastIndexedPosition = position;
+        }
+        latestTime = Math.max(latestTime, timeKey);
+        nextSequence = sequence + 1;
+
+        final var HASH = entityKey.hashCode();
+        final var STEP = mix(HASH);
+        for (int i = 0; i < FILTER_HASHES; i++) {
+            final var BIT = Math.floorMod(HASH + i * STEP, FILTER_BITS);
+            filter[BIT >>> 6] |= 1L << BIT;
+        }
+    }
+
+    private synchronized void recover() {
+        final var CAPACITY = buffer.capacity();
+        var position = 0;
+        while (position + HEADER_SIZE <= CAPACITY) {
+            final var LENGTH = buffer.getInt(position);
+            if (LENGTH <= 0 || (long) position + HEADER_SIZE + LENGTH > CAPACITY) {
+                break;
+            }
+            final var BODY = buffer.slice(position + HEADER_SIZE, LENGTH);
+            final var CRC = new CRC32C();
+            CRC.update(BODY.duplicate());
+            if ((int) CRC.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            final var RECORD = decode(BODY);
+            indexed(position, RECORD.sequence(), timeKey(RECORD.event().occurredAt()),
+                    entityKey(RECORD.event().entityType(), RECORD.event().entityId()));
+            position += HEADER_SIZE + LENGTH;
+        }
+        if (position + Integer.BYTES <= CAPACITY && buffer.getInt(position) != 0) {
+            // a torn record: zero everything after the last good one so it is never read
+            for (var i = position; i < CAPACITY; i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+        committed = position;
+    }
+
+    /**
+     * Encodes a record body into {@code target}, growing it if needed, and flips it for {@link #append}.
+     *
+     * @return the buffer holding the body, {@code target} or a larger replacement
+     */
+    static ByteBuffer encode(ByteBuffer target, long sequence, AuditEvent event) {
+        final var ACTOR = bytes(event.actor());
+        final var ENTITY_TYPE = bytes(event.entityType().name());
+        final var ENTITY_ID = bytes(event.entityId());
+        final var ACTION = bytes(event.action().name());
+        final var CHANGES = bytes(event.changes());
+        final var SIZE = Long.BYTES * 2 + Integer.BYTES * 6
+                + ACTOR.length + ENTITY_TYPE.length + ENTITY_ID.length + ACTION.length + CHANGES.length;
+
+        final var BODY = target.capacity() >= SIZE ? target.clear() : ByteBuffer.allocate(Math.max(SIZE, target.capacity() * 2));
+        BODY.putLong(sequence)
+                .putLong(event.occurredAt().getEpochSecond())
+                .putInt(event.occurredAt().getNano());
+        for (var value : new byte[][]{ACTOR, ENTITY_TYPE, ENTITY_ID, ACTION, CHANGES}) {
+            BODY.putInt(value.length).put(value);
+        }
+        return BODY.flip();
+    }
+
+    private static AuditSegmentRecord decode(ByteBuffer body) {
+        final var SEQUENCE = body.getLong();
+        final var OCCURRED_AT = Instant.ofEpochSecond(body.getLong(), body.getInt());
+        return new AuditSegmentRecord(SEQUENCE, AuditEvent.builder()
+                .actor(string(body))
+                .entityType(EntityType.valueOf(string(body)))
+                .entityId(string(body))
+                .action(AuditAction.valueOf(string(body)))
+                .changes(string(body))
+                .occurredAt(OCCURRED_AT)
+                .build());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer body) {
+        final var VALUE = new byte[body.getInt()];
+        body.get(VALUE);
+        return new String(VALUE, StandardCharsets.UTF_8);
+    }
+
+    private static int mix(int hash) {
+        var mixed = hash * 0x9E3779B9;
+        mixed ^= mixed >>> 16;
+        return mixed | 1;
+    }
+}
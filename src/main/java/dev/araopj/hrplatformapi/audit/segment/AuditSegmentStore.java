@@ -0,0 +1,188 @@
+package dev.araopj.hrplatformapi.audit.segment;
+
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import dev.araopj.hrplatformapi.audit.model.AuditSegmentRecord;
+import dev.araopj.hrplatformapi.audit.service.AuditSink;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An {@link AuditSink} that appends audit events to rolling, memory-mapped segment files in
+ * {@code hr-platform.audit.segment.dir} instead of the database. Enabled with {@code hr-platform.audit.sink: segment}.
+ * <p>
+ * An append is a copy into the page cache, so a batch costs microseconds and no database round trip. When a record
+ * does not fit in the active segment, the segment is forced to disk and a new one of
+ * {@code hr-platform.audit.segment.size} is started. Between rolls, records survive a crash of the JVM but not of the
+ * machine. Delivery is at-least-once: a batch that fails part way is spilled and appended again as a whole.
+ * <p>
+ * Readers can {@link #tail} from a sequence number, {@link #readSince} a point in time or {@link #findByEntity}; all
+ * return records in append order. See {@link AuditSegment} for the file format and indexes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "hr-platform.audit", name = "sink", havingValue = "segment")
+public class AuditSegmentStore implements AuditSink {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final CopyOnWriteArrayList<AuditSegment> segments = new CopyOnWriteArrayList<>();
+    private ByteBuffer body = ByteBuffer.allocate(4096);
+
+    public AuditSegmentStore(
+            @Value("${hr-platform.audit.segment.dir:${java.io.tmpdir}/hr-platform/audit-segments}") Path directory,
+            @Value("${hr-platform.audit.segment.size:64MB}") DataSize segmentSize,
+            @Value("${hr-platform.audit.segment.index-interval:4KB}") DataSize indexInterval
+    ) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.indexInterval = Math.toIntExact(indexInterval.toBytes());
+
+        try (var files = Files.list(directory)) {
+            for (var file : files.filter(path -> path.getFileName().toString().endsWith(AuditSegment.EXTENSION))
+                    .sorted(Comparator.comparingLong(AuditSegment::baseSequenceOf))
+                    .toList()) {
+                segments.add(AuditSegment.open(file, this.indexInterval));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(AuditSegment.create(directory, 0, this.segmentSize, this.indexInterval));
+        }
+        log.info("Opened [{}] audit segments in [{}]; next sequence is [{}]", segments.size(), directory, nextSequence());
+    }
+
+    @Override
+    public synchronized int write(List<AuditEvent> events) {
+        int written = 0;
+        try {
+            for (var event : events) {
+                if (append(event)) {
+                    written++;
+                }
+            }
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Could not append to audit segment in " + directory, e);
+        }
+        return written;
+    }
+
+    /**
+     * @return the sequence number the next appended event will get
+     */
+    public long nextSequence() {
+        return segments.getLast().nextSequence();
+    }
+
+    /**
+     * Reads the events appended since {@code fromSequence}; pass the last sequence read plus one to follow the store.
+     */
+    public List<AuditSegmentRecord> tail(long fromSequence, int limit) {
+        final var RECORDS = new ArrayList<AuditSegmentRecord>(Math.min(limit, 1024));
+        final var SEGMENTS = List.copyOf(segments);
+        var first = 0;
+        while (first + 1 < SEGMENTS.size() && SEGMENTS.get(first + 1).baseSequence() <= fromSequence) {
+            first++;
+        }
+        for (var i = first; i < SEGMENTS.size() && RECORDS.size() < limit; i++) {
+            final var SEGMENT = SEGMENTS.get(i);
+            SEGMENT.scan(SEGMENT.seekSequence(fromSequence), record -> {
+                if (record.sequence() >= fromSequence) {
+                    RECORDS.add(record);
+                }
+                return RECORDS.size() < limit;
+            });
+        }
+        return RECORDS;
+    }
+
+    /**
+     * Reads the events that occurred at or after {@code from}, skipping segments whose latest event is older.
+     */
+    public List<AuditSegmentRecord> readSince(Instant from, int limit) {
+        final var TIME_KEY = AuditSegment.timeKey(from);
+        final var RECORDS = new ArrayList<AuditSegmentRecord>(Math.min(limit, 1024));
+        for (var segment : List.copyOf(segments)) {
+            if (RECORDS.size() == limit) {
+                break;
+            }
+            if (segment.latestTime() < TIME_KEY) {
+                continue;
+            }
+            segment.scan(segment.seekTime(TIME_KEY), record -> {
+                if (AuditSegment.timeKey(record.event().occurredAt()) >= TIME_KEY) {
+                    RECORDS.add(record);
+                }
+                return RECORDS.size() < limit;
+            });
+        }
+        return RECORDS;
+    }
+
+    /**
+     * Reads the events of one entity, scanning only the segments whose filter may contain it.
+     */
+    public List<AuditSegmentRecord> findByEntity(EntityType entityType, String entityId, int limit) {
+        final var KEY = AuditSegment.entityKey(entityType, entityId);
+        final var RECORDS = new ArrayList<AuditSegmentRecord>();
+        for (var segment : List.copyOf(segments)) {
+            if (RECORDS.size() == limit) {
+                break;
+            }
+            if (!segment.mightContain(KEY)) {
+                continue;
+            }
+            segment.scan(0, record -> {
+                if (record.event().entityType() == entityType && record.event().entityId().equals(entityId)) {
+                    RECORDS.add(record);
+                }
+                return RECORDS.size() < limit;
+            });
+        }
+        return RECORDS;
+    }
+
+    @PreDestroy
+    void close() {
+        segments.forEach(AuditSegment::force);
+    }
+
+    /**
+     * @return {@code false} if the event is larger than a whole segment and was dropped
+     */
+    private boolean append(AuditEvent event) throws IOException {
+        var active = segments.getLast();
+        body = AuditSegment.encode(body, active.nextSequence(), event);
+        final var TIME_KEY = AuditSegment.timeKey(event.occurredAt());
+        final var ENTITY_KEY = AuditSegment.entityKey(event.entityType(), event.entityId());
+        if (active.append(body, TIME_KEY, ENTITY_KEY)) {
+            return true;
+        }
+        if (AuditSegment.HEADER_SIZE + body.remaining() > segmentSize) {
+            log.error("Dropped audit event of [{}] with id [{}]: [{}] bytes do not fit in a segment of [{}] bytes",
+                    event.entityType(), event.entityId(), body.remaining(), segmentSize);
+            return false;
+        }
+
+        active.force();
+        active = AuditSegment.create(directory, active.nextSequence(), segmentSize, indexInterval);
+        segments.add(active);
+        log.debug("Rolled to audit segment [{}]", active.path());
+        return active.append(body, TIME_KEY, ENTITY_KEY);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.araopj.hrplatformapi.audit.service;
+
+import dev.araopj.hrplatformapi.audit.dto.request.AuditLogQuery;
+import dev.araopj.hrplatformapi.audit.dto.response.AuditStateResponse;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.exception.NotSupportedException;
+
+import java.time.Instant;
+
+/**
+ * Service interface for searching the {@code audit_log} table, newest first.
+ * Pages are addressed with a keyset cursor over {@code (occurred_at, id)} instead of an offset, so every page costs
+ * the same index range scan however deep the client pages, and no total count is computed.
+ * <p>
+ * Only {@code hr-platform.audit.sink: jdbc} writes that table; with any other sink both methods throw
+ * {@link NotSupportedException} rather than answer from an empty table.
+ */
+public interface AuditLogService {
+
+    /**
+     * @param query the filters, page size and cursor
+     * @return the page, to be streamed by the caller
+     * @throws InvalidRequestException if the size is out of range, {@code from} is not before {@code to}, or the
+     *                                 cursor is invalid
+     * @throws NotSupportedException   if audit events are not written to {@code audit_log}
+     */
+    AuditLogStream search(AuditLogQuery query) throws InvalidRequestException, NotSupportedException;
+
+    /**
+     * Rebuilds the audited properties of an entity as of {@code asOf}: the latest create or checkpoint at or before
+     * it, plus the changes of the updates after that.
+     *
+     * @throws NotFoundException     if the entity has no audited create or checkpoint before {@code asOf}, or was deleted
+     * @throws NotSupportedException if audit events are not written to {@code audit_log}
+     */
+    AuditStateResponse stateAt(EntityType entityType, String entityId, Instant asOf) throws NotFoundException, NotSupportedException;
+}
@@ -0,0 +1,20 @@
+package dev.araopj.hrplatformapi.audit.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A page of audit logs ready to be streamed as JSON. Nothing is read from the database until
+ * {@link #writeTo(OutputStream)} is called.
+ */
+@FunctionalInterface
+public interface AuditLogStream {
+
+    /**
+     * Streams the page to {@code outputStream}, which is flushed but not closed.
+     *
+     * @return the number of audit logs written
+     * @throws IOException if the stream cannot be written, e.g. the client disconnected
+     */
+    long writeTo(OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,34 @@
+package dev.araopj.hrplatformapi.audit.service;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records creates, updates and deletes in the audit log without making the caller wait for the write.
+ * <p>
+ * The changed values are captured at flush time by {@link dev.araopj.hrplatformapi.audit.listener.AuditEventListener}
+ * from the state Hibernate already holds, so services do not call this themselves. Each record is redacted and
+ * handed to a bounded in-memory queue that a background writer drains in batches. Inside a transaction the record is
+ * queued after commit, so a rolled-back change is never audited.
+ */
+public interface AuditService {
+
+    /**
+     * @param before the changed properties as they were, or {@code null} for a create
+     * @param after  the changed properties as they are now, or {@code null} for a delete
+     */
+    default void record(EntityType entityType, String entityId, AuditAction action, Map<String, Object> before, Map<String, Object> after) {
+        record(entityType, entityId, action, before, after, null);
+    }
+
+    /**
+     * @param before the changed properties as they were, or {@code null} for a create
+     * @param after  the changed properties as they are now, or {@code null} for a delete
+     * @param state  supplies all audited properties after an update when the record is a checkpoint; only called
+     *               before this method returns, or {@code null} if the full state is unknown
+     */
+    void record(EntityType entityType, String entityId, AuditAction action, Map<String, Object> before, Map<String, Object> after, Supplier<Map<String, Object>> state);
+}
@@ -0,0 +1,24 @@
+package dev.araopj.hrplatformapi.audit.service;
+
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+
+import java.util.List;
+
+/**
+ * Where the audit writer thread stores drained {@link AuditEvent}s, selected with {@code hr-platform.audit.sink}:
+ * {@code jdbc} (the default) inserts into the {@code audit_log} table, {@code segment} appends to memory-mapped
+ * segment files and keeps audit traffic off the database.
+ * <p>
+ * Only called from the single audit writer thread. A sink that cannot store a batch throws; on any
+ * {@link RuntimeException} the batch is spilled and retried later.
+ * <p>
+ * Only the {@code jdbc} sink feeds {@link AuditLogService} and audit log retention; with another sink those refuse to
+ * run instead of working on an empty table.
+ */
+public interface AuditSink {
+
+    /**
+     * @return The number of events stored.
+     */
+    int write(List<AuditEvent> events);
+}
@@ -0,0 +1,199 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import dev.araopj.hrplatformapi.audit.service.AuditSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves {@link AuditEvent}s from request threads to storage through an {@link AuditQueue} and
+ * one background writer thread that hands them to the configured {@link AuditSink}.
+ * <p>
+ * {@link #publish} only links the event into the queue. The writer wakes up every
+ * {@code hr-platform.audit.flush-interval}, or as soon as a full batch is waiting, and writes the queue in batches
+ * of {@code hr-platform.audit.batch-size}. When the queue is full, the publisher is held back for up to
+ * {@code hr-platform.audit.offer-timeout} while the writer catches up, then spills the event to {@link AuditSpill}
+ * instead of waiting any longer. While the sink rejects writes, the writer spills every batch and tries again
+ * after {@code hr-platform.audit.retry-interval}; spilled events are replayed when the queue is idle.
+ * <p>
+ * The writer is stopped, and the queue drained, before the sink is closed. Reports
+ * {@code hr_platform.audit.queue.size} (gauge) and {@code hr_platform.audit.written}, {@code hr_platform.audit.spilled}
+ * and {@code hr_platform.audit.dropped} (counters).
+ */
+@Slf4j
+@Component
+public class AuditDispatcher implements SmartLifecycle {
+
+    private static final long BACK_OFF_NANOS = 100_000;
+
+    private final AuditQueue queue;
+    private final AuditSink auditSink;
+    private final AuditSpill auditSpill;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration flushInterval;
+    private final Duration retryInterval;
+    private final Counter written;
+    private final Counter spilled;
+    private final Counter dropped;
+    private volatile Thread writer;
+    private volatile boolean running;
+    private boolean failing;
+    private long retryAt;
+
+    public AuditDispatcher(
+            AuditSink auditSink,
+            AuditSpill auditSpill,
+            MeterRegistry meterRegistry,
+            @Value("${hr-platform.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${hr-platform.audit.batch-size:500}") int batchSize,
+            @Value("${hr-platform.audit.offer-timeout:PT0.05S}") Duration offerTimeout,
+            @Value("${hr-platform.audit.flush-interval:PT0.2S}") Duration flushInterval,
+            @Value("${hr-platform.audit.retry-interval:PT5S}") Duration retryInterval
+    ) {
+        this.queue = new AuditQueue(queueCapacity);
+        this.auditSink = auditSink;
+        this.auditSpill = auditSpill;
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.flushInterval = flushInterval;
+        this.retryInterval = retryInterval;
+        meterRegistry.gauge("hr_platform.audit.queue.size", queue, AuditQueue::size);
+        this.written = meterRegistry.counter("hr_platform.audit.written");
+        this.spilled = meterRegistry.counter("hr_platform.audit.spilled");
+        this.dropped = meterRegistry.counter("hr_platform.audit.dropped");
+    }
+
+    /**
+     * Queues an event without waiting for the insert. Only waits, for at most {@code hr-platform.audit.offer-timeout},
+     * if the queue is full; after that the event is spilled to disk.
+     */
+    public void publish(AuditEvent event) {
+        if (queue.offer(event)) {
+            if (queue.size() >= batchSize) {
+                wakeWriter();
+            }
+            return;
+        }
+
+        wakeWriter();
+        final var DEADLINE = System.nanoTime() + offerTimeout.toNanos();
+        while (System.nanoTime() - DEADLINE < 0) {
+            LockSupport.parkNanos(BACK_OFF_NANOS);
+            if (queue.offer(event)) {
+                return;
+            }
+        }
+        log.warn("Audit queue is full at [{}] events; spilling to disk", queue.capacity());
+        spill(List.of(event));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        final var WRITER = writer;
+        if (WRITER == null) {
+            return;
+        }
+        LockSupport.unpark(WRITER);
+        try {
+            WRITER.join(retryInterval.plus(flushInterval).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (WRITER.isAlive()) {
+            log.warn("Audit writer did not stop in time with [{}] events queued", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        final var BATCH = new ArrayList<AuditEvent>(batchSize);
+        while (running || queue.size() > 0) {
+            if (running && queue.size() < batchSize) {
+                LockSupport.parkNanos(this, flushInterval.toNanos());
+            }
+            while (queue.drainTo(BATCH, batchSize) > 0) {
+                deliver(BATCH);
+                BATCH.clear();
+            }
+            if (running && auditSpill.isPending() && canWrite()) {
+                replay();
+            }
+        }
+    }
+
+    private void deliver(List<AuditEvent> batch) {
+        if (!canWrite()) {
+            spill(batch);
+            return;
+        }
+        try {
+            written.increment(auditSink.write(batch));
+        } catch (RuntimeException e) {
+            failed(e);
+            spill(batch);
+        }
+    }
+
+    private void replay() {
+        try {
+            written.increment(auditSpill.replay(batchSize, auditSink::write));
+        } catch (IOException e) {
+            log.error("Could not replay spilled audit events", e);
+        } catch (RuntimeException e) {
+            failed(e);
+        }
+    }
+
+    private boolean canWrite() {
+        if (failing && System.nanoTime() - retryAt < 0) {
+            return false;
+        }
+        failing = false;
+        return true;
+    }
+
+    private void failed(RuntimeException e) {
+        log.warn("Could not write audit events; spilling to disk and retrying in [{}]", retryInterval, e);
+        failing = true;
+        retryAt = System.nanoTime() + retryInterval.toNanos();
+    }
+
+    private void spill(List<AuditEvent> events) {
+        try {
+            auditSpill.append(events);
+            spilled.increment(events.size());
+        } catch (IOException e) {
+            dropped.increment(events.size());
+            log.error("Dropped [{}] audit events that could not be spilled to disk", events.size(), e);
+        }
+    }
+
+    private void wakeWriter() {
+        final var WRITER = writer;
+        if (WRITER != null) {
+            LockSupport.unpark(WRITER);
+        }
+    }
+}
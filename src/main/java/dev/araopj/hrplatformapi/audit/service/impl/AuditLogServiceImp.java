@@ -0,0 +1,271 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.araopj.hrplatformapi.audit.dto.request.AuditLogQuery;
+import dev.araopj.hrplatformapi.audit.dto.response.AuditStateResponse;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.service.AuditLogService;
+import dev.araopj.hrplatformapi.audit.service.AuditLogStream;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.exception.NotSupportedException;
+import dev.araopj.hrplatformapi.utils.KeysetCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Implementation of the {@link AuditLogService} interface.
+ * <p>
+ * A page is one query: {@code WHERE <filters> AND (occurred_at, id) < (cursor) ORDER BY occurred_at DESC, id DESC
+ * LIMIT size + 1}. Each filter combination is served by an {@link dev.araopj.hrplatformapi.audit.model.AuditLog}
+ * index ending in {@code (occurred_at, id)}. Rows are written to the response with a {@link JsonGenerator} as they
+ * are fetched from a forward-only statement inside a read-only transaction, and {@code changes} is copied as raw
+ * JSON after {@link AuditPayloadCodec decompressing} it; the extra row only tells that there is a next page.
+ * <p>
+ * The body has the shape of {@link dev.araopj.hrplatformapi.utils.StandardApiResponse}, with a
+ * {@code pagination.nextCursor} that is {@code null} on the last page.
+ * <p>
+ * {@link #stateAt} reads backwards on {@code idx_audit_log_entity} to the latest create or checkpoint, which is at
+ * most {@code hr-platform.audit.checkpoint-interval} rows back, then forwards to apply the updates since.
+ */
+@Slf4j
+@Service
+public class AuditLogServiceImp implements AuditLogService {
+
+    private static final String SELECT = "SELECT id, actor, entity_type, entity_id, action, payload, occurred_at FROM audit_log";
+    private static final String SELECT_CHECKPOINT = """
+            SELECT id, action, payload, snapshot, occurred_at FROM audit_log
+            WHERE entity_type = ? AND entity_id = ? AND occurred_at <= ?
+              AND (snapshot IS NOT NULL OR action = 'CREATE')
+            ORDER BY occurred_at DESC, id DESC
+            LIMIT 1
+            """;
+    private static final String SELECT_VERSIONS = """
+            SELECT id, action, payload, NULL AS snapshot, occurred_at FROM audit_log
+            WHERE entity_type = ? AND entity_id = ? AND (occurred_at, id) > (?, ?) AND occurred_at <= ?
+            ORDER BY occurred_at, id
+            """;
+    private static final RowMapper<Version> VERSION_MAPPER = (resultSet, row) -> new Version(
+            resultSet.getString(1),
+            AuditAction.valueOf(resultSet.getString(2)),
+            resultSet.getBytes(3),
+            resultSet.getBytes(4),
+            resultSet.getTimestamp(5).toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxSize;
+    private final String sink;
+
+    public AuditLogServiceImp(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${hr-platform.audit.query.max-size:1000}") int maxSize,
+            @Value("${hr-platform.audit.sink:jdbc}") String sink
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxSize = maxSize;
+        this.sink = sink;
+    }
+
+    @Override
+    public AuditLogStream search(AuditLogQuery query) throws InvalidRequestException, NotSupportedException {
+        requireJdbcSink();
+        if (query.size() < 1 || query.size() > maxSize) {
+            throw new InvalidRequestException("size must be between 1 and %d".formatted(maxSize));
+        }
+        if (query.from() != null && query.to() != null && !query.from().isBefore(query.to())) {
+            throw new InvalidRequestException("from [%s] must be before to [%s]".formatted(query.from(), query.to()));
+        }
+        final var CURSOR = query.cursor() != null && !query.cursor().isBlank() ? KeysetCursor.decode(query.cursor()) : null;
+
+        final var SQL = new StringBuilder(SELECT);
+        final var ARGS = new ArrayList<>();
+        final var WHERE = new ArrayList<String>();
+        if (query.entityType() != null) {
+            WHERE.add("entity_type = ?");
+            ARGS.add(query.entityType().name());
+        }
+        if (query.entityId() != null && !query.entityId().isBlank()) {
+            WHERE.add("entity_id = ?");
+            ARGS.add(query.entityId());
+        }
+        if (query.actor() != null && !query.actor().isBlank()) {
+            WHERE.add("actor = ?");
+            ARGS.add(query.actor());
+        }
+        if (query.from() != null) {
+            WHERE.add("occurred_at >= ?");
+            ARGS.add(Timestamp.from(query.from()));
+        }
+        if (query.to() != null) {
+            WHERE.add("occurred_at < ?");
+            ARGS.add(Timestamp.from(query.to()));
+        }
+        if (CURSOR != null) {
+            WHERE.add("(occurred_at, id) < (?, ?)");
+            ARGS.add(Timestamp.from(CURSOR.timestamp()));
+            ARGS.add(CURSOR.id());
+        }
+        if (!WHERE.isEmpty()) {
+            SQL.append(" WHERE ").append(String.join(" AND ", WHERE));
+        }
+        SQL.append(" ORDER BY occurred_at DESC, id DESC LIMIT ?");
+        ARGS.add(query.size() + 1);
+
+        return outputStream -> write(outputStream, SQL.toString(), ARGS.toArray(), query.size());
+    }
+
+    @Override
+    public AuditStateResponse stateAt(EntityType entityType, String entityId, Instant asOf) throws NotFoundException, NotSupportedException {
+        requireJdbcSink();
+        final var AS_OF = Timestamp.from(asOf);
+        try (var codec = new AuditPayloadCodec()) {
+            final var RESPONSE = readOnlyTransaction.execute(status -> {
+                final var CHECKPOINTS = jdbcTemplate.query(SELECT_CHECKPOINT, VERSION_MAPPER, entityType.name(), entityId, AS_OF);
+                if (CHECKPOINTS.isEmpty()) {
+                    return null;
+                }
+                final var CHECKPOINT = CHECKPOINTS.getFirst();
+                var state = CHECKPOINT.snapshot() != null
+                        ? readObject(codec.decode(CHECKPOINT.snapshot()))
+                        : (ObjectNode) readObject(codec.decode(CHECKPOINT.payload())).get("after");
+                var last = CHECKPOINT;
+                final var VERSIONS = jdbcTemplate.query(SELECT_VERSIONS, VERSION_MAPPER,
+                        entityType.name(), entityId, Timestamp.from(CHECKPOINT.occurredAt()), CHECKPOINT.id(), AS_OF);
+                for (var version : VERSIONS) {
+                    final var AFTER = (ObjectNode) readObject(codec.decode(version.payload())).get("after");
+                    state = switch (version.action()) {
+                        case CREATE -> AFTER;
+                        case UPDATE -> state != null ? state.setAll(AFTER) : null;
+                        case DELETE -> null;
+                    };
+                    last = version;
+                }
+                log.debug("Rebuilt [{}] [{}] as of [{}] from checkpoint [{}] and [{}] later changes", entityType, entityId, asOf, CHECKPOINT.id(), VERSIONS.size());
+                return state == null ? null : AuditStateResponse.builder()
+                        .entityType(entityType)
+                        .entityId(entityId)
+                        .auditLogId(last.id())
+                        .occurredAt(last.occurredAt())
+                        .state(state)
+                        .build();
+            });
+            if (RESPONSE == null) {
+                throw new NotFoundException(entityId, entityType);
+            }
+            return RESPONSE;
+        }
+    }
+
+    private void requireJdbcSink() {
+        if (!"jdbc".equals(sink)) {
+            throw new NotSupportedException("Audit events are written to the [%s] sink, not the audit_log table; audit log queries need hr-platform.audit.sink=jdbc".formatted(sink));
+        }
+    }
+
+    private long write(OutputStream outputStream, String sql, Object[] args, int size) throws IOException {
+        final var STARTED_AT = System.nanoTime();
+        final var ROWS = new int[1];
+        final var LAST = new KeysetCursor[1];
+        try (var generator = objectMapper.getFactory().createGenerator(outputStream); var codec = new AuditPayloadCodec()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("timestamp", Instant.now().toString());
+            generator.writeArrayFieldStart("data");
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                    final var STATEMENT = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    STATEMENT.setFetchSize(size + 1);
+                    for (int i = 0; i < args.length; i++) {
+                        STATEMENT.setObject(i + 1, args[i]);
+                    }
+                    return STATEMENT;
+                }, (RowCallbackHandler) resultSet -> {
+                    if (ROWS[0] == size) {
+                        // the extra row: there is a next page
+                        ROWS[0]++;
+                        return;
+                    }
+                    try {
+                        LAST[0] = writeRow(generator, resultSet, codec);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    ROWS[0]++;
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+
+            generator.writeObjectFieldStart("pagination");
+            generator.writeNumberField("size", size);
+            generator.writeStringField("nextCursor", ROWS[0] > size ? LAST[0].encode() : null);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        outputStream.flush();
+
+        final var WRITTEN = Math.min(ROWS[0], size);
+        log.debug("Streamed [{}] audit logs in [{}] ms", WRITTEN, (System.nanoTime() - STARTED_AT) / 1_000_000);
+        return WRITTEN;
+    }
+
+    private static KeysetCursor writeRow(JsonGenerator generator, ResultSet resultSet, AuditPayloadCodec codec) throws IOException, SQLException {
+        final var ID = resultSet.getString(1);
+        final var OCCURRED_AT = resultSet.getTimestamp(7).toInstant();
+        generator.writeStartObject();
+        generator.writeStringField("id", ID);
+        generator.writeStringField("actor", resultSet.getString(2));
+        generator.writeStringField("entityType", resultSet.getString(3));
+        generator.writeStringField("entityId", resultSet.getString(4));
+        generator.writeStringField("action", resultSet.getString(5));
+        final var PAYLOAD = resultSet.getBytes(6);
+        generator.writeFieldName("changes");
+        if (PAYLOAD != null) {
+            generator.writeRawValue(codec.decode(PAYLOAD));
+        } else {
+            generator.writeNull();
+        }
+        generator.writeStringField("occurredAt", OCCURRED_AT.toString());
+        generator.writeEndObject();
+        return new KeysetCursor(OCCURRED_AT, ID);
+    }
+
+    private ObjectNode readObject(String json) {
+        try {
+            return (ObjectNode) objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable audit payload", e);
+        }
+    }
+
+    private record Version(String id, AuditAction action, byte[] payload, byte[] snapshot, Instant occurredAt) {
+    }
+}
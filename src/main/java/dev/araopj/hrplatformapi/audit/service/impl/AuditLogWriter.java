@@ -0,0 +1,73 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import dev.araopj.hrplatformapi.audit.service.AuditSink;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts {@link AuditEvent}s into the {@code audit_log} table with one JDBC batch per call, compressing the changes
+ * and snapshot with an {@link AuditPayloadCodec} owned by the audit writer thread.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "hr-platform.audit", name = "sink", havingValue = "jdbc", matchIfMissing = true)
+public class AuditLogWriter implements AuditSink {
+
+    private static final String INSERT = """
+            INSERT INTO audit_log (id, actor, entity_type, entity_id, action, payload, snapshot, occurred_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditPayloadCodec codec = new AuditPayloadCodec();
+
+    @Override
+    public int write(List<AuditEvent> events) {
+        final var NOW = Timestamp.from(Instant.now());
+        final var COUNTS = jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                final var EVENT = events.get(i);
+                statement.setString(1, UUID.randomUUID().toString());
+                statement.setString(2, EVENT.actor());
+                statement.setString(3, EVENT.entityType().name());
+                statement.setString(4, EVENT.entityId());
+                statement.setString(5, EVENT.action().name());
+                statement.setBytes(6, codec.encode(EVENT.changes()));
+                statement.setBytes(7, EVENT.snapshot() != null ? codec.encode(EVENT.snapshot()) : null);
+                statement.setTimestamp(8, Timestamp.from(EVENT.occurredAt()));
+                statement.setTimestamp(9, NOW);
+                statement.setTimestamp(10, NOW);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+
+        int written = 0;
+        for (var count : COUNTS) {
+            // drivers may report SUCCESS_NO_INFO (-2) for batched statements
+            written += count == PreparedStatement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return written;
+    }
+
+    @PreDestroy
+    void close() {
+        codec.close();
+    }
+}
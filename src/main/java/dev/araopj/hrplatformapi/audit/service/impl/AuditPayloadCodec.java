@@ -0,0 +1,113 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses the JSON of an audit record with {@link Deflater} and a preset dictionary of the audited field names,
+ * enum values and JSON fragments in {@value #DICTIONARY}.
+ * <p>
+ * Audit payloads are a few hundred bytes, too short for Deflate to find repeats within one record; with the
+ * dictionary, a field name costs a back-reference of two or three bytes from the first occurrence. The zlib header
+ * carries the Adler-32 of the dictionary a payload was compressed with, and {@link #decode} looks it up among
+ * {@link #DICTIONARIES}. A new dictionary must therefore be added next to the old ones, never edited in place.
+ * <p>
+ * Not thread-safe: the {@link Deflater} and {@link Inflater} are reused between calls, so use one instance per thread
+ * and {@link #close()} it to free their native memory.
+ */
+public final class AuditPayloadCodec implements AutoCloseable {
+
+    static final String DICTIONARY = "audit/payload-dictionary-v1.txt";
+
+    private static final byte[] CURRENT_DICTIONARY = load(DICTIONARY);
+    private static final Map<Integer, byte[]> DICTIONARIES = Map.of(adler32(CURRENT_DICTIONARY), CURRENT_DICTIONARY);
+
+    private final byte[] buffer = new byte[4096];
+    private Deflater deflater;
+    private Inflater inflater;
+
+    public byte[] encode(String json) {
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        }
+        deflater.reset();
+        deflater.setDictionary(CURRENT_DICTIONARY);
+        deflater.setInput(json.getBytes(StandardCharsets.UTF_8));
+        deflater.finish();
+
+        final var OUTPUT = new ByteArrayOutputStream(json.length() / 2 + 16);
+        while (!deflater.finished()) {
+            OUTPUT.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return OUTPUT.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code payload} is not a zlib stream or needs an unknown dictionary
+     */
+    public String decode(byte[] payload) {
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        inflater.reset();
+        inflater.setInput(payload);
+
+        final var OUTPUT = new ByteArrayOutputStream(payload.length * 4);
+        try {
+            while (!inflater.finished()) {
+                final var INFLATED = inflater.inflate(buffer);
+                OUTPUT.write(buffer, 0, INFLATED);
+                if (INFLATED > 0) {
+                    continue;
+                }
+                if (inflater.needsDictionary()) {
+                    final var DICTIONARY_BYTES = DICTIONARIES.get(inflater.getAdler());
+                    if (DICTIONARY_BYTES == null) {
+                        throw new IllegalArgumentException("Audit payload needs unknown dictionary [%08x]".formatted(inflater.getAdler()));
+                    }
+                    inflater.setDictionary(DICTIONARY_BYTES);
+                } else if (inflater.needsInput()) {
+                    throw new IllegalArgumentException("Audit payload is truncated");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Audit payload is not a zlib stream", e);
+        }
+        return OUTPUT.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        if (deflater != null) {
+            deflater.end();
+        }
+        if (inflater != null) {
+            inflater.end();
+        }
+    }
+
+    private static byte[] load(String resource) {
+        try (InputStream input = AuditPayloadCodec.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing audit payload dictionary [%s]".formatted(resource));
+            }
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int adler32(byte[] bytes) {
+        final var ADLER32 = new Adler32();
+        ADLER32.update(bytes);
+        return (int) ADLER32.getValue();
+    }
+}
@@ -0,0 +1,66 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded, lock-free multi-producer queue of {@link AuditEvent}s.
+ * <p>
+ * Producers reserve a slot with a compare-and-set on the size before linking the event into a
+ * {@link ConcurrentLinkedQueue}, so request threads never block on a lock and the queue never holds more than
+ * {@code capacity} events. The size may briefly count an event that is not linked yet; {@link #drainTo} only
+ * releases the slots of the events it actually removed.
+ */
+final class AuditQueue {
+
+    private final ConcurrentLinkedQueue<AuditEvent> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+
+    AuditQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return {@code false} if the queue is full
+     */
+    boolean offer(AuditEvent event) {
+        for (var current = size.get(); current < capacity; current = size.get()) {
+            if (size.compareAndSet(current, current + 1)) {
+                events.offer(event);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves up to {@code max} events, oldest first, into {@code target}.
+     *
+     * @return the number of events moved
+     */
+    int drainTo(List<AuditEvent> target, int max) {
+        int drained = 0;
+        for (AuditEvent event; drained < max && (event = events.poll()) != null; drained++) {
+            target.add(event);
+        }
+        if (drained > 0) {
+            size.addAndGet(-drained);
+        }
+        return drained;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
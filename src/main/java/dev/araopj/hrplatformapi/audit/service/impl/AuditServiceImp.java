@@ -0,0 +1,136 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import dev.araopj.hrplatformapi.audit.service.AuditService;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.utils.JsonRedactor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the {@link AuditService} interface.
+ * <p>
+ * The request thread does the cheap part: it redacts the changed properties with {@link JsonRedactor} and resolves
+ * the actor from the {@code hr-platform.audit.actor-header} request header ({@value #SYSTEM_ACTOR} outside a
+ * request). The insert is left to {@link AuditDispatcher}.
+ * <p>
+ * Updates are stored as the changed properties only. To bound how much history a reader replays to rebuild a
+ * version, every {@code hr-platform.audit.checkpoint-interval}th update of an entity also carries a snapshot of all
+ * its audited properties. The count is kept per entity in an LRU map of {@code hr-platform.audit.checkpoint-cache-size}
+ * entries; an entity not in the map (evicted, or first seen since startup) gets a snapshot on its next update, so a
+ * lost count only costs an early checkpoint. A create is a checkpoint by itself.
+ */
+@Service
+public class AuditServiceImp implements AuditService {
+
+    static final String SYSTEM_ACTOR = "system";
+
+    private final AuditDispatcher auditDispatcher;
+    private final String actorHeader;
+    private final Set<String> redactedFields;
+    private final int checkpointInterval;
+    private final Map<String, Integer> updatesSinceCheckpoint;
+
+    public AuditServiceImp(
+            AuditDispatcher auditDispatcher,
+            @Value("${hr-platform.audit.actor-header:X-User-Id}") String actorHeader,
+            @Value("${hr-platform.audit.redacted-fields:}") Set<String> redactedFields,
+            @Value("${hr-platform.audit.checkpoint-interval:20}") int checkpointInterval,
+            @Value("${hr-platform.audit.checkpoint-cache-size:10000}") int checkpointCacheSize
+    ) {
+        this.auditDispatcher = auditDispatcher;
+        this.actorHeader = actorHeader;
+        this.redactedFields = redactedFields;
+        this.checkpointInterval = checkpointInterval;
+        this.updatesSinceCheckpoint = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > checkpointCacheSize;
+            }
+        });
+    }
+
+    @Override
+    public void record(
+            EntityType entityType,
+            String entityId,
+            AuditAction action,
+            Map<String, Object> before,
+            Map<String, Object> after,
+            Supplier<Map<String, Object>> state
+    ) {
+        final var CHANGES = JsonNodeFactory.instance.objectNode();
+        if (before != null) {
+            CHANGES.set("before", JsonRedactor.redact(before, redactedFields));
+        }
+        if (after != null) {
+            CHANGES.set("after", JsonRedactor.redact(after, redactedFields));
+        }
+
+        final var EVENT = AuditEvent.builder()
+                .actor(actor())
+                .entityType(entityType)
+                .entityId(entityId)
+                .action(action)
+                .changes(CHANGES.toString())
+                .snapshot(isCheckpoint(entityType, entityId, action, state) ? JsonRedactor.redact(state.get(), redactedFields).toString() : null)
+                .occurredAt(Instant.now())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditDispatcher.publish(EVENT);
+                }
+            });
+        } else {
+            auditDispatcher.publish(EVENT);
+        }
+    }
+
+    private boolean isCheckpoint(EntityType entityType, String entityId, AuditAction action, Supplier<Map<String, Object>> state) {
+        final var KEY = entityType.name() + ':' + entityId;
+        switch (action) {
+            case CREATE -> {
+                updatesSinceCheckpoint.put(KEY, 0);
+                return false;
+            }
+            case DELETE -> {
+                updatesSinceCheckpoint.remove(KEY);
+                return false;
+            }
+            default -> {
+                if (state == null) {
+                    updatesSinceCheckpoint.computeIfPresent(KEY, (key, updates) -> updates + 1);
+                    return false;
+                }
+                return updatesSinceCheckpoint.compute(KEY, (key, updates) ->
+                        updates == null || updates + 1 >= checkpointInterval ? 0 : updates + 1) == 0;
+            }
+        }
+    }
+
+    private String actor() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            final var ACTOR = attributes.getRequest().getHeader(actorHeader);
+            if (ACTOR != null && !ACTOR.isBlank()) {
+                return ACTOR;
+            }
+        }
+        return SYSTEM_ACTOR;
+    }
+}
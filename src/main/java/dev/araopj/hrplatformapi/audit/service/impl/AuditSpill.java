@@ -0,0 +1,162 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Keeps {@link AuditEvent}s that could not be queued or written as newline-delimited JSON in
+ * {@code hr-platform.audit.spill-dir}, until {@link #replay} moves them into the
+ * {@link dev.araopj.hrplatformapi.audit.service.AuditSink}.
+ * <p>
+ * New events are appended to {@value #SPILL_FILE}. A replay first renames that file to {@code *.replay}, so appends
+ * continue in a fresh file while the renamed one is read; a replay file left behind by a crash is picked up by the
+ * next replay. Delivery is at-least-once: a batch that fails part way is spilled again as a whole.
+ */
+@Slf4j
+@Component
+public class AuditSpill {
+
+    static final String SPILL_FILE = "audit-spill.ndjson";
+    private static final String REPLAY_SUFFIX = ".replay";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Path spillFile;
+    private volatile boolean pending;
+
+    public AuditSpill(
+            ObjectMapper objectMapper,
+            @Value("${hr-platform.audit.spill-dir:${java.io.tmpdir}/hr-platform/audit}") Path directory
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        this.directory = Files.createDirectories(directory);
+        this.spillFile = directory.resolve(SPILL_FILE);
+        try (var files = replayFiles()) {
+            this.pending = Files.exists(spillFile) || files.findAny().isPresent();
+        }
+        if (pending) {
+            log.warn("Found spilled audit events in [{}]; they will be replayed once the sink accepts writes", directory);
+        }
+    }
+
+    /**
+     * @return {@code true} if there are spilled events that have not been replayed yet
+     */
+    boolean isPending() {
+        return pending;
+    }
+
+    synchronized void append(List<AuditEvent> events) throws IOException {
+        final var LINES = new ArrayList<String>(events.size());
+        for (var event : events) {
+            LINES.add(objectMapper.writeValueAsString(event));
+        }
+        appendLines(LINES);
+    }
+
+    /**
+     * Passes the spilled events, oldest first and at most {@code batchSize} at a time, to {@code writer}. If the
+     * writer throws, the events it did not accept are spilled again and the exception is rethrown.
+     *
+     * @return the number of events replayed
+     */
+    int replay(int batchSize, ToIntFunction<List<AuditEvent>> writer) throws IOException {
+        synchronized (this) {
+            if (Files.exists(spillFile)) {
+                Files.move(spillFile, directory.resolve("audit-spill-%d%s".formatted(System.nanoTime(), REPLAY_SUFFIX)), StandardCopyOption.ATOMIC_MOVE);
+            }
+            pending = false;
+        }
+
+        final List<Path> FILES;
+        try (var files = replayFiles()) {
+            FILES = files.sorted().toList();
+        }
+        int replayed = 0;
+        for (var file : FILES) {
+            replayed += replayFile(file, batchSize, writer);
+        }
+        if (replayed > 0) {
+            log.info("Replayed [{}] spilled audit events", replayed);
+        }
+        return replayed;
+    }
+
+    private int replayFile(Path file, int batchSize, ToIntFunction<List<AuditEvent>> writer) throws IOException {
+        int replayed = 0;
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            final var LINES = new ArrayList<String>(batchSize);
+            final var BATCH = new ArrayList<AuditEvent>(batchSize);
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    BATCH.add(objectMapper.readValue(line, AuditEvent.class));
+                    LINES.add(line);
+                } catch (JsonProcessingException e) {
+                    log.error("Dropping unreadable spilled audit event in [{}]: {}", file, e.getOriginalMessage());
+                }
+                if (BATCH.size() == batchSize) {
+                    replayed += replayBatch(BATCH, LINES, reader, writer);
+                }
+            }
+            if (!BATCH.isEmpty()) {
+                replayed += replayBatch(BATCH, LINES, reader, writer);
+            }
+        } catch (RuntimeException e) {
+            // the events not written yet have been spilled again
+            Files.delete(file);
+            throw e;
+        }
+        Files.delete(file);
+        return replayed;
+    }
+
+    private int replayBatch(List<AuditEvent> batch, List<String> lines, BufferedReader reader, ToIntFunction<List<AuditEvent>> writer) throws IOException {
+        try {
+            writer.applyAsInt(batch);
+        } catch (RuntimeException e) {
+            respill(lines, reader);
+            throw e;
+        }
+        final var REPLAYED = batch.size();
+        batch.clear();
+        lines.clear();
+        return REPLAYED;
+    }
+
+    private synchronized void respill(List<String> lines, BufferedReader remaining) throws IOException {
+        final var REST = new ArrayList<>(lines);
+        for (var line = remaining.readLine(); line != null; line = remaining.readLine()) {
+            REST.add(line);
+        }
+        appendLines(REST);
+    }
+
+    private void appendLines(List<String> lines) throws IOException {
+        Files.write(spillFile, lines, StandardCharsets.UTF_8, CREATE, APPEND, WRITE);
+        pending = true;
+    }
+
+    private Stream<Path> replayFiles() throws IOException {
+        return Files.list(directory).filter(file -> file.getFileName().toString().endsWith(REPLAY_SUFFIX));
+    }
+}
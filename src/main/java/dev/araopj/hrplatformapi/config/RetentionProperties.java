@@ -0,0 +1,49 @@
+package dev.araopj.hrplatformapi.config;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * How long audit logs, tombstones and dead-lettered outbox events are kept, under {@code hr-platform.retention}. A {@code null} period keeps rows
+ * forever.
+ *
+ * @param batchSize   rows deleted per transaction
+ * @param pause       sleep between two batches, so a purge does not starve request traffic of I/O
+ * @param audit       retention of {@code audit_log} rows by entity type
+ * @param tombstones  retention of {@code tombstone} rows; delta-sync clients that last synced before it must resync
+ * @param deadLetters retention of dead-lettered {@code outbox_event} rows, from when they were dead-lettered; one
+ *                    still needed must be replayed before it
+ * @param archive     where purged audit logs are copied to first
+ */
+@ConfigurationProperties(prefix = "hr-platform.retention")
+public record RetentionProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("PT0.1S") Duration pause,
+        @DefaultValue Audit audit,
+        Duration tombstones,
+        Duration deadLetters,
+        @DefaultValue Archive archive
+) {
+
+    /**
+     * @param defaultPeriod the period of entity types not in {@code periods}
+     * @param periods       the period per entity type, e.g. {@code SALARY: P3650D}
+     */
+    public record Audit(Duration defaultPeriod, @DefaultValue Map<EntityType, Duration> periods) {
+
+        public Duration periodOf(EntityType entityType) {
+            return periods.getOrDefault(entityType, defaultPeriod);
+        }
+    }
+
+    /**
+     * @param enabled whether purged audit logs are written to gzip-compressed NDJSON files in {@code dir} first
+     */
+    public record Archive(@DefaultValue("false") boolean enabled, Path dir) {
+    }
+}
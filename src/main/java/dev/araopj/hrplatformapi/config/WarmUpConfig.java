@@ -0,0 +1,83 @@
+package dev.araopj.hrplatformapi.config;
+
+import dev.araopj.hrplatformapi.employee.service.IdDocumentTypeService;
+import dev.araopj.hrplatformapi.employee.service.PositionService;
+import dev.araopj.hrplatformapi.employee.service.WorkplaceService;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import dev.araopj.hrplatformapi.utils.warmup.WarmUpTask;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.function.Function;
+
+/**
+ * Declares the reference-data warm sets run by {@link dev.araopj.hrplatformapi.utils.warmup.WarmUpRunner}.
+ * Paged sets load their first {@code hr-platform.warm-up.pages} pages through the service layer,
+ * which also populates the page response cache. The cache is keyed by page size, so
+ * {@code hr-platform.warm-up.page-size} should match the size clients request, i.e. the controllers' default of 10.
+ */
+@Configuration
+public class WarmUpConfig {
+
+    @Value("${hr-platform.warm-up.pages:100}")
+    private int pages;
+
+    @Value("${hr-platform.warm-up.page-size:10}")
+    private int pageSize;
+
+    @Bean
+    public WarmUpTask idDocumentTypesWarmUpTask(IdDocumentTypeService idDocumentTypeService) {
+        return task("id-document-types", () -> idDocumentTypeService.findAll().size());
+    }
+
+    @Bean
+    public WarmUpTask positionsWarmUpTask(PositionService positionService) {
+        return pagedTask("positions", pageable -> positionService.findAll(pageable).getNumberOfElements());
+    }
+
+    @Bean
+    public WarmUpTask workplacesWarmUpTask(WorkplaceService workplaceService) {
+        return pagedTask("workplaces", pageable -> workplaceService.findAll(pageable).getNumberOfElements());
+    }
+
+    @Bean
+    public WarmUpTask salaryGradesWarmUpTask(SalaryGradeService salaryGradeService) {
+        return task("salary-grades", salaryGradeService::rebuild);
+    }
+
+    private WarmUpTask pagedTask(String name, Function<Pageable, Integer> loader) {
+        return task(name, () -> {
+            long loaded = 0;
+            for (int page = 0; page < pages; page++) {
+                var count = loader.apply(PageRequest.of(page, pageSize));
+                loaded += count;
+                if (count < pageSize) {
+                    break;
+                }
+            }
+            return loaded;
+        });
+    }
+
+    private static WarmUpTask task(String name, WarmUpLoader loader) {
+        return new WarmUpTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public long warm() throws Exception {
+                return loader.load();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface WarmUpLoader {
+        long load() throws Exception;
+    }
+}
@@ -3,9 +3,13 @@ package dev.araopj.hrplatformapi.employee.controller;
 import dev.araopj.hrplatformapi.employee.dto.request.EmployeeRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.EmployeeResponse;
 import dev.araopj.hrplatformapi.employee.service.EmployeeService;
+import dev.araopj.hrplatformapi.employee.service.impl.EmployeeChangeBroadcaster;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.sync.dto.response.ChangeSetResponse;
+import dev.araopj.hrplatformapi.sync.service.ChangeFeedService;
 import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.PaginationMeta;
 import dev.araopj.hrplatformapi.utils.StandardApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,11 +23,16 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -41,6 +50,8 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeChangeBroadcaster employeeChangeBroadcaster;
+    private final ChangeFeedService changeFeedService;
 
     /**
      * Retrieves a paginated list of all employees.
@@ -109,6 +120,94 @@ public class EmployeeController {
         ));
     }
 
+    /**
+     * Streams committed changes of employees and their employment information as Server-Sent Events.
+     *
+     * @return An SseEmitter sending a "change" event per committed insert, update or delete.
+     */
+    @Operation(
+            summary = "Stream employee changes",
+            description = """
+                    Subscribe to a Server-Sent Events stream of 'change' events, one per committed insert, update or delete of an employee or employment information: {"id", "type", "action", "updatedAt"}.
+                    Clients that fall behind are disconnected and should reconnect and re-fetch; the stream ends after 'hr-platform.employee-stream.timeout'.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully subscribed",
+                            content = @Content(mediaType = "text/event-stream")
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        log.debug("Request to stream employee changes");
+        return employeeChangeBroadcaster.subscribe();
+    }
+
+    /**
+     * Retrieves the employees changed and deleted after a point in time, for clients that keep a local copy.
+     *
+     * @param since  Only return changes strictly after this instant; all employees if omitted.
+     * @param cursor The cursor of the previous page; takes precedence over 'since'.
+     * @param size   The maximum number of changes to return.
+     * @return A ResponseEntity containing a StandardApiResponse with the ChangeSetResponse.
+     * @throws InvalidRequestException If the size is out of range or the cursor is invalid.
+     */
+    @Operation(
+            summary = "Get employee changes",
+            description = """
+                    Retrieve the employees updated and the IDs of those deleted after 'since', oldest first.
+                    Pass the returned 'cursor' to get the next page, and keep the last one to ask for later changes; 'cursor' takes precedence over 'since'.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the changes",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid size or cursor provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<StandardApiResponse<ChangeSetResponse<EmployeeResponse>>> changes(
+            @Parameter(description = "Only return changes strictly after this instant (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            @Parameter(description = "Cursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changes to return", example = "100")
+            @RequestParam(defaultValue = "100") int size
+    ) throws InvalidRequestException {
+        log.debug("Request to get employee changes since [{}] at cursor [{}]", since, cursor);
+        return ResponseEntity.ok(StandardApiResponse.success(changeFeedService.employees(since, cursor, size)));
+    }
+
     /**
      * Retrieves a specific employee by its ID or user ID.
      * If both 'id' and 'userId' are provided, 'id' takes precedence.
@@ -170,8 +269,9 @@ public class EmployeeController {
                 ? employeeService.findById(id, includeIdDocuments, includeEmploymentInformation)
                 : (id == null && userId != null && !userId.isEmpty() ? employeeService.findByUserId(userId, includeIdDocuments, includeEmploymentInformation) : employeeService.findById(id, includeIdDocuments, includeEmploymentInformation));
         return response
-                .map(StandardApiResponse::success)
-                .map(ResponseEntity::ok)
+                .map(body -> ResponseEntity.ok()
+                        .eTag(ETagUtil.eTag(body.version()))
+                        .body(StandardApiResponse.success(body)))
                 .orElseThrow();
     }
 
@@ -250,6 +350,7 @@ public class EmployeeController {
      *
      * @param id              The ID of the employee to update.
      * @param employeeRequest The updated employee details.
+     * @param ifMatch         The ETag of the employee as last read; a stale one fails with 412.
      * @return A ResponseEntity containing a StandardApiResponse with the updated EmployeeResponse.
      * @throws InvalidRequestException If invalid data or ID is provided.
      * @throws NotFoundException       If the employee is not found.
@@ -282,6 +383,14 @@ public class EmployeeController {
                                     schema = @Schema(implementation = ApiError.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "The employee changed since the ETag in If-Match was read",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Internal server error",
@@ -297,10 +406,15 @@ public class EmployeeController {
             @Parameter(description = "ID of the employee to update", required = true)
             @PathVariable @NotNull String id,
             @Parameter(description = "Updated employee details", required = true)
-            @RequestBody @Valid EmployeeRequest employeeRequest
+            @RequestBody @Valid EmployeeRequest employeeRequest,
+            @Parameter(description = "ETag of the employee as last read; the update fails with 412 if it has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws InvalidRequestException, NotFoundException {
         log.info("Request to update employee with id [{}]", id);
-        return ResponseEntity.ok(StandardApiResponse.success(employeeService.update(id, employeeRequest)));
+        final var UPDATED = employeeService.update(id, employeeRequest, ETagUtil.ifMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.eTag(UPDATED.version()))
+                .body(StandardApiResponse.success(UPDATED));
     }
 
     /**
@@ -5,6 +5,7 @@ import dev.araopj.hrplatformapi.employee.dto.response.EmploymentInformationRespo
 import dev.araopj.hrplatformapi.employee.service.EmploymentInformationService;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
 import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.PaginationMeta;
 import dev.araopj.hrplatformapi.utils.StandardApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -162,8 +164,9 @@ public class EmploymentInformationController {
             throw new BadRequestException("Employment information with id [%s] does not belong to employee with id [%s]".formatted(id, employeeId));
         }
         return response
-                .map(StandardApiResponse::success)
-                .map(ResponseEntity::ok)
+                .map(body -> ResponseEntity.ok()
+                        .eTag(ETagUtil.eTag(body.version()))
+                        .body(StandardApiResponse.success(body)))
                 .orElseThrow();
     }
 
@@ -238,6 +241,7 @@ public class EmploymentInformationController {
      * @param employeeId                   The ID of the employee.
      * @param id                           The ID of the employment information to update.
      * @param employmentInformationRequest The updated employment information details.
+     * @param ifMatch                      The ETag of the employment information as last read; a stale one fails with 412.
      * @return A ResponseEntity containing a StandardApiResponse with the updated EmploymentInformationResponse.
      * @throws BadRequestException If invalid data or ID is provided or employeeId does not match.
      * @throws NotFoundException   If the employment information is not found.
@@ -270,6 +274,14 @@ public class EmploymentInformationController {
                                     schema = @Schema(implementation = ApiError.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "The employment information changed since the ETag in If-Match was read",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Internal server error",
@@ -287,7 +299,9 @@ public class EmploymentInformationController {
             @Parameter(description = "ID of the employment information to update", required = true)
             @PathVariable @NotNull String id,
             @Parameter(description = "Updated employment information details", required = true)
-            @RequestBody @Valid EmploymentInformationRequest employmentInformationRequest
+            @RequestBody @Valid EmploymentInformationRequest employmentInformationRequest,
+            @Parameter(description = "ETag of the employment information as last read; the update fails with 412 if it has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws BadRequestException {
         log.info("Request to update employment information with id [{}] for employeeId: {}", id, employeeId);
         if (!employeeId.equals(employmentInformationRequest.employeeId())) {
@@ -297,9 +311,10 @@ public class EmploymentInformationController {
         if (response.isPresent() && !response.get().employeeResponse().id().equals(employeeId)) {
             throw new BadRequestException("Employment information with id [%s] does not belong to employee with id [%s]".formatted(id, employeeId));
         }
-        return ResponseEntity.ok(StandardApiResponse.success(
-                employmentInformationService.update(id, employmentInformationRequest)
-        ));
+        final var UPDATED = employmentInformationService.update(id, employmentInformationRequest, ETagUtil.ifMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.eTag(UPDATED.version()))
+                .body(StandardApiResponse.success(UPDATED));
     }
 
     /**
@@ -5,6 +5,7 @@ import dev.araopj.hrplatformapi.employee.dto.response.IdDocumentResponse;
 import dev.araopj.hrplatformapi.employee.service.IdDocumentService;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
 import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.StandardApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +18,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -125,8 +127,9 @@ public class IdDocumentController {
         log.debug("Fetching ID document with id: {}", id);
         var response = idDocumentService.findById(id);
         return response
-                .map(StandardApiResponse::success)
-                .map(ResponseEntity::ok)
+                .map(body -> ResponseEntity.ok()
+                        .eTag(ETagUtil.eTag(body.version()))
+                        .body(StandardApiResponse.success(body)))
                 .orElseThrow();
     }
 
@@ -191,6 +194,7 @@ public class IdDocumentController {
      *
      * @param id                The ID of the ID document to update.
      * @param idDocumentRequest The updated ID document details.
+     * @param ifMatch           The ETag of the ID document as last read; a stale one fails with 412.
      * @return A ResponseEntity containing a StandardApiResponse with the updated IdDocumentResponse.
      * @throws BadRequestException If invalid data or ID is provided.
      * @throws NotFoundException   If the ID document is not found.
@@ -223,6 +227,14 @@ public class IdDocumentController {
                                     schema = @Schema(implementation = ApiError.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "The ID document changed since the ETag in If-Match was read",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Internal server error",
@@ -238,10 +250,15 @@ public class IdDocumentController {
             @Parameter(description = "ID of the ID document to update", required = true)
             @PathVariable @NotNull String id,
             @Parameter(description = "Updated ID document details", required = true)
-            @RequestBody @Valid IdDocumentRequest idDocumentRequest
+            @RequestBody @Valid IdDocumentRequest idDocumentRequest,
+            @Parameter(description = "ETag of the ID document as last read; the update fails with 412 if it has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws BadRequestException {
         log.info("Request to update ID document with id [{}]", id);
-        return ResponseEntity.ok(StandardApiResponse.success(idDocumentService.update(id, idDocumentRequest)));
+        final var UPDATED = idDocumentService.update(id, idDocumentRequest, ETagUtil.ifMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.eTag(UPDATED.version()))
+                .body(StandardApiResponse.success(UPDATED));
     }
 
     /**
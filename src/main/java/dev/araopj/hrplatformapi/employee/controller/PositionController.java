@@ -3,8 +3,12 @@ package dev.araopj.hrplatformapi.employee.controller;
 import dev.araopj.hrplatformapi.employee.dto.request.PositionRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.PositionResponse;
 import dev.araopj.hrplatformapi.employee.service.PositionService;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.sync.dto.response.ChangeSetResponse;
+import dev.araopj.hrplatformapi.sync.service.ChangeFeedService;
 import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.PaginationMeta;
 import dev.araopj.hrplatformapi.utils.StandardApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,10 +23,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -40,6 +47,7 @@ import java.util.List;
 public class PositionController {
 
     private final PositionService positionService;
+    private final ChangeFeedService changeFeedService;
 
     /**
      * Retrieves a paginated list of all position entries.
@@ -99,6 +107,61 @@ public class PositionController {
         ));
     }
 
+    /**
+     * Retrieves the positions changed and deleted after a point in time, for clients that keep a local copy.
+     *
+     * @param since  Only return changes strictly after this instant; all positions if omitted.
+     * @param cursor The cursor of the previous page; takes precedence over 'since'.
+     * @param size   The maximum number of changes to return.
+     * @return A ResponseEntity containing a StandardApiResponse with the ChangeSetResponse.
+     * @throws InvalidRequestException If the size is out of range or the cursor is invalid.
+     */
+    @Operation(
+            summary = "Get position changes",
+            description = """
+                    Retrieve the positions updated and the IDs of those deleted after 'since', oldest first.
+                    Pass the returned 'cursor' to get the next page, and keep the last one to ask for later changes; 'cursor' takes precedence over 'since'.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the changes",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid size or cursor provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<StandardApiResponse<ChangeSetResponse<PositionResponse>>> changes(
+            @Parameter(description = "Only return changes strictly after this instant (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            @Parameter(description = "Cursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changes to return", example = "100")
+            @RequestParam(defaultValue = "100") int size
+    ) throws InvalidRequestException {
+        log.debug("Request to get position changes since [{}] at cursor [{}]", since, cursor);
+        return ResponseEntity.ok(StandardApiResponse.success(changeFeedService.positions(since, cursor, size)));
+    }
+
     /**
      * Retrieves a specific position by its ID.
      *
@@ -144,8 +207,9 @@ public class PositionController {
         log.debug("Fetching position with id: {}", id);
         var response = positionService.findById(id);
         return response
-                .map(StandardApiResponse::success)
-                .map(ResponseEntity::ok)
+                .map(body -> ResponseEntity.ok()
+                        .eTag(ETagUtil.eTag(body.version()))
+                        .body(StandardApiResponse.success(body)))
                 .orElseThrow();
     }
 
@@ -210,6 +274,7 @@ public class PositionController {
      *
      * @param id              The ID of the position to update.
      * @param positionRequest The updated position details.
+     * @param ifMatch         The ETag of the position as last read; a stale one fails with 412.
      * @return A ResponseEntity containing a StandardApiResponse with the updated PositionResponse.
      * @throws BadRequestException If invalid data or ID is provided.
      * @throws NotFoundException   If the position is not found.
@@ -242,6 +307,14 @@ public class PositionController {
                                     schema = @Schema(implementation = ApiError.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "The position changed since the ETag in If-Match was read",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Internal server error",
@@ -257,10 +330,15 @@ public class PositionController {
             @Parameter(description = "ID of the position to update", required = true)
             @PathVariable @NotNull String id,
             @Parameter(description = "Updated position details", required = true)
-            @RequestBody @Valid PositionRequest positionRequest
+            @RequestBody @Valid PositionRequest positionRequest,
+            @Parameter(description = "ETag of the position as last read; the update fails with 412 if it has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws BadRequestException {
         log.info("Request to update position with id [{}]", id);
-        return ResponseEntity.ok(StandardApiResponse.success(positionService.update(id, positionRequest)));
+        final var UPDATED = positionService.update(id, positionRequest, ETagUtil.ifMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.eTag(UPDATED.version()))
+                .body(StandardApiResponse.success(UPDATED));
     }
 
     /**
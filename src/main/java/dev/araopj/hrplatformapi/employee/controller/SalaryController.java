@@ -1,11 +1,19 @@
 package dev.araopj.hrplatformapi.employee.controller;
 
+import dev.araopj.hrplatformapi.employee.dto.request.SalaryAdjustmentRequest;
 import dev.araopj.hrplatformapi.employee.dto.request.SalaryRequest;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryAdjustmentResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryAsOfResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryHistoryResponse;
 import dev.araopj.hrplatformapi.employee.dto.response.SalaryResponse;
+import dev.araopj.hrplatformapi.employee.service.SalaryAdjustmentService;
 import dev.araopj.hrplatformapi.employee.service.SalaryService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.sync.dto.response.ChangeSetResponse;
+import dev.araopj.hrplatformapi.sync.service.ChangeFeedService;
 import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.PaginationMeta;
 import dev.araopj.hrplatformapi.utils.StandardApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,15 +28,19 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * REST controller for managing salary data.
- * Provides endpoints for retrieving, creating, updating, and deleting salary entries.
+ * Provides endpoints for retrieving, creating, updating, deleting and bulk-adjusting salary entries, and for reading salary history.
  */
 @Slf4j
 @RestController
@@ -41,6 +53,8 @@ import java.util.List;
 public class SalaryController {
 
     private final SalaryService salaryService;
+    private final SalaryAdjustmentService salaryAdjustmentService;
+    private final ChangeFeedService changeFeedService;
 
     /**
      * Retrieves a paginated list of all salary entries.
@@ -100,6 +114,61 @@ public class SalaryController {
         ));
     }
 
+    /**
+     * Retrieves the salaries changed and deleted after a point in time, for clients that keep a local copy.
+     *
+     * @param since  Only return changes strictly after this instant; all salaries if omitted.
+     * @param cursor The cursor of the previous page; takes precedence over 'since'.
+     * @param size   The maximum number of changes to return.
+     * @return A ResponseEntity containing a StandardApiResponse with the ChangeSetResponse.
+     * @throws InvalidRequestException If the size is out of range or the cursor is invalid.
+     */
+    @Operation(
+            summary = "Get salary changes",
+            description = """
+                    Retrieve the salaries updated and the IDs of those deleted after 'since', oldest first.
+                    Pass the returned 'cursor' to get the next page, and keep the last one to ask for later changes; 'cursor' takes precedence over 'since'.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the changes",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid size or cursor provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<StandardApiResponse<ChangeSetResponse<SalaryResponse>>> changes(
+            @Parameter(description = "Only return changes strictly after this instant (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            @Parameter(description = "Cursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changes to return", example = "100")
+            @RequestParam(defaultValue = "100") int size
+    ) throws InvalidRequestException {
+        log.debug("Request to get salary changes since [{}] at cursor [{}]", since, cursor);
+        return ResponseEntity.ok(StandardApiResponse.success(changeFeedService.salaries(since, cursor, size)));
+    }
+
     /**
      * Retrieves a specific salary by its ID.
      *
@@ -145,11 +214,126 @@ public class SalaryController {
         log.debug("Fetching salary with id: {}", id);
         var response = salaryService.findById(id);
         return response
-                .map(StandardApiResponse::success)
-                .map(ResponseEntity::ok)
+                .map(body -> ResponseEntity.ok()
+                        .eTag(ETagUtil.eTag(body.version()))
+                        .body(StandardApiResponse.success(body)))
                 .orElseThrow();
     }
 
+    /**
+     * Retrieves the recorded versions of a salary during a date range.
+     *
+     * @param id   The ID of the salary.
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, inclusive; defaults to today.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of SalaryHistoryResponse, oldest first.
+     * @throws InvalidRequestException If 'from' is after 'to'.
+     */
+    @Operation(
+            summary = "Get salary history",
+            description = "Retrieve every version of a salary in effect between 'from' and 'to' (defaults to today), including the version in effect on 'from'. Deleted salaries keep their history.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the salary history",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid date range provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/{id}/history")
+    public ResponseEntity<StandardApiResponse<List<SalaryHistoryResponse>>> history(
+            @Parameter(description = "ID of the salary", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Start of the range (yyyy-MM-dd)", required = true, example = "2024-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End of the range (yyyy-MM-dd)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) throws InvalidRequestException {
+        log.debug("Fetching history of salary [{}] from [{}] to [{}]", id, from, to);
+        return ResponseEntity.ok(StandardApiResponse.success(
+                salaryService.findHistory(id, from, to != null ? to : LocalDate.now())
+        ));
+    }
+
+    /**
+     * Retrieves the salary of every employment record as of a date, one page at a time.
+     *
+     * @param asOf The date; defaults to today.
+     * @param page The page number (1-based).
+     * @param size The number of records per page.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of SalaryAsOfResponse and pagination metadata.
+     */
+    @Operation(
+            summary = "Get salaries as of a date",
+            description = "Resolve the salary every employment record had at the end of 'asOf' (defaults to today) from the salary history. Supports pagination through 'page' and 'size' query parameters.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully resolved the salaries",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid parameters provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/as-of")
+    public ResponseEntity<StandardApiResponse<List<SalaryAsOfResponse>>> asOf(
+            @Parameter(description = "Date to resolve the salaries on (yyyy-MM-dd)", example = "2024-06-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @Parameter(description = "Page number (1-based)", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Number of records per page", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.debug("Fetching salaries as of [{}] with page: {} and size: {}", asOf, page, size);
+        final var PAGE = salaryService.findAllAsOf(asOf != null ? asOf : LocalDate.now(), PageRequest.of(page - 1, size));
+        return ResponseEntity.ok(StandardApiResponse.success(
+                PAGE.getContent(),
+                PaginationMeta.builder()
+                        .page(PAGE.getNumber() + 1)
+                        .size(PAGE.getSize())
+                        .totalElements(PAGE.getTotalElements())
+                        .totalPages(PAGE.getTotalPages())
+                        .build()
+        ));
+    }
+
     /**
      * Creates a new salary.
      *
@@ -198,11 +382,69 @@ public class SalaryController {
         return ResponseEntity.ok(StandardApiResponse.success(salaryService.create(salaryRequest)));
     }
 
+    /**
+     * Adjusts every salary matching a filter in one set-based operation.
+     *
+     * @param adjustmentRequest The adjustment rule and the filter of the salaries to adjust.
+     * @return A ResponseEntity containing a StandardApiResponse with the SalaryAdjustmentResponse.
+     * @throws InvalidRequestException If the adjustment rule is invalid.
+     * @throws NotFoundException       If the salary grade step of a SALARY_GRADE_STEP adjustment is not found.
+     */
+    @Operation(
+            summary = "Adjust salaries",
+            description = "Adjust every salary matching the filter by a percentage, a fixed amount, or, for salaries already on a salary grade, to a step of that grade. Salaries are updated in chunks and every change is recorded in the salary history.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully adjusted the salaries",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid adjustment provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Salary grade step not found",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/adjustments")
+    public ResponseEntity<StandardApiResponse<SalaryAdjustmentResponse>> adjust(
+            @Valid
+            @RequestBody
+            @Parameter(description = "Adjustment rule and filter", required = true)
+            SalaryAdjustmentRequest adjustmentRequest
+    ) {
+        log.debug("Request to adjust salaries: {}", adjustmentRequest);
+        return ResponseEntity.ok(StandardApiResponse.success(salaryAdjustmentService.adjust(adjustmentRequest)));
+    }
+
     /**
      * Updates an existing salary by its ID.
      *
      * @param id            The ID of the salary to update.
      * @param salaryRequest The updated salary details.
+     * @param ifMatch       The ETag of the salary as last read; a stale one fails with 412.
      * @return A ResponseEntity containing a StandardApiResponse with the updated SalaryResponse.
      * @throws InvalidRequestException If invalid data or ID is provided.
      * @throws NotFoundException       If the salary is not found.
@@ -235,6 +477,14 @@ public class SalaryController {
                                     schema = @Schema(implementation = ApiError.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "The salary changed since the ETag in If-Match was read",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Internal server error",
@@ -256,10 +506,15 @@ public class SalaryController {
             @Parameter(description = "Updated salary details", required = true)
             @RequestBody
             @Valid
-            SalaryRequest salaryRequest
+            SalaryRequest salaryRequest,
+            @Parameter(description = "ETag of the salary as last read; the update fails with 412 if it has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws InvalidRequestException {
         log.info("Request to update salary with id [{}]", id);
-        return ResponseEntity.ok(StandardApiResponse.success(salaryService.update(id, salaryRequest)));
+        final var UPDATED = salaryService.update(id, salaryRequest, ETagUtil.ifMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.eTag(UPDATED.version()))
+                .body(StandardApiResponse.success(UPDATED));
     }
 
     /**
@@ -3,7 +3,10 @@ package dev.araopj.hrplatformapi.employee.controller;
 import dev.araopj.hrplatformapi.employee.dto.request.WorkplaceRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.WorkplaceResponse;
 import dev.araopj.hrplatformapi.employee.service.WorkplaceService;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.sync.dto.response.ChangeSetResponse;
+import dev.araopj.hrplatformapi.sync.service.ChangeFeedService;
 import dev.araopj.hrplatformapi.utils.ApiError;
 import dev.araopj.hrplatformapi.utils.PaginationMeta;
 import dev.araopj.hrplatformapi.utils.StandardApiResponse;
@@ -19,10 +22,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -40,6 +45,7 @@ import java.util.List;
 public class WorkplaceController {
 
     private final WorkplaceService workplaceService;
+    private final ChangeFeedService changeFeedService;
 
     /**
      * Retrieves a paginated list of all workplace entries.
@@ -99,6 +105,61 @@ public class WorkplaceController {
         ));
     }
 
+    /**
+     * Retrieves the workplaces changed and deleted after a point in time, for clients that keep a local copy.
+     *
+     * @param since  Only return changes strictly after this instant; all workplaces if omitted.
+     * @param cursor The cursor of the previous page; takes precedence over 'since'.
+     * @param size   The maximum number of changes to return.
+     * @return A ResponseEntity containing a StandardApiResponse with the ChangeSetResponse.
+     * @throws InvalidRequestException If the size is out of range or the cursor is invalid.
+     */
+    @Operation(
+            summary = "Get workplace changes",
+            description = """
+                    Retrieve the workplaces updated and the IDs of those deleted after 'since', oldest first.
+                    Pass the returned 'cursor' to get the next page, and keep the last one to ask for later changes; 'cursor' takes precedence over 'since'.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the changes",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid size or cursor provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<StandardApiResponse<ChangeSetResponse<WorkplaceResponse>>> changes(
+            @Parameter(description = "Only return changes strictly after this instant (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            @Parameter(description = "Cursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changes to return", example = "100")
+            @RequestParam(defaultValue = "100") int size
+    ) throws InvalidRequestException {
+        log.debug("Request to get workplace changes since [{}] at cursor [{}]", since, cursor);
+        return ResponseEntity.ok(StandardApiResponse.success(changeFeedService.workplaces(since, cursor, size)));
+    }
+
     /**
      * Retrieves a specific workplace by its ID.
      *
@@ -0,0 +1,47 @@
+package dev.araopj.hrplatformapi.employee.dto.request;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.employee.model.SalaryAdjustmentType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A bulk salary adjustment: a rule applied to every salary that matches the filter.
+ * <p>
+ * Rules:
+ * <ul>
+ *     <li>{@code PERCENTAGE}: {@code value} percent is added, e.g. {@code 5.25}; rounded half-up to the minor unit.</li>
+ *     <li>{@code FIXED_AMOUNT}: {@code value} is added, e.g. {@code 1500.00} or {@code -200.00}.</li>
+ *     <li>{@code SALARY_GRADE_STEP}: salaries currently on {@code salaryGrade} move to its step {@code step} in effect
+ *     on {@code effectiveDate} (defaults to today). A salary is on the grade when its amount is one the grade pays at
+ *     some step under some tranche and no other grade pays; other salaries are left unchanged.</li>
+ * </ul>
+ * Salaries whose new amount would be negative are left unchanged. The filter fields are combined with AND, and an
+ * empty or missing list does not filter. Only salaries in {@code currency} (defaults to
+ * {@code hr-platform.salary.currency}) are adjusted.
+ */
+@Builder
+public record SalaryAdjustmentRequest(
+        @NotNull(message = "type cannot be null")
+        SalaryAdjustmentType type,
+        BigDecimal value,
+        @Min(value = 1, message = "salaryGrade must be greater than or equal to 1")
+        Integer salaryGrade,
+        @Min(value = 1, message = "step must be greater than or equal to 1")
+        Integer step,
+        LocalDate effectiveDate,
+        @Size(min = 3, max = 3, message = "currency must be a 3-letter ISO 4217 code")
+        String currency,
+        List<String> workplaceIds,
+        List<String> positionIds,
+        List<EmploymentStatus> employmentStatuses,
+        BigDecimal minAmount,
+        BigDecimal maxAmount
+) {
+}
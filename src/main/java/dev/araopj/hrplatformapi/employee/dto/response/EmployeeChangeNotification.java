@@ -0,0 +1,20 @@
+package dev.araopj.hrplatformapi.employee.dto.response;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * A committed change pushed on {@code GET /api/v1/employees/stream}. Only identifies the row; clients re-fetch it if
+ * they show it. {@code updatedAt} is the time of the delete for {@code DELETE}.
+ */
+@Builder
+public record EmployeeChangeNotification(
+        String id,
+        EntityType type,
+        AuditAction action,
+        Instant updatedAt
+) {
+}
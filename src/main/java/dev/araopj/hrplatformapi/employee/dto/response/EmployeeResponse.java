@@ -30,6 +30,7 @@ public record EmployeeResponse(
         boolean archived,
         @JsonInclude(JsonInclude.Include.NON_NULL)
         String userId,
+        long version,
         @JsonInclude(JsonInclude.Include.NON_NULL)
         Set<IdDocumentResponse> idDocumentResponses,
         @JsonInclude(JsonInclude.Include.NON_NULL)
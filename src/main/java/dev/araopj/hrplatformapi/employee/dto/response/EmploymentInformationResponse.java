@@ -18,7 +18,7 @@ public record EmploymentInformationResponse(
         int anticipatedStep,
         PositionResponse positionResponse,
         WorkplaceResponse workplaceResponse,
-        SalaryResponse salaryResponse
-
+        SalaryResponse salaryResponse,
+        long version
 ) {
 }
@@ -16,6 +16,7 @@ public record IdDocumentResponse(
         String issuedPlace,
         Instant createdAt,
         Instant updatedAt,
+        long version,
         @JsonInclude(JsonInclude.Include.NON_NULL)
         Employee employee
 ) {
@@ -13,6 +13,7 @@ public record PositionResponse(
         @JsonInclude(JsonInclude.Include.NON_NULL)
         EmploymentInformationResponse employmentInformationResponse,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {
 }
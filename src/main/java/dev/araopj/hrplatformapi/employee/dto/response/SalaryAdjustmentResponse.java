@@ -0,0 +1,18 @@
+package dev.araopj.hrplatformapi.employee.dto.response;
+
+import dev.araopj.hrplatformapi.employee.model.SalaryAdjustmentType;
+import lombok.Builder;
+
+/**
+ * Outcome of a bulk salary adjustment. {@code matched - updated} salaries matched the filter but were left unchanged,
+ * either because the rule did not change their amount or because it would have made it negative.
+ */
+@Builder
+public record SalaryAdjustmentResponse(
+        SalaryAdjustmentType type,
+        String currency,
+        long matched,
+        long updated,
+        int chunks
+) {
+}
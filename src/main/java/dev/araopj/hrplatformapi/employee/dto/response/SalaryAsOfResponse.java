@@ -0,0 +1,21 @@
+package dev.araopj.hrplatformapi.employee.dto.response;
+
+import dev.araopj.hrplatformapi.employee.model.SalaryChangeType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * The salary of one employment record as of a date. {@code amount} and the fields after it are {@code null} when
+ * the salary has no recorded version that old.
+ */
+@Builder
+public record SalaryAsOfResponse(
+        String employmentInformationId,
+        String salaryId,
+        Double amount,
+        String currency,
+        SalaryChangeType changeType,
+        Instant validFrom
+) {
+}
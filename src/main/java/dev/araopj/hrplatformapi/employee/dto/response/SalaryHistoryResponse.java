@@ -0,0 +1,17 @@
+package dev.araopj.hrplatformapi.employee.dto.response;
+
+import dev.araopj.hrplatformapi.employee.model.SalaryChangeType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record SalaryHistoryResponse(
+        String id,
+        String salaryId,
+        double amount,
+        String currency,
+        SalaryChangeType changeType,
+        Instant validFrom
+) {
+}
@@ -0,0 +1,117 @@
+package dev.araopj.hrplatformapi.employee.listener;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.employee.dto.response.EmployeeChangeNotification;
+import dev.araopj.hrplatformapi.employee.model.Employee;
+import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
+import dev.araopj.hrplatformapi.employee.service.impl.EmployeeChangeBroadcaster;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYMENT_INFORMATION;
+
+/**
+ * Collects the employee and employment information rows a transaction inserts, updates or deletes, and hands them to
+ * {@link EmployeeChangeBroadcaster} in one call after the transaction commits. Nothing is sent for a rollback.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeChangeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Map<Class<?>, EntityType> STREAMED_ENTITIES = Map.of(
+            Employee.class, EMPLOYEE,
+            EmploymentInformation.class, EMPLOYMENT_INFORMATION
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EmployeeChangeBroadcaster employeeChangeBroadcaster;
+
+    @PostConstruct
+    void register() {
+        final var REGISTRY = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        REGISTRY.appendListeners(EventType.POST_INSERT, this);
+        REGISTRY.appendListeners(EventType.POST_UPDATE, this);
+        REGISTRY.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        collect(event.getPersister(), event.getId(), AuditAction.CREATE, updatedAt(event.getEntity()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        collect(event.getPersister(), event.getId(), AuditAction.UPDATE, updatedAt(event.getEntity()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        collect(event.getPersister(), event.getId(), AuditAction.DELETE, Instant.now());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void collect(EntityPersister persister, Object id, AuditAction action, Instant updatedAt) {
+        final var TYPE = STREAMED_ENTITIES.get(persister.getMappedClass());
+        if (TYPE == null) {
+            return;
+        }
+        final var NOTIFICATION = EmployeeChangeNotification.builder()
+                .id(String.valueOf(id))
+                .type(TYPE)
+                .action(action)
+                .updatedAt(updatedAt)
+                .build();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            employeeChangeBroadcaster.publish(List.of(NOTIFICATION));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        var pending = (List<EmployeeChangeNotification>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            final var PENDING = new ArrayList<EmployeeChangeNotification>();
+            TransactionSynchronizationManager.bindResource(this, PENDING);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    employeeChangeBroadcaster.publish(PENDING);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeChangeListener.this);
+                }
+            });
+            pending = PENDING;
+        }
+        pending.add(NOTIFICATION);
+    }
+
+    private static Instant updatedAt(Object entity) {
+        return entity instanceof EntityTimestamp timestamped && timestamped.getUpdatedAt() != null
+                ? timestamped.getUpdatedAt()
+                : Instant.now();
+    }
+}
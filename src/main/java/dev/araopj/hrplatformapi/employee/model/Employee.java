@@ -13,6 +13,7 @@ import java.util.Set;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = @Index(name = "idx_employee_updated_at_id", columnList = "updated_at, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
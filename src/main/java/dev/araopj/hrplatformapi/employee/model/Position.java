@@ -9,6 +9,7 @@ import java.io.Serializable;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = @Index(name = "idx_position_updated_at_id", columnList = "updated_at, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
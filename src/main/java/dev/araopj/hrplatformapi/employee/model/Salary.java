@@ -2,6 +2,7 @@ package dev.araopj.hrplatformapi.employee.model;
 
 import dev.araopj.hrplatformapi.utils.EntityTimestamp;
 import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import dev.araopj.hrplatformapi.utils.money.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,6 +10,7 @@ import java.io.Serializable;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Table(indexes = @Index(name = "idx_salary_updated_at_id", columnList = "updated_at, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -19,11 +21,8 @@ public class Salary extends EntityTimestamp implements Serializable {
     @Uuid
     String id;
 
-    @Column
-    double amount;
-
-    @Column
-    String currency;
+    @Embedded
+    Money amount;
 
     @OneToOne(mappedBy = "salary", cascade = CascadeType.ALL)
     EmploymentInformation employmentInformation;
@@ -0,0 +1,16 @@
+package dev.araopj.hrplatformapi.employee.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum SalaryAdjustmentType {
+
+    PERCENTAGE("PCT", "Percentage"),
+    FIXED_AMOUNT("FIX", "Fixed Amount"),
+    SALARY_GRADE_STEP("SGS", "Salary Grade Step");
+
+    private final String code;
+    private final String description;
+}
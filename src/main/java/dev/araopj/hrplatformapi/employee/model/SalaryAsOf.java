@@ -0,0 +1,18 @@
+package dev.araopj.hrplatformapi.employee.model;
+
+import java.time.Instant;
+import java.util.Currency;
+
+/**
+ * The salary version of one employment record in effect at a point in time.
+ * Every field but {@code employmentInformationId} is {@code null} when the salary has no version that old.
+ */
+public record SalaryAsOf(
+        String employmentInformationId,
+        String salaryId,
+        Long minorUnits,
+        Currency currency,
+        SalaryChangeType changeType,
+        Instant validFrom
+) {
+}
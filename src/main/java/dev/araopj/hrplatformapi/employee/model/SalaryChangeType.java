@@ -0,0 +1,16 @@
+package dev.araopj.hrplatformapi.employee.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum SalaryChangeType {
+
+    CREATED("C", "Created"),
+    UPDATED("U", "Updated"),
+    DELETED("D", "Deleted");
+
+    private final String code;
+    private final String description;
+}
@@ -0,0 +1,49 @@
+package dev.araopj.hrplatformapi.employee.model;
+
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * One version of a {@link Salary}: the amount it had from {@code validFrom} until the next version of the same salary.
+ * <p>
+ * Rows are only ever inserted, in the same transaction as the salary change they record, so the table answers
+ * "salary as of" questions without an external audit. {@code salaryId} is a plain column rather than a foreign key,
+ * so the history of a deleted salary is kept; its last row has change type {@link SalaryChangeType#DELETED}.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Immutable
+@Table(
+        name = "salary_history",
+        indexes = @Index(name = "idx_salary_history_salary_id_valid_from", columnList = "salary_id, valid_from")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class SalaryHistory extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    private String salaryId;
+
+    @Embedded
+    private Money amount;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private SalaryChangeType changeType;
+
+    @Column(nullable = false, updatable = false)
+    private Instant validFrom;
+}
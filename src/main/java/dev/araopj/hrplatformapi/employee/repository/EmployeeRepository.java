@@ -1,6 +1,7 @@
 package dev.araopj.hrplatformapi.employee.repository;
 
 import dev.araopj.hrplatformapi.employee.model.Employee;
+import dev.araopj.hrplatformapi.sync.repository.ChangeFeedRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, String> {
+public interface EmployeeRepository extends JpaRepository<Employee, String>, ChangeFeedRepository<Employee> {
     Optional<Employee> findByUserId(String userId);
     @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.idDocuments LEFT JOIN FETCH e.employmentInformation")
     Page<Employee> findAllWithIdDocumentsAndEmploymentInformation(Pageable pageable);
@@ -1,12 +1,13 @@
 package dev.araopj.hrplatformapi.employee.repository;
 
 import dev.araopj.hrplatformapi.employee.model.Position;
+import dev.araopj.hrplatformapi.sync.repository.ChangeFeedRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface PositionRepository extends JpaRepository<Position, String> {
+public interface PositionRepository extends JpaRepository<Position, String>, ChangeFeedRepository<Position> {
     Optional<Position> findByCodeAndEmploymentInformationId(String code, String employmentInformationId);
 }
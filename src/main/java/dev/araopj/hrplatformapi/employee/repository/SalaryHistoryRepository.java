@@ -0,0 +1,57 @@
+package dev.araopj.hrplatformapi.employee.repository;
+
+import dev.araopj.hrplatformapi.employee.model.SalaryAsOf;
+import dev.araopj.hrplatformapi.employee.model.SalaryHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Append-only access to {@link SalaryHistory}: rows can be inserted and read, never updated or deleted.
+ * Every query seeks on the {@code (salary_id, valid_from)} index.
+ */
+@Repository
+public interface SalaryHistoryRepository extends org.springframework.data.repository.Repository<SalaryHistory, String> {
+
+    SalaryHistory save(SalaryHistory salaryHistory);
+
+    /**
+     * Lists the versions of a salary in effect at any time in {@code [from, to)}: the one in effect at {@code from}
+     * followed by every version that started before {@code to}, oldest first.
+     */
+    @Query("""
+            SELECT h FROM SalaryHistory h
+            WHERE h.salaryId = :salaryId
+              AND h.validFrom < :to
+              AND h.validFrom >= COALESCE(
+                    (SELECT MAX(p.validFrom) FROM SalaryHistory p WHERE p.salaryId = :salaryId AND p.validFrom <= :from),
+                    :from)
+            ORDER BY h.validFrom
+            """)
+    List<SalaryHistory> findBetween(
+            @Param("salaryId") String salaryId,
+            @Param("from") Instant from,
+            @Param("to") Instant to
+    );
+
+    /**
+     * Resolves the salary in effect just before {@code before} for a whole page of employment records in one
+     * statement; each record costs one index seek for its latest version.
+     */
+    @Query(value = """
+            SELECT new dev.araopj.hrplatformapi.employee.model.SalaryAsOf(
+                e.id, h.salaryId, h.amount.minorUnits, h.amount.currency, h.changeType, h.validFrom)
+            FROM EmploymentInformation e
+            LEFT JOIN SalaryHistory h
+              ON h.salaryId = e.salary.id
+             AND h.validFrom = (SELECT MAX(p.validFrom) FROM SalaryHistory p WHERE p.salaryId = e.salary.id AND p.validFrom < :before)
+            ORDER BY e.id
+            """,
+            countQuery = "SELECT COUNT(e) FROM EmploymentInformation e")
+    Page<SalaryAsOf> findAllAsOf(@Param("before") Instant before, Pageable pageable);
+}
@@ -1,12 +1,19 @@
 package dev.araopj.hrplatformapi.employee.repository;
 
 import dev.araopj.hrplatformapi.employee.model.Salary;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import dev.araopj.hrplatformapi.sync.repository.ChangeFeedRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Currency;
 import java.util.Optional;
 
 @Repository
-public interface SalaryRepository extends JpaRepository<Salary, String> {
-    Optional<Salary> findByAmountAndCurrencyAndEmploymentInformationId(double amount, String currency, String employmentInformationId);
+public interface SalaryRepository extends JpaRepository<Salary, String>, ChangeFeedRepository<Salary> {
+    Optional<Salary> findByAmountMinorUnitsAndAmountCurrencyAndEmploymentInformationId(long minorUnits, Currency currency, String employmentInformationId);
+
+    default Optional<Salary> findByAmountAndEmploymentInformationId(Money amount, String employmentInformationId) {
+        return findByAmountMinorUnitsAndAmountCurrencyAndEmploymentInformationId(amount.minorUnits(), amount.currency(), employmentInformationId);
+    }
 }
@@ -1,12 +1,13 @@
 package dev.araopj.hrplatformapi.employee.repository;
 
 import dev.araopj.hrplatformapi.employee.model.Workplace;
+import dev.araopj.hrplatformapi.sync.repository.ChangeFeedRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface WorkplaceRepository extends JpaRepository<Workplace, String> {
+public interface WorkplaceRepository extends JpaRepository<Workplace, String>, ChangeFeedRepository<Workplace> {
     Optional<Workplace> findByCodeAndNameAndEmploymentInformationId(String code, String name, String employmentInformationId);
 }
@@ -0,0 +1,48 @@
+package dev.araopj.hrplatformapi.employee.runner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Gives every salary without a {@code salary_history} row a {@code CREATED} row holding its current amount, valid from
+ * the salary's {@code created_at}, so "salary as of" queries answer for salaries written before the history table
+ * existed. Later changes to those salaries are recorded as usual.
+ * <p>
+ * One {@code INSERT ... SELECT}, so salaries that already have a history are skipped and the runner is a no-op after
+ * the first start. The seeded row reuses the salary id as its own id. The history cannot know about changes made before
+ * it existed, so as-of queries for dates before the seed return the amount the salary had when it was seeded.
+ * Runs before the warm-up so warmed pages see the seeded rows.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class SalaryHistorySeedRunner implements ApplicationRunner {
+
+    static final String SEED_HISTORY = """
+            INSERT INTO salary_history (id, salary_id, amount_minor, currency, change_type, valid_from, created_at, updated_at)
+            SELECT s.id, s.id, s.amount_minor, s.currency, 'CREATED', s.created_at, ?, ?
+            FROM salary s
+            WHERE NOT EXISTS (SELECT 1 FROM salary_history h WHERE h.salary_id = s.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        final var NOW = Timestamp.from(Instant.now());
+        final var SEEDED = jdbcTemplate.update(SEED_HISTORY, NOW, NOW);
+        if (SEEDED > 0) {
+            log.info("Seeded salary history for [{}] salaries that had none", SEEDED);
+        }
+    }
+}
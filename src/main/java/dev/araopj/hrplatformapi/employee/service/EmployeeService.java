@@ -4,6 +4,7 @@ import dev.araopj.hrplatformapi.employee.dto.request.EmployeeRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.EmployeeResponse;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -93,7 +94,20 @@ public interface EmployeeService {
      * @throws InvalidRequestException if the request data is invalid.
      * @throws NotFoundException       if the employee with the given ID does not exist.
      */
-    EmployeeResponse update(String id, EmployeeRequest employeeRequest) throws InvalidRequestException, NotFoundException;
+    default EmployeeResponse update(String id, EmployeeRequest employeeRequest) throws InvalidRequestException, NotFoundException {
+        return update(id, employeeRequest, null);
+    }
+
+    /**
+     * Updates an existing employee record if it is still at the version the client read.
+     *
+     * @param id              the unique id of the employee to update
+     * @param employeeRequest the request object containing the updated details
+     * @param expectedVersion the version from {@code If-Match}, or {@code null} to update any version
+     * @return the updated {@link EmployeeResponse} object
+     * @throws PreconditionFailedException if the employee is no longer at {@code expectedVersion}
+     */
+    EmployeeResponse update(String id, EmployeeRequest employeeRequest, Long expectedVersion) throws InvalidRequestException, NotFoundException, PreconditionFailedException;
 
     /**
      * Deletes an employee by their ID.
@@ -4,6 +4,7 @@ import dev.araopj.hrplatformapi.employee.dto.request.EmploymentInformationReques
 import dev.araopj.hrplatformapi.employee.dto.response.EmploymentInformationResponse;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -63,7 +64,20 @@ public interface EmploymentInformationService {
      * @throws InvalidRequestException if the provided id is invalid or the employment information cannot be updated
      * @throws NotFoundException       if the employment information with the specified id does not exist
      */
-    EmploymentInformationResponse update(String id, EmploymentInformationRequest employmentInformationRequest) throws InvalidRequestException, NotFoundException;
+    default EmploymentInformationResponse update(String id, EmploymentInformationRequest employmentInformationRequest) throws InvalidRequestException, NotFoundException {
+        return update(id, employmentInformationRequest, null);
+    }
+
+    /**
+     * Updates an existing employment information record if it is still at the version the client read.
+     *
+     * @param id                           the unique id of the employment information to update
+     * @param employmentInformationRequest the request object containing the updated details
+     * @param expectedVersion              the version from {@code If-Match}, or {@code null} to update any version
+     * @return the updated {@link EmploymentInformationResponse} object
+     * @throws PreconditionFailedException if the employment information is no longer at {@code expectedVersion}
+     */
+    EmploymentInformationResponse update(String id, EmploymentInformationRequest employmentInformationRequest, Long expectedVersion) throws InvalidRequestException, NotFoundException, PreconditionFailedException;
 
     /**
      * Deletes an employment information record by its unique id.
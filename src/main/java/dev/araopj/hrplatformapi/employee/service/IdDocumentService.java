@@ -3,6 +3,7 @@ package dev.araopj.hrplatformapi.employee.service;
 import dev.araopj.hrplatformapi.employee.dto.request.IdDocumentRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.IdDocumentResponse;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
 
 import java.util.List;
 import java.util.Optional;
@@ -49,7 +50,20 @@ public interface IdDocumentService {
      * @return the updated {@link IdDocumentResponse}.
      * @throws InvalidRequestException when the update request is invalid
      */
-    IdDocumentResponse update(String id, IdDocumentRequest request) throws InvalidRequestException;
+    default IdDocumentResponse update(String id, IdDocumentRequest request) throws InvalidRequestException {
+        return update(id, request, null);
+    }
+
+    /**
+     * Updates an existing IdDocument if it is still at the version the client read.
+     *
+     * @param id              the unique id of the IdDocument to update
+     * @param request         the request object containing the updated details
+     * @param expectedVersion the version from {@code If-Match}, or {@code null} to update any version
+     * @return the updated {@link IdDocumentResponse} object
+     * @throws PreconditionFailedException if the IdDocument is no longer at {@code expectedVersion}
+     */
+    IdDocumentResponse update(String id, IdDocumentRequest request, Long expectedVersion) throws InvalidRequestException, PreconditionFailedException;
 
     /**
      * Deletes an IdDocument by its ID.
@@ -4,6 +4,7 @@ import dev.araopj.hrplatformapi.employee.dto.request.PositionRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.PositionResponse;
 import dev.araopj.hrplatformapi.employee.model.Position;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -46,7 +47,20 @@ public interface PositionService {
      * @param positionRequest the request object containing updated position details
      * @return the updated {@link PositionResponse} object
      */
-    PositionResponse update(String id, PositionRequest positionRequest) throws InvalidRequestException;
+    default PositionResponse update(String id, PositionRequest positionRequest) throws InvalidRequestException {
+        return update(id, positionRequest, null);
+    }
+
+    /**
+     * Updates an existing position if it is still at the version the client read.
+     *
+     * @param id              the unique id of the position to update
+     * @param positionRequest the request object containing the updated details
+     * @param expectedVersion the version from {@code If-Match}, or {@code null} to update any version
+     * @return the updated {@link PositionResponse} object
+     * @throws PreconditionFailedException if the position is no longer at {@code expectedVersion}
+     */
+    PositionResponse update(String id, PositionRequest positionRequest, Long expectedVersion) throws InvalidRequestException, PreconditionFailedException;
 
     /**
      * Deletes a position by its unique id.
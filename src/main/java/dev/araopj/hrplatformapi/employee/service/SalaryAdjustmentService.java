@@ -0,0 +1,22 @@
+package dev.araopj.hrplatformapi.employee.service;
+
+import dev.araopj.hrplatformapi.employee.dto.request.SalaryAdjustmentRequest;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryAdjustmentResponse;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+
+/**
+ * Service interface for bulk salary adjustments.
+ */
+public interface SalaryAdjustmentService {
+
+    /**
+     * Applies a rule to every salary that matches the filter, in chunks of one transaction each.
+     * A failure leaves the chunks committed before it in place; re-running a {@code SALARY_GRADE_STEP} adjustment
+     * is idempotent, percentage and fixed-amount adjustments are not.
+     *
+     * @param adjustmentRequest the rule and the filter
+     * @return the number of salaries matched and updated
+     * @throws InvalidRequestException if the rule is incomplete or out of range
+     */
+    SalaryAdjustmentResponse adjust(SalaryAdjustmentRequest adjustmentRequest) throws InvalidRequestException;
+}
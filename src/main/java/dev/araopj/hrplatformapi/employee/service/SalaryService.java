@@ -1,11 +1,16 @@
 package dev.araopj.hrplatformapi.employee.service;
 
 import dev.araopj.hrplatformapi.employee.dto.request.SalaryRequest;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryAsOfResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryHistoryResponse;
 import dev.araopj.hrplatformapi.employee.dto.response.SalaryResponse;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,6 +34,27 @@ public interface SalaryService {
      */
     Optional<SalaryResponse> findById(String id);
 
+    /**
+     * Lists the recorded versions of a salary in effect at any time during a date range, including the version
+     * already in effect at the start of the range. The history of a deleted salary remains available.
+     *
+     * @param id   the unique id of the salary
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, inclusive
+     * @return the {@link SalaryHistoryResponse} objects, oldest first
+     * @throws InvalidRequestException if {@code from} is after {@code to}
+     */
+    List<SalaryHistoryResponse> findHistory(String id, LocalDate from, LocalDate to) throws InvalidRequestException;
+
+    /**
+     * Resolves the salary every employment record had at the end of a date, one page at a time.
+     *
+     * @param asOf     the date
+     * @param pageable the pagination parameters; records are ordered by id
+     * @return a {@link Page} containing one {@link SalaryAsOfResponse} per employment record
+     */
+    Page<SalaryAsOfResponse> findAllAsOf(LocalDate asOf, Pageable pageable);
+
     /**
      * Creates a new salary based on the provided request data.
      *
@@ -44,7 +70,20 @@ public interface SalaryService {
      * @param salaryRequest the request object containing updated salary details
      * @return the updated {@link SalaryResponse} object
      */
-    SalaryResponse update(String id, SalaryRequest salaryRequest) throws InvalidRequestException;
+    default SalaryResponse update(String id, SalaryRequest salaryRequest) throws InvalidRequestException {
+        return update(id, salaryRequest, null);
+    }
+
+    /**
+     * Updates an existing salary if it is still at the version the client read.
+     *
+     * @param id              the unique id of the salary to update
+     * @param salaryRequest   the request object containing the updated details
+     * @param expectedVersion the version from {@code If-Match}, or {@code null} to update any version
+     * @return the updated {@link SalaryResponse} object
+     * @throws PreconditionFailedException if the salary is no longer at {@code expectedVersion}
+     */
+    SalaryResponse update(String id, SalaryRequest salaryRequest, Long expectedVersion) throws InvalidRequestException, PreconditionFailedException;
 
     /**
      * Deletes a salary by its unique id.
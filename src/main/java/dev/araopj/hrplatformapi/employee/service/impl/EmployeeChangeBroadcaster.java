@@ -0,0 +1,145 @@
+package dev.araopj.hrplatformapi.employee.service.impl;
+
+import dev.araopj.hrplatformapi.employee.dto.response.EmployeeChangeNotification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans committed employee and employment information changes out to every {@code GET /api/v1/employees/stream}
+ * subscriber.
+ * <p>
+ * Each subscriber has a buffer of {@code hr-platform.employee-stream.buffer-size} notifications and a virtual thread
+ * that writes them to its connection, sending a comment every {@code heartbeat-interval} when idle so dead connections
+ * are noticed. {@link #publish} only offers to those buffers, so a committing writer never waits on a client: a
+ * subscriber whose buffer is full is dropped, and its thread closes the stream once its pending write returns. A
+ * dropped client reconnects and re-fetches what it shows.
+ * <p>
+ * Reports {@code hr_platform.employee_stream.subscribers} (gauge) and {@code hr_platform.employee_stream.dropped}
+ * (counter).
+ */
+@Slf4j
+@Component
+public class EmployeeChangeBroadcaster {
+
+    private static final String EVENT_NAME = "change";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final Counter dropped;
+
+    public EmployeeChangeBroadcaster(
+            MeterRegistry meterRegistry,
+            @Value("${hr-platform.employee-stream.buffer-size:256}") int bufferSize,
+            @Value("${hr-platform.employee-stream.timeout:PT30M}") Duration timeout,
+            @Value("${hr-platform.employee-stream.heartbeat-interval:PT15S}") Duration heartbeatInterval
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        meterRegistry.gauge("hr_platform.employee_stream.subscribers", subscribers, Set::size);
+        this.dropped = meterRegistry.counter("hr_platform.employee_stream.dropped");
+    }
+
+    /**
+     * @return the stream of a new subscriber; it ends after {@code hr-platform.employee-stream.timeout}
+     */
+    public SseEmitter subscribe() {
+        final var SUBSCRIBER = register(new SseEmitter(timeout.toMillis()));
+        SUBSCRIBER.sender = Thread.ofVirtual().name("employee-stream").start(() -> send(SUBSCRIBER));
+        return SUBSCRIBER.emitter;
+    }
+
+    /**
+     * Offers the notifications to every subscriber without waiting.
+     */
+    public void publish(List<EmployeeChangeNotification> notifications) {
+        for (var subscriber : subscribers) {
+            for (var notification : notifications) {
+                if (!subscriber.buffer.offer(notification)) {
+                    log.warn("Dropping a slow employee stream subscriber with [{}] notifications buffered", bufferSize);
+                    dropped.increment();
+                    close(subscriber);
+                    break;
+                }
+            }
+        }
+    }
+
+    Subscriber register(SseEmitter emitter) {
+        final var SUBSCRIBER = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> close(SUBSCRIBER));
+        emitter.onTimeout(() -> close(SUBSCRIBER));
+        emitter.onError(e -> close(SUBSCRIBER));
+        subscribers.add(SUBSCRIBER);
+        return SUBSCRIBER;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Never touches the emitter: {@link SseEmitter} methods wait for a pending write, so only the sender completes it.
+     */
+    private void close(Subscriber subscriber) {
+        subscriber.open = false;
+        subscribers.remove(subscriber);
+        final var SENDER = subscriber.sender;
+        if (SENDER != null && SENDER != Thread.currentThread()) {
+            SENDER.interrupt();
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().comment("subscribed"));
+            while (subscriber.open) {
+                final var NOTIFICATION = subscriber.buffer.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (NOTIFICATION == null) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(NOTIFICATION, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Employee stream subscriber disconnected: {}", e.getMessage());
+        } finally {
+            close(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<EmployeeChangeNotification> buffer;
+        private volatile Thread sender;
+        private volatile boolean open = true;
+
+        private Subscriber(SseEmitter emitter, ArrayBlockingQueue<EmployeeChangeNotification> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        int buffered() {
+            return buffer.size();
+        }
+    }
+}
@@ -2,13 +2,18 @@ package dev.araopj.hrplatformapi.employee.service.impl;
 
 import dev.araopj.hrplatformapi.employee.dto.request.EmployeeRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.EmployeeResponse;
+import dev.araopj.hrplatformapi.employee.model.Employee;
 import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
 import dev.araopj.hrplatformapi.employee.model.IdDocument;
 import dev.araopj.hrplatformapi.employee.repository.EmployeeRepository;
 import dev.araopj.hrplatformapi.employee.service.EmployeeService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.model.PayrollContribution;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.EmployeeMapper;
 import dev.araopj.hrplatformapi.utils.mappers.EmploymentInformationMapper;
 import dev.araopj.hrplatformapi.utils.mappers.IdDocumentMapper;
@@ -17,13 +22,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.*;
 
 @Slf4j
 @Service
@@ -31,22 +41,40 @@ import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EM
 public class EmployeeServiceImp implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final PageResponseCache pageResponseCache;
+    private final PayrollCounterService payrollCounterService;
 
     @Override
     public Page<EmployeeResponse> findAll(Pageable pageable, boolean includeIdDocuments, boolean includeEmploymentInformation) {
-        final var PAGINATED_DATA = includeIdDocuments && includeEmploymentInformation ?
-                employeeRepository.findAllWithIdDocumentsAndEmploymentInformation(pageable) :
-                includeIdDocuments ?
-                        employeeRepository.findAllWithIdDocuments(pageable) :
-                        includeEmploymentInformation ?
-                                employeeRepository.findAllWithEmploymentInformation(pageable) :
-                                employeeRepository.findAll(pageable);
-        return PAGINATED_DATA
-                .map(e -> EmployeeMapper.toDto(
-                        e,
-                        includeIdDocuments,
-                        includeEmploymentInformation
-                ));
+        final var DEPENDS_ON = new ArrayList<>(List.of(EMPLOYEE));
+        if (includeIdDocuments) {
+            DEPENDS_ON.addAll(List.of(ID_DOCUMENT, ID_DOCUMENT_TYPE));
+        }
+        if (includeEmploymentInformation) {
+            DEPENDS_ON.addAll(List.of(EMPLOYMENT_INFORMATION, SALARY));
+        }
+
+        return pageResponseCache.getOrLoad(
+                PageResponseCache.key("employee", pageable, includeIdDocuments, includeEmploymentInformation),
+                pageable,
+                EmployeeResponse.class,
+                () -> {
+                    final var PAGINATED_DATA = includeIdDocuments && includeEmploymentInformation ?
+                            employeeRepository.findAllWithIdDocumentsAndEmploymentInformation(pageable) :
+                            includeIdDocuments ?
+                                    employeeRepository.findAllWithIdDocuments(pageable) :
+                                    includeEmploymentInformation ?
+                                            employeeRepository.findAllWithEmploymentInformation(pageable) :
+                                            employeeRepository.findAll(pageable);
+                    return PAGINATED_DATA
+                            .map(e -> EmployeeMapper.toDto(
+                                    e,
+                                    includeIdDocuments,
+                                    includeEmploymentInformation
+                            ));
+                },
+                DEPENDS_ON.toArray(NotFoundException.EntityType[]::new)
+        );
     }
 
     @Override
@@ -80,6 +108,7 @@ public class EmployeeServiceImp implements EmployeeService {
     }
 
     @Override
+    @Transactional
     public List<EmployeeResponse> create(List<EmployeeRequest> employeeRequests) throws InvalidRequestException {
 
         for (EmployeeRequest request : employeeRequests) {
@@ -114,6 +143,8 @@ public class EmployeeServiceImp implements EmployeeService {
         log.debug("Employee to save [{}]", EMPLOYEE_TO_SAVE);
 
         final var SAVED_EMPLOYEES = employeeRepository.saveAll(EMPLOYEE_TO_SAVE);
+        SAVED_EMPLOYEES.forEach(employee -> recordContributions(Map.of(), contributionsOf(employee)));
+        pageResponseCache.invalidate(EMPLOYEE, ID_DOCUMENT, EMPLOYMENT_INFORMATION);
 
         return SAVED_EMPLOYEES.stream()
                 .map(employee -> EmployeeMapper.toDto(
@@ -125,13 +156,16 @@ public class EmployeeServiceImp implements EmployeeService {
     }
 
     @Override
-    public EmployeeResponse update(String id, EmployeeRequest employeeRequest) throws InvalidRequestException, NotFoundException {
+    @Transactional
+    public EmployeeResponse update(String id, EmployeeRequest employeeRequest, Long expectedVersion) throws InvalidRequestException, NotFoundException {
         if (id == null || id.isEmpty()) {
             throw new InvalidRequestException("Employee ID must be provided as path");
         }
 
         final var ORIGINAL_EMPLOYEE = employeeRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(id, EMPLOYEE));
+        ETagUtil.checkVersion(ORIGINAL_EMPLOYEE, expectedVersion, id, EMPLOYEE);
+        final var CONTRIBUTIONS_BEFORE = contributionsOf(ORIGINAL_EMPLOYEE);
 
         var EMPLOYEE_DATA = MergeUtil.merge(ORIGINAL_EMPLOYEE,
                 EmployeeMapper.toEntity(
@@ -142,6 +176,8 @@ public class EmployeeServiceImp implements EmployeeService {
         );
 
         final var UPDATED_EMPLOYEE = employeeRepository.save(EMPLOYEE_DATA);
+        recordContributions(CONTRIBUTIONS_BEFORE, contributionsOf(UPDATED_EMPLOYEE));
+        pageResponseCache.invalidate(EMPLOYEE, ID_DOCUMENT, EMPLOYMENT_INFORMATION);
 
         return EmployeeMapper.toDto(
                 UPDATED_EMPLOYEE,
@@ -151,12 +187,44 @@ public class EmployeeServiceImp implements EmployeeService {
     }
 
     @Override
+    @Transactional
     public boolean delete(String id) {
-        findById(id, false, false).orElseThrow();
+        if (id == null || id.isEmpty()) {
+            throw new InvalidRequestException("Employee ID must be provided as path");
+        }
+
+        final var EXISTING_EMPLOYEE = employeeRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException(id, EMPLOYEE));
+        final var CONTRIBUTIONS_BEFORE = contributionsOf(EXISTING_EMPLOYEE);
         employeeRepository.deleteById(id);
+        recordContributions(CONTRIBUTIONS_BEFORE, Map.of());
+        pageResponseCache.invalidate(EMPLOYEE, ID_DOCUMENT, EMPLOYMENT_INFORMATION);
         return !employeeRepository.existsById(id);
     }
 
+    /**
+     * Payroll contributions of the employee's employment information, keyed by employment information id; the
+     * employment information is saved and deleted by cascade, so the counters are updated here rather than in
+     * {@link EmploymentInformationServiceImp}.
+     */
+    private Map<String, PayrollContribution> contributionsOf(Employee employee) {
+        final var CONTRIBUTIONS = new HashMap<String, PayrollContribution>();
+        if (employee.getEmploymentInformation() != null) {
+            for (var employmentInformation : employee.getEmploymentInformation()) {
+                if (employmentInformation.getId() != null) {
+                    CONTRIBUTIONS.put(employmentInformation.getId(), payrollCounterService.contributionOf(employmentInformation.getId()));
+                }
+            }
+        }
+        return CONTRIBUTIONS;
+    }
+
+    private void recordContributions(Map<String, PayrollContribution> before, Map<String, PayrollContribution> after) {
+        final var IDS = new HashSet<>(before.keySet());
+        IDS.addAll(after.keySet());
+        IDS.forEach(employmentInformationId -> payrollCounterService.record(before.get(employmentInformationId), after.get(employmentInformationId)));
+    }
+
     private Set<IdDocument> getIdDocumentRequests(EmployeeRequest employeeRequest) {
         return employeeRequest.idDocumentRequests() != null ?
                 employeeRequest.idDocumentRequests()
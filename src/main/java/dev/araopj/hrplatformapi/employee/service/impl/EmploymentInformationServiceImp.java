@@ -6,7 +6,10 @@ import dev.araopj.hrplatformapi.employee.repository.*;
 import dev.araopj.hrplatformapi.employee.service.EmploymentInformationService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.formatter.DateFormatter;
 import dev.araopj.hrplatformapi.utils.mappers.EmploymentInformationMapper;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -29,6 +33,8 @@ public class EmploymentInformationServiceImp implements EmploymentInformationSer
     private final PositionRepository positionRepository;
     private final WorkplaceRepository workplaceRepository;
     private final SalaryRepository salaryRepository;
+    private final PageResponseCache pageResponseCache;
+    private final PayrollCounterService payrollCounterService;
 
     @Override
     public Page<EmploymentInformationResponse> findAll(Pageable pageable) {
@@ -72,6 +78,7 @@ public class EmploymentInformationServiceImp implements EmploymentInformationSer
     }
 
     @Override
+    @Transactional
     public EmploymentInformationResponse create(String id, EmploymentInformationRequest employmentInformationRequest) throws InvalidRequestException, NotFoundException {
         final var EMPLOYEE_ID = employmentInformationRequest.employeeId();
         final var POSITION_ID = employmentInformationRequest.positionId();
@@ -109,35 +116,50 @@ public class EmploymentInformationServiceImp implements EmploymentInformationSer
                 EXISTING_WORKPLACE
         );
 
+        final var SAVED_EMPLOYMENT_INFORMATION = employmentInformationRepository.save(WORKPLACE_TO_SAVE);
+        payrollCounterService.record(null, payrollCounterService.contributionOf(SAVED_EMPLOYMENT_INFORMATION.getId()));
+        pageResponseCache.invalidate(EMPLOYMENT_INFORMATION);
+
         return EmploymentInformationMapper.toDto(
-                employmentInformationRepository.save(WORKPLACE_TO_SAVE),
+                SAVED_EMPLOYMENT_INFORMATION,
                 false
         );
     }
 
     @Override
-    public EmploymentInformationResponse update(String id, EmploymentInformationRequest employmentInformationRequest) throws InvalidRequestException {
+    @Transactional
+    public EmploymentInformationResponse update(String id, EmploymentInformationRequest employmentInformationRequest, Long expectedVersion) throws InvalidRequestException {
         if (id == null || id.isEmpty()) {
             throw new InvalidRequestException("Employee ID must be provided as path");
         }
 
         final var ORIGINAL_EMPLOYMENT_INFORMATION = employmentInformationRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(id, EMPLOYMENT_INFORMATION));
+        ETagUtil.checkVersion(ORIGINAL_EMPLOYMENT_INFORMATION, expectedVersion, id, EMPLOYMENT_INFORMATION);
+        final var CONTRIBUTION_BEFORE = payrollCounterService.contributionOf(id);
 
         var WORKPLACE_DATA = MergeUtil.merge(ORIGINAL_EMPLOYMENT_INFORMATION,
                 EmploymentInformationMapper.toEntity(employmentInformationRequest)
         );
 
+        final var UPDATED_EMPLOYMENT_INFORMATION = employmentInformationRepository.save(WORKPLACE_DATA);
+        payrollCounterService.record(CONTRIBUTION_BEFORE, payrollCounterService.contributionOf(id));
+        pageResponseCache.invalidate(EMPLOYMENT_INFORMATION);
+
         return EmploymentInformationMapper.toDto(
-                employmentInformationRepository.save(WORKPLACE_DATA),
+                UPDATED_EMPLOYMENT_INFORMATION,
                 false
         );
     }
 
     @Override
+    @Transactional
     public boolean delete(String id) {
         findById(id).orElseThrow();
+        final var CONTRIBUTION_BEFORE = payrollCounterService.contributionOf(id);
         employmentInformationRepository.deleteById(id);
+        payrollCounterService.record(CONTRIBUTION_BEFORE, null);
+        pageResponseCache.invalidate(EMPLOYMENT_INFORMATION);
         return !employmentInformationRepository.existsById(id);
     }
 }
\ No newline at end of file
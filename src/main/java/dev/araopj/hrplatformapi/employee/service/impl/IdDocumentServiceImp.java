@@ -6,7 +6,9 @@ import dev.araopj.hrplatformapi.employee.repository.IdDocumentRepository;
 import dev.araopj.hrplatformapi.employee.service.IdDocumentService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.IdDocumentMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.ID
 public class IdDocumentServiceImp implements IdDocumentService {
 
     private final IdDocumentRepository idDocumentRepository;
+    private final PageResponseCache pageResponseCache;
 
     @Override
     public List<IdDocumentResponse> findAll() {
@@ -50,20 +53,24 @@ public class IdDocumentServiceImp implements IdDocumentService {
                 .ifPresent(existing -> {
                     throw new IllegalArgumentException("IdDocument with identifierNumber [%s] already exists".formatted(request.identifierNumber()));
                 });
-        return IdDocumentMapper.toDto(idDocumentRepository.save(IdDocumentMapper.toEntity(request)), false);
+        final var SAVED_IDENTIFIER = idDocumentRepository.save(IdDocumentMapper.toEntity(request));
+        pageResponseCache.invalidate(ID_DOCUMENT);
+        return IdDocumentMapper.toDto(SAVED_IDENTIFIER, false);
 
     }
 
     @Override
-    public IdDocumentResponse update(String id, IdDocumentRequest request) throws InvalidRequestException {
+    public IdDocumentResponse update(String id, IdDocumentRequest request, Long expectedVersion) throws InvalidRequestException {
         if (id == null || id.isEmpty()) {
             throw new InvalidRequestException("IdDocument id must be provided as path");
         }
 
         final var EXISTING_IDENTIFIER = idDocumentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(id, ID_DOCUMENT));
+        ETagUtil.checkVersion(EXISTING_IDENTIFIER, expectedVersion, id, ID_DOCUMENT);
 
         final var UPDATED_IDENTIFIER = idDocumentRepository.save(MergeUtil.merge(EXISTING_IDENTIFIER, IdDocumentMapper.toEntity(request)));
+        pageResponseCache.invalidate(ID_DOCUMENT);
 
         return IdDocumentMapper.toDto(UPDATED_IDENTIFIER, false);
     }
@@ -72,6 +79,7 @@ public class IdDocumentServiceImp implements IdDocumentService {
     public boolean delete(String id) {
         findById(id).orElseThrow();
         idDocumentRepository.deleteById(id);
+        pageResponseCache.invalidate(ID_DOCUMENT);
         return !idDocumentRepository.existsById(id);
     }
 }
@@ -8,6 +8,7 @@ import dev.araopj.hrplatformapi.employee.repository.IdDocumentTypeRepository;
 import dev.araopj.hrplatformapi.employee.service.IdDocumentTypeService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.IdDocumentTypeMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ public class IdDocumentTypeServiceImp implements IdDocumentTypeService {
 
     private final IdDocumentTypeRepository idDocumentTypeRepository;
     private final IdDocumentRepository idDocumentRepository;
+    private final PageResponseCache pageResponseCache;
 
     @Override
     public List<IdDocumentTypeResponse> findAll() {
@@ -58,6 +60,7 @@ public class IdDocumentTypeServiceImp implements IdDocumentTypeService {
         final var SAVED_DATA = idDocumentTypeRepository.save(
                 IdDocumentTypeMapper.toEntity(idDocumentTypeRequest)
         );
+        pageResponseCache.invalidate(ID_DOCUMENT_TYPE);
         return IdDocumentTypeMapper.toDto(SAVED_DATA, false);
     }
 
@@ -65,15 +68,18 @@ public class IdDocumentTypeServiceImp implements IdDocumentTypeService {
     public IdDocumentTypeResponse update(String id, IdDocumentTypeRequest idDocumentTypeRequest) throws InvalidRequestException {
         validateIdPath(id);
 
-        return IdDocumentTypeMapper.toDto(idDocumentTypeRepository.save(
+        final var UPDATED_DATA = idDocumentTypeRepository.save(
                 IdDocumentTypeMapper.toEntity(idDocumentTypeRequest)
-        ), false);
+        );
+        pageResponseCache.invalidate(ID_DOCUMENT_TYPE);
+        return IdDocumentTypeMapper.toDto(UPDATED_DATA, false);
     }
 
     @Override
     public boolean delete(String id) {
         findById(id).orElseThrow();
         idDocumentTypeRepository.deleteById(id);
+        pageResponseCache.invalidate(ID_DOCUMENT_TYPE);
         return !idDocumentTypeRepository.existsById(id);
     }
 
@@ -7,7 +7,9 @@ import dev.araopj.hrplatformapi.employee.repository.PositionRepository;
 import dev.araopj.hrplatformapi.employee.service.PositionService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.PositionMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,13 +33,18 @@ public class PositionServiceImp implements PositionService {
 
     private final EmploymentInformationRepository employmentInformationRepository;
     private final PositionRepository positionRepository;
+    private final PageResponseCache pageResponseCache;
 
     @Override
     public Page<PositionResponse> findAll(Pageable pageable) {
-        final var POSITION_DATA = positionRepository.findAll(pageable);
-
-        return POSITION_DATA
-                .map(PositionMapper::toDto);
+        return pageResponseCache.getOrLoad(
+                PageResponseCache.key("position", pageable),
+                pageable,
+                PositionResponse.class,
+                () -> positionRepository.findAll(pageable)
+                        .map(PositionMapper::toDto),
+                POSITION
+        );
     }
 
     @Override
@@ -67,28 +74,34 @@ public class PositionServiceImp implements PositionService {
                         .orElseThrow(() -> new NotFoundException(EMPLOYMENT_INFORMATION_ID, EMPLOYMENT_INFORMATION))
         );
 
-        return PositionMapper.toDto(positionRepository.save(POSITION_TO_SAVE));
+        final var SAVED_POSITION = positionRepository.save(POSITION_TO_SAVE);
+        pageResponseCache.invalidate(POSITION);
+        return PositionMapper.toDto(SAVED_POSITION);
     }
 
     @Override
-    public PositionResponse update(String id, PositionRequest positionRequest) throws InvalidRequestException {
+    public PositionResponse update(String id, PositionRequest positionRequest, Long expectedVersion) throws InvalidRequestException {
         if (id == null || id.isEmpty()) {
             throw new InvalidRequestException("Position ID must be provided as path");
         }
 
         final var ORIGINAL_POSITION_DATA = positionRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(id, POSITION));
+        ETagUtil.checkVersion(ORIGINAL_POSITION_DATA, expectedVersion, id, POSITION);
         var POSITION_DATA = MergeUtil.merge(ORIGINAL_POSITION_DATA,
                 PositionMapper.toEntity(positionRequest)
         );
 
-        return PositionMapper.toDto(positionRepository.save(POSITION_DATA));
+        final var UPDATED_POSITION = positionRepository.save(POSITION_DATA);
+        pageResponseCache.invalidate(POSITION);
+        return PositionMapper.toDto(UPDATED_POSITION);
     }
 
     @Override
     public boolean delete(String id) {
         findById(id).orElseThrow();
         positionRepository.deleteById(id);
+        pageResponseCache.invalidate(POSITION);
         return !positionRepository.existsById(id);
     }
 }
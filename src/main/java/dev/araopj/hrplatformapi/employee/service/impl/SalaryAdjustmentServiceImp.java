@@ -0,0 +1,170 @@
+package dev.araopj.hrplatformapi.employee.service.impl;
+
+import dev.araopj.hrplatformapi.employee.dto.request.SalaryAdjustmentRequest;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryAdjustmentResponse;
+import dev.araopj.hrplatformapi.employee.service.SalaryAdjustmentService;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY;
+
+/**
+ * Implementation of the {@link SalaryAdjustmentService} interface.
+ * <p>
+ * Salaries are adjusted in primary-key chunks of {@code hr-platform.salary.adjustment.chunk-size}, each in its own
+ * transaction, by {@link SalaryAdjustmentWriter}. Short transactions keep row locks and undo small while a rollout
+ * touches tens of thousands of salaries. The payroll counters are reconciled once at the end instead of per salary.
+ */
+@Slf4j
+@Service
+public class SalaryAdjustmentServiceImp implements SalaryAdjustmentService {
+
+    private static final BigDecimal MIN_PERCENTAGE = BigDecimal.valueOf(-100);
+
+    private final SalaryAdjustmentWriter salaryAdjustmentWriter;
+    private final SalaryGradeService salaryGradeService;
+    private final PayrollCounterService payrollCounterService;
+    private final PageResponseCache pageResponseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final String defaultCurrency;
+
+    public SalaryAdjustmentServiceImp(
+            SalaryAdjustmentWriter salaryAdjustmentWriter,
+            SalaryGradeService salaryGradeService,
+            PayrollCounterService payrollCounterService,
+            PageResponseCache pageResponseCache,
+            TransactionTemplate transactionTemplate,
+            @Value("${hr-platform.salary.adjustment.chunk-size:1000}") int chunkSize,
+            @Value("${hr-platform.salary.currency}") String defaultCurrency
+    ) {
+        this.salaryAdjustmentWriter = salaryAdjustmentWriter;
+        this.salaryGradeService = salaryGradeService;
+        this.payrollCounterService = payrollCounterService;
+        this.pageResponseCache = pageResponseCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.defaultCurrency = defaultCurrency;
+    }
+
+    @Override
+    public SalaryAdjustmentResponse adjust(SalaryAdjustmentRequest adjustmentRequest) throws InvalidRequestException {
+        final var CURRENCY = Money.currency(adjustmentRequest.currency() != null ? adjustmentRequest.currency() : defaultCurrency);
+        final var RULE = rule(adjustmentRequest, CURRENCY);
+
+        var afterId = "";
+        long matched = 0;
+        long updated = 0;
+        int chunks = 0;
+        while (true) {
+            final var CURSOR = afterId;
+            final var CHUNK = transactionTemplate.execute(status -> salaryAdjustmentWriter.adjust(
+                    CURSOR,
+                    adjustmentRequest,
+                    CURRENCY.getCurrencyCode(),
+                    RULE,
+                    chunkSize
+            ));
+            if (CHUNK == null || CHUNK.matched() == 0) {
+                break;
+            }
+            matched += CHUNK.matched();
+            updated += CHUNK.updated();
+            chunks++;
+            if (CHUNK.matched() < chunkSize) {
+                break;
+            }
+            afterId = CHUNK.lastSalaryId();
+        }
+
+        if (updated > 0) {
+            pageResponseCache.invalidate(SALARY);
+            payrollCounterService.reconcile();
+        }
+        log.info("Adjusted salaries by [{}]: [{}] matched, [{}] updated in [{}] chunks", adjustmentRequest.type(), matched, updated, chunks);
+
+        return SalaryAdjustmentResponse.builder()
+                .type(adjustmentRequest.type())
+                .currency(CURRENCY.getCurrencyCode())
+                .matched(matched)
+                .updated(updated)
+                .chunks(chunks)
+                .build();
+    }
+
+    private SalaryAdjustmentWriter.Rule rule(SalaryAdjustmentRequest adjustmentRequest, Currency currency) throws InvalidRequestException {
+        final var MIN = adjustmentRequest.minAmount() == null ? null : Money.of(adjustmentRequest.minAmount(), currency.getCurrencyCode()).minorUnits();
+        final var MAX = adjustmentRequest.maxAmount() == null ? null : Money.of(adjustmentRequest.maxAmount(), currency.getCurrencyCode()).minorUnits();
+        if (MIN != null && MAX != null && MIN > MAX) {
+            throw new InvalidRequestException("minAmount [%s] must not be greater than maxAmount [%s]".formatted(
+                    adjustmentRequest.minAmount(),
+                    adjustmentRequest.maxAmount()
+            ));
+        }
+
+        return switch (adjustmentRequest.type()) {
+            case PERCENTAGE -> {
+                final var PERCENTAGE = required(adjustmentRequest.value(), "value");
+                if (PERCENTAGE.compareTo(MIN_PERCENTAGE) <= 0) {
+                    throw new InvalidRequestException("value must be greater than -100 percent but was [%s]".formatted(PERCENTAGE));
+                }
+                try {
+                    final var FACTOR = SalaryAdjustmentWriter.Rule.PERCENT_SCALE + PERCENTAGE.movePointRight(4).longValueExact();
+                    yield new SalaryAdjustmentWriter.Rule(adjustmentRequest.type(), FACTOR, MIN, MAX);
+                } catch (ArithmeticException e) {
+                    throw new InvalidRequestException("value must have at most 4 decimal places but was [%s]".formatted(PERCENTAGE), e);
+                }
+            }
+            case FIXED_AMOUNT -> new SalaryAdjustmentWriter.Rule(
+                    adjustmentRequest.type(),
+                    Money.of(required(adjustmentRequest.value(), "value"), currency.getCurrencyCode()).minorUnits(),
+                    MIN,
+                    MAX
+            );
+            case SALARY_GRADE_STEP -> {
+                final var SALARY_GRADE = required(adjustmentRequest.salaryGrade(), "salaryGrade");
+                final var STEP = required(adjustmentRequest.step(), "step");
+                // grade amounts are minor units of the schedule currency, so salaries in another currency never match
+                if (!currency.equals(salaryGradeService.currency())) {
+                    throw new InvalidRequestException("currency [%s] must be the salary grade currency [%s]".formatted(
+                            currency,
+                            salaryGradeService.currency()
+                    ));
+                }
+                final var STEP_AMOUNT = salaryGradeService.findStepAmount(
+                        SALARY_GRADE,
+                        STEP,
+                        adjustmentRequest.effectiveDate() != null ? adjustmentRequest.effectiveDate() : LocalDate.now()
+                );
+                // salaries carry no grade, so a salary is on the grade when its amount is one only that grade pays
+                final var GRADE_AMOUNTS = Arrays.stream(salaryGradeService.findGradeAmounts(SALARY_GRADE)).boxed().toList();
+                yield new SalaryAdjustmentWriter.Rule(
+                        adjustmentRequest.type(),
+                        STEP_AMOUNT,
+                        MIN,
+                        MAX,
+                        GRADE_AMOUNTS
+                );
+            }
+        };
+    }
+
+    private static <T> T required(T value, String field) throws InvalidRequestException {
+        if (value == null) {
+            throw new InvalidRequestException("%s is required for this adjustment type".formatted(field));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,216 @@
+package dev.araopj.hrplatformapi.employee.service.impl;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.service.AuditService;
+import dev.araopj.hrplatformapi.employee.dto.request.SalaryAdjustmentRequest;
+import dev.araopj.hrplatformapi.employee.dto.response.EmployeeChangeNotification;
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.employee.model.SalaryAdjustmentType;
+import dev.araopj.hrplatformapi.outbox.service.impl.OutboxWriter;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+import static dev.araopj.hrplatformapi.employee.model.SalaryChangeType.UPDATED;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYMENT_INFORMATION;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY;
+
+/**
+ * Applies one chunk of a bulk salary adjustment with plain SQL.
+ * <p>
+ * A chunk is the next {@code limit} matching salaries in primary-key order. They are changed by a single
+ * {@code UPDATE ... WHERE id IN (...)} whose new amount is computed by the database, and every salary that changed
+ * gets a {@code salary_history} row. No entity is loaded, so the persistence context stays empty however many
+ * salaries are adjusted. Callers run each chunk in its own transaction.
+ * <p>
+ * Because the Hibernate listeners never see these writes, the chunk records what they would have: an audit entry per
+ * changed salary through {@link AuditService}, an {@code outbox_event} row per changed salary through
+ * {@link OutboxWriter} in the same transaction, and, after commit, an employment information notification per changed
+ * salary on the employee stream.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalaryAdjustmentWriter {
+
+    private static final String INSERT_HISTORY = """
+            INSERT INTO salary_history (id, salary_id, amount_minor, currency, change_type, valid_from, created_at, updated_at)
+            VALUES (:id, :salaryId, :amountMinor, :currency, :changeType, :now, :now, :now)
+            """;
+
+    private static final String CHANGED_AMOUNT = JsonNodeFactory.instance.objectNode()
+            .set("changedProperties", JsonNodeFactory.instance.arrayNode().add("amount"))
+            .toString();
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final AuditService auditService;
+    private final OutboxWriter outboxWriter;
+    private final EmployeeChangeBroadcaster employeeChangeBroadcaster;
+
+    /**
+     * @param afterId  the last salary id of the previous chunk, or {@code ""} for the first chunk
+     * @param request  the filter
+     * @param currency the currency code of the salaries to adjust
+     * @param rule     the rule, resolved to minor units
+     * @param limit    the chunk size
+     * @return the counts of the chunk and its last salary id
+     */
+    public Chunk adjust(String afterId, SalaryAdjustmentRequest request, String currency, Rule rule, int limit) {
+        if (rule.gradeMinorUnits() != null && rule.gradeMinorUnits().isEmpty()) {
+            return new Chunk(afterId, 0, 0);
+        }
+        final var PARAMETERS = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("currency", currency)
+                .addValue("limit", limit)
+                .addValue("value", rule.value())
+                .addValue("now", Timestamp.from(Instant.now()));
+
+        final var SELECT = new StringBuilder("""
+                SELECT s.id, s.amount_minor, e.id FROM salary s
+                JOIN employment_information e ON e.salary_id = s.id
+                WHERE s.id > :afterId AND s.currency = :currency
+                """);
+        if (request.workplaceIds() != null && !request.workplaceIds().isEmpty()) {
+            SELECT.append(" AND e.workplace_id IN (:workplaceIds)");
+            PARAMETERS.addValue("workplaceIds", request.workplaceIds());
+        }
+        if (request.positionIds() != null && !request.positionIds().isEmpty()) {
+            SELECT.append(" AND e.position_id IN (:positionIds)");
+            PARAMETERS.addValue("positionIds", request.positionIds());
+        }
+        if (request.employmentStatuses() != null && !request.employmentStatuses().isEmpty()) {
+            SELECT.append(" AND e.employment_status IN (:employmentStatuses)");
+            PARAMETERS.addValue("employmentStatuses", request.employmentStatuses().stream().map(EmploymentStatus::name).toList());
+        }
+        if (rule.minMinorUnits() != null) {
+            SELECT.append(" AND s.amount_minor >= :minAmount");
+            PARAMETERS.addValue("minAmount", rule.minMinorUnits());
+        }
+        if (rule.maxMinorUnits() != null) {
+            SELECT.append(" AND s.amount_minor <= :maxAmount");
+            PARAMETERS.addValue("maxAmount", rule.maxMinorUnits());
+        }
+        if (rule.gradeMinorUnits() != null) {
+            SELECT.append(" AND s.amount_minor IN (:gradeAmounts)");
+            PARAMETERS.addValue("gradeAmounts", rule.gradeMinorUnits());
+        }
+        SELECT.append(" ORDER BY s.id LIMIT :limit");
+
+        final var BEFORE = new LinkedHashMap<String, Long>();
+        final var EMPLOYMENT_INFORMATION_IDS = new HashMap<String, String>();
+        namedParameterJdbcTemplate.query(SELECT.toString(), PARAMETERS, row -> {
+            BEFORE.put(row.getString(1), row.getLong(2));
+            EMPLOYMENT_INFORMATION_IDS.put(row.getString(1), row.getString(3));
+        });
+        if (BEFORE.isEmpty()) {
+            return new Chunk(afterId, 0, 0);
+        }
+
+        final var IDS = new ArrayList<>(BEFORE.keySet());
+        PARAMETERS.addValue("ids", IDS);
+        final var NEW_AMOUNT = newAmount(rule.type());
+        final var UPDATED_ROWS = namedParameterJdbcTemplate.update("""
+                UPDATE salary SET amount_minor = %1$s, updated_at = :now, version = version + 1
+                WHERE id IN (:ids) AND %1$s >= 0 AND %1$s <> amount_minor
+                """.formatted(NEW_AMOUNT), PARAMETERS);
+
+        if (UPDATED_ROWS > 0) {
+            final var CURRENCY = Money.currency(currency);
+            final var HISTORY = new ArrayList<SqlParameterSource>(UPDATED_ROWS);
+            final var CHANGED = new ArrayList<String>(UPDATED_ROWS);
+            namedParameterJdbcTemplate.query("SELECT id, amount_minor FROM salary WHERE id IN (:ids)", PARAMETERS, row -> {
+                final var ID = row.getString(1);
+                final var AMOUNT = row.getLong(2);
+                if (!Objects.equals(BEFORE.get(ID), AMOUNT)) {
+                    CHANGED.add(ID);
+                    auditService.record(SALARY, ID, AuditAction.UPDATE,
+                            Map.of("amount", Money.ofMinor(BEFORE.get(ID), CURRENCY)),
+                            Map.of("amount", Money.ofMinor(AMOUNT, CURRENCY)));
+                    HISTORY.add(new MapSqlParameterSource()
+                            .addValue("id", UUID.randomUUID().toString())
+                            .addValue("salaryId", ID)
+                            .addValue("amountMinor", AMOUNT)
+                            .addValue("currency", currency)
+                            .addValue("changeType", UPDATED.name())
+                            .addValue("now", PARAMETERS.getValue("now")));
+                }
+            });
+            namedParameterJdbcTemplate.batchUpdate(INSERT_HISTORY, HISTORY.toArray(SqlParameterSource[]::new));
+            outboxWriter.appendAll(SALARY, CHANGED, AuditAction.UPDATE, CHANGED_AMOUNT);
+            notifyAfterCommit(CHANGED.stream()
+                    .map(id -> EmployeeChangeNotification.builder()
+                            .id(EMPLOYMENT_INFORMATION_IDS.get(id))
+                            .type(EMPLOYMENT_INFORMATION)
+                            .action(AuditAction.UPDATE)
+                            .updatedAt(((Timestamp) PARAMETERS.getValue("now")).toInstant())
+                            .build())
+                    .toList());
+        }
+
+        return new Chunk(IDS.getLast(), IDS.size(), UPDATED_ROWS);
+    }
+
+    private void notifyAfterCommit(List<EmployeeChangeNotification> notifications) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            employeeChangeBroadcaster.publish(notifications);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                employeeChangeBroadcaster.publish(notifications);
+            }
+        });
+    }
+
+    /**
+     * @return the SQL expression of the new amount; {@code :value} is bound to {@link Rule#value()}
+     */
+    private static String newAmount(SalaryAdjustmentType type) {
+        return switch (type) {
+            // amounts are non-negative and the factor is positive, so integer division after adding half the
+            // denominator rounds half-up on every database
+            case PERCENTAGE -> "((amount_minor * :value + %1$d) / %2$d)".formatted(Rule.PERCENT_SCALE / 2, Rule.PERCENT_SCALE);
+            case FIXED_AMOUNT -> "(amount_minor + :value)";
+            case SALARY_GRADE_STEP -> "CAST(:value AS BIGINT)";
+        };
+    }
+
+    /**
+     * A rule resolved to integers.
+     *
+     * @param type            the adjustment type
+     * @param value           the factor in millionths for {@code PERCENTAGE} (e.g. {@code 1_052_500} for +5.25%), the
+     *                        delta in minor units for {@code FIXED_AMOUNT}, or the new amount in minor units for
+     *                        {@code SALARY_GRADE_STEP}
+     * @param minMinorUnits   the lower bound of the amounts to adjust, or {@code null}
+     * @param maxMinorUnits   the upper bound of the amounts to adjust, or {@code null}
+     * @param gradeMinorUnits for {@code SALARY_GRADE_STEP}, the amounts that identify a salary as being on the grade;
+     *                        only those salaries are adjusted. {@code null} for the other types
+     */
+    public record Rule(SalaryAdjustmentType type, long value, Long minMinorUnits, Long maxMinorUnits, List<Long> gradeMinorUnits) {
+        public static final long PERCENT_SCALE = 1_000_000;
+
+        public Rule(SalaryAdjustmentType type, long value, Long minMinorUnits, Long maxMinorUnits) {
+            this(type, value, minMinorUnits, maxMinorUnits, null);
+        }
+    }
+
+    /**
+     * @param lastSalaryId the last salary id of the chunk, the keyset cursor of the next one
+     * @param matched      the number of salaries that matched the filter
+     * @param updated      the number of salaries whose amount changed
+     */
+    public record Chunk(String lastSalaryId, int matched, int updated) {
+    }
+}
@@ -1,30 +1,48 @@
 package dev.araopj.hrplatformapi.employee.service.impl;
 
 import dev.araopj.hrplatformapi.employee.dto.request.SalaryRequest;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryAsOfResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryHistoryResponse;
 import dev.araopj.hrplatformapi.employee.dto.response.SalaryResponse;
 import dev.araopj.hrplatformapi.employee.repository.EmploymentInformationRepository;
+import dev.araopj.hrplatformapi.employee.repository.SalaryHistoryRepository;
 import dev.araopj.hrplatformapi.employee.repository.SalaryRepository;
 import dev.araopj.hrplatformapi.employee.service.SalaryService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import dev.araopj.hrplatformapi.utils.ETagUtil;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
+import dev.araopj.hrplatformapi.utils.mappers.SalaryHistoryMapper;
 import dev.araopj.hrplatformapi.utils.mappers.SalaryMapper;
+import dev.araopj.hrplatformapi.utils.money.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import static dev.araopj.hrplatformapi.employee.model.SalaryChangeType.*;
 import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYMENT_INFORMATION;
 import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY;
 
 /**
  * Implementation of the {@link SalaryService} interface.
  * Provides methods for managing salary-related operations such as retrieval, creation, updating, and deletion of salary records.
+ * Every change of an amount also appends a {@link dev.araopj.hrplatformapi.employee.model.SalaryHistory} row in the same
+ * transaction; dates are converted to instants at the start of the day in the system time zone.
  *
  * @see SalaryRepository
+ * @see SalaryHistoryRepository
  * @see SalaryService
  */
 @Slf4j
@@ -34,13 +52,20 @@ public class SalaryServiceImp implements SalaryService {
 
     private final EmploymentInformationRepository employmentInformationRepository;
     private final SalaryRepository salaryRepository;
+    private final SalaryHistoryRepository salaryHistoryRepository;
+    private final PageResponseCache pageResponseCache;
+    private final PayrollCounterService payrollCounterService;
 
     @Override
     public Page<SalaryResponse> findAll(Pageable pageable) {
-        final var SALARY_DATA = salaryRepository.findAll(pageable);
-
-        return SALARY_DATA
-                .map(SalaryMapper::toDto);
+        return pageResponseCache.getOrLoad(
+                PageResponseCache.key("salary", pageable),
+                pageable,
+                SalaryResponse.class,
+                () -> salaryRepository.findAll(pageable)
+                        .map(SalaryMapper::toDto),
+                SALARY
+        );
     }
 
     @Override
@@ -51,17 +76,34 @@ public class SalaryServiceImp implements SalaryService {
     }
 
     @Override
+    public List<SalaryHistoryResponse> findHistory(String id, LocalDate from, LocalDate to) throws InvalidRequestException {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("from [%s] must not be after to [%s]".formatted(from, to));
+        }
+        return salaryHistoryRepository.findBetween(id, startOf(from), startOf(to.plusDays(1)))
+                .stream()
+                .map(SalaryHistoryMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public Page<SalaryAsOfResponse> findAllAsOf(LocalDate asOf, Pageable pageable) {
+        return salaryHistoryRepository.findAllAsOf(startOf(asOf.plusDays(1)), pageable)
+                .map(SalaryHistoryMapper::toDto);
+    }
+
+    @Override
+    @Transactional
     public SalaryResponse create(SalaryRequest salaryRequest) {
         final var EMPLOYMENT_INFORMATION_ID = salaryRequest.employmentInformationId();
 
-        salaryRepository.findByAmountAndCurrencyAndEmploymentInformationId(
-                salaryRequest.amount(),
-                salaryRequest.currency(),
+        salaryRepository.findByAmountAndEmploymentInformationId(
+                Money.of(salaryRequest.amount(), salaryRequest.currency()),
                 EMPLOYMENT_INFORMATION_ID
         ).ifPresent(salary -> {
             throw new IllegalArgumentException("Salary with amount [%s] and currency [%s] already exists for EmploymentInformation with id [%s]".formatted(
-                    salary.getAmount(),
-                    salary.getCurrency(),
+                    salaryRequest.amount(),
+                    salary.getAmount().currencyCode(),
                     EMPLOYMENT_INFORMATION_ID
             ));
         });
@@ -71,29 +113,56 @@ public class SalaryServiceImp implements SalaryService {
                         .orElseThrow(() -> new NotFoundException(EMPLOYMENT_INFORMATION_ID, EMPLOYMENT_INFORMATION))
         );
 
-        return SalaryMapper.toDto(salaryRepository.save(SALARY_TO_SAVE));
+        final var SAVED_SALARY = salaryRepository.save(SALARY_TO_SAVE);
+        salaryHistoryRepository.save(SalaryHistoryMapper.toEntity(SAVED_SALARY, CREATED, Instant.now()));
+        pageResponseCache.invalidate(SALARY);
+        return SalaryMapper.toDto(SAVED_SALARY);
 
     }
 
     @Override
-    public SalaryResponse update(String id, SalaryRequest salaryRequest) throws InvalidRequestException {
+    @Transactional
+    public SalaryResponse update(String id, SalaryRequest salaryRequest, Long expectedVersion) throws InvalidRequestException {
         if (id == null || id.isEmpty()) {
             throw new InvalidRequestException("Salary ID must be provided as path");
         }
 
         final var ORIGINAL_SALARY_DATA = salaryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(id, SALARY));
+        ETagUtil.checkVersion(ORIGINAL_SALARY_DATA, expectedVersion, id, SALARY);
+        final var AMOUNT_BEFORE = ORIGINAL_SALARY_DATA.getAmount();
+        final var CONTRIBUTION_BEFORE = payrollCounterService.contributionOfSalary(id);
         var SALARY_DATA = MergeUtil.merge(ORIGINAL_SALARY_DATA,
                 SalaryMapper.toEntity(salaryRequest)
         );
 
-        return SalaryMapper.toDto(salaryRepository.save(SALARY_DATA));
+        final var UPDATED_SALARY = salaryRepository.save(SALARY_DATA);
+        if (!Objects.equals(AMOUNT_BEFORE, UPDATED_SALARY.getAmount())) {
+            salaryHistoryRepository.save(SalaryHistoryMapper.toEntity(UPDATED_SALARY, UPDATED, Instant.now()));
+        }
+        payrollCounterService.record(CONTRIBUTION_BEFORE, payrollCounterService.contributionOfSalary(id));
+        pageResponseCache.invalidate(SALARY);
+        return SalaryMapper.toDto(UPDATED_SALARY);
     }
 
     @Override
+    @Transactional
     public boolean delete(String id) {
-        findById(id).orElseThrow();
+        final var SALARY_TO_DELETE = findById(id).orElseThrow();
+        final var CONTRIBUTION_BEFORE = payrollCounterService.contributionOfSalary(id);
         salaryRepository.deleteById(id);
+        salaryHistoryRepository.save(SalaryHistoryMapper.toEntity(
+                id,
+                Money.of(SALARY_TO_DELETE.amount(), SALARY_TO_DELETE.currency()),
+                DELETED,
+                Instant.now()
+        ));
+        payrollCounterService.record(CONTRIBUTION_BEFORE, null);
+        pageResponseCache.invalidate(SALARY);
         return !salaryRepository.existsById(id);
     }
+
+    private static Instant startOf(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
 }
@@ -7,6 +7,7 @@ import dev.araopj.hrplatformapi.employee.repository.WorkplaceRepository;
 import dev.araopj.hrplatformapi.employee.service.WorkplaceService;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.WorkplaceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,12 +31,18 @@ public class WorkplaceServiceImp implements WorkplaceService {
 
     private final EmploymentInformationRepository employmentInformationRepository;
     private final WorkplaceRepository workplaceRepository;
+    private final PageResponseCache pageResponseCache;
 
     @Override
     public Page<WorkplaceResponse> findAll(Pageable pageable) {
-        final var WORKPLACE_DATA = workplaceRepository.findAll(pageable);
-        return WORKPLACE_DATA
-                .map(e -> WorkplaceMapper.toDto(e, false));
+        return pageResponseCache.getOrLoad(
+                PageResponseCache.key("workplace", pageable),
+                pageable,
+                WorkplaceResponse.class,
+                () -> workplaceRepository.findAll(pageable)
+                        .map(e -> WorkplaceMapper.toDto(e, false)),
+                WORKPLACE
+        );
     }
 
     @Override
@@ -69,7 +76,9 @@ public class WorkplaceServiceImp implements WorkplaceService {
 
         log.debug("Workplace to save [{}]", WORKPLACE_TO_SAVE);
 
-        return WorkplaceMapper.toDto(workplaceRepository.save(WORKPLACE_TO_SAVE), false);
+        final var SAVED_WORKPLACE = workplaceRepository.save(WORKPLACE_TO_SAVE);
+        pageResponseCache.invalidate(WORKPLACE);
+        return WorkplaceMapper.toDto(SAVED_WORKPLACE, false);
     }
 
     @Override
@@ -80,9 +89,11 @@ public class WorkplaceServiceImp implements WorkplaceService {
         if (id == null || id.isEmpty()) {
             throw new InvalidRequestException("Workplace ID must be provided as path");
         }
-        return WorkplaceMapper.toDto(workplaceRepository.save(
+        final var UPDATED_WORKPLACE = workplaceRepository.save(
                 WorkplaceMapper.toEntity(workplaceRequest)
-        ), false);
+        );
+        pageResponseCache.invalidate(WORKPLACE);
+        return WorkplaceMapper.toDto(UPDATED_WORKPLACE, false);
 
     }
 
@@ -90,6 +101,7 @@ public class WorkplaceServiceImp implements WorkplaceService {
     public boolean delete(String id) throws NotFoundException {
         findById(id).orElseThrow();
         workplaceRepository.deleteById(id);
+        pageResponseCache.invalidate(WORKPLACE);
         return !workplaceRepository.existsById(id);
     }
 
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -188,6 +189,40 @@ public class GlobalExceptionHandler {
     }
 
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<StandardApiResponse<ApiError>> handlePreconditionFailed(PreconditionFailedException ex) {
+        log.warn("""
+                \nERROR: Precondition Failed
+                  TYPE: {}
+                  MESSAGE: {}
+                  DETAILS: If-Match names a version that is no longer current""", ex.getClass().getSimpleName(), ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(StandardApiResponse.failure(
+                        ApiError.builder()
+                                .message("Precondition failed")
+                                .details(List.of(ex.getMessage()))
+                                .build()
+                ));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<StandardApiResponse<ApiError>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("""
+                \nERROR: Concurrent Update
+                  TYPE: {}
+                  MESSAGE: {}
+                  DETAILS: The record was changed by another request while this one was updating it""", ex.getClass().getSimpleName(), ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(StandardApiResponse.failure(
+                        ApiError.builder()
+                                .message("Precondition failed")
+                                .details(List.of("The record was changed by another request. Fetch it again and retry."))
+                                .build()
+                ));
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
     public ResponseEntity<StandardApiResponse<ApiError>> handleInvalidRequest(InvalidRequestException ex) {
         log.warn("""
@@ -205,6 +240,23 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(NotSupportedException.class)
+    public ResponseEntity<StandardApiResponse<ApiError>> handleNotSupported(NotSupportedException ex) {
+        log.warn("""
+                \nERROR: Not Supported
+                  TYPE: {}
+                  MESSAGE: {}
+                  DETAILS: The request needs a feature this instance is not configured for""", ex.getClass().getSimpleName(), ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_IMPLEMENTED)
+                .body(StandardApiResponse.failure(
+                        ApiError.builder()
+                                .message("Not supported")
+                                .details(List.of(ex.getMessage()))
+                                .build()
+                ));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<StandardApiResponse<ApiError>> handleGenericException(Exception ex) {
         log.error("""
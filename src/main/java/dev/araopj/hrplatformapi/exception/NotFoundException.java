@@ -44,7 +44,8 @@ public class NotFoundException extends EntityNotFoundException {
         SALARY_DATA("SALARY_DATA", "Salary Data"),
         SALARY_GRADE("SALARY_GRADE", "Salary Grade"),
         ID_DOCUMENT_TYPE("ID_DOCUMENT_TYPE", "IdDocument Type"),
-        ID_DOCUMENT("ID_DOCUMENT", "IdDocument");
+        ID_DOCUMENT("ID_DOCUMENT", "IdDocument"),
+        PAYROLL_RUN("PAYROLL_RUN", "Payroll Run");
 
         private final String code;
         private final String description;
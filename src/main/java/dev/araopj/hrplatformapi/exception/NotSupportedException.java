@@ -0,0 +1,18 @@
+package dev.araopj.hrplatformapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a request needs a feature the current configuration turns off, e.g. querying audit logs while they are
+ * written to segment files instead of the database. Example usage:
+ * <pre>
+ * throw new NotSupportedException("Audit log queries need hr-platform.audit.sink=jdbc");
+ * </pre>
+ */
+@ResponseStatus(HttpStatus.NOT_IMPLEMENTED)
+public class NotSupportedException extends RuntimeException {
+    public NotSupportedException(String message) {
+        super(message);
+    }
+}
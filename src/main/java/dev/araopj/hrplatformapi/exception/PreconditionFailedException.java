@@ -0,0 +1,19 @@
+package dev.araopj.hrplatformapi.exception;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an update names, through {@code If-Match}, a version of the entity that is no longer current.
+ * Example usage:
+ * <pre>
+ * throw new PreconditionFailedException("123", NotFoundException.EntityType.EMPLOYEE, 4, 5);
+ * </pre>
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String id, EntityType entityType, long expectedVersion, long currentVersion) {
+        super("%s record with ID %s is at version %d, not %d. Fetch it again and retry.".formatted(entityType.getDescription(), id, currentVersion, expectedVersion));
+    }
+}
@@ -0,0 +1,111 @@
+package dev.araopj.hrplatformapi.outbox.listener;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.employee.model.Employee;
+import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
+import dev.araopj.hrplatformapi.employee.model.Salary;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.outbox.service.impl.OutboxWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.*;
+
+/**
+ * Writes an {@code outbox_event} row for every insert, update and delete of an employee, employment information or
+ * salary, on the connection of the transaction that flushes the change.
+ * <p>
+ * Hibernate calls this after executing the entity's statement and before the transaction commits, so the outbox row
+ * commits or rolls back with the change. An update that only touched collections or timestamps writes nothing.
+ * Set-based JDBC writes bypass the session and append their events through {@link OutboxWriter} themselves.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Map<Class<?>, EntityType> PUBLISHED_ENTITIES = Map.of(
+            Employee.class, EMPLOYEE,
+            EmploymentInformation.class, EMPLOYMENT_INFORMATION,
+            Salary.class, SALARY
+    );
+    private static final Set<String> IGNORED_PROPERTIES = Set.of("createdAt", "updatedAt", "version");
+    private static final String EMPTY_PAYLOAD = "{}";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final OutboxWriter outboxWriter;
+
+    @PostConstruct
+    void register() {
+        final var REGISTRY = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        REGISTRY.appendListeners(EventType.POST_INSERT, this);
+        REGISTRY.appendListeners(EventType.POST_UPDATE, this);
+        REGISTRY.appendListeners(EventType.POST_DELETE, this);
+        log.info("Publishing changes of {} through the outbox", PUBLISHED_ENTITIES.values());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        final var AGGREGATE_TYPE = PUBLISHED_ENTITIES.get(event.getPersister().getMappedClass());
+        if (AGGREGATE_TYPE != null) {
+            insert(AGGREGATE_TYPE, event.getId(), AuditAction.CREATE, EMPTY_PAYLOAD);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        final var AGGREGATE_TYPE = PUBLISHED_ENTITIES.get(event.getPersister().getMappedClass());
+        if (AGGREGATE_TYPE == null) {
+            return;
+        }
+        final var DIRTY = event.getDirtyProperties();
+        if (DIRTY == null) {
+            // updated without being loaded first: which properties changed is unknown
+            insert(AGGREGATE_TYPE, event.getId(), AuditAction.UPDATE, EMPTY_PAYLOAD);
+            return;
+        }
+
+        final var NAMES = event.getPersister().getPropertyNames();
+        final var TYPES = event.getPersister().getPropertyTypes();
+        final var CHANGED = JsonNodeFactory.instance.arrayNode();
+        for (var index : DIRTY) {
+            if (!TYPES[index].isCollectionType() && !IGNORED_PROPERTIES.contains(NAMES[index])) {
+                CHANGED.add(NAMES[index]);
+            }
+        }
+        if (!CHANGED.isEmpty()) {
+            insert(AGGREGATE_TYPE, event.getId(), AuditAction.UPDATE,
+                    JsonNodeFactory.instance.objectNode().set("changedProperties", CHANGED).toString());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        final var AGGREGATE_TYPE = PUBLISHED_ENTITIES.get(event.getPersister().getMappedClass());
+        if (AGGREGATE_TYPE != null) {
+            insert(AGGREGATE_TYPE, event.getId(), AuditAction.DELETE, EMPTY_PAYLOAD);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void insert(EntityType aggregateType, Object aggregateId, AuditAction eventType, String payload) {
+        outboxWriter.append(aggregateType, String.valueOf(aggregateId), eventType, payload);
+    }
+}
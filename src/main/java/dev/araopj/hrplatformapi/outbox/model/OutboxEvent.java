@@ -0,0 +1,72 @@
+package dev.araopj.hrplatformapi.outbox.model;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A change of an employee, employment information or salary row that downstream systems have not been told about
+ * yet.
+ * <p>
+ * Rows are inserted by {@link dev.araopj.hrplatformapi.outbox.listener.OutboxEventListener} in the transaction that
+ * makes the change, so an event exists if and only if the change was committed. They are deleted by
+ * {@link dev.araopj.hrplatformapi.outbox.service.impl.OutboxRelay} in the transaction that hands them to the sink, so
+ * the table only holds the backlog, oldest first on {@code (occurred_at, id)}, plus the dead-lettered events the sink
+ * rejected {@code hr-platform.outbox.max-attempts} times, until
+ * {@link dev.araopj.hrplatformapi.retention.service.RetentionService} purges them.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Immutable
+@Table(
+        name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_event_occurred_at_id", columnList = "occurred_at, id"),
+                @Index(name = "idx_outbox_event_aggregate_type_dead_lettered_at", columnList = "aggregate_type, dead_lettered_at, id")
+        }
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class OutboxEvent extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private EntityType aggregateType;
+
+    @Column(nullable = false, updatable = false)
+    private String aggregateId;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private AuditAction eventType;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int attempts;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column
+    private Instant deadLetteredAt;
+}
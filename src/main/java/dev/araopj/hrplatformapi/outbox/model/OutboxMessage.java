@@ -0,0 +1,24 @@
+package dev.araopj.hrplatformapi.outbox.model;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * An {@link OutboxEvent} as it is handed to an {@link dev.araopj.hrplatformapi.outbox.service.OutboxSink}.
+ * {@code id} is stable across redeliveries, so consumers can drop duplicates. {@code payload} is a JSON object; for an
+ * update it lists the {@code changedProperties}.
+ */
+@Builder
+public record OutboxMessage(
+        String id,
+        EntityType aggregateType,
+        String aggregateId,
+        AuditAction eventType,
+        @JsonRawValue String payload,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,20 @@
+package dev.araopj.hrplatformapi.outbox.service;
+
+import dev.araopj.hrplatformapi.outbox.model.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Delivers outbox messages to downstream systems. The implementation is chosen with {@code hr-platform.outbox.sink}.
+ * <p>
+ * Delivery is at-least-once: a batch is deleted from the outbox only after {@link #publish} returns, and is offered
+ * again, whole, if it throws or the delete does not commit.
+ */
+public interface OutboxSink {
+
+    /**
+     * @param messages the messages, oldest first
+     * @throws RuntimeException if the batch could not be delivered
+     */
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,47 @@
+package dev.araopj.hrplatformapi.outbox.service.impl;
+
+import dev.araopj.hrplatformapi.outbox.model.OutboxMessage;
+import dev.araopj.hrplatformapi.outbox.service.OutboxSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Keeps the last {@code hr-platform.outbox.memory.capacity} messages in memory, for local runs and tests without a
+ * downstream system. Older messages are dropped.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "hr-platform.outbox", name = "sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final ArrayDeque<OutboxMessage> messages;
+    private final int capacity;
+
+    public InMemoryOutboxSink(@Value("${hr-platform.outbox.memory.capacity:10000}") int capacity) {
+        this.messages = new ArrayDeque<>(Math.min(capacity, 1024));
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        for (var message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+        log.debug("Published [{}] outbox messages in memory", batch.size());
+    }
+
+    /**
+     * @return the retained messages, oldest first
+     */
+    public synchronized List<OutboxMessage> messages() {
+        return List.copyOf(messages);
+    }
+}
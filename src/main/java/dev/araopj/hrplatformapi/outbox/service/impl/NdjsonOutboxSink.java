@@ -0,0 +1,72 @@
+package dev.araopj.hrplatformapi.outbox.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.outbox.model.OutboxMessage;
+import dev.araopj.hrplatformapi.outbox.service.OutboxSink;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Appends every message as one line of JSON to {@code hr-platform.outbox.ndjson.file}, for local runs where another
+ * process tails the file. Each batch is written with one call and forced to disk before {@link #publish} returns, so
+ * the relay only deletes what is durable; after a crash the file may repeat a batch, never miss one.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "hr-platform.outbox", name = "sink", havingValue = "ndjson")
+public class NdjsonOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final FileChannel channel;
+
+    public NdjsonOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${hr-platform.outbox.ndjson.file:${java.io.tmpdir}/hr-platform/outbox/outbox.ndjson}") Path file
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.channel = FileChannel.open(file, CREATE, WRITE, APPEND);
+        log.info("Publishing outbox messages to [{}]", file);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        try {
+            final var LINES = new ByteArrayOutputStream(messages.size() * 256);
+            for (var message : messages) {
+                objectMapper.writeValue(LINES, message);
+                LINES.write('\n');
+            }
+            final var BUFFER = ByteBuffer.wrap(LINES.toByteArray());
+            while (BUFFER.hasRemaining()) {
+                channel.write(BUFFER);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append outbox messages to [%s]".formatted(file), e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
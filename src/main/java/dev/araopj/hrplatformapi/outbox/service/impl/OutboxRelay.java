@@ -0,0 +1,226 @@
+package dev.araopj.hrplatformapi.outbox.service.impl;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.outbox.model.OutboxMessage;
+import dev.araopj.hrplatformapi.outbox.service.OutboxSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Moves {@code outbox_event} rows to the configured {@link OutboxSink}, oldest first.
+ * <p>
+ * Every {@code hr-platform.outbox.poll-interval} the relay claims up to {@code hr-platform.outbox.batch-size} rows
+ * with {@code SELECT ... FOR UPDATE SKIP LOCKED}, publishes them and deletes them, all in one transaction, and repeats
+ * while batches come back full. {@code SKIP LOCKED} lets several instances relay at once without waiting on each
+ * other's rows; across instances, events are then only ordered within a batch. If the sink throws, the transaction
+ * rolls back and the batch is offered again, so delivery is at-least-once.
+ * <p>
+ * A failed batch is retried at once one event at a time, in order, to find the event the sink rejects. That event's
+ * {@code attempts} is incremented and its error kept in {@code last_error}; once it reaches
+ * {@code hr-platform.outbox.max-attempts} it is dead-lettered ({@code dead_lettered_at} is set, and it is no longer
+ * claimed) so the events behind it can flow again. Clearing {@code dead_lettered_at} replays it. While the head keeps
+ * failing, polls back off exponentially from {@code poll-interval} up to {@code hr-platform.outbox.max-backoff}, so an
+ * outage of the sink uses up attempts slowly.
+ * <p>
+ * Reports {@code hr_platform.outbox.lag} (gauge, seconds since the oldest unrelayed event occurred, {@code 0} when
+ * the outbox is empty), {@code hr_platform.outbox.relayed} and {@code hr_platform.outbox.dead_lettered} (counters).
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String CLAIM = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, occurred_at
+            FROM outbox_event
+            WHERE dead_lettered_at IS NULL
+            ORDER BY occurred_at, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String DELETE = "DELETE FROM outbox_event WHERE id = ?";
+    private static final String OLDEST = "SELECT MIN(occurred_at) FROM outbox_event WHERE dead_lettered_at IS NULL";
+    private static final String RECORD_FAILURE = "UPDATE outbox_event SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+    private static final String DEAD_LETTER = "UPDATE outbox_event SET dead_lettered_at = ? WHERE id = ? AND attempts >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration pollInterval;
+    private final Duration maxBackoff;
+    private final Counter relayed;
+    private final Counter deadLettered;
+    private volatile Instant oldestPending;
+    private int consecutiveFailures;
+    private long backoffUntilNanos;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${hr-platform.outbox.batch-size:500}") int batchSize,
+            @Value("${hr-platform.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${hr-platform.outbox.poll-interval:PT1S}") Duration pollInterval,
+            @Value("${hr-platform.outbox.max-backoff:PT5M}") Duration maxBackoff
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollInterval = pollInterval;
+        this.maxBackoff = maxBackoff;
+        meterRegistry.gauge("hr_platform.outbox.lag", this, OutboxRelay::lagSeconds);
+        this.relayed = meterRegistry.counter("hr_platform.outbox.relayed");
+        this.deadLettered = meterRegistry.counter("hr_platform.outbox.dead_lettered");
+    }
+
+    @Scheduled(fixedDelayString = "${hr-platform.outbox.poll-interval:PT1S}")
+    public void poll() {
+        try {
+            if (consecutiveFailures == 0 || System.nanoTime() - backoffUntilNanos >= 0) {
+                relay();
+                consecutiveFailures = 0;
+            }
+        } catch (RuntimeException e) {
+            consecutiveFailures++;
+            final var BACKOFF = backoff();
+            backoffUntilNanos = System.nanoTime() + BACKOFF.toNanos();
+            log.error("Outbox relay failed [{}] times in a row; retrying in [{}]", consecutiveFailures, BACKOFF, e);
+        } finally {
+            try {
+                final var OLDEST_PENDING = jdbcTemplate.queryForObject(OLDEST, Timestamp.class);
+                oldestPending = OLDEST_PENDING != null ? OLDEST_PENDING.toInstant() : null;
+            } catch (RuntimeException e) {
+                log.warn("Could not read the outbox lag", e);
+            }
+        }
+    }
+
+    /**
+     * Relays batches until one comes back short.
+     *
+     * @return the number of events relayed
+     */
+    long relay() {
+        long total = 0;
+        int relayedInBatch;
+        do {
+            relayedInBatch = relayBatch();
+            total += relayedInBatch;
+        } while (relayedInBatch == batchSize);
+        if (total > 0) {
+            log.debug("Relayed [{}] outbox events", total);
+        }
+        return total;
+    }
+
+    /**
+     * Relays one batch; if it fails, relays the same events one at a time until the failing one, and dead-letters it
+     * if it has run out of attempts.
+     *
+     * @throws RuntimeException if an event failed and was not dead-lettered
+     */
+    private int relayBatch() {
+        try {
+            return relayClaimed(batchSize, new OutboxMessage[1]);
+        } catch (RuntimeException e) {
+            log.warn("Outbox batch failed; relaying it one event at a time", e);
+        }
+
+        int relayedOneByOne = 0;
+        for (int i = 0; i < batchSize; i++) {
+            final var HEAD = new OutboxMessage[1];
+            try {
+                final var COUNT = relayClaimed(1, HEAD);
+                if (COUNT == 0) {
+                    break;
+                }
+                relayedOneByOne += COUNT;
+            } catch (RuntimeException e) {
+                if (HEAD[0] == null || !recordFailure(HEAD[0], e)) {
+                    throw e;
+                }
+            }
+        }
+        return relayedOneByOne;
+    }
+
+    /**
+     * Claims, publishes and deletes up to {@code limit} events in one transaction.
+     *
+     * @param head receives the first claimed event, so a caller can tell which event a failure belongs to
+     */
+    private int relayClaimed(int limit, OutboxMessage[] head) {
+        final var RELAYED = transactionTemplate.execute(status -> {
+            final var MESSAGES = jdbcTemplate.query(CLAIM, (resultSet, rowNum) -> OutboxMessage.builder()
+                    .id(resultSet.getString(1))
+                    .aggregateType(EntityType.valueOf(resultSet.getString(2)))
+                    .aggregateId(resultSet.getString(3))
+                    .eventType(AuditAction.valueOf(resultSet.getString(4)))
+                    .payload(resultSet.getString(5))
+                    .occurredAt(resultSet.getTimestamp(6).toInstant())
+                    .build(), limit);
+            if (MESSAGES.isEmpty()) {
+                return 0;
+            }
+            head[0] = MESSAGES.getFirst();
+
+            outboxSink.publish(MESSAGES);
+            jdbcTemplate.batchUpdate(DELETE, MESSAGES.stream().map(message -> new Object[]{message.id()}).toList());
+            return MESSAGES.size();
+        });
+        final var COUNT = RELAYED != null ? RELAYED : 0;
+        relayed.increment(COUNT);
+        return COUNT;
+    }
+
+    /**
+     * Counts a failed attempt against an event and dead-letters it once it has had {@code max-attempts}.
+     *
+     * @return {@code true} if the event was dead-lettered
+     */
+    private boolean recordFailure(OutboxMessage message, RuntimeException failure) {
+        try {
+            final var DEAD_LETTERED = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                jdbcTemplate.update(RECORD_FAILURE, String.valueOf(NestedExceptionUtils.getMostSpecificCause(failure).getMessage()), message.id());
+                return jdbcTemplate.update(DEAD_LETTER, Timestamp.from(Instant.now()), message.id(), maxAttempts) == 1;
+            }));
+            if (DEAD_LETTERED) {
+                deadLettered.increment();
+                log.error("Dead-lettered outbox event [{}] for [{}] [{}] after [{}] attempts",
+                        message.id(), message.aggregateType(), message.aggregateId(), maxAttempts, failure);
+            }
+            return DEAD_LETTERED;
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+            return false;
+        }
+    }
+
+    private Duration backoff() {
+        final var SHIFT = Math.min(consecutiveFailures - 1, 20);
+        final var BACKOFF = pollInterval.multipliedBy(1L << SHIFT);
+        return BACKOFF.compareTo(maxBackoff) > 0 ? maxBackoff : BACKOFF;
+    }
+
+    double lagSeconds() {
+        final var OLDEST_PENDING = oldestPending;
+        return OLDEST_PENDING == null ? 0 : Math.max(0, (Instant.now().toEpochMilli() - OLDEST_PENDING.toEpochMilli()) / 1000.0);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.araopj.hrplatformapi.outbox.service.impl;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Inserts {@code outbox_event} rows on the connection of the current transaction, so they commit or roll back with
+ * the change they describe.
+ * <p>
+ * Used by {@link dev.araopj.hrplatformapi.outbox.listener.OutboxEventListener} for changes flushed by Hibernate, and
+ * directly by set-based JDBC writers (e.g. bulk salary adjustments) that bypass the session.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_event (id, aggregate_type, aggregate_id, event_type, payload, occurred_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param payload a JSON object
+     */
+    public void append(EntityType aggregateType, String aggregateId, AuditAction eventType, String payload) {
+        final var NOW = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT, UUID.randomUUID().toString(), aggregateType.name(), aggregateId, eventType.name(),
+                payload, NOW, NOW, NOW);
+    }
+
+    /**
+     * Appends one event per aggregate with a single JDBC batch.
+     *
+     * @param payload a JSON object, shared by every event
+     */
+    public void appendAll(EntityType aggregateType, Collection<String> aggregateIds, AuditAction eventType, String payload) {
+        if (aggregateIds.isEmpty()) {
+            return;
+        }
+        final var NOW = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT, aggregateIds.stream()
+                .map(aggregateId -> new Object[]{UUID.randomUUID().toString(), aggregateType.name(), aggregateId,
+                        eventType.name(), payload, NOW, NOW, NOW})
+                .toList());
+    }
+}
@@ -0,0 +1,198 @@
+package dev.araopj.hrplatformapi.payroll.controller;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollCounterResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.StandardApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the materialized payroll counters.
+ * Reads are primary-key lookups on counters kept up to date by every employment and salary write; use
+ * {@link PayrollSummaryController} when an exact figure as of another date is needed.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/payroll-counters")
+@RequiredArgsConstructor
+@Tag(
+        name = "Payroll Counters",
+        description = "Endpoints for the incrementally maintained headcount and salary totals by workplace and employment status."
+)
+public class PayrollCounterController {
+
+    private final PayrollCounterService payrollCounterService;
+
+    /**
+     * Retrieves every counter of a dimension.
+     *
+     * @param dimension The dimension to list; defaults to WORKPLACE.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollCounterResponse, one per group and currency.
+     */
+    @Operation(
+            summary = "Get all payroll counters of a dimension",
+            description = "Retrieve the current headcount and salary total of every group of the dimension (defaults to WORKPLACE).",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll counters",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid dimension provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping
+    public ResponseEntity<StandardApiResponse<List<PayrollCounterResponse>>> all(
+            @Parameter(description = "Dimension of the counters", example = "WORKPLACE")
+            @RequestParam(defaultValue = "WORKPLACE") PayrollCounterDimension dimension
+    ) {
+        log.debug("Fetching payroll counters by [{}]", dimension);
+        return ResponseEntity.ok(StandardApiResponse.success(payrollCounterService.findAll(dimension)));
+    }
+
+    /**
+     * Retrieves the counters of a workplace.
+     *
+     * @param workplaceId The ID of the workplace.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollCounterResponse, one per currency.
+     */
+    @Operation(
+            summary = "Get payroll counters of a workplace",
+            description = "Retrieve the current headcount and salary total of a workplace, one entry per currency. Empty if the workplace has no active records.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll counters of the workplace",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/workplaces/{workplaceId}")
+    public ResponseEntity<StandardApiResponse<List<PayrollCounterResponse>>> byWorkplace(
+            @Parameter(description = "ID of the workplace", required = true)
+            @PathVariable String workplaceId
+    ) {
+        log.debug("Fetching payroll counters of workplace [{}]", workplaceId);
+        return ResponseEntity.ok(StandardApiResponse.success(payrollCounterService.findByWorkplace(workplaceId)));
+    }
+
+    /**
+     * Retrieves the counters of an employment status.
+     *
+     * @param employmentStatus The employment status.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollCounterResponse, one per currency.
+     */
+    @Operation(
+            summary = "Get payroll counters of an employment status",
+            description = "Retrieve the current headcount and salary total of an employment status, one entry per currency.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll counters of the employment status",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid employment status provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/statuses/{employmentStatus}")
+    public ResponseEntity<StandardApiResponse<List<PayrollCounterResponse>>> byStatus(
+            @Parameter(description = "Employment status", required = true, example = "PERMANENT")
+            @PathVariable EmploymentStatus employmentStatus
+    ) {
+        log.debug("Fetching payroll counters of employment status [{}]", employmentStatus);
+        return ResponseEntity.ok(StandardApiResponse.success(payrollCounterService.findByStatus(employmentStatus)));
+    }
+
+    /**
+     * Recomputes every counter from the source tables.
+     *
+     * @return A ResponseEntity containing a StandardApiResponse with the number of counters corrected or created.
+     */
+    @Operation(
+            summary = "Reconcile payroll counters",
+            description = "Recompute every payroll counter from the employment records and salaries in effect today and correct the ones that drifted. Also runs nightly.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully reconciled the payroll counters",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/reconcile")
+    public ResponseEntity<StandardApiResponse<Integer>> reconcile() {
+        log.debug("Reconciling payroll counters");
+        return ResponseEntity.ok(StandardApiResponse.success(payrollCounterService.reconcile()));
+    }
+}
@@ -0,0 +1,223 @@
+package dev.araopj.hrplatformapi.payroll.controller;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.dto.request.PayrollRunRequest;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunProgressResponse;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunResponse;
+import dev.araopj.hrplatformapi.payroll.service.PayrollRunService;
+import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.PaginationMeta;
+import dev.araopj.hrplatformapi.utils.StandardApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for payroll runs.
+ * Provides endpoints for starting a run for a period, following its progress, and reading its payroll lines.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/payroll-runs")
+@RequiredArgsConstructor
+@Tag(
+        name = "Payroll Runs",
+        description = "Endpoints for computing payroll for the whole workforce."
+)
+public class PayrollRunController {
+
+    private final PayrollRunService payrollRunService;
+
+    /**
+     * Starts a payroll run in the background.
+     *
+     * @param payrollRunRequest The period to pay.
+     * @return A ResponseEntity containing a StandardApiResponse with the initial PayrollRunProgressResponse.
+     * @throws InvalidRequestException If a run for the same period is already in progress.
+     */
+    @Operation(
+            summary = "Start payroll run",
+            description = "Compute the gross pay of every payable employment record for a period (yyyy-MM). The run continues in the background; poll its progress by run id.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Payroll run started",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid period or a run for the period is already in progress",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping
+    public ResponseEntity<StandardApiResponse<PayrollRunProgressResponse>> start(
+            @Valid
+            @RequestBody
+            @Parameter(description = "Period to pay", required = true)
+            PayrollRunRequest payrollRunRequest
+    ) throws InvalidRequestException {
+        log.debug("Request to start payroll run for period [{}]", payrollRunRequest.period());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(StandardApiResponse.success(payrollRunService.start(payrollRunRequest)));
+    }
+
+    /**
+     * Retrieves the progress of the runs started since this node came up.
+     *
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollRunProgressResponse.
+     */
+    @Operation(
+            summary = "Get all payroll runs",
+            description = "Retrieve the progress and throughput of the payroll runs started since this node came up, newest first.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll runs",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping
+    public ResponseEntity<StandardApiResponse<List<PayrollRunProgressResponse>>> all() {
+        log.debug("Fetching all payroll runs");
+        return ResponseEntity.ok(StandardApiResponse.success(payrollRunService.findAllProgress()));
+    }
+
+    /**
+     * Retrieves the progress of a payroll run.
+     *
+     * @param runId The run id.
+     * @return A ResponseEntity containing a StandardApiResponse with the PayrollRunProgressResponse.
+     * @throws NotFoundException If the run is not known to this node.
+     */
+    @Operation(
+            summary = "Get payroll run progress",
+            description = "Retrieve the status, progress and throughput of a payroll run.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll run",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Payroll run not found",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/{runId}")
+    public ResponseEntity<StandardApiResponse<PayrollRunProgressResponse>> progress(
+            @Parameter(description = "ID of the payroll run", required = true)
+            @PathVariable String runId
+    ) throws NotFoundException {
+        log.debug("Fetching payroll run [{}]", runId);
+        return ResponseEntity.ok(StandardApiResponse.success(payrollRunService.findProgress(runId)));
+    }
+
+    /**
+     * Retrieves a paginated list of the payroll lines of a run.
+     *
+     * @param runId The run id.
+     * @param page  The page number (1-based).
+     * @param size  The number of records per page.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollRunResponse and pagination metadata.
+     */
+    @Operation(
+            summary = "Get payroll run results",
+            description = "Retrieve a paginated list of the payroll lines computed by a run. Supports pagination through 'page' and 'size' query parameters.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll lines",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/{runId}/results")
+    public ResponseEntity<StandardApiResponse<List<PayrollRunResponse>>> results(
+            @Parameter(description = "ID of the payroll run", required = true)
+            @PathVariable String runId,
+            @Parameter(description = "Page number (1-based)", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Number of records per page", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.debug("Fetching payroll run [{}] results with page: {} and size: {}", runId, page, size);
+        final var PAGE = payrollRunService.findResults(runId, PageRequest.of(page - 1, size));
+        return ResponseEntity.ok(StandardApiResponse.success(
+                PAGE.getContent(),
+                PaginationMeta.builder()
+                        .page(PAGE.getNumber() + 1)
+                        .size(PAGE.getSize())
+                        .totalElements(PAGE.getTotalElements())
+                        .totalPages(PAGE.getTotalPages())
+                        .build()
+        ));
+    }
+}
@@ -0,0 +1,181 @@
+package dev.araopj.hrplatformapi.payroll.controller;
+
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollSummaryResponse;
+import dev.araopj.hrplatformapi.payroll.service.PayrollSummaryService;
+import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.StandardApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for payroll dashboards.
+ * Provides headcount and salary totals grouped by workplace, position and employment status, computed in the database.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/payroll-summaries")
+@RequiredArgsConstructor
+@Tag(
+        name = "Payroll Summaries",
+        description = "Endpoints for headcount and salary totals by workplace, position and employment status."
+)
+public class PayrollSummaryController {
+
+    private final PayrollSummaryService payrollSummaryService;
+
+    /**
+     * Retrieves the headcount and salary total of every workplace.
+     *
+     * @param asOf The date the employment records must be in effect on; defaults to today.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollSummaryResponse, one per workplace and currency.
+     */
+    @Operation(
+            summary = "Get payroll summary by workplace",
+            description = "Count the employment records in effect on 'asOf' (defaults to today) and total their salaries, grouped by workplace and currency.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll summary by workplace",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid date provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/by-workplace")
+    public ResponseEntity<StandardApiResponse<List<PayrollSummaryResponse>>> byWorkplace(
+            @Parameter(description = "Date the employment records must be in effect on (yyyy-MM-dd)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        log.debug("Fetching payroll summary by workplace as of [{}]", asOf);
+        return ResponseEntity.ok(StandardApiResponse.success(
+                payrollSummaryService.summarizeByWorkplace(asOf != null ? asOf : LocalDate.now())
+        ));
+    }
+
+    /**
+     * Retrieves the headcount and salary total of every position.
+     *
+     * @param asOf The date the employment records must be in effect on; defaults to today.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollSummaryResponse, one per position and currency.
+     */
+    @Operation(
+            summary = "Get payroll summary by position",
+            description = "Count the employment records in effect on 'asOf' (defaults to today) and total their salaries, grouped by position and currency.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll summary by position",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid date provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/by-position")
+    public ResponseEntity<StandardApiResponse<List<PayrollSummaryResponse>>> byPosition(
+            @Parameter(description = "Date the employment records must be in effect on (yyyy-MM-dd)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        log.debug("Fetching payroll summary by position as of [{}]", asOf);
+        return ResponseEntity.ok(StandardApiResponse.success(
+                payrollSummaryService.summarizeByPosition(asOf != null ? asOf : LocalDate.now())
+        ));
+    }
+
+    /**
+     * Retrieves the headcount and salary total of every employment status.
+     *
+     * @param asOf The date the employment records must be in effect on; defaults to today.
+     * @return A ResponseEntity containing a StandardApiResponse with a list of PayrollSummaryResponse, one per employment status and currency.
+     */
+    @Operation(
+            summary = "Get payroll summary by employment status",
+            description = "Count the employment records in effect on 'asOf' (defaults to today) and total their salaries, grouped by employment status and currency.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the payroll summary by employment status",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid date provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/by-status")
+    public ResponseEntity<StandardApiResponse<List<PayrollSummaryResponse>>> byStatus(
+            @Parameter(description = "Date the employment records must be in effect on (yyyy-MM-dd)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        log.debug("Fetching payroll summary by employment status as of [{}]", asOf);
+        return ResponseEntity.ok(StandardApiResponse.success(
+                payrollSummaryService.summarizeByStatus(asOf != null ? asOf : LocalDate.now())
+        ));
+    }
+}
@@ -0,0 +1,13 @@
+package dev.araopj.hrplatformapi.payroll.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.YearMonth;
+
+@Builder
+public record PayrollRunRequest(
+        @NotNull(message = "period cannot be null")
+        YearMonth period
+) {
+}
@@ -0,0 +1,18 @@
+package dev.araopj.hrplatformapi.payroll.dto.response;
+
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Builder
+public record PayrollCounterResponse(
+        PayrollCounterDimension dimension,
+        String groupKey,
+        String currency,
+        long headcount,
+        BigDecimal totalAmount,
+        Instant updatedAt
+) {
+}
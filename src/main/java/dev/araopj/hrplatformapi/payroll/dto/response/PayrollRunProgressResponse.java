@@ -0,0 +1,29 @@
+package dev.araopj.hrplatformapi.payroll.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.araopj.hrplatformapi.payroll.model.PayrollRunStatus;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Map;
+
+@Builder
+public record PayrollRunProgressResponse(
+        String runId,
+        YearMonth period,
+        PayrollRunStatus status,
+        long totalEmployees,
+        long processed,
+        long written,
+        Map<String, BigDecimal> grossTotals,
+        Instant startedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Instant finishedAt,
+        long elapsedMillis,
+        double rowsPerSecond,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String error
+) {
+}
@@ -0,0 +1,22 @@
+package dev.araopj.hrplatformapi.payroll.dto.response;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Builder
+public record PayrollRunResponse(
+        String id,
+        String runId,
+        LocalDate periodStart,
+        String employmentInformationId,
+        String employeeId,
+        double baseAmount,
+        double grossAmount,
+        String currency,
+        int payableDays,
+        int periodDays,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,16 @@
+package dev.araopj.hrplatformapi.payroll.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record PayrollSummaryResponse(
+        String groupKey,
+        String groupLabel,
+        String currency,
+        long headcount,
+        BigDecimal totalAmount,
+        BigDecimal averageAmount
+) {
+}
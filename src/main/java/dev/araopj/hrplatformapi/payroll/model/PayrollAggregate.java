@@ -0,0 +1,23 @@
+package dev.araopj.hrplatformapi.payroll.model;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+
+import java.util.Currency;
+
+/**
+ * One {@code GROUP BY} row of a payroll aggregation: the headcount and salary total of a group, per currency.
+ * Instantiated directly by the JPQL constructor expressions in
+ * {@link dev.araopj.hrplatformapi.payroll.repository.PayrollSummaryRepository}.
+ */
+public record PayrollAggregate(
+        String groupKey,
+        String groupLabel,
+        Currency currency,
+        Long headcount,
+        Long totalMinorUnits
+) {
+
+    public PayrollAggregate(EmploymentStatus employmentStatus, Currency currency, Long headcount, Long totalMinorUnits) {
+        this(employmentStatus.name(), employmentStatus.getDescription(), currency, headcount, totalMinorUnits);
+    }
+}
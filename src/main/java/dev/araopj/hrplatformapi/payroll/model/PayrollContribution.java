@@ -0,0 +1,17 @@
+package dev.araopj.hrplatformapi.payroll.model;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+
+import java.util.Currency;
+
+/**
+ * What one active employment record adds to the payroll counters: one head and its salary, under its workplace and
+ * its employment status.
+ */
+public record PayrollContribution(
+        String workplaceId,
+        EmploymentStatus employmentStatus,
+        Currency currency,
+        long minorUnits
+) {
+}
@@ -0,0 +1,49 @@
+package dev.araopj.hrplatformapi.payroll.model;
+
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.Currency;
+
+/**
+ * Materialized headcount and salary total of one group (a workplace or an employment status) in one currency.
+ * <p>
+ * The id is derived from the dimension, group key and currency (see {@link #id(PayrollCounterDimension, String, Currency)}),
+ * so a dashboard read is a primary-key lookup and a write is a single-row {@code UPDATE ... SET x = x + delta}.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"dimension", "group_key", "currency"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class PayrollCounter extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PayrollCounterDimension dimension;
+
+    @Column(nullable = false)
+    private String groupKey;
+
+    @Column(length = 3, nullable = false)
+    private Currency currency;
+
+    @Column(nullable = false)
+    private long headcount;
+
+    @Column(nullable = false)
+    private long totalMinorUnits;
+
+    public static String id(PayrollCounterDimension dimension, String groupKey, Currency currency) {
+        return "%s:%s:%s".formatted(dimension.getCode(), groupKey, currency.getCurrencyCode());
+    }
+}
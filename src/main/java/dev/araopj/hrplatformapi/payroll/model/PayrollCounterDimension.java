@@ -0,0 +1,15 @@
+package dev.araopj.hrplatformapi.payroll.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum PayrollCounterDimension {
+
+    WORKPLACE("WP", "Workplace"),
+    STATUS("STAT", "Employment Status");
+
+    private final String code;
+    private final String description;
+}
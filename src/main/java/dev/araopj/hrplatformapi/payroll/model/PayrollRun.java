@@ -0,0 +1,60 @@
+package dev.araopj.hrplatformapi.payroll.model;
+
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * One computed payroll line: the gross amount of one employment record for one pay period within a run.
+ * Amounts are in minor units of {@code currency}, see {@link dev.araopj.hrplatformapi.utils.money.Money}.
+ * Rows are written in JDBC batches by {@link dev.araopj.hrplatformapi.payroll.service.impl.PayrollRunWriter}.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(
+        name = "payroll_run",
+        indexes = @Index(name = "idx_payroll_run_run_id", columnList = "run_id"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "employment_information_id"})
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class PayrollRun extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false)
+    private String runId;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private String employmentInformationId;
+
+    @Column(nullable = false)
+    private String employeeId;
+
+    @Column(nullable = false)
+    private long baseAmountMinor;
+
+    @Column(nullable = false)
+    private long grossAmountMinor;
+
+    @Column(length = 3, nullable = false)
+    private Currency currency;
+
+    @Column(nullable = false)
+    private int payableDays;
+
+    @Column(nullable = false)
+    private int periodDays;
+}
@@ -0,0 +1,16 @@
+package dev.araopj.hrplatformapi.payroll.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum PayrollRunStatus {
+
+    RUNNING("RUN", "Running"),
+    COMPLETED("COMP", "Completed"),
+    FAILED("FAIL", "Failed");
+
+    private final String code;
+    private final String description;
+}
@@ -0,0 +1,19 @@
+package dev.araopj.hrplatformapi.payroll.model;
+
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * Flat projection of an {@link dev.araopj.hrplatformapi.employee.model.EmploymentInformation} row and its
+ * {@link dev.araopj.hrplatformapi.employee.model.Salary}, read in primary-key chunks by a payroll run.
+ * Projecting avoids loading managed entities (and their associations) for every employee.
+ */
+public record PayrollSource(
+        String employmentInformationId,
+        String employeeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        long minorUnits,
+        Currency currency
+) {
+}
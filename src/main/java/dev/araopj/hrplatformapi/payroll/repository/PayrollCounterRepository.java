@@ -0,0 +1,64 @@
+package dev.araopj.hrplatformapi.payroll.repository;
+
+import dev.araopj.hrplatformapi.payroll.model.PayrollContribution;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounter;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayrollCounterRepository extends JpaRepository<PayrollCounter, String> {
+
+    List<PayrollCounter> findByDimensionOrderByGroupKey(PayrollCounterDimension dimension);
+
+    List<PayrollCounter> findByDimensionAndGroupKey(PayrollCounterDimension dimension, String groupKey);
+
+    /**
+     * Adds the deltas to a counter in place, so concurrent writers never overwrite each other.
+     *
+     * @return The number of rows updated; {@code 0} if the counter does not exist yet.
+     */
+    @Modifying
+    @Query("""
+            UPDATE PayrollCounter c
+            SET c.headcount = c.headcount + :headcount, c.totalMinorUnits = c.totalMinorUnits + :totalMinorUnits, c.updatedAt = :now,
+                c.version = c.version + 1
+            WHERE c.id = :id
+            """)
+    int increment(
+            @Param("id") String id,
+            @Param("headcount") long headcount,
+            @Param("totalMinorUnits") long totalMinorUnits,
+            @Param("now") Instant now
+    );
+
+    @Query("""
+            SELECT new dev.araopj.hrplatformapi.payroll.model.PayrollContribution(w.id, e.employmentStatus, s.amount.currency, s.amount.minorUnits)
+            FROM EmploymentInformation e JOIN e.salary s JOIN e.workplace w
+            WHERE e.id = :employmentInformationId
+              AND e.startDate <= :asOf AND (e.endDate IS NULL OR e.endDate >= :asOf)
+            """)
+    Optional<PayrollContribution> findContribution(
+            @Param("employmentInformationId") String employmentInformationId,
+            @Param("asOf") LocalDate asOf
+    );
+
+    @Query("""
+            SELECT new dev.araopj.hrplatformapi.payroll.model.PayrollContribution(w.id, e.employmentStatus, s.amount.currency, s.amount.minorUnits)
+            FROM EmploymentInformation e JOIN e.salary s JOIN e.workplace w
+            WHERE s.id = :salaryId
+              AND e.startDate <= :asOf AND (e.endDate IS NULL OR e.endDate >= :asOf)
+            """)
+    Optional<PayrollContribution> findContributionBySalaryId(
+            @Param("salaryId") String salaryId,
+            @Param("asOf") LocalDate asOf
+    );
+}
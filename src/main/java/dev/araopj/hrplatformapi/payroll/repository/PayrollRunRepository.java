@@ -0,0 +1,14 @@
+package dev.araopj.hrplatformapi.payroll.repository;
+
+import dev.araopj.hrplatformapi.payroll.model.PayrollRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, String> {
+    Page<PayrollRun> findByRunId(String runId, Pageable pageable);
+
+    boolean existsByRunId(String runId);
+}
@@ -0,0 +1,51 @@
+package dev.araopj.hrplatformapi.payroll.repository;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.payroll.model.PayrollSource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the employment records a payroll run pays, in primary-key order.
+ * An employment is payable for a period when it overlaps the period and has either an end date or a status that is
+ * not one of {@code separatedStatuses}.
+ */
+@Repository
+public interface PayrollSourceRepository extends org.springframework.data.repository.Repository<EmploymentInformation, String> {
+
+    @Query("""
+            SELECT new dev.araopj.hrplatformapi.payroll.model.PayrollSource(e.id, e.employee.id, e.startDate, e.endDate, s.amount.minorUnits, s.amount.currency)
+            FROM EmploymentInformation e JOIN e.salary s
+            WHERE e.id > :afterId
+              AND e.startDate <= :periodEnd
+              AND (e.endDate IS NULL OR e.endDate >= :periodStart)
+              AND (e.endDate IS NOT NULL OR e.employmentStatus NOT IN :separatedStatuses)
+            ORDER BY e.id
+            """)
+    List<PayrollSource> findPayableAfter(
+            @Param("afterId") String afterId,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("periodEnd") LocalDate periodEnd,
+            @Param("separatedStatuses") Collection<EmploymentStatus> separatedStatuses,
+            Limit limit
+    );
+
+    @Query("""
+            SELECT COUNT(e) FROM EmploymentInformation e JOIN e.salary s
+            WHERE e.startDate <= :periodEnd
+              AND (e.endDate IS NULL OR e.endDate >= :periodStart)
+              AND (e.endDate IS NOT NULL OR e.employmentStatus NOT IN :separatedStatuses)
+            """)
+    long countPayable(
+            @Param("periodStart") LocalDate periodStart,
+            @Param("periodEnd") LocalDate periodEnd,
+            @Param("separatedStatuses") Collection<EmploymentStatus> separatedStatuses
+    );
+}
@@ -0,0 +1,45 @@
+package dev.araopj.hrplatformapi.payroll.repository;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
+import dev.araopj.hrplatformapi.payroll.model.PayrollAggregate;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@code GROUP BY} projections over {@code employment_information JOIN salary}, computed entirely in the database.
+ * Every query counts the employment records in effect on {@code asOf} and sums their salaries per currency.
+ */
+@Repository
+public interface PayrollSummaryRepository extends org.springframework.data.repository.Repository<EmploymentInformation, String> {
+
+    @Query("""
+            SELECT new dev.araopj.hrplatformapi.payroll.model.PayrollAggregate(w.id, w.name, s.amount.currency, COUNT(e), SUM(s.amount.minorUnits))
+            FROM EmploymentInformation e JOIN e.salary s JOIN e.workplace w
+            WHERE e.startDate <= :asOf AND (e.endDate IS NULL OR e.endDate >= :asOf)
+            GROUP BY w.id, w.name, s.amount.currency
+            ORDER BY w.name, s.amount.currency
+            """)
+    List<PayrollAggregate> aggregateByWorkplace(@Param("asOf") LocalDate asOf);
+
+    @Query("""
+            SELECT new dev.araopj.hrplatformapi.payroll.model.PayrollAggregate(p.id, p.description, s.amount.currency, COUNT(e), SUM(s.amount.minorUnits))
+            FROM EmploymentInformation e JOIN e.salary s JOIN e.position p
+            WHERE e.startDate <= :asOf AND (e.endDate IS NULL OR e.endDate >= :asOf)
+            GROUP BY p.id, p.description, s.amount.currency
+            ORDER BY p.description, s.amount.currency
+            """)
+    List<PayrollAggregate> aggregateByPosition(@Param("asOf") LocalDate asOf);
+
+    @Query("""
+            SELECT new dev.araopj.hrplatformapi.payroll.model.PayrollAggregate(e.employmentStatus, s.amount.currency, COUNT(e), SUM(s.amount.minorUnits))
+            FROM EmploymentInformation e JOIN e.salary s
+            WHERE e.startDate <= :asOf AND (e.endDate IS NULL OR e.endDate >= :asOf)
+            GROUP BY e.employmentStatus, s.amount.currency
+            ORDER BY e.employmentStatus, s.amount.currency
+            """)
+    List<PayrollAggregate> aggregateByStatus(@Param("asOf") LocalDate asOf);
+}
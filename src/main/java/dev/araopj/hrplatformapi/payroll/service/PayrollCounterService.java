@@ -0,0 +1,56 @@
+package dev.araopj.hrplatformapi.payroll.service;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollCounterResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollContribution;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension;
+
+import java.util.List;
+
+/**
+ * Maintains per-workplace and per-status headcount and salary counters.
+ * <p>
+ * Writers capture the contribution of the affected employment record before and after their change and pass both
+ * to {@link #record(PayrollContribution, PayrollContribution)} inside the same transaction:
+ * <pre>
+ * {@code
+ * final var BEFORE = payrollCounterService.contributionOf(id);
+ * // ... save or delete ...
+ * payrollCounterService.record(BEFORE, payrollCounterService.contributionOf(id));
+ * }
+ * </pre>
+ * Whether a record is active depends on the date, so counters drift as start and end dates pass;
+ * {@link #reconcile()} recomputes them from the source tables.
+ */
+public interface PayrollCounterService {
+
+    /**
+     * @param employmentInformationId the employment record
+     * @return its current contribution, or {@code null} if it does not exist, is not active today or has no salary
+     */
+    PayrollContribution contributionOf(String employmentInformationId);
+
+    /**
+     * @param salaryId the salary
+     * @return the current contribution of the employment record that references the salary, or {@code null}
+     */
+    PayrollContribution contributionOfSalary(String salaryId);
+
+    /**
+     * Moves the counters from {@code before} to {@code after}. Either may be {@code null}.
+     */
+    void record(PayrollContribution before, PayrollContribution after);
+
+    List<PayrollCounterResponse> findByWorkplace(String workplaceId);
+
+    List<PayrollCounterResponse> findByStatus(EmploymentStatus employmentStatus);
+
+    List<PayrollCounterResponse> findAll(PayrollCounterDimension dimension);
+
+    /**
+     * Recomputes every counter from the source tables and corrects the ones that drifted.
+     *
+     * @return the number of counters corrected or created
+     */
+    int reconcile();
+}
@@ -0,0 +1,42 @@
+package dev.araopj.hrplatformapi.payroll.service;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.dto.request.PayrollRunRequest;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunProgressResponse;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface PayrollRunService {
+
+    /**
+     * Starts a payroll run for a period in the background.
+     *
+     * @param payrollRunRequest the period to pay
+     * @return the initial progress of the run, including its run id
+     * @throws InvalidRequestException if a run for the same period is already in progress
+     */
+    PayrollRunProgressResponse start(PayrollRunRequest payrollRunRequest) throws InvalidRequestException;
+
+    /**
+     * @return the progress of the runs started since this node came up, newest first
+     */
+    List<PayrollRunProgressResponse> findAllProgress();
+
+    /**
+     * @param runId the run id
+     * @return the progress and throughput of the run
+     * @throws NotFoundException if this node has no record of the run
+     */
+    PayrollRunProgressResponse findProgress(String runId) throws NotFoundException;
+
+    /**
+     * @param runId    the run id
+     * @param pageable pagination information
+     * @return the computed payroll lines of the run
+     */
+    Page<PayrollRunResponse> findResults(String runId, Pageable pageable);
+}
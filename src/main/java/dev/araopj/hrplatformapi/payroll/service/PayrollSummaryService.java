@@ -0,0 +1,19 @@
+package dev.araopj.hrplatformapi.payroll.service;
+
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollSummaryResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Headcount and salary totals of the employment records in effect on a date.
+ * Each row covers one group and one currency; amounts in different currencies are never added together.
+ */
+public interface PayrollSummaryService {
+
+    List<PayrollSummaryResponse> summarizeByWorkplace(LocalDate asOf);
+
+    List<PayrollSummaryResponse> summarizeByPosition(LocalDate asOf);
+
+    List<PayrollSummaryResponse> summarizeByStatus(LocalDate asOf);
+}
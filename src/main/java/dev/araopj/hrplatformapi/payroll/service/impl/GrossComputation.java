@@ -0,0 +1,72 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.payroll.model.PayrollSource;
+import dev.araopj.hrplatformapi.utils.money.MinorUnits;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the prorated gross amount of a range of {@link PayrollSource} rows, splitting the range in halves on the
+ * fork-join pool until it is small enough to compute directly. Results are written into the shared output arrays at
+ * the row's index, so sub-tasks never contend.
+ * <p>
+ * The salary amount is a monthly rate; an employment that starts or ends within the period is paid for the days it
+ * covers, rounded half-up to the minor unit. All arithmetic is on {@code long} minor units, so it is exact.
+ */
+final class GrossComputation extends RecursiveAction {
+
+    static final int THRESHOLD = 1024;
+
+    private final List<PayrollSource> sources;
+    private final long periodStartDay;
+    private final long periodEndDay;
+    private final int[] payableDays;
+    private final long[] gross;
+    private final int from;
+    private final int to;
+
+    GrossComputation(List<PayrollSource> sources, long periodStartDay, long periodEndDay, int[] payableDays, long[] gross, int from, int to) {
+        this.sources = sources;
+        this.periodStartDay = periodStartDay;
+        this.periodEndDay = periodEndDay;
+        this.payableDays = payableDays;
+        this.gross = gross;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            final var PERIOD_DAYS = (int) (periodEndDay - periodStartDay + 1);
+            for (int i = from; i < to; i++) {
+                final var SOURCE = sources.get(i);
+                payableDays[i] = payableDays(SOURCE, periodStartDay, periodEndDay);
+                gross[i] = gross(SOURCE.minorUnits(), payableDays[i], PERIOD_DAYS);
+            }
+            return;
+        }
+        final var MIDDLE = (from + to) >>> 1;
+        invokeAll(
+                new GrossComputation(sources, periodStartDay, periodEndDay, payableDays, gross, from, MIDDLE),
+                new GrossComputation(sources, periodStartDay, periodEndDay, payableDays, gross, MIDDLE, to)
+        );
+    }
+
+    /**
+     * @return The number of days of {@code [periodStartDay, periodEndDay]} covered by the employment.
+     */
+    static int payableDays(PayrollSource source, long periodStartDay, long periodEndDay) {
+        final var FIRST = Math.max(source.startDate().toEpochDay(), periodStartDay);
+        final var LAST = source.endDate() == null ? periodEndDay : Math.min(source.endDate().toEpochDay(), periodEndDay);
+        return (int) Math.max(0, LAST - FIRST + 1);
+    }
+
+    static long gross(long monthlyMinorUnits, int payableDays, int periodDays) {
+        if (payableDays >= periodDays) {
+            return monthlyMinorUnits;
+        }
+        return MinorUnits.prorate(monthlyMinorUnits, payableDays, periodDays);
+    }
+}
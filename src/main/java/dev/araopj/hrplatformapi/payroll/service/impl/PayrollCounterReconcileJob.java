@@ -0,0 +1,28 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconciles the payroll counters against the source tables every night, after the day's start and end dates have
+ * rolled over. Set {@code hr-platform.payroll.counters.reconcile-cron} to {@code -} to disable.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayrollCounterReconcileJob {
+
+    private final PayrollCounterService payrollCounterService;
+
+    @Scheduled(cron = "${hr-platform.payroll.counters.reconcile-cron:0 5 0 * * *}")
+    public void reconcile() {
+        try {
+            payrollCounterService.reconcile();
+        } catch (RuntimeException e) {
+            log.error("Payroll counter reconciliation failed", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollCounterResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollAggregate;
+import dev.araopj.hrplatformapi.payroll.model.PayrollContribution;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounter;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollCounterRepository;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollSummaryRepository;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import dev.araopj.hrplatformapi.utils.mappers.PayrollCounterMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension.STATUS;
+import static dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension.WORKPLACE;
+
+/**
+ * Implementation of the {@link PayrollCounterService} interface.
+ * Counter writes are in-place increments, so concurrent transactions touching the same workplace only serialize on
+ * that one row. Reconciliation reuses the {@code GROUP BY} queries of {@link PayrollSummaryRepository}.
+ *
+ * @see PayrollCounterRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayrollCounterServiceImp implements PayrollCounterService {
+
+    private final PayrollCounterRepository payrollCounterRepository;
+    private final PayrollSummaryRepository payrollSummaryRepository;
+
+    @Override
+    public PayrollContribution contributionOf(String employmentInformationId) {
+        return payrollCounterRepository.findContribution(employmentInformationId, LocalDate.now()).orElse(null);
+    }
+
+    @Override
+    public PayrollContribution contributionOfSalary(String salaryId) {
+        return payrollCounterRepository.findContributionBySalaryId(salaryId, LocalDate.now()).orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public void record(PayrollContribution before, PayrollContribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        final var NOW = Instant.now();
+        if (before != null) {
+            increment(WORKPLACE, before.workplaceId(), before.currency(), -1, -before.minorUnits(), NOW);
+            increment(STATUS, before.employmentStatus().name(), before.currency(), -1, -before.minorUnits(), NOW);
+        }
+        if (after != null) {
+            increment(WORKPLACE, after.workplaceId(), after.currency(), 1, after.minorUnits(), NOW);
+            increment(STATUS, after.employmentStatus().name(), after.currency(), 1, after.minorUnits(), NOW);
+        }
+    }
+
+    @Override
+    public List<PayrollCounterResponse> findByWorkplace(String workplaceId) {
+        return payrollCounterRepository.findByDimensionAndGroupKey(WORKPLACE, workplaceId).stream()
+                .map(PayrollCounterMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<PayrollCounterResponse> findByStatus(EmploymentStatus employmentStatus) {
+        return payrollCounterRepository.findByDimensionAndGroupKey(STATUS, employmentStatus.name()).stream()
+                .map(PayrollCounterMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<PayrollCounterResponse> findAll(PayrollCounterDimension dimension) {
+        return payrollCounterRepository.findByDimensionOrderByGroupKey(dimension).stream()
+                .map(PayrollCounterMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int reconcile() {
+        final var TODAY = LocalDate.now();
+        final var EXPECTED = new HashMap<String, PayrollCounter>();
+        expect(EXPECTED, WORKPLACE, payrollSummaryRepository.aggregateByWorkplace(TODAY));
+        expect(EXPECTED, STATUS, payrollSummaryRepository.aggregateByStatus(TODAY));
+
+        int corrected = 0;
+        for (var counter : payrollCounterRepository.findAll()) {
+            final var EXPECTED_COUNTER = EXPECTED.remove(counter.getId());
+            final var HEADCOUNT = EXPECTED_COUNTER == null ? 0 : EXPECTED_COUNTER.getHeadcount();
+            final var TOTAL = EXPECTED_COUNTER == null ? 0 : EXPECTED_COUNTER.getTotalMinorUnits();
+            if (counter.getHeadcount() != HEADCOUNT || counter.getTotalMinorUnits() != TOTAL) {
+                log.warn("Payroll counter [{}] drifted: headcount [{}] -> [{}], total [{}] -> [{}]",
+                        counter.getId(), counter.getHeadcount(), HEADCOUNT, counter.getTotalMinorUnits(), TOTAL);
+                counter.setHeadcount(HEADCOUNT);
+                counter.setTotalMinorUnits(TOTAL);
+                payrollCounterRepository.save(counter);
+                corrected++;
+            }
+        }
+
+        final var MISSING = new ArrayList<>(EXPECTED.values());
+        payrollCounterRepository.saveAll(MISSING);
+        corrected += MISSING.size();
+
+        log.info("Reconciled payroll counters as of [{}]: [{}] corrected or created", TODAY, corrected);
+        return corrected;
+    }
+
+    private void increment(PayrollCounterDimension dimension, String groupKey, Currency currency, long headcount, long totalMinorUnits, Instant now) {
+        final var ID = PayrollCounter.id(dimension, groupKey, currency);
+        if (payrollCounterRepository.increment(ID, headcount, totalMinorUnits, now) == 0) {
+            // first record of this group: two transactions creating the same group at once collide on the primary key
+            // and one of them fails; new groups are rare, and reconcile() creates every group that has records
+            payrollCounterRepository.save(PayrollCounter.builder()
+                    .id(ID)
+                    .dimension(dimension)
+                    .groupKey(groupKey)
+                    .currency(currency)
+                    .headcount(headcount)
+                    .totalMinorUnits(totalMinorUnits)
+                    .build());
+        }
+    }
+
+    private static void expect(Map<String, PayrollCounter> expected, PayrollCounterDimension dimension, List<PayrollAggregate> aggregates) {
+        for (var aggregate : aggregates) {
+            final var ID = PayrollCounter.id(dimension, aggregate.groupKey(), aggregate.currency());
+            expected.put(ID, PayrollCounter.builder()
+                    .id(ID)
+                    .dimension(dimension)
+                    .groupKey(aggregate.groupKey())
+                    .currency(aggregate.currency())
+                    .headcount(aggregate.headcount() == null ? 0 : aggregate.headcount())
+                    .totalMinorUnits(aggregate.totalMinorUnits() == null ? 0 : aggregate.totalMinorUnits())
+                    .build());
+        }
+    }
+}
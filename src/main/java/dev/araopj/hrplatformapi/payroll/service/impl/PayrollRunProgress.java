@@ -0,0 +1,105 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunProgressResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollRunStatus;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.Getter;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of one payroll run, updated by the chunk tasks and read by the progress endpoint.
+ * Gross totals are kept per currency in minor units, so they are exact however many chunks contribute.
+ */
+@Getter
+final class PayrollRunProgress {
+
+    private final String runId;
+    private final YearMonth period;
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Map<Currency, LongAdder> grossTotals = new ConcurrentHashMap<>();
+    private volatile long totalEmployees;
+    private volatile PayrollRunStatus status = PayrollRunStatus.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile long finishedNanos;
+    private volatile String error;
+
+    PayrollRunProgress(String runId, YearMonth period) {
+        this.runId = runId;
+        this.period = period;
+    }
+
+    void totalEmployees(long totalEmployees) {
+        this.totalEmployees = totalEmployees;
+    }
+
+    void chunkDone(int processed, int written) {
+        this.processed.addAndGet(processed);
+        this.written.addAndGet(written);
+    }
+
+    void addGross(Currency currency, long minorUnits) {
+        grossTotals.computeIfAbsent(currency, key -> new LongAdder()).add(minorUnits);
+    }
+
+    void complete() {
+        finish(PayrollRunStatus.COMPLETED, null);
+    }
+
+    /**
+     * @param cause The failure; executor wrappers are unwrapped so the innermost cause's message is reported.
+     */
+    void fail(Throwable cause) {
+        finish(PayrollRunStatus.FAILED, String.valueOf(NestedExceptionUtils.getMostSpecificCause(cause).getMessage()));
+    }
+
+    boolean isRunning() {
+        return status == PayrollRunStatus.RUNNING;
+    }
+
+    PayrollRunProgressResponse toResponse() {
+        final var END = isRunning() ? System.nanoTime() : finishedNanos;
+        final var ELAPSED_MILLIS = TimeUnit.NANOSECONDS.toMillis(END - startedNanos);
+        final var PROCESSED = processed.get();
+        return PayrollRunProgressResponse.builder()
+                .runId(runId)
+                .period(period)
+                .status(status)
+                .totalEmployees(totalEmployees)
+                .processed(PROCESSED)
+                .written(written.get())
+                .grossTotals(grossTotals())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .elapsedMillis(ELAPSED_MILLIS)
+                .rowsPerSecond(ELAPSED_MILLIS == 0 ? 0 : PROCESSED * 1000.0 / ELAPSED_MILLIS)
+                .error(error)
+                .build();
+    }
+
+    private Map<String, BigDecimal> grossTotals() {
+        var totals = new TreeMap<String, BigDecimal>();
+        grossTotals.forEach((currency, total) -> totals.put(currency.getCurrencyCode(), Money.ofMinor(total.sum(), currency).toBigDecimal()));
+        return totals;
+    }
+
+    private void finish(PayrollRunStatus status, String error) {
+        this.finishedNanos = System.nanoTime();
+        this.finishedAt = Instant.now();
+        this.error = error;
+        this.status = status;
+    }
+}
@@ -0,0 +1,233 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.dto.request.PayrollRunRequest;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunProgressResponse;
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollSource;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollRunRepository;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollSourceRepository;
+import dev.araopj.hrplatformapi.payroll.service.PayrollRunService;
+import dev.araopj.hrplatformapi.utils.mappers.PayrollRunMapper;
+import dev.araopj.hrplatformapi.utils.money.MinorUnits;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static dev.araopj.hrplatformapi.employee.model.EmploymentStatus.*;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.PAYROLL_RUN;
+
+/**
+ * Runs payroll for a whole period in one pass.
+ * <p>
+ * A coordinator thread reads the payable employment records with their salaries in primary-key chunks (keyset
+ * pagination, so every chunk is an index range scan regardless of how far the run has got). Each chunk is handed to a
+ * dedicated {@link ForkJoinPool}, where {@link GrossComputation} computes the gross amounts and
+ * {@link PayrollRunWriter} inserts them in one JDBC batch. At most {@code hr-platform.payroll.max-in-flight} chunks
+ * are in flight at once, which bounds both memory and the number of pooled connections a run holds.
+ * <p>
+ * Chunks commit independently, so a run that fails part-way deletes the lines it has already written before it is
+ * reported as failed; a failed run never leaves a partial payroll behind.
+ */
+@Slf4j
+@Service
+public class PayrollRunServiceImp implements PayrollRunService {
+
+    static final Set<EmploymentStatus> SEPARATED_STATUSES = EnumSet.of(RESIGNED, TERMINATED, RETIRED);
+    private static final int RETAINED_RUNS = 50;
+
+    private final PayrollSourceRepository payrollSourceRepository;
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollRunWriter payrollRunWriter;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final ForkJoinPool pool;
+    private final ExecutorService coordinator = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, PayrollRunProgress> runs = new ConcurrentHashMap<>();
+
+    public PayrollRunServiceImp(
+            PayrollSourceRepository payrollSourceRepository,
+            PayrollRunRepository payrollRunRepository,
+            PayrollRunWriter payrollRunWriter,
+            @Value("${hr-platform.payroll.chunk-size:5000}") int chunkSize,
+            @Value("${hr-platform.payroll.max-in-flight:4}") int maxInFlight,
+            @Value("${hr-platform.payroll.parallelism:0}") int parallelism
+    ) {
+        this.payrollSourceRepository = payrollSourceRepository;
+        this.payrollRunRepository = payrollRunRepository;
+        this.payrollRunWriter = payrollRunWriter;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public PayrollRunProgressResponse start(PayrollRunRequest payrollRunRequest) throws InvalidRequestException {
+        final PayrollRunProgress PROGRESS;
+        synchronized (runs) {
+            if (runs.values().stream().anyMatch(run -> run.isRunning() && run.getPeriod().equals(payrollRunRequest.period()))) {
+                throw new InvalidRequestException("A payroll run for period [%s] is already in progress".formatted(payrollRunRequest.period()));
+            }
+            PROGRESS = new PayrollRunProgress(UUID.randomUUID().toString(), payrollRunRequest.period());
+            runs.put(PROGRESS.getRunId(), PROGRESS);
+            prune();
+        }
+
+        log.info("Starting payroll run [{}] for period [{}]", PROGRESS.getRunId(), PROGRESS.getPeriod());
+        coordinator.submit(() -> execute(PROGRESS));
+        return PROGRESS.toResponse();
+    }
+
+    @Override
+    public List<PayrollRunProgressResponse> findAllProgress() {
+        return runs.values().stream()
+                .sorted(Comparator.comparing(PayrollRunProgress::getStartedAt).reversed())
+                .map(PayrollRunProgress::toResponse)
+                .toList();
+    }
+
+    @Override
+    public PayrollRunProgressResponse findProgress(String runId) throws NotFoundException {
+        return Optional.ofNullable(runs.get(runId))
+                .map(PayrollRunProgress::toResponse)
+                .orElseThrow(() -> new NotFoundException(runId, PAYROLL_RUN));
+    }
+
+    @Override
+    public Page<PayrollRunResponse> findResults(String runId, Pageable pageable) {
+        return payrollRunRepository.findByRunId(runId, pageable).map(PayrollRunMapper::toDto);
+    }
+
+    /**
+     * Executes a run on the calling thread, recording its outcome on {@code progress}.
+     */
+    void execute(PayrollRunProgress progress) {
+        final var PERIOD_START = progress.getPeriod().atDay(1);
+        final var PERIOD_END = progress.getPeriod().atEndOfMonth();
+        final var IN_FLIGHT = new Semaphore(maxInFlight);
+        final var TASKS = new ArrayList<ForkJoinTask<?>>();
+
+        try {
+            progress.totalEmployees(payrollSourceRepository.countPayable(PERIOD_START, PERIOD_END, SEPARATED_STATUSES));
+
+            var afterId = "";
+            List<PayrollSource> chunk;
+            do {
+                chunk = payrollSourceRepository.findPayableAfter(afterId, PERIOD_START, PERIOD_END, SEPARATED_STATUSES, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.getLast().employmentInformationId();
+
+                final var CHUNK = chunk;
+                IN_FLIGHT.acquire();
+                TASKS.add(pool.submit(() -> {
+                    try {
+                        process(progress, CHUNK);
+                    } finally {
+                        IN_FLIGHT.release();
+                    }
+                }));
+            } while (chunk.size() == chunkSize);
+
+            for (var task : TASKS) {
+                task.get();
+            }
+            progress.complete();
+            log.info("Payroll run [{}] completed: [{}] employees in [{}] ms",
+                    progress.getRunId(), progress.getProcessed().get(), progress.toResponse().elapsedMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Payroll run [{}] was interrupted", progress.getRunId());
+            discard(progress, TASKS, e);
+        } catch (ExecutionException e) {
+            log.error("Payroll run [{}] failed", progress.getRunId(), e.getCause());
+            discard(progress, TASKS, e.getCause());
+        } catch (RuntimeException e) {
+            log.error("Payroll run [{}] failed", progress.getRunId(), e);
+            discard(progress, TASKS, e);
+        }
+    }
+
+    /**
+     * Stops the remaining chunks of a failed run, waits for the ones already writing, deletes every line the run
+     * wrote and only then marks it failed.
+     */
+    private void discard(PayrollRunProgress progress, List<ForkJoinTask<?>> tasks, Throwable cause) {
+        for (var task : tasks) {
+            task.cancel(false);
+        }
+        for (var task : tasks) {
+            task.quietlyJoin();
+        }
+        try {
+            final var DELETED = payrollRunWriter.delete(progress.getRunId());
+            log.info("Deleted [{}] lines of failed payroll run [{}]", DELETED, progress.getRunId());
+        } catch (RuntimeException e) {
+            log.error("Could not delete the lines of failed payroll run [{}]", progress.getRunId(), e);
+        }
+        progress.fail(cause);
+    }
+
+    private void process(PayrollRunProgress progress, List<PayrollSource> chunk) {
+        final var PERIOD_START = progress.getPeriod().atDay(1);
+        final var PERIOD_DAYS = progress.getPeriod().lengthOfMonth();
+        final var PAYABLE_DAYS = new int[chunk.size()];
+        final var GROSS = new long[chunk.size()];
+
+        new GrossComputation(
+                chunk,
+                PERIOD_START.toEpochDay(),
+                progress.getPeriod().atEndOfMonth().toEpochDay(),
+                PAYABLE_DAYS,
+                GROSS,
+                0,
+                chunk.size()
+        ).invoke();
+
+        final var WRITTEN = payrollRunWriter.write(progress.getRunId(), PERIOD_START, PERIOD_DAYS, chunk, PAYABLE_DAYS, GROSS);
+
+        // chunks are ordered by id, not currency, so total each run of equal currencies in one primitive pass
+        int from = 0;
+        for (int i = 1; i <= chunk.size(); i++) {
+            if (i == chunk.size() || !chunk.get(i).currency().equals(chunk.get(from).currency())) {
+                progress.addGross(chunk.get(from).currency(), MinorUnits.sum(GROSS, from, i));
+                from = i;
+            }
+        }
+        progress.chunkDone(chunk.size(), WRITTEN);
+    }
+
+    /**
+     * Forgets the oldest finished runs once more than {@value #RETAINED_RUNS} are tracked.
+     * Their payroll lines stay in the database and remain available through {@link #findResults(String, Pageable)}.
+     */
+    private void prune() {
+        final var EXCESS = runs.size() - RETAINED_RUNS;
+        if (EXCESS <= 0) {
+            return;
+        }
+        runs.values().stream()
+                .filter(run -> !run.isRunning())
+                .sorted(Comparator.comparing(PayrollRunProgress::getStartedAt))
+                .limit(EXCESS)
+                .map(PayrollRunProgress::getRunId)
+                .toList()
+                .forEach(runs::remove);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,47 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollSummaryResponse;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollSummaryRepository;
+import dev.araopj.hrplatformapi.payroll.service.PayrollSummaryService;
+import dev.araopj.hrplatformapi.utils.mappers.PayrollSummaryMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of the {@link PayrollSummaryService} interface.
+ * The grouping and summing run in the database; this class only converts the minor-unit totals for the response.
+ *
+ * @see PayrollSummaryRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayrollSummaryServiceImp implements PayrollSummaryService {
+
+    private final PayrollSummaryRepository payrollSummaryRepository;
+
+    @Override
+    public List<PayrollSummaryResponse> summarizeByWorkplace(LocalDate asOf) {
+        return payrollSummaryRepository.aggregateByWorkplace(asOf).stream()
+                .map(PayrollSummaryMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<PayrollSummaryResponse> summarizeByPosition(LocalDate asOf) {
+        return payrollSummaryRepository.aggregateByPosition(asOf).stream()
+                .map(PayrollSummaryMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<PayrollSummaryResponse> summarizeByStatus(LocalDate asOf) {
+        return payrollSummaryRepository.aggregateByStatus(asOf).stream()
+                .map(PayrollSummaryMapper::toDto)
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package dev.araopj.hrplatformapi.report.controller;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.report.model.ReportFormat;
+import dev.araopj.hrplatformapi.report.service.ReportExport;
+import dev.araopj.hrplatformapi.report.service.ReportService;
+import dev.araopj.hrplatformapi.utils.ApiError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for spreadsheet exports.
+ * Provides CSV and XLSX downloads of employees and payroll runs, streamed while they are read from the database.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/reports")
+@RequiredArgsConstructor
+@Tag(
+        name = "Reports",
+        description = "Endpoints for CSV and XLSX exports of employees and payroll runs."
+)
+public class ReportController {
+
+    private final ReportService reportService;
+
+    /**
+     * Exports every employee with their current position, workplace and salary.
+     *
+     * @param asOf   The date the employment records must be in effect on; defaults to today.
+     * @param format The file format; defaults to CSV.
+     * @return A ResponseEntity streaming the report as an attachment.
+     */
+    @Operation(
+            summary = "Export employees",
+            description = "Download every employment record in effect on 'asOf' (defaults to today) with its employee, position, workplace and salary, as CSV or XLSX. The file is streamed as it is read, so large exports start immediately.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully started the export",
+                            content = {
+                                    @Content(mediaType = "text/csv"),
+                                    @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid parameters provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/employees")
+    public ResponseEntity<StreamingResponseBody> employees(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Date the employment records must be in effect on (yyyy-MM-dd); defaults to today")
+            LocalDate asOf,
+            @RequestParam(defaultValue = "CSV")
+            @Parameter(description = "File format: CSV or XLSX")
+            ReportFormat format
+    ) {
+        final var AS_OF = asOf != null ? asOf : LocalDate.now();
+        log.debug("Request to export employees as of [{}] as [{}]", AS_OF, format);
+        return attachment("employees-%s".formatted(AS_OF), format, reportService.exportEmployees(AS_OF, format));
+    }
+
+    /**
+     * Exports the payroll lines of a payroll run.
+     *
+     * @param runId  The payroll run ID.
+     * @param format The file format; defaults to CSV.
+     * @return A ResponseEntity streaming the report as an attachment.
+     * @throws NotFoundException If the payroll run has no lines.
+     */
+    @Operation(
+            summary = "Export payroll run",
+            description = "Download the payroll lines of a payroll run with the employee number and name, as CSV or XLSX.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully started the export",
+                            content = {
+                                    @Content(mediaType = "text/csv"),
+                                    @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Payroll run not found",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/payroll-runs/{runId}")
+    public ResponseEntity<StreamingResponseBody> payrollRun(
+            @PathVariable
+            @Parameter(description = "Payroll run ID", required = true)
+            String runId,
+            @RequestParam(defaultValue = "CSV")
+            @Parameter(description = "File format: CSV or XLSX")
+            ReportFormat format
+    ) throws NotFoundException {
+        log.debug("Request to export payroll run [{}] as [{}]", runId, format);
+        return attachment("payroll-run-%s".formatted(runId), format, reportService.exportPayrollRun(runId, format));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, ReportFormat format, ReportExport export) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("%s.%s".formatted(name, format.getExtension()))
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(export::writeTo);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.araopj.hrplatformapi.report.model;
+
+/**
+ * A column of a report.
+ *
+ * @param header the header cell
+ * @param type   how the cells of the column are written
+ */
+public record ReportColumn(String header, Type type) {
+
+    public enum Type {
+        TEXT,
+        INTEGER,
+        /**
+         * An unscaled {@code long} with a per-cell scale, e.g. an amount in minor units.
+         */
+        DECIMAL,
+        /**
+         * A {@link java.time.LocalDate} stored as its epoch day.
+         */
+        DATE
+    }
+}
@@ -0,0 +1,19 @@
+package dev.araopj.hrplatformapi.report.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A report ready to be streamed. Nothing is read from the database until {@link #writeTo(OutputStream)} is called.
+ */
+@FunctionalInterface
+public interface ReportExport {
+
+    /**
+     * Streams the report to {@code outputStream}, which is flushed but not closed.
+     *
+     * @return the number of rows written, excluding the header
+     * @throws IOException if the stream cannot be written, e.g. the client disconnected
+     */
+    long writeTo(OutputStream outputStream) throws IOException;
+}
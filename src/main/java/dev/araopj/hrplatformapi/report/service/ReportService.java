@@ -0,0 +1,33 @@
+package dev.araopj.hrplatformapi.report.service;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.report.model.ReportFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for spreadsheet exports.
+ * Reports are streamed from a forward-only database cursor, so their size is not limited by memory.
+ */
+public interface ReportService {
+
+    /**
+     * Exports every employment record in effect on a date with its employee, position, workplace and salary,
+     * ordered by employee number.
+     *
+     * @param asOf   the date the employment records must be in effect on
+     * @param format the file format
+     * @return the export, to be streamed by the caller
+     */
+    ReportExport exportEmployees(LocalDate asOf, ReportFormat format);
+
+    /**
+     * Exports the payroll lines of a run, ordered by employee number.
+     *
+     * @param runId  the payroll run ID
+     * @param format the file format
+     * @return the export, to be streamed by the caller
+     * @throws NotFoundException if the run has no payroll lines
+     */
+    ReportExport exportPayrollRun(String runId, ReportFormat format) throws NotFoundException;
+}
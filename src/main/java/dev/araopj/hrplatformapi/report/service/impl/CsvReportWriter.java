@@ -0,0 +1,90 @@
+package dev.araopj.hrplatformapi.report.service.impl;
+
+import dev.araopj.hrplatformapi.report.model.ReportColumn;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Writes RFC 4180 CSV in UTF-8 with a byte order mark, so spreadsheet applications detect the encoding.
+ * <p>
+ * Text cells that start with {@code = + - @} are prefixed with {@code '} so they are not evaluated as formulas
+ * when the file is opened in a spreadsheet.
+ */
+final class CsvReportWriter implements ReportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final List<ReportColumn> columns;
+    private final StringBuilder line = new StringBuilder(256);
+
+    CsvReportWriter(OutputStream outputStream, List<ReportColumn> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.columns = columns;
+        writer.write('\uFEFF');
+        for (int column = 0; column < columns.size(); column++) {
+            if (column > 0) {
+                line.append(',');
+            }
+            appendText(columns.get(column).header());
+        }
+        endLine();
+    }
+
+    @Override
+    public void row(ReportRow row) throws IOException {
+        for (int column = 0; column < columns.size(); column++) {
+            if (column > 0) {
+                line.append(',');
+            }
+            if (!row.isPresent(column)) {
+                continue;
+            }
+            switch (columns.get(column).type()) {
+                case TEXT -> appendText(row.text(column));
+                case INTEGER, DECIMAL -> ReportRow.appendDecimal(line, row.number(column), row.scale(column));
+                case DATE -> line.append(LocalDate.ofEpochDay(row.number(column)));
+            }
+        }
+        endLine();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void appendText(String value) {
+        final var FORMULA = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0;
+        var quote = FORMULA;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            final var CHARACTER = value.charAt(i);
+            quote = CHARACTER == ',' || CHARACTER == '"' || CHARACTER == '\n' || CHARACTER == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        if (FORMULA) {
+            line.append('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final var CHARACTER = value.charAt(i);
+            if (CHARACTER == '"') {
+                line.append('"');
+            }
+            line.append(CHARACTER);
+        }
+        line.append('"');
+    }
+
+    private void endLine() throws IOException {
+        line.append("\r\n");
+        writer.append(line);
+        line.setLength(0);
+    }
+}
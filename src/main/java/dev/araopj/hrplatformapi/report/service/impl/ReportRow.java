@@ -0,0 +1,106 @@
+package dev.araopj.hrplatformapi.report.service.impl;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A reusable buffer for one report row.
+ * <p>
+ * The cursor fills the same instance for every row and a {@link ReportWriter} drains it, so no per-row object
+ * outlives the row. Numeric cells stay primitive until they are formatted into the output.
+ */
+final class ReportRow {
+
+    private final String[] texts;
+    private final long[] numbers;
+    private final int[] scales;
+    private final boolean[] present;
+
+    ReportRow(int columns) {
+        this.texts = new String[columns];
+        this.numbers = new long[columns];
+        this.scales = new int[columns];
+        this.present = new boolean[columns];
+    }
+
+    void clear() {
+        Arrays.fill(texts, null);
+        Arrays.fill(present, false);
+    }
+
+    ReportRow text(int column, String value) {
+        texts[column] = value;
+        present[column] = value != null;
+        return this;
+    }
+
+    ReportRow integer(int column, long value) {
+        return decimal(column, value, 0);
+    }
+
+    /**
+     * @param unscaled the value times {@code 10^scale}, e.g. an amount in minor units
+     * @param scale    the number of fraction digits
+     */
+    ReportRow decimal(int column, long unscaled, int scale) {
+        numbers[column] = unscaled;
+        scales[column] = scale;
+        present[column] = true;
+        return this;
+    }
+
+    ReportRow date(int column, LocalDate value) {
+        if (value == null) {
+            present[column] = false;
+            return this;
+        }
+        numbers[column] = value.toEpochDay();
+        present[column] = true;
+        return this;
+    }
+
+    int columns() {
+        return texts.length;
+    }
+
+    boolean isPresent(int column) {
+        return present[column];
+    }
+
+    String text(int column) {
+        return texts[column];
+    }
+
+    long number(int column) {
+        return numbers[column];
+    }
+
+    int scale(int column) {
+        return scales[column];
+    }
+
+    /**
+     * Appends {@code unscaled / 10^scale} in plain notation without allocating a {@link java.math.BigDecimal}.
+     */
+    static void appendDecimal(StringBuilder target, long unscaled, int scale) {
+        if (scale == 0) {
+            target.append(unscaled);
+            return;
+        }
+        var digits = Long.toString(unscaled);
+        if (unscaled < 0) {
+            target.append('-');
+            digits = digits.substring(1);
+        }
+        final var DIGITS = digits;
+        if (DIGITS.length() <= scale) {
+            target.append("0.");
+            target.repeat('0', scale - DIGITS.length());
+            target.append(DIGITS);
+        } else {
+            target.append(DIGITS, 0, DIGITS.length() - scale)
+                    .append('.')
+                    .append(DIGITS, DIGITS.length() - scale, DIGITS.length());
+        }
+    }
+}
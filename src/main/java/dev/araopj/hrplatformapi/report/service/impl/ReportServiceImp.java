@@ -0,0 +1,220 @@
+package dev.araopj.hrplatformapi.report.service.impl;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollRunRepository;
+import dev.araopj.hrplatformapi.report.model.ReportColumn;
+import dev.araopj.hrplatformapi.report.model.ReportFormat;
+import dev.araopj.hrplatformapi.report.service.ReportExport;
+import dev.araopj.hrplatformapi.report.service.ReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.PAYROLL_RUN;
+import static dev.araopj.hrplatformapi.report.model.ReportColumn.Type.*;
+
+/**
+ * Implementation of the {@link ReportService} interface.
+ * <p>
+ * Each export runs one query in a read-only transaction with a {@code TYPE_FORWARD_ONLY} statement and a fetch
+ * size of {@code hr-platform.report.fetch-size}. PostgreSQL only streams with a fetch size inside a transaction;
+ * without one the driver reads the whole result set into memory. Every row is copied into one reused
+ * {@link ReportRow} and written out before the next is fetched, so the heap holds at most one fetch of rows.
+ */
+@Slf4j
+@Service
+public class ReportServiceImp implements ReportService {
+
+    static final List<ReportColumn> EMPLOYEE_COLUMNS = List.of(
+            new ReportColumn("Employee Number", TEXT),
+            new ReportColumn("Last Name", TEXT),
+            new ReportColumn("First Name", TEXT),
+            new ReportColumn("Middle Name", TEXT),
+            new ReportColumn("Employment Status", TEXT),
+            new ReportColumn("Start Date", DATE),
+            new ReportColumn("End Date", DATE),
+            new ReportColumn("Position Code", TEXT),
+            new ReportColumn("Position", TEXT),
+            new ReportColumn("Workplace Code", TEXT),
+            new ReportColumn("Workplace", TEXT),
+            new ReportColumn("Salary", DECIMAL),
+            new ReportColumn("Currency", TEXT)
+    );
+    static final List<ReportColumn> PAYROLL_RUN_COLUMNS = List.of(
+            new ReportColumn("Employee Number", TEXT),
+            new ReportColumn("Last Name", TEXT),
+            new ReportColumn("First Name", TEXT),
+            new ReportColumn("Period Start", DATE),
+            new ReportColumn("Payable Days", INTEGER),
+            new ReportColumn("Period Days", INTEGER),
+            new ReportColumn("Base Amount", DECIMAL),
+            new ReportColumn("Gross Amount", DECIMAL),
+            new ReportColumn("Currency", TEXT)
+    );
+
+    private static final String EMPLOYEES_SQL = """
+            SELECT emp.employee_number, emp.last_name, emp.first_name, emp.middle_name, e.employment_status, e.start_date,
+                   e.end_date, p.code, p.description, w.code, w.name, s.amount_minor, s.currency
+            FROM employment_information e
+            JOIN employee emp ON emp.id = e.employee_id
+            JOIN position p ON p.id = e.position_id
+            JOIN workplace w ON w.id = e.workplace_id
+            JOIN salary s ON s.id = e.salary_id
+            WHERE e.start_date <= ? AND (e.end_date IS NULL OR e.end_date >= ?)
+            ORDER BY emp.employee_number, e.start_date
+            """;
+    private static final String PAYROLL_RUN_SQL = """
+            SELECT emp.employee_number, emp.last_name, emp.first_name, r.period_start, r.payable_days, r.period_days,
+                   r.base_amount_minor, r.gross_amount_minor, r.currency
+            FROM payroll_run r
+            LEFT JOIN employee emp ON emp.id = r.employee_id
+            WHERE r.run_id = ?
+            ORDER BY emp.employee_number, r.employment_information_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PayrollRunRepository payrollRunRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    public ReportServiceImp(
+            JdbcTemplate jdbcTemplate,
+            PayrollRunRepository payrollRunRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${hr-platform.report.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.payrollRunRepository = payrollRunRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public ReportExport exportEmployees(LocalDate asOf, ReportFormat format) {
+        final var AS_OF = Date.valueOf(asOf);
+        return outputStream -> export(format, outputStream, "Employees " + asOf, EMPLOYEE_COLUMNS, EMPLOYEES_SQL, statement -> {
+            statement.setDate(1, AS_OF);
+            statement.setDate(2, AS_OF);
+        }, new RowReader() {
+            @Override
+            void read(ResultSet resultSet, ReportRow row) throws SQLException {
+                row.text(0, resultSet.getString(1))
+                        .text(1, resultSet.getString(2))
+                        .text(2, resultSet.getString(3))
+                        .text(3, resultSet.getString(4))
+                        .text(4, resultSet.getString(5))
+                        .date(5, localDate(resultSet, 6))
+                        .date(6, localDate(resultSet, 7))
+                        .text(7, resultSet.getString(8))
+                        .text(8, resultSet.getString(9))
+                        .text(9, resultSet.getString(10))
+                        .text(10, resultSet.getString(11));
+                amount(resultSet, 12, 13, row, 11);
+                row.text(12, resultSet.getString(13));
+            }
+        });
+    }
+
+    @Override
+    public ReportExport exportPayrollRun(String runId, ReportFormat format) throws NotFoundException {
+        if (!payrollRunRepository.existsByRunId(runId)) {
+            throw new NotFoundException(runId, PAYROLL_RUN);
+        }
+        return outputStream -> export(format, outputStream, "Payroll " + runId, PAYROLL_RUN_COLUMNS, PAYROLL_RUN_SQL, statement -> {
+            statement.setString(1, runId);
+        }, new RowReader() {
+            @Override
+            void read(ResultSet resultSet, ReportRow row) throws SQLException {
+                row.text(0, resultSet.getString(1))
+                        .text(1, resultSet.getString(2))
+                        .text(2, resultSet.getString(3))
+                        .date(3, localDate(resultSet, 4))
+                        .integer(4, resultSet.getInt(5))
+                        .integer(5, resultSet.getInt(6));
+                amount(resultSet, 7, 9, row, 6);
+                amount(resultSet, 8, 9, row, 7);
+                row.text(8, resultSet.getString(9));
+            }
+        });
+    }
+
+    private long export(
+            ReportFormat format,
+            OutputStream outputStream,
+            String title,
+            List<ReportColumn> columns,
+            String sql,
+            PreparedStatementSetter parameters,
+            RowReader rowReader
+    ) throws IOException {
+        final var STARTED_AT = System.nanoTime();
+        final var WRITER = ReportWriter.open(format, outputStream, title, columns);
+        final var ROW = new ReportRow(columns.size());
+        final var ROWS = new long[1];
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                final var STATEMENT = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                STATEMENT.setFetchSize(fetchSize);
+                parameters.setValues(STATEMENT);
+                return STATEMENT;
+            }, (RowCallbackHandler) resultSet -> {
+                ROW.clear();
+                rowReader.read(resultSet, ROW);
+                try {
+                    WRITER.row(ROW);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                ROWS[0]++;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        WRITER.finish();
+        log.info("Exported [{}] as [{}] with [{}] rows in [{}] ms", title, format, ROWS[0], (System.nanoTime() - STARTED_AT) / 1_000_000);
+        return ROWS[0];
+    }
+
+    /**
+     * Copies one result set row into the reused {@link ReportRow}. Caches the fraction digits per currency code.
+     */
+    private abstract static class RowReader {
+
+        private final HashMap<String, Integer> scales = new HashMap<>();
+
+        abstract void read(ResultSet resultSet, ReportRow row) throws SQLException;
+
+        void amount(ResultSet resultSet, int amountColumn, int currencyColumn, ReportRow row, int column) throws SQLException {
+            final var MINOR_UNITS = resultSet.getLong(amountColumn);
+            if (resultSet.wasNull()) {
+                return;
+            }
+            final var CURRENCY = resultSet.getString(currencyColumn);
+            if (CURRENCY == null) {
+                return;
+            }
+            row.decimal(column, MINOR_UNITS, scales.computeIfAbsent(CURRENCY, code -> Math.max(Currency.getInstance(code).getDefaultFractionDigits(), 0)));
+        }
+
+        static LocalDate localDate(ResultSet resultSet, int column) throws SQLException {
+            return resultSet.getObject(column, LocalDate.class);
+        }
+    }
+}
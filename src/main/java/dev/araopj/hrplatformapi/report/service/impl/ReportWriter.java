@@ -0,0 +1,26 @@
+package dev.araopj.hrplatformapi.report.service.impl;
+
+import dev.araopj.hrplatformapi.report.model.ReportColumn;
+import dev.araopj.hrplatformapi.report.model.ReportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes a report to an output stream row by row, without building a document in memory.
+ * The header is written on creation; {@link #finish()} flushes the trailer but does not close the stream.
+ */
+interface ReportWriter {
+
+    void row(ReportRow row) throws IOException;
+
+    void finish() throws IOException;
+
+    static ReportWriter open(ReportFormat format, OutputStream outputStream, String title, List<ReportColumn> columns) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvReportWriter(outputStream, columns);
+            case XLSX -> new XlsxReportWriter(outputStream, title, columns);
+        };
+    }
+}
@@ -0,0 +1,219 @@
+package dev.araopj.hrplatformapi.report.service.impl;
+
+import dev.araopj.hrplatformapi.report.model.ReportColumn;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes an Office Open XML workbook as a zip stream of hand-written sheet XML.
+ * <p>
+ * Rows are written straight into the deflated {@code xl/worksheets/sheetN.xml} entry. Text uses inline strings
+ * instead of a shared-string table, so nothing grows with the row count. The workbook, relationship, content-type
+ * and style parts are written after the last sheet. That lets a report larger than the
+ * {@value #MAX_ROWS_PER_SHEET}-row sheet limit continue on a new sheet.
+ */
+final class XlsxReportWriter implements ReportWriter {
+
+    static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long EXCEL_EPOCH_OFFSET = 25_569; // days from 1899-12-30 to 1970-01-01
+
+    // indexes into cellXfs of STYLES
+    private static final int STYLE_DECIMAL = 1;
+    private static final int STYLE_DATE = 2;
+    private static final int STYLE_HEADER = 3;
+
+    private static final String STYLES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <styleSheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+            <numFmts count="1"><numFmt numFmtId="164" formatCode="yyyy-mm-dd"/></numFmts>
+            <fonts count="2"><font><sz val="11"/><name val="Calibri"/></font><font><b/><sz val="11"/><name val="Calibri"/></font></fonts>
+            <fills count="2"><fill><patternFill patternType="none"/></fill><fill><patternFill patternType="gray125"/></fill></fills>
+            <borders count="1"><border><left/><right/><top/><bottom/><diagonal/></border></borders>
+            <cellStyleXfs count="1"><xf numFmtId="0" fontId="0" fillId="0" borderId="0"/></cellStyleXfs>
+            <cellXfs count="4">
+            <xf numFmtId="0" fontId="0" fillId="0" borderId="0" xfId="0"/>
+            <xf numFmtId="4" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>
+            <xf numFmtId="164" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>
+            <xf numFmtId="0" fontId="1" fillId="0" borderId="0" xfId="0" applyFont="1"/>
+            </cellXfs>
+            </styleSheet>
+            """;
+    private static final String ROOT_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+            <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>
+            </Relationships>
+            """;
+    private static final String SHEET_START = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+            <sheetViews><sheetView workbookViewId="0"><pane ySplit="1" topLeftCell="A2" activePane="bottomLeft" state="frozen"/></sheetView></sheetViews>
+            <sheetData>
+            """;
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String title;
+    private final List<ReportColumn> columns;
+    private final StringBuilder buffer = new StringBuilder(512);
+    private int sheets;
+    private int rowInSheet;
+
+    XlsxReportWriter(OutputStream outputStream, String title, List<ReportColumn> columns) throws IOException {
+        this.zip = new ZipOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE), StandardCharsets.UTF_8);
+        this.writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+        this.title = title;
+        this.columns = columns;
+        startSheet();
+    }
+
+    @Override
+    public void row(ReportRow row) throws IOException {
+        if (rowInSheet == MAX_ROWS_PER_SHEET) {
+            endSheet();
+            startSheet();
+        }
+        rowInSheet++;
+        buffer.append("<row r=\"").append(rowInSheet).append("\">");
+        for (int column = 0; column < columns.size(); column++) {
+            if (!row.isPresent(column)) {
+                buffer.append("<c/>");
+                continue;
+            }
+            switch (columns.get(column).type()) {
+                case TEXT -> appendText(row.text(column), 0);
+                case INTEGER -> buffer.append("<c><v>").append(row.number(column)).append("</v></c>");
+                case DECIMAL -> {
+                    buffer.append(row.scale(column) == 2 ? "<c s=\"" + STYLE_DECIMAL + "\"><v>" : "<c><v>");
+                    ReportRow.appendDecimal(buffer, row.number(column), row.scale(column));
+                    buffer.append("</v></c>");
+                }
+                case DATE -> buffer.append("<c s=\"").append(STYLE_DATE).append("\"><v>")
+                        .append(row.number(column) + EXCEL_EPOCH_OFFSET)
+                        .append("</v></c>");
+            }
+        }
+        buffer.append("</row>");
+        flushBuffer();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        endSheet();
+
+        entry("xl/styles.xml", STYLES);
+        entry("_rels/.rels", ROOT_RELS);
+
+        final var WORKBOOK = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships"><sheets>""");
+        final var WORKBOOK_RELS = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">""");
+        final var CONTENT_TYPES = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+                <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+                <Default Extension="xml" ContentType="application/xml"/>\
+                <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+                <Override PartName="/xl/styles.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml"/>""");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            WORKBOOK.append("<sheet name=\"").append(escape(sheetName(sheet))).append("\" sheetId=\"").append(sheet)
+                    .append("\" r:id=\"rId").append(sheet).append("\"/>");
+            WORKBOOK_RELS.append("<Relationship Id=\"rId").append(sheet)
+                    .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                    .append(sheet).append(".xml\"/>");
+            CONTENT_TYPES.append("<Override PartName=\"/xl/worksheets/sheet").append(sheet)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        WORKBOOK_RELS.append("<Relationship Id=\"rId").append(sheets + 1)
+                .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" Target=\"styles.xml\"/>");
+        entry("xl/workbook.xml", WORKBOOK.append("</sheets></workbook>"));
+        entry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS.append("</Relationships>"));
+        entry("[Content_Types].xml", CONTENT_TYPES.append("</Types>"));
+
+        zip.finish();
+        zip.flush();
+    }
+
+    private void startSheet() throws IOException {
+        sheets++;
+        rowInSheet = 1;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet%d.xml".formatted(sheets)));
+        buffer.append(SHEET_START).append("<row r=\"1\">");
+        for (var column : columns) {
+            appendText(column.header(), STYLE_HEADER);
+        }
+        buffer.append("</row>");
+        flushBuffer();
+    }
+
+    private void endSheet() throws IOException {
+        buffer.append(SHEET_END);
+        flushBuffer();
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void entry(String name, CharSequence content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.append(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void appendText(String value, int style) {
+        buffer.append(style == 0 ? "<c t=\"inlineStr\">" : "<c t=\"inlineStr\" s=\"" + style + "\">")
+                .append("<is><t xml:space=\"preserve\">");
+        appendEscaped(buffer, value);
+        buffer.append("</t></is></c>");
+    }
+
+    private void flushBuffer() throws IOException {
+        writer.append(buffer);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Sheet names are at most 31 characters; later sheets get a {@code " (n)"} suffix.
+     */
+    private String sheetName(int sheet) {
+        final var SUFFIX = sheet == 1 ? "" : " (%d)".formatted(sheet);
+        final var BASE = title.replaceAll("[\\\\/?*\\[\\]:]", " ");
+        return BASE.substring(0, Math.min(BASE.length(), 31 - SUFFIX.length())) + SUFFIX;
+    }
+
+    private static String escape(String value) {
+        final var ESCAPED = new StringBuilder(value.length());
+        appendEscaped(ESCAPED, value);
+        return ESCAPED.toString();
+    }
+
+    /**
+     * Escapes markup and drops the control characters XML 1.0 cannot represent.
+     */
+    static void appendEscaped(StringBuilder target, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final var CHARACTER = value.charAt(i);
+            switch (CHARACTER) {
+                case '&' -> target.append("&amp;");
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                case '"' -> target.append("&quot;");
+                default -> {
+                    if (CHARACTER >= 0x20 || CHARACTER == '\t' || CHARACTER == '\n' || CHARACTER == '\r') {
+                        target.append(CHARACTER);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dev.araopj.hrplatformapi.retention.model;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The outcome of one retention run: the rows purged per {@code <table>:<entity type>}, in the order they were purged.
+ * A target with nothing past its period is not listed.
+ */
+@Builder
+public record RetentionReport(
+        Instant startedAt,
+        Instant finishedAt,
+        Map<String, Long> purged
+) {
+
+    public long total() {
+        return purged.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,17 @@
+package dev.araopj.hrplatformapi.retention.service;
+
+import dev.araopj.hrplatformapi.retention.model.RetentionReport;
+
+/**
+ * Deletes audit logs, tombstones and dead-lettered outbox events older than their configured retention period, so the tables and their indexes
+ * stop growing with the age of the deployment.
+ */
+public interface RetentionService {
+
+    /**
+     * Purges every table and entity type with a retention period, in bounded batches.
+     *
+     * @return the rows purged per table and entity type
+     */
+    RetentionReport purge();
+}
@@ -0,0 +1,61 @@
+package dev.araopj.hrplatformapi.retention.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Appends purged rows as gzip-compressed NDJSON to one file per table, entity type and run.
+ * <p>
+ * Each batch is written as one complete gzip member and forced to disk before {@link #append} returns, so the
+ * caller only deletes rows that are durable in the archive. Concatenated members read as one stream with
+ * {@code zcat} or {@link java.util.zip.GZIPInputStream}; a batch whose delete rolls back is archived again on the
+ * next run.
+ */
+final class RetentionArchive {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    RetentionArchive(ObjectMapper objectMapper, Path directory) throws IOException {
+        this.objectMapper = objectMapper;
+        this.directory = Files.createDirectories(directory);
+    }
+
+    Path file(String table, EntityType entityType, Instant runStartedAt) {
+        return directory.resolve("%s-%s-%s.ndjson.gz".formatted(table, entityType.name(), FILE_TIME.format(runStartedAt)));
+    }
+
+    void append(Path file, List<? extends JsonNode> rows) throws IOException {
+        final var MEMBER = new ByteArrayOutputStream(rows.size() * 128);
+        try (var gzip = new GZIPOutputStream(MEMBER)) {
+            for (var row : rows) {
+                gzip.write(objectMapper.writeValueAsBytes(row));
+                gzip.write('\n');
+            }
+        }
+        try (var channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            final var BUFFER = ByteBuffer.wrap(MEMBER.toByteArray());
+            while (BUFFER.hasRemaining()) {
+                channel.write(BUFFER);
+            }
+            channel.force(true);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.araopj.hrplatformapi.retention.service.impl;
+
+import dev.araopj.hrplatformapi.retention.service.RetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the retention purge every night, outside business hours. Set {@code hr-platform.retention.cron} to {@code -}
+ * to disable.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetentionJob {
+
+    private final RetentionService retentionService;
+
+    @Scheduled(cron = "${hr-platform.retention.cron:0 30 2 * * *}")
+    public void purge() {
+        try {
+            retentionService.purge();
+        } catch (RuntimeException e) {
+            log.error("Retention purge failed; it resumes where it stopped on the next run", e);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package dev.araopj.hrplatformapi.retention.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.araopj.hrplatformapi.audit.service.impl.AuditPayloadCodec;
+import dev.araopj.hrplatformapi.config.RetentionProperties;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.retention.model.RetentionReport;
+import dev.araopj.hrplatformapi.retention.service.RetentionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Implementation of the {@link RetentionService} interface.
+ * <p>
+ * For every entity type with a period, rows older than {@code now - period} are read in keyset order on the
+ * {@code (entity_type, <time>, ...)} index, at most {@code hr-platform.retention.batch-size} at a time with
+ * {@code FOR UPDATE SKIP LOCKED}, and deleted by primary key in the same short transaction. Batches repeat until one
+ * comes back short, with {@code hr-platform.retention.pause} between them. An entity's newest create, checkpoint or
+ * delete older than the cutoff is kept, with everything after it, so its state since the cutoff can still be rebuilt;
+ * only the rows that one supersedes are purged. An entity whose newest row is a delete older than the cutoff has
+ * nothing left to rebuild, so all of its rows are purged. With archiving enabled, audit logs are appended to a
+ * {@link RetentionArchive} file, with their changes decompressed, before they are deleted. Dead-lettered outbox events are purged
+ * {@code hr-platform.retention.dead-letters} after they were dead-lettered.
+ * <p>
+ * Reports {@code hr_platform.retention.purged} (counter, tagged with {@code table} and {@code entity_type}).
+ */
+@Slf4j
+@Service
+public class RetentionServiceImp implements RetentionService {
+
+    static final String AUDIT_LOG = "audit_log";
+    static final String TOMBSTONE = "tombstone";
+    static final String OUTBOX_EVENT = "outbox_event";
+
+    /**
+     * Only rows superseded by a later create, checkpoint or delete of the same entity that is itself older than the
+     * cutoff, so {@code AuditLogServiceImp.stateAt} can still rebuild every instant since the cutoff.
+     */
+    private static final String SUPERSEDED = """
+            EXISTS (
+                SELECT 1 FROM audit_log c
+                WHERE c.entity_type = a.entity_type AND c.entity_id = a.entity_id
+                  AND (c.occurred_at, c.id) > (a.occurred_at, a.id) AND c.occurred_at < ?
+                  AND (c.snapshot IS NOT NULL OR c.action IN ('CREATE', 'DELETE'))
+            )""";
+    /**
+     * Every row of an entity whose newest row is a delete older than the cutoff; the delete itself goes last, in
+     * keyset order, so the condition holds until the final batch.
+     */
+    private static final String DELETED = """
+            EXISTS (
+                SELECT 1 FROM audit_log d
+                WHERE d.entity_type = a.entity_type AND d.entity_id = a.entity_id
+                  AND d.action = 'DELETE' AND d.occurred_at < ?
+                  AND NOT EXISTS (
+                      SELECT 1 FROM audit_log n
+                      WHERE n.entity_type = d.entity_type AND n.entity_id = d.entity_id
+                        AND (n.occurred_at, n.id) > (d.occurred_at, d.id)
+                  )
+            )""";
+    private static final String SELECT_AUDIT_LOG_IDS = """
+            SELECT a.id FROM audit_log a
+            WHERE a.entity_type = ? AND a.occurred_at < ? AND (%s OR %s)
+            ORDER BY a.occurred_at, a.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """.formatted(SUPERSEDED, DELETED);
+    private static final String SELECT_AUDIT_LOGS = """
+            SELECT a.id, a.actor, a.entity_type, a.entity_id, a.action, a.payload, a.snapshot, a.occurred_at FROM audit_log a
+            WHERE a.entity_type = ? AND a.occurred_at < ? AND (%s OR %s)
+            ORDER BY a.occurred_at, a.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """.formatted(SUPERSEDED, DELETED);
+    private static final String DELETE_AUDIT_LOG = "DELETE FROM audit_log WHERE id = ?";
+    private static final String SELECT_TOMBSTONE_IDS = """
+            SELECT id FROM tombstone
+            WHERE entity_type = ? AND deleted_at < ?
+            ORDER BY deleted_at, entity_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String DELETE_TOMBSTONE = "DELETE FROM tombstone WHERE id = ?";
+    private static final String SELECT_DEAD_LETTER_IDS = """
+            SELECT id FROM outbox_event
+            WHERE aggregate_type = ? AND dead_lettered_at < ?
+            ORDER BY dead_lettered_at, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String DELETE_OUTBOX_EVENT = "DELETE FROM outbox_event WHERE id = ? AND dead_lettered_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RetentionProperties properties;
+    private final RetentionArchive archive;
+
+    public RetentionServiceImp(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            RetentionProperties properties,
+            @Value("${hr-platform.audit.sink:jdbc}") String auditSink
+    ) throws IOException {
+        if (properties.batchSize() < 1) {
+            throw new IllegalArgumentException("hr-platform.retention.batch-size must be positive");
+        }
+        if (!"jdbc".equals(auditSink) && (properties.audit().defaultPeriod() != null || !properties.audit().periods().isEmpty())) {
+            throw new IllegalArgumentException("hr-platform.retention.audit purges the audit_log table and needs hr-platform.audit.sink=jdbc, not [%s]".formatted(auditSink));
+        }
+        if (properties.archive().enabled() && properties.archive().dir() == null) {
+            throw new IllegalArgumentException("hr-platform.retention.archive.dir is required when archiving is enabled");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.archive = properties.archive().enabled() ? new RetentionArchive(objectMapper, properties.archive().dir()) : null;
+    }
+
+    @Override
+    public RetentionReport purge() {
+        final var STARTED_AT = Instant.now();
+        final var PURGED = new LinkedHashMap<String, Long>();
+        try (var codec = archive != null ? new AuditPayloadCodec() : null) {
+            var completed = true;
+            for (var entityType : EntityType.values()) {
+                final var PERIOD = properties.audit().periodOf(entityType);
+                if (completed && PERIOD != null) {
+                    final var CUTOFF = Timestamp.from(STARTED_AT.minus(PERIOD));
+                    final var ARCHIVE_FILE = archive != null ? archive.file(AUDIT_LOG, entityType, STARTED_AT) : null;
+                    completed = purge(PURGED, AUDIT_LOG, entityType, ARCHIVE_FILE == null
+                            ? () -> purgeBatch(SELECT_AUDIT_LOG_IDS, DELETE_AUDIT_LOG, entityType.name(), CUTOFF, CUTOFF, CUTOFF, properties.batchSize())
+                            : () -> purgeArchivedAuditLogBatch(entityType, CUTOFF, ARCHIVE_FILE, codec));
+                }
+            }
+            for (var entityType : EntityType.values()) {
+                if (completed && properties.tombstones() != null) {
+                    final var CUTOFF = Timestamp.from(STARTED_AT.minus(properties.tombstones()));
+                    completed = purge(PURGED, TOMBSTONE, entityType, () -> purgeBatch(SELECT_TOMBSTONE_IDS, DELETE_TOMBSTONE, entityType.name(), CUTOFF, properties.batchSize()));
+                }
+            }
+            for (var entityType : EntityType.values()) {
+                if (completed && properties.deadLetters() != null) {
+                    final var CUTOFF = Timestamp.from(STARTED_AT.minus(properties.deadLetters()));
+                    completed = purge(PURGED, OUTBOX_EVENT, entityType, () -> purgeBatch(SELECT_DEAD_LETTER_IDS, DELETE_OUTBOX_EVENT, entityType.name(), CUTOFF, properties.batchSize()));
+                }
+            }
+        }
+
+        final var REPORT = RetentionReport.builder()
+                .startedAt(STARTED_AT)
+                .finishedAt(Instant.now())
+                .purged(PURGED)
+                .build();
+        log.info("Retention purged [{}] rows in [{}] ms: {}", REPORT.total(),
+                REPORT.finishedAt().toEpochMilli() - STARTED_AT.toEpochMilli(), PURGED);
+        return REPORT;
+    }
+
+    /**
+     * Runs {@code batch} until it purges fewer than a full batch, pausing between batches.
+     *
+     * @return {@code false} if the thread was interrupted and the run should stop
+     */
+    private boolean purge(Map<String, Long> purged, String table, EntityType entityType, IntSupplier batch) {
+        final var COUNTER = meterRegistry.counter("hr_platform.retention.purged", "table", table, "entity_type", entityType.name());
+        long total = 0;
+        int purgedInBatch;
+        try {
+            do {
+                purgedInBatch = batch.getAsInt();
+                total += purgedInBatch;
+                COUNTER.increment(purgedInBatch);
+                if (purgedInBatch == properties.batchSize() && !properties.pause().isZero()) {
+                    Thread.sleep(properties.pause());
+                }
+            } while (purgedInBatch == properties.batchSize());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Retention purge interrupted at [{}] [{}]", table, entityType);
+            return false;
+        } finally {
+            if (total > 0) {
+                purged.put(table + ':' + entityType.name(), total);
+            }
+        }
+    }
+
+    private int purgeBatch(String select, String delete, Object... args) {
+        final var PURGED = transactionTemplate.execute(status -> {
+            final var IDS = jdbcTemplate.queryForList(select, String.class, args);
+            delete(delete, IDS);
+            return IDS.size();
+        });
+        return PURGED != null ? PURGED : 0;
+    }
+
+    private int purgeArchivedAuditLogBatch(EntityType entityType, Timestamp cutoff, Path archiveFile, AuditPayloadCodec codec) {
+        final var PURGED = transactionTemplate.execute(status -> {
+            final var ROWS = jdbcTemplate.query(SELECT_AUDIT_LOGS, (resultSet, row) -> archivedAuditLog(resultSet, codec),
+                    entityType.name(), cutoff, cutoff, cutoff, properties.batchSize());
+            if (ROWS.isEmpty()) {
+                return 0;
+            }
+            try {
+                archive.append(archiveFile, ROWS);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not archive audit logs to [%s]".formatted(archiveFile), e);
+            }
+            delete(DELETE_AUDIT_LOG, ROWS.stream().map(row -> row.get("id").asText()).toList());
+            return ROWS.size();
+        });
+        return PURGED != null ? PURGED : 0;
+    }
+
+    private void delete(String delete, List<String> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.batchUpdate(delete, ids.stream().map(id -> new Object[]{id}).toList());
+        }
+    }
+
+    private ObjectNode archivedAuditLog(ResultSet resultSet, AuditPayloadCodec codec) throws SQLException {
+        final var ROW = objectMapper.createObjectNode();
+        ROW.put("id", resultSet.getString(1));
+        ROW.put("actor", resultSet.getString(2));
+        ROW.put("entityType", resultSet.getString(3));
+        ROW.put("entityId", resultSet.getString(4));
+        ROW.put("action", resultSet.getString(5));
+        ROW.set("changes", readTree(codec.decode(resultSet.getBytes(6))));
+        final var SNAPSHOT = resultSet.getBytes(7);
+        ROW.set("snapshot", SNAPSHOT != null ? readTree(codec.decode(SNAPSHOT)) : null);
+        ROW.put("occurredAt", resultSet.getTimestamp(8).toInstant().toString());
+        return ROW;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable audit payload", e);
+        }
+    }
+}
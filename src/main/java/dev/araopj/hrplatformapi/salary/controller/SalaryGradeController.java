@@ -0,0 +1,397 @@
+package dev.araopj.hrplatformapi.salary.controller;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeBatchRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalarySimulationRequest;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeBatchResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeImportResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeStepResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalarySimulationResponse;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeImportService;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import dev.araopj.hrplatformapi.salary.service.SalarySimulationService;
+import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.StandardApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for the salary grade schedule.
+ * Provides endpoints for retrieving the schedule, resolving a grade step as of a date, simulating schedule changes,
+ * and creating and importing salary grades.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/salary-grades")
+@RequiredArgsConstructor
+@Tag(
+        name = "Salary Grades",
+        description = "Endpoints for managing the salary grade schedule."
+)
+public class SalaryGradeController {
+
+    private final SalaryGradeService salaryGradeService;
+    private final SalaryGradeImportService salaryGradeImportService;
+    private final SalarySimulationService salarySimulationService;
+
+    /**
+     * Retrieves every salary grade with its steps.
+     *
+     * @return A ResponseEntity containing a StandardApiResponse with a list of SalaryGradeResponse.
+     */
+    @Operation(
+            summary = "Get all salary grades",
+            description = "Retrieve every salary grade of every legal basis and tranche, with its steps.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the salary grades",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping
+    public ResponseEntity<StandardApiResponse<List<SalaryGradeResponse>>> all() {
+        log.debug("Fetching all salary grades");
+        return ResponseEntity.ok(StandardApiResponse.success(salaryGradeService.findAll()));
+    }
+
+    /**
+     * Resolves the amount of a salary grade step under the schedule in effect on a date.
+     *
+     * @param salaryGrade The salary grade.
+     * @param step        The step.
+     * @param asOf        The date the schedule must be in effect on; defaults to today.
+     * @return A ResponseEntity containing a StandardApiResponse with the SalaryGradeStepResponse.
+     * @throws NotFoundException If no schedule is in effect or it has no such grade or step.
+     */
+    @Operation(
+            summary = "Get salary grade step",
+            description = "Resolve the amount of a salary grade step under the schedule in effect on 'asOf' (defaults to today).",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully resolved the salary grade step",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Salary grade step not found",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/{salaryGrade}/steps/{step}")
+    public ResponseEntity<StandardApiResponse<SalaryGradeStepResponse>> step(
+            @Parameter(description = "Salary grade", required = true, example = "1")
+            @PathVariable int salaryGrade,
+            @Parameter(description = "Step", required = true, example = "1")
+            @PathVariable int step,
+            @Parameter(description = "Date the schedule must be in effect on (yyyy-MM-dd)", example = "2023-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) throws NotFoundException {
+        log.debug("Fetching salary grade [{}] step [{}] as of [{}]", salaryGrade, step, asOf);
+        return ResponseEntity.ok(StandardApiResponse.success(
+                salaryGradeService.findStep(salaryGrade, step, asOf != null ? asOf : LocalDate.now())
+        ));
+    }
+
+    /**
+     * Lists the amounts a salary grade step had over a date range.
+     *
+     * @param salaryGrade The salary grade.
+     * @param step        The step.
+     * @param from        The start of the range, inclusive.
+     * @param to          The end of the range, inclusive; defaults to today.
+     * @return A ResponseEntity containing a StandardApiResponse with one SalaryGradeStepResponse per schedule in effect.
+     * @throws InvalidRequestException If 'from' is after 'to'.
+     */
+    @Operation(
+            summary = "Get salary grade step history",
+            description = "List the amount of a salary grade step under every schedule in effect between 'from' and 'to' (defaults to today).",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved the salary grade step history",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid date range provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/{salaryGrade}/steps/{step}/history")
+    public ResponseEntity<StandardApiResponse<List<SalaryGradeStepResponse>>> stepHistory(
+            @Parameter(description = "Salary grade", required = true, example = "1")
+            @PathVariable int salaryGrade,
+            @Parameter(description = "Step", required = true, example = "1")
+            @PathVariable int step,
+            @Parameter(description = "Start of the range (yyyy-MM-dd)", required = true, example = "2020-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End of the range (yyyy-MM-dd)", example = "2023-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) throws InvalidRequestException {
+        log.debug("Fetching salary grade [{}] step [{}] history from [{}] to [{}]", salaryGrade, step, from, to);
+        return ResponseEntity.ok(StandardApiResponse.success(
+                salaryGradeService.findStepHistory(salaryGrade, step, from, to != null ? to : LocalDate.now())
+        ));
+    }
+
+    /**
+     * Resolves a batch of (grade, step, date) tuples in one call.
+     *
+     * @param batchRequest The tuples to resolve, in columnar form.
+     * @return A ResponseEntity containing a StandardApiResponse with the SalaryGradeBatchResponse.
+     * @throws InvalidRequestException If the arrays have different lengths.
+     */
+    @Operation(
+            summary = "Resolve salary grade steps in bulk",
+            description = "Resolve the amounts of many (grade, step, date) tuples against one snapshot of the schedule. Unresolved tuples are listed by position.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully resolved the salary grade steps",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid batch provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/resolve")
+    public ResponseEntity<StandardApiResponse<SalaryGradeBatchResponse>> resolve(
+            @Valid
+            @RequestBody
+            @Parameter(description = "Tuples to resolve", required = true)
+            SalaryGradeBatchRequest batchRequest
+    ) throws InvalidRequestException {
+        log.debug("Request to resolve [{}] salary grade steps", batchRequest.salaryGrades().length);
+        return ResponseEntity.ok(StandardApiResponse.success(salaryGradeService.resolve(batchRequest)));
+    }
+
+    /**
+     * Simulates the cost of moving every active employee to a candidate schedule and/or a number of steps up.
+     *
+     * @param simulationRequest The scenario to simulate.
+     * @return A ResponseEntity containing a StandardApiResponse with the SalarySimulationResponse.
+     * @throws NotFoundException If no schedule matches the requested tranche, or none is in effect on the date.
+     */
+    @Operation(
+            summary = "Simulate a tranche or step change",
+            description = "Compute what payroll would cost if every active employee moved to the requested tranche and/or stepIncrement steps up. Nothing is saved.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully simulated the salary change",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid scenario provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "No schedule matches the requested tranche",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/simulate")
+    public ResponseEntity<StandardApiResponse<SalarySimulationResponse>> simulate(
+            @Valid
+            @RequestBody
+            @Parameter(description = "Scenario to simulate", required = true)
+            SalarySimulationRequest simulationRequest
+    ) throws NotFoundException {
+        log.debug("Request to simulate tranche [{}] with step increment [{}]", simulationRequest.tranche(), simulationRequest.stepIncrement());
+        return ResponseEntity.ok(StandardApiResponse.success(salarySimulationService.simulate(simulationRequest)));
+    }
+
+    /**
+     * Creates salary grades, in the same format as the merged salary-grade JSON file.
+     *
+     * @param salaryGradeRequests The salary grades to create.
+     * @return A ResponseEntity containing a StandardApiResponse with the created SalaryGradeResponse list.
+     */
+    @Operation(
+            summary = "Create salary grades",
+            description = "Create salary grades with their steps, in the same format as the merged salary-grade JSON file.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully created the salary grades",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid salary grade data provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping
+    public ResponseEntity<StandardApiResponse<List<SalaryGradeResponse>>> create(
+            @Valid
+            @RequestBody
+            @Parameter(description = "Salary grades to create", required = true)
+            List<SalaryGradeRequest> salaryGradeRequests
+    ) {
+        log.debug("Request to create [{}] salary grades", salaryGradeRequests.size());
+        return ResponseEntity.ok(StandardApiResponse.success(salaryGradeService.create(salaryGradeRequests)));
+    }
+
+    /**
+     * Imports salary grades from a merged salary-grade JSON file, streamed from the request body.
+     *
+     * @param inputStream The request body, a JSON array in the format of the merged salary-grade JSON file.
+     * @return A ResponseEntity containing a StandardApiResponse with the SalaryGradeImportResponse.
+     * @throws InvalidRequestException If the JSON is malformed or a salary grade is invalid.
+     * @throws IOException             If the request body cannot be read.
+     */
+    @Operation(
+            summary = "Import salary grades",
+            description = "Upsert salary grades from a merged salary-grade JSON array, keyed by legal basis, tranche and salary grade. The body is parsed one grade at a time, so the file size is not limited by memory. Every grade's steps must be 1 to n without gaps; an invalid file changes nothing.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully imported the salary grades",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = StandardApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Malformed JSON or invalid salary grade data provided",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiError.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StandardApiResponse<SalaryGradeImportResponse>> importSalaryGrades(
+            @Parameter(description = "Merged salary-grade JSON array", required = true)
+            InputStream inputStream
+    ) throws InvalidRequestException, IOException {
+        log.debug("Request to import salary grades");
+        return ResponseEntity.ok(StandardApiResponse.success(salaryGradeImportService.importFrom(inputStream)));
+    }
+}
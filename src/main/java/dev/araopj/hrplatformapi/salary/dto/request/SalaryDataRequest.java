@@ -0,0 +1,14 @@
+package dev.araopj.hrplatformapi.salary.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+
+@Builder
+public record SalaryDataRequest(
+        @Min(value = 1, message = "step must be greater than or equal to 1")
+        int step,
+        @PositiveOrZero(message = "amount cannot be negative")
+        double amount
+) {
+}
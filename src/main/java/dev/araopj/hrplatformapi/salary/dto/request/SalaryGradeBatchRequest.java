@@ -0,0 +1,21 @@
+package dev.araopj.hrplatformapi.salary.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+/**
+ * A batch of (grade, step, date) tuples in columnar form: element {@code i} of each array forms tuple {@code i}.
+ * Columnar arrays keep a million-tuple payload compact and deserialize straight into primitive arrays.
+ */
+@Builder
+public record SalaryGradeBatchRequest(
+        @NotNull(message = "salaryGrades cannot be null")
+        int[] salaryGrades,
+        @NotNull(message = "steps cannot be null")
+        int[] steps,
+        @NotNull(message = "dates cannot be null")
+        LocalDate[] dates
+) {
+}
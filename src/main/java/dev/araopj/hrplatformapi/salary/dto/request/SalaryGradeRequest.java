@@ -0,0 +1,31 @@
+package dev.araopj.hrplatformapi.salary.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A salary grade with its steps, in the same shape as {@code sample_files/merged-salary-grade-with-data.json}.
+ */
+@Builder
+public record SalaryGradeRequest(
+        @NotNull(message = "legalBasis cannot be null")
+        @NotBlank(message = "legalBasis cannot be blank")
+        String legalBasis,
+        @Min(value = 1, message = "tranche must be greater than or equal to 1")
+        int tranche,
+        @NotNull(message = "effectiveDate cannot be null")
+        LocalDate effectiveDate,
+        @Min(value = 1, message = "salaryGrade must be greater than or equal to 1")
+        int salaryGrade,
+        @NotNull(message = "salaryData cannot be null")
+        @NotEmpty(message = "salaryData cannot be empty")
+        List<@Valid SalaryDataRequest> salaryData
+) {
+}
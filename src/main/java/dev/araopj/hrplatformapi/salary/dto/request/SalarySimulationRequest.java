@@ -0,0 +1,27 @@
+package dev.araopj.hrplatformapi.salary.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+/**
+ * A what-if scenario: move every active employee to a candidate schedule and/or a number of steps up.
+ * <p>
+ * When {@code tranche} is {@code null} the candidate is the schedule in effect on {@code asOf}, so only the step
+ * increment applies. Otherwise it is the latest schedule of that tranche, restricted to {@code legalBasis} if given.
+ * {@code asOf} defaults to today and {@code currency} to {@code hr-platform.salary.currency}.
+ */
+@Builder
+public record SalarySimulationRequest(
+        @Min(value = 1, message = "tranche must be greater than or equal to 1")
+        Integer tranche,
+        String legalBasis,
+        @Min(value = 0, message = "stepIncrement must be greater than or equal to 0")
+        int stepIncrement,
+        LocalDate asOf,
+        @Size(min = 3, max = 3, message = "currency must be a 3-letter ISO 4217 code")
+        String currency
+) {
+}
@@ -0,0 +1,11 @@
+package dev.araopj.hrplatformapi.salary.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record SalaryDataResponse(
+        String id,
+        int step,
+        double amount
+) {
+}
@@ -0,0 +1,16 @@
+package dev.araopj.hrplatformapi.salary.dto.response;
+
+import lombok.Builder;
+
+/**
+ * Resolved amounts for a {@link dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeBatchRequest}, in the same
+ * order as the request. Tuples that could not be resolved have amount {@code 0} and tranche {@code 0}, and their
+ * positions are listed in {@code unresolved}.
+ */
+@Builder
+public record SalaryGradeBatchResponse(
+        double[] amounts,
+        int[] tranches,
+        int[] unresolved
+) {
+}
@@ -0,0 +1,21 @@
+package dev.araopj.hrplatformapi.salary.dto.response;
+
+import lombok.Builder;
+
+/**
+ * Outcome of a salary grade import. A grade or step is counted as inserted when it did not exist before the import
+ * and as updated otherwise; {@code removedSteps} are steps that the imported grades no longer have.
+ */
+@Builder
+public record SalaryGradeImportResponse(
+        long grades,
+        long insertedGrades,
+        long updatedGrades,
+        long steps,
+        long insertedSteps,
+        long updatedSteps,
+        long removedSteps,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+}
@@ -0,0 +1,20 @@
+package dev.araopj.hrplatformapi.salary.dto.response;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record SalaryGradeResponse(
+        String id,
+        String legalBasis,
+        int tranche,
+        LocalDate effectiveDate,
+        int salaryGrade,
+        List<SalaryDataResponse> salaryData,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,19 @@
+package dev.araopj.hrplatformapi.salary.dto.response;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+/**
+ * The amount of a salary grade step under the schedule in effect on a given date.
+ */
+@Builder
+public record SalaryGradeStepResponse(
+        String legalBasis,
+        int tranche,
+        LocalDate effectiveDate,
+        int salaryGrade,
+        int step,
+        double amount
+) {
+}
@@ -0,0 +1,17 @@
+package dev.araopj.hrplatformapi.salary.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * Current and simulated salary totals of the employees on one salary grade.
+ */
+@Builder
+public record SalarySimulationGradeResponse(
+        int salaryGrade,
+        long headcount,
+        BigDecimal currentTotal,
+        BigDecimal simulatedTotal
+) {
+}
@@ -0,0 +1,35 @@
+package dev.araopj.hrplatformapi.salary.dto.response;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a {@link dev.araopj.hrplatformapi.salary.dto.request.SalarySimulationRequest}.
+ * <p>
+ * {@code unmatched} employees earn an amount that is not a cell of any schedule, so their grade and step are unknown;
+ * {@code unresolved} employees have a known grade and step that the candidate schedule does not define. Both keep
+ * their current salary in the simulated totals. Percentile keys are "p10", "p25", "p50", "p75" and "p90".
+ */
+@Builder
+public record SalarySimulationResponse(
+        String legalBasis,
+        int tranche,
+        LocalDate effectiveDate,
+        int stepIncrement,
+        String currency,
+        long headcount,
+        long unmatched,
+        long unresolved,
+        BigDecimal currentTotal,
+        BigDecimal simulatedTotal,
+        BigDecimal difference,
+        Map<String, BigDecimal> simulatedPercentiles,
+        Map<String, BigDecimal> increasePercentiles,
+        List<SalarySimulationGradeResponse> grades,
+        String engine
+) {
+}
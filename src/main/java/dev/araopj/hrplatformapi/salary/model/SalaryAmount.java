@@ -0,0 +1,11 @@
+package dev.araopj.hrplatformapi.salary.model;
+
+/**
+ * The current salary of one active employment record, in minor units.
+ * Read in primary-key chunks by a salary simulation.
+ */
+public record SalaryAmount(
+        String employmentInformationId,
+        long minorUnits
+) {
+}
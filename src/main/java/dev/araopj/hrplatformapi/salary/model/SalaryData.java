@@ -0,0 +1,35 @@
+package dev.araopj.hrplatformapi.salary.model;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@EqualsAndHashCode(callSuper = true, exclude = "salaryGrade")
+@ToString(exclude = "salaryGrade")
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"salary_grade_id", "step"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class SalaryData extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false)
+    private int step;
+
+    @Column(nullable = false)
+    private double amount;
+
+    @ManyToOne
+    @JsonBackReference
+    @JoinColumn(name = "salary_grade_id", nullable = false)
+    private SalaryGrade salaryGrade;
+}
@@ -0,0 +1,42 @@
+package dev.araopj.hrplatformapi.salary.model;
+
+import com.fasterxml.jackson.annotation.JsonManagedReference;
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Set;
+
+@EqualsAndHashCode(callSuper = true, exclude = "salaryData")
+@ToString(exclude = "salaryData")
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"legal_basis", "tranche", "salary_grade"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class SalaryGrade extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false)
+    private String legalBasis; // e.g., "NBC591"
+
+    @Column(nullable = false)
+    private int tranche;
+
+    @Column(nullable = false)
+    private LocalDate effectiveDate;
+
+    @Column(nullable = false)
+    private int salaryGrade;
+
+    @JsonManagedReference
+    @OneToMany(mappedBy = "salaryGrade", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<SalaryData> salaryData;
+}
@@ -0,0 +1,41 @@
+package dev.araopj.hrplatformapi.salary.repository;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.salary.model.SalaryAmount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Reads the salaries of the employment records in effect on a date, in primary-key order.
+ * A record is in effect when it started on or before the date and has not ended, or has no end date and a status
+ * that is not one of {@code separatedStatuses}.
+ */
+@Repository
+public interface SalaryAmountRepository extends org.springframework.data.repository.Repository<EmploymentInformation, String> {
+
+    @Query("""
+            SELECT new dev.araopj.hrplatformapi.salary.model.SalaryAmount(e.id, s.amount.minorUnits)
+            FROM EmploymentInformation e JOIN e.salary s
+            WHERE e.id > :afterId
+              AND s.amount.currency = :currency
+              AND e.startDate <= :asOf
+              AND (e.endDate IS NULL OR e.endDate >= :asOf)
+              AND (e.endDate IS NOT NULL OR e.employmentStatus NOT IN :separatedStatuses)
+            ORDER BY e.id
+            """)
+    List<SalaryAmount> findActiveAfter(
+            @Param("afterId") String afterId,
+            @Param("asOf") LocalDate asOf,
+            @Param("currency") Currency currency,
+            @Param("separatedStatuses") Collection<EmploymentStatus> separatedStatuses,
+            Limit limit
+    );
+}
@@ -0,0 +1,17 @@
+package dev.araopj.hrplatformapi.salary.repository;
+
+import dev.araopj.hrplatformapi.salary.model.SalaryGrade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SalaryGradeRepository extends JpaRepository<SalaryGrade, String> {
+    @Query("SELECT DISTINCT g FROM SalaryGrade g LEFT JOIN FETCH g.salaryData")
+    List<SalaryGrade> findAllWithSalaryData();
+
+    Optional<SalaryGrade> findByLegalBasisAndTrancheAndSalaryGrade(String legalBasis, int tranche, int salaryGrade);
+}
@@ -0,0 +1,69 @@
+package dev.araopj.hrplatformapi.salary.runner;
+
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports salary grade files given on the command line:
+ * <pre>
+ * java -jar hr-platform-api.jar --spring.main.web-application-type=none --import-salary-grades=tranche-4.json
+ * </pre>
+ * The option may be repeated. Without a web server the application exits once the files are imported, with a
+ * non-zero status if one failed; with a web server it keeps running, so the option also seeds a fresh node.
+ * Runs before the warm-up so the warm sets see the imported schedule.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SalaryGradeImportRunner implements ApplicationRunner {
+
+    static final String OPTION = "import-salary-grades";
+
+    private final SalaryGradeImportService salaryGradeImportService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        int exitCode = 0;
+        for (var file : args.getOptionValues(OPTION)) {
+            try (var inputStream = new BufferedInputStream(Files.newInputStream(Path.of(file)))) {
+                final var RESULT = salaryGradeImportService.importFrom(inputStream);
+                log.info("Imported [{}]: [{}] grades ([{}] new), [{}] steps ([{}] new, [{}] removed) at [{}] rows/s",
+                        file,
+                        RESULT.grades(),
+                        RESULT.insertedGrades(),
+                        RESULT.steps(),
+                        RESULT.insertedSteps(),
+                        RESULT.removedSteps(),
+                        Math.round(RESULT.rowsPerSecond())
+                );
+            } catch (Exception e) {
+                exitCode = 1;
+                log.error("Failed to import salary grades from [{}]", file, e);
+            }
+        }
+
+        if (!(applicationContext instanceof WebServerApplicationContext)) {
+            final var EXIT_CODE = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> EXIT_CODE));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.araopj.hrplatformapi.salary.service;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for importing the salary grade schedule from the merged salary-grade JSON format
+ * ({@code sample_files/merged-salary-grade-with-data.json}).
+ */
+public interface SalaryGradeImportService {
+
+    /**
+     * Upserts every salary grade of a JSON array, keyed by legal basis, tranche and salary grade. A grade's steps
+     * replace the steps it had before. The whole file is imported in one transaction, so a file that fails
+     * validation changes nothing.
+     *
+     * @param inputStream the JSON array; it is read once and not closed
+     * @return the number of grades and steps written and the throughput
+     * @throws InvalidRequestException if the JSON is malformed or a grade is invalid, e.g. its steps are not 1..n
+     * @throws IOException             if the stream cannot be read
+     */
+    SalaryGradeImportResponse importFrom(InputStream inputStream) throws InvalidRequestException, IOException;
+}
@@ -0,0 +1,105 @@
+package dev.araopj.hrplatformapi.salary.service;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeBatchRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeBatchResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeStepResponse;
+import dev.araopj.hrplatformapi.salary.service.impl.SalaryGradeMatrix;
+
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Service interface for managing the salary grade schedule.
+ * Lookups are answered from an in-memory matrix that is rebuilt after every write.
+ */
+public interface SalaryGradeService {
+
+    /**
+     * Retrieves every salary grade with its steps.
+     *
+     * @return a list of {@link SalaryGradeResponse} objects
+     */
+    List<SalaryGradeResponse> findAll();
+
+    /**
+     * Resolves the amount of a grade step under the schedule in effect on a given date.
+     *
+     * @param salaryGrade the salary grade (1-based)
+     * @param step        the step (1-based)
+     * @param asOf        the date the schedule must be in effect on
+     * @return the resolved {@link SalaryGradeStepResponse}
+     * @throws NotFoundException if no schedule is in effect on that date or it has no such grade or step
+     */
+    SalaryGradeStepResponse findStep(int salaryGrade, int step, LocalDate asOf) throws NotFoundException;
+
+    /**
+     * Resolves the amount of a grade step like {@link #findStep}, in minor units of {@link #currency()}.
+     *
+     * @param salaryGrade the salary grade (1-based)
+     * @param step        the step (1-based)
+     * @param asOf        the date the schedule must be in effect on
+     * @return the amount in minor units
+     * @throws NotFoundException if no schedule is in effect on that date or it has no such grade or step
+     */
+    long findStepAmount(int salaryGrade, int step, LocalDate asOf) throws NotFoundException;
+
+    /**
+     * Lists the amounts a grade step had over a date range, one entry per schedule in effect during the range.
+     *
+     * @param salaryGrade the salary grade (1-based)
+     * @param step        the step (1-based)
+     * @param from        the start of the range, inclusive
+     * @param to          the end of the range, inclusive
+     * @return the {@link SalaryGradeStepResponse} of every schedule in effect during the range, oldest first
+     * @throws InvalidRequestException if {@code from} is after {@code to}
+     */
+    List<SalaryGradeStepResponse> findStepHistory(int salaryGrade, int step, LocalDate from, LocalDate to) throws InvalidRequestException;
+
+    /**
+     * Lists the amounts a salary can have while on a grade, i.e. what the grade pays at any step under any schedule,
+     * leaving out amounts another grade also pays.
+     *
+     * @param salaryGrade the salary grade (1-based)
+     * @return the distinct amounts in minor units of {@link #currency()}, ascending
+     */
+    long[] findGradeAmounts(int salaryGrade);
+
+    /**
+     * @return the currency of the salary grade schedule, {@code hr-platform.salary.currency}
+     */
+    Currency currency();
+
+    /**
+     * @return the currently active matrix, for callers that resolve many cells against one consistent snapshot
+     */
+    SalaryGradeMatrix snapshot();
+
+    /**
+     * Resolves a batch of (grade, step, date) tuples against one consistent snapshot of the schedule.
+     *
+     * @param batchRequest the tuples to resolve
+     * @return the resolved amounts, in request order
+     * @throws InvalidRequestException if the arrays have different lengths
+     */
+    SalaryGradeBatchResponse resolve(SalaryGradeBatchRequest batchRequest) throws InvalidRequestException;
+
+    /**
+     * Creates salary grades with their steps.
+     *
+     * @param salaryGradeRequests the salary grades to create
+     * @return the created {@link SalaryGradeResponse} objects
+     */
+    List<SalaryGradeResponse> create(List<SalaryGradeRequest> salaryGradeRequests);
+
+    /**
+     * Reloads the in-memory matrix from the database.
+     *
+     * @return the number of salary grades loaded
+     */
+    int rebuild();
+}
@@ -0,0 +1,23 @@
+package dev.araopj.hrplatformapi.salary.service;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalarySimulationRequest;
+import dev.araopj.hrplatformapi.salary.dto.response.SalarySimulationResponse;
+
+/**
+ * Service interface for what-if salary simulations.
+ * Nothing is written: a simulation only reports what payroll would cost under a candidate schedule.
+ */
+public interface SalarySimulationService {
+
+    /**
+     * Simulates moving every active employee to a candidate schedule and/or a number of steps up.
+     *
+     * @param simulationRequest the scenario to simulate
+     * @return the current and simulated totals with their distributions
+     * @throws NotFoundException if no schedule matches the requested tranche, or none is in effect on {@code asOf}
+     * @throws InvalidRequestException if {@code currency} is not the currency of the salary grade schedule
+     */
+    SalarySimulationResponse simulate(SalarySimulationRequest simulationRequest) throws NotFoundException;
+}
@@ -0,0 +1,169 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeImportResponse;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeImportService;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link SalaryGradeImportService} interface.
+ * <p>
+ * Grades are read one at a time by {@link SalaryGradeJsonReader}, validated, and handed to
+ * {@link SalaryGradeImportWriter} in chunks of {@code hr-platform.salary.import.batch-size}, so memory is bounded
+ * by one chunk whatever the file size. When a grade appears twice, the last occurrence wins. The in-memory matrix
+ * is rebuilt once after the import commits.
+ */
+@Slf4j
+@Service
+public class SalaryGradeImportServiceImp implements SalaryGradeImportService {
+
+    private final SalaryGradeImportWriter salaryGradeImportWriter;
+    private final SalaryGradeService salaryGradeService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public SalaryGradeImportServiceImp(
+            SalaryGradeImportWriter salaryGradeImportWriter,
+            SalaryGradeService salaryGradeService,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${hr-platform.salary.import.batch-size:500}") int batchSize
+    ) {
+        this.salaryGradeImportWriter = salaryGradeImportWriter;
+        this.salaryGradeService = salaryGradeService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public SalaryGradeImportResponse importFrom(InputStream inputStream) throws InvalidRequestException, IOException {
+        final var STARTED_AT = System.nanoTime();
+        final Totals TOTALS;
+        try {
+            TOTALS = transactionTemplate.execute(status -> {
+                try (var reader = new SalaryGradeJsonReader(objectMapper.getFactory(), inputStream)) {
+                    return importAll(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        final var ELAPSED_NANOS = Math.max(System.nanoTime() - STARTED_AT, 1);
+        salaryGradeService.rebuild();
+
+        final var ROWS = TOTALS.grades + TOTALS.steps;
+        final var RESPONSE = SalaryGradeImportResponse.builder()
+                .grades(TOTALS.grades)
+                .insertedGrades(TOTALS.insertedGrades)
+                .updatedGrades(TOTALS.updatedGrades)
+                .steps(TOTALS.steps)
+                .insertedSteps(TOTALS.insertedSteps)
+                .updatedSteps(TOTALS.updatedSteps)
+                .removedSteps(TOTALS.removedSteps)
+                .elapsedMillis(ELAPSED_NANOS / 1_000_000)
+                .rowsPerSecond(ROWS * 1e9 / ELAPSED_NANOS)
+                .build();
+        log.info("Imported [{}] salary grades with [{}] steps in [{}] ms ([{}] rows/s)",
+                RESPONSE.grades(),
+                RESPONSE.steps(),
+                RESPONSE.elapsedMillis(),
+                Math.round(RESPONSE.rowsPerSecond())
+        );
+        return RESPONSE;
+    }
+
+    private Totals importAll(SalaryGradeJsonReader reader) throws IOException {
+        final var TOTALS = new Totals();
+        final var CHUNK = new LinkedHashMap<String, SalaryGradeRequest>();
+        for (var salaryGrade = reader.next(); salaryGrade != null; salaryGrade = reader.next()) {
+            validate(salaryGrade, reader.index());
+            CHUNK.put(SalaryGradeImportWriter.key(salaryGrade.legalBasis(), salaryGrade.tranche(), salaryGrade.salaryGrade()), salaryGrade);
+            if (CHUNK.size() >= batchSize) {
+                flush(CHUNK, TOTALS);
+            }
+        }
+        flush(CHUNK, TOTALS);
+        return TOTALS;
+    }
+
+    private void flush(Map<String, SalaryGradeRequest> chunk, Totals totals) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        final var CHUNK = new ArrayList<>(chunk.values());
+        final var COUNTS = salaryGradeImportWriter.write(CHUNK);
+        totals.grades += CHUNK.size();
+        totals.steps += CHUNK.stream().mapToInt(salaryGrade -> salaryGrade.salaryData().size()).sum();
+        totals.insertedGrades += COUNTS.insertedGrades();
+        totals.updatedGrades += COUNTS.updatedGrades();
+        totals.insertedSteps += COUNTS.insertedSteps();
+        totals.updatedSteps += COUNTS.updatedSteps();
+        totals.removedSteps += COUNTS.removedSteps();
+        chunk.clear();
+        log.debug("Imported [{}] salary grades so far", totals.grades);
+    }
+
+    /**
+     * Checks the fields {@link SalaryGradeRequest} constrains and that the steps are exactly {@code 1..n}.
+     */
+    private static void validate(SalaryGradeRequest salaryGrade, int index) throws InvalidRequestException {
+        if (salaryGrade.legalBasis() == null || salaryGrade.legalBasis().isBlank()) {
+            throw invalid(index, "legalBasis cannot be blank");
+        }
+        if (salaryGrade.tranche() < 1) {
+            throw invalid(index, "tranche must be greater than or equal to 1");
+        }
+        if (salaryGrade.salaryGrade() < 1) {
+            throw invalid(index, "salaryGrade must be greater than or equal to 1");
+        }
+        if (salaryGrade.effectiveDate() == null) {
+            throw invalid(index, "effectiveDate cannot be null");
+        }
+        if (salaryGrade.salaryData().isEmpty()) {
+            throw invalid(index, "salaryData cannot be empty");
+        }
+
+        final var STEPS = salaryGrade.salaryData().size();
+        final var SEEN = new boolean[STEPS + 1];
+        for (var salaryData : salaryGrade.salaryData()) {
+            if (salaryData.step() < 1 || salaryData.step() > STEPS || SEEN[salaryData.step()]) {
+                throw invalid(index, "steps must be 1 to %d without gaps or duplicates but found step [%d]".formatted(STEPS, salaryData.step()));
+            }
+            SEEN[salaryData.step()] = true;
+            if (!(salaryData.amount() >= 0) || Double.isInfinite(salaryData.amount())) {
+                throw invalid(index, "amount of step [%d] must be a non-negative number".formatted(salaryData.step()));
+            }
+        }
+    }
+
+    private static InvalidRequestException invalid(int index, String message) {
+        return new InvalidRequestException("Salary grade #%d: %s".formatted(index, message));
+    }
+
+    private static final class Totals {
+        long grades;
+        long steps;
+        long insertedGrades;
+        long updatedGrades;
+        long insertedSteps;
+        long updatedSteps;
+        long removedSteps;
+    }
+}
@@ -0,0 +1,164 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryDataRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Upserts a chunk of salary grades and their steps with JDBC batches.
+ * <p>
+ * The existing rows of the chunk are looked up with two {@code IN} queries; the rest is one batched
+ * {@code UPDATE} and one batched {@code INSERT} per table, plus one batched {@code DELETE} for steps a grade no
+ * longer has. Splitting upserts into update and insert batches works the same on H2 and PostgreSQL, where
+ * {@code MERGE}/{@code ON CONFLICT} syntax differs.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalaryGradeImportWriter {
+
+    private static final String SELECT_GRADES = """
+            SELECT id, legal_basis, tranche, salary_grade FROM salary_grade
+            WHERE legal_basis IN (:legalBases) AND tranche IN (:tranches) AND salary_grade IN (:salaryGrades)
+            """;
+    private static final String INSERT_GRADE = """
+            INSERT INTO salary_grade (id, legal_basis, tranche, effective_date, salary_grade, created_at, updated_at)
+            VALUES (:id, :legalBasis, :tranche, :effectiveDate, :salaryGrade, :now, :now)
+            """;
+    private static final String UPDATE_GRADE = """
+            UPDATE salary_grade SET effective_date = :effectiveDate, updated_at = :now, version = version + 1 WHERE id = :id
+            """;
+    private static final String SELECT_STEPS = """
+            SELECT salary_grade_id, step FROM salary_data WHERE salary_grade_id IN (:salaryGradeIds)
+            """;
+    private static final String INSERT_STEP = """
+            INSERT INTO salary_data (id, salary_grade_id, step, amount, created_at, updated_at)
+            VALUES (:id, :salaryGradeId, :step, :amount, :now, :now)
+            """;
+    private static final String UPDATE_STEP = """
+            UPDATE salary_data SET amount = :amount, updated_at = :now, version = version + 1 WHERE salary_grade_id = :salaryGradeId AND step = :step
+            """;
+    private static final String DELETE_STEPS = """
+            DELETE FROM salary_data WHERE salary_grade_id = :salaryGradeId AND step > :maxStep
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @param salaryGrades validated grades with unique (legal basis, tranche, salary grade) keys and steps 1..n
+     * @return the number of rows written
+     */
+    public Counts write(List<SalaryGradeRequest> salaryGrades) {
+        final var NOW = Timestamp.from(Instant.now());
+        final var IDS = existingGradeIds(salaryGrades);
+        final var EXISTING_STEPS = existingSteps(IDS.values());
+
+        final var GRADE_INSERTS = new ArrayList<SqlParameterSource>();
+        final var GRADE_UPDATES = new ArrayList<SqlParameterSource>();
+        final var STEP_INSERTS = new ArrayList<SqlParameterSource>();
+        final var STEP_UPDATES = new ArrayList<SqlParameterSource>();
+        final var STEP_DELETES = new ArrayList<SqlParameterSource>();
+        for (var salaryGrade : salaryGrades) {
+            var id = IDS.get(key(salaryGrade.legalBasis(), salaryGrade.tranche(), salaryGrade.salaryGrade()));
+            final var PARAMETERS = new MapSqlParameterSource()
+                    .addValue("legalBasis", salaryGrade.legalBasis())
+                    .addValue("tranche", salaryGrade.tranche())
+                    .addValue("effectiveDate", Date.valueOf(salaryGrade.effectiveDate()))
+                    .addValue("salaryGrade", salaryGrade.salaryGrade())
+                    .addValue("now", NOW);
+            if (id == null) {
+                id = UUID.randomUUID().toString();
+                GRADE_INSERTS.add(PARAMETERS.addValue("id", id));
+            } else {
+                GRADE_UPDATES.add(PARAMETERS.addValue("id", id));
+                STEP_DELETES.add(new MapSqlParameterSource()
+                        .addValue("salaryGradeId", id)
+                        .addValue("maxStep", salaryGrade.salaryData().size()));
+            }
+
+            final var STEPS = EXISTING_STEPS.getOrDefault(id, Set.of());
+            for (var salaryData : salaryGrade.salaryData()) {
+                final var STEP = step(id, salaryData, NOW);
+                if (STEPS.contains(salaryData.step())) {
+                    STEP_UPDATES.add(STEP);
+                } else {
+                    STEP_INSERTS.add(STEP.addValue("id", UUID.randomUUID().toString()));
+                }
+            }
+        }
+
+        batch(INSERT_GRADE, GRADE_INSERTS);
+        batch(UPDATE_GRADE, GRADE_UPDATES);
+        final var REMOVED_STEPS = batch(DELETE_STEPS, STEP_DELETES);
+        batch(UPDATE_STEP, STEP_UPDATES);
+        batch(INSERT_STEP, STEP_INSERTS);
+
+        return new Counts(GRADE_INSERTS.size(), GRADE_UPDATES.size(), STEP_INSERTS.size(), STEP_UPDATES.size(), REMOVED_STEPS);
+    }
+
+    private Map<String, String> existingGradeIds(List<SalaryGradeRequest> salaryGrades) {
+        final var PARAMETERS = new MapSqlParameterSource()
+                .addValue("legalBases", salaryGrades.stream().map(SalaryGradeRequest::legalBasis).distinct().toList())
+                .addValue("tranches", salaryGrades.stream().map(SalaryGradeRequest::tranche).distinct().toList())
+                .addValue("salaryGrades", salaryGrades.stream().map(SalaryGradeRequest::salaryGrade).distinct().toList());
+        final var IDS = new HashMap<String, String>();
+        // the IN lists may match grades outside the chunk; only keys of the chunk are looked up afterwards
+        namedParameterJdbcTemplate.query(SELECT_GRADES, PARAMETERS, row -> {
+            IDS.put(key(row.getString(2), row.getInt(3), row.getInt(4)), row.getString(1));
+        });
+        return IDS;
+    }
+
+    private Map<String, Set<Integer>> existingSteps(Collection<String> salaryGradeIds) {
+        final var STEPS = new HashMap<String, Set<Integer>>();
+        if (salaryGradeIds.isEmpty()) {
+            return STEPS;
+        }
+        namedParameterJdbcTemplate.query(SELECT_STEPS, new MapSqlParameterSource("salaryGradeIds", salaryGradeIds), row -> {
+            STEPS.computeIfAbsent(row.getString(1), id -> new HashSet<>()).add(row.getInt(2));
+        });
+        return STEPS;
+    }
+
+    private static MapSqlParameterSource step(String salaryGradeId, SalaryDataRequest salaryData, Timestamp now) {
+        return new MapSqlParameterSource()
+                .addValue("salaryGradeId", salaryGradeId)
+                .addValue("step", salaryData.step())
+                .addValue("amount", salaryData.amount())
+                .addValue("now", now);
+    }
+
+    private int batch(String sql, List<SqlParameterSource> parameters) {
+        if (parameters.isEmpty()) {
+            return 0;
+        }
+        int affected = 0;
+        for (var count : namedParameterJdbcTemplate.batchUpdate(sql, parameters.toArray(SqlParameterSource[]::new))) {
+            // drivers may report SUCCESS_NO_INFO (-2) for batched statements
+            affected += Math.max(count, 0);
+        }
+        return affected;
+    }
+
+    static String key(String legalBasis, int tranche, int salaryGrade) {
+        return legalBasis + '|' + tranche + '|' + salaryGrade;
+    }
+
+    /**
+     * @param insertedGrades the number of grades that did not exist
+     * @param updatedGrades  the number of grades that existed
+     * @param insertedSteps  the number of steps that did not exist
+     * @param updatedSteps   the number of steps that existed
+     * @param removedSteps   the number of steps deleted because their grade no longer has them
+     */
+    public record Counts(int insertedGrades, int updatedGrades, int insertedSteps, int updatedSteps, int removedSteps) {
+    }
+}
@@ -0,0 +1,156 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryDataRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+
+/**
+ * Reads a merged salary-grade JSON array one grade object at a time with a streaming {@link JsonParser}.
+ * <p>
+ * Only the grade being read is held in memory, so the file size does not matter. Steps may be numbers or numeric
+ * strings, as in {@code sample_files/merged-salary-grade-with-data.json}; unknown fields are skipped.
+ */
+final class SalaryGradeJsonReader implements Closeable {
+
+    private final JsonParser parser;
+    private boolean started;
+    private int index;
+
+    SalaryGradeJsonReader(JsonFactory jsonFactory, InputStream inputStream) throws IOException {
+        this.parser = jsonFactory.createParser(inputStream);
+        this.parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    /**
+     * @return the next grade, or {@code null} at the end of the array
+     * @throws InvalidRequestException if the JSON is malformed or not an array of grade objects
+     */
+    SalaryGradeRequest next() throws InvalidRequestException, IOException {
+        try {
+            if (!started) {
+                expect(parser.nextToken(), JsonToken.START_ARRAY, "the salary grade array");
+                started = true;
+            }
+            final var TOKEN = parser.nextToken();
+            if (TOKEN == JsonToken.END_ARRAY) {
+                return null;
+            }
+            expect(TOKEN, JsonToken.START_OBJECT, "salary grade #%d".formatted(index + 1));
+            index++;
+            return readGrade();
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Malformed salary grade JSON at %s".formatted(location()), e);
+        }
+    }
+
+    /**
+     * @return the 1-based position of the last grade read, for error messages
+     */
+    int index() {
+        return index;
+    }
+
+    private SalaryGradeRequest readGrade() throws IOException {
+        final var BUILDER = SalaryGradeRequest.builder();
+        final var STEPS = new ArrayList<SalaryDataRequest>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var FIELD = parser.currentName();
+            final var VALUE = parser.nextToken();
+            switch (FIELD) {
+                case "legalBasis" -> BUILDER.legalBasis(parser.getValueAsString());
+                case "tranche" -> BUILDER.tranche(intValue(FIELD));
+                case "salaryGrade" -> BUILDER.salaryGrade(intValue(FIELD));
+                case "effectiveDate" -> {
+                    try {
+                        BUILDER.effectiveDate(VALUE == JsonToken.VALUE_NULL ? null : LocalDate.parse(parser.getText()));
+                    } catch (DateTimeParseException e) {
+                        throw new InvalidRequestException("Invalid effectiveDate [%s] at %s".formatted(parser.getText(), location()), e);
+                    }
+                }
+                case "salaryData" -> {
+                    expect(VALUE, JsonToken.START_ARRAY, "salaryData");
+                    for (var step = parser.nextToken(); step != JsonToken.END_ARRAY; step = parser.nextToken()) {
+                        expect(step, JsonToken.START_OBJECT, "step #%d of salary grade #%d".formatted(STEPS.size() + 1, index));
+                        STEPS.add(readStep());
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return BUILDER.salaryData(STEPS).build();
+    }
+
+    private SalaryDataRequest readStep() throws IOException {
+        final var BUILDER = SalaryDataRequest.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var FIELD = parser.currentName();
+            parser.nextToken();
+            switch (FIELD) {
+                case "step" -> BUILDER.step(intValue(FIELD));
+                case "amount" -> BUILDER.amount(doubleValue(FIELD));
+                default -> parser.skipChildren();
+            }
+        }
+        return BUILDER.build();
+    }
+
+    private int intValue(String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_STRING -> {
+                try {
+                    yield Integer.parseInt(parser.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw new InvalidRequestException("Invalid %s [%s] at %s".formatted(field, parser.getText(), location()), e);
+                }
+            }
+            default -> throw new InvalidRequestException("Expected an integer %s at %s".formatted(field, location()));
+        };
+    }
+
+    private double doubleValue(String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_STRING -> {
+                try {
+                    yield Double.parseDouble(parser.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw new InvalidRequestException("Invalid %s [%s] at %s".formatted(field, parser.getText(), location()), e);
+                }
+            }
+            default -> throw new InvalidRequestException("Expected a number %s at %s".formatted(field, location()));
+        };
+    }
+
+    private void expect(JsonToken actual, JsonToken expected, String what) {
+        if (actual != expected) {
+            throw new InvalidRequestException("Expected %s to start with [%s] but found [%s] at %s".formatted(
+                    what,
+                    expected.asString(),
+                    actual == null ? "end of input" : actual,
+                    location()
+            ));
+        }
+    }
+
+    private String location() {
+        final var LOCATION = parser.currentLocation();
+        return "line %d, column %d".formatted(LOCATION.getLineNr(), LOCATION.getColumnNr());
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,303 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import dev.araopj.hrplatformapi.salary.model.SalaryGrade;
+import dev.araopj.hrplatformapi.utils.money.Money;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Immutable, primitive-array view of the salary schedule.
+ * <p>
+ * Every distinct (legal basis, tranche) pair is a <em>schedule</em>. Schedules are ordered by effective date, and
+ * amounts are stored in one flat {@code long[]} of minor units of the schedule {@link #currency()}, indexed by
+ * {@code (schedule, grade, step)}; cells with no data hold {@link #MISSING}. Amounts are converted from the decimal
+ * {@link dev.araopj.hrplatformapi.salary.model.SalaryData#getAmount()} once, when the matrix is built, so callers
+ * compare and aggregate them exactly like salaries. Resolving the schedule in effect on a date is a binary search over a handful of epoch days,
+ * and reading an amount is a single array access, so lookups never allocate.
+ * <p>
+ * Because a grade is not necessarily published in every schedule, each grade also has its own effective-date index:
+ * a sorted {@code long[]} of the epoch days of the schedules that define it, with the matching schedule indexes.
+ * {@link #amountAt(int, int, long)} and {@link #scheduleFor(int, long)} answer "grade G step S on date D" from it.
+ *
+ * @see SalaryGradeServiceImp
+ */
+public final class SalaryGradeMatrix {
+
+    /**
+     * Returned by {@link #scheduleAt(LocalDate)} when no schedule is in effect.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Amount of a cell with no data; schedule amounts are never negative.
+     */
+    public static final long MISSING = -1;
+
+    private final Currency currency;
+    private final long[] effectiveDays;
+    private final String[] legalBases;
+    private final int[] tranches;
+    private final int maxGrade;
+    private final int maxStep;
+    private final long[] amounts;
+    private final long[][] gradeEffectiveDays;
+    private final int[][] gradeSchedules;
+
+    /**
+     * @param salaryGrades the salary grades with their steps
+     * @param currency     the currency the decimal amounts are in
+     */
+    SalaryGradeMatrix(Collection<SalaryGrade> salaryGrades, Currency currency) {
+        this.currency = currency;
+        var schedules = new TreeMap<ScheduleKey, List<SalaryGrade>>();
+        int grades = 0;
+        int steps = 0;
+        for (var salaryGrade : salaryGrades) {
+            schedules.computeIfAbsent(
+                    new ScheduleKey(salaryGrade.getEffectiveDate(), salaryGrade.getTranche(), salaryGrade.getLegalBasis()),
+                    key -> new ArrayList<>()
+            ).add(salaryGrade);
+            grades = Math.max(grades, salaryGrade.getSalaryGrade());
+            if (salaryGrade.getSalaryData() != null) {
+                for (var salaryData : salaryGrade.getSalaryData()) {
+                    steps = Math.max(steps, salaryData.getStep());
+                }
+            }
+        }
+
+        maxGrade = grades;
+        maxStep = steps;
+        effectiveDays = new long[schedules.size()];
+        legalBases = new String[schedules.size()];
+        tranches = new int[schedules.size()];
+        amounts = new long[schedules.size() * maxGrade * maxStep];
+        Arrays.fill(amounts, MISSING);
+
+        int schedule = 0;
+        for (var entry : schedules.entrySet()) {
+            effectiveDays[schedule] = entry.getKey().effectiveDate().toEpochDay();
+            legalBases[schedule] = entry.getKey().legalBasis();
+            tranches[schedule] = entry.getKey().tranche();
+            for (var salaryGrade : entry.getValue()) {
+                if (salaryGrade.getSalaryData() == null) {
+                    continue;
+                }
+                for (var salaryData : salaryGrade.getSalaryData()) {
+                    amounts[offset(schedule, salaryGrade.getSalaryGrade(), salaryData.getStep())] = Money.of(salaryData.getAmount(), currency.getCurrencyCode()).minorUnits();
+                }
+            }
+            schedule++;
+        }
+
+        gradeEffectiveDays = new long[maxGrade + 1][];
+        gradeSchedules = new int[maxGrade + 1][];
+        for (int grade = 1; grade <= maxGrade; grade++) {
+            int count = 0;
+            for (schedule = 0; schedule < effectiveDays.length; schedule++) {
+                if (definesGrade(schedule, grade)) {
+                    count++;
+                }
+            }
+            gradeEffectiveDays[grade] = new long[count];
+            gradeSchedules[grade] = new int[count];
+            int i = 0;
+            for (schedule = 0; schedule < effectiveDays.length; schedule++) {
+                if (definesGrade(schedule, grade)) {
+                    gradeEffectiveDays[grade][i] = effectiveDays[schedule];
+                    gradeSchedules[grade][i] = schedule;
+                    i++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the schedule in effect on the given date, i.e. the one with the latest effective date on or before it.
+     *
+     * @param date The date.
+     * @return The schedule index, or {@link #NONE} if every schedule takes effect after the date.
+     */
+    public int scheduleAt(LocalDate date) {
+        return scheduleAt(date.toEpochDay());
+    }
+
+    /**
+     * @param epochDay The date as {@link LocalDate#toEpochDay()}.
+     * @return The schedule index, or {@link #NONE} if every schedule takes effect after the date.
+     * @see #scheduleAt(LocalDate)
+     */
+    public int scheduleAt(long epochDay) {
+        return floor(effectiveDays, epochDay);
+    }
+
+    /**
+     * Finds the latest schedule that defines the grade and is in effect on the given date.
+     *
+     * @param grade    The salary grade (1-based).
+     * @param epochDay The date as {@link LocalDate#toEpochDay()}.
+     * @return The schedule index, or {@link #NONE} if the grade is unknown or not yet in effect.
+     */
+    public int scheduleFor(int grade, long epochDay) {
+        if (grade < 1 || grade > maxGrade) {
+            return NONE;
+        }
+        final var DAYS = gradeEffectiveDays[grade];
+        int position = floor(DAYS, epochDay);
+        return position == NONE ? NONE : gradeSchedules[grade][position];
+    }
+
+    /**
+     * Reads the amount of a grade step on a date, using the grade's own effective-date index.
+     *
+     * @param grade    The salary grade (1-based).
+     * @param step     The step (1-based).
+     * @param epochDay The date as {@link LocalDate#toEpochDay()}.
+     * @return The amount in minor units, or {@link #MISSING} if the grade step is not defined on that date.
+     */
+    public long amountAt(int grade, int step, long epochDay) {
+        return amount(scheduleFor(grade, epochDay), grade, step);
+    }
+
+    /**
+     * Lists the schedules of a grade whose validity overlaps {@code [fromEpochDay, toEpochDay]}, in effective order.
+     * A schedule is valid from its effective date until the next schedule of the same grade takes effect.
+     *
+     * @param grade        The salary grade (1-based).
+     * @param fromEpochDay The start of the range, inclusive.
+     * @param toEpochDay   The end of the range, inclusive.
+     * @return The schedule indexes; empty if none overlap.
+     */
+    public int[] schedulesBetween(int grade, long fromEpochDay, long toEpochDay) {
+        if (grade < 1 || grade > maxGrade || fromEpochDay > toEpochDay) {
+            return new int[0];
+        }
+        final var DAYS = gradeEffectiveDays[grade];
+        int first = floor(DAYS, fromEpochDay);
+        if (first == NONE) {
+            first = 0;
+        }
+        int last = floor(DAYS, toEpochDay);
+        if (last == NONE || last < first) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(gradeSchedules[grade], first, last + 1);
+    }
+
+    /**
+     * Reads the amount of a grade step under a schedule.
+     *
+     * @param schedule The schedule index, see {@link #scheduleAt(LocalDate)}.
+     * @param grade    The salary grade (1-based).
+     * @param step     The step (1-based).
+     * @return The amount in minor units, or {@link #MISSING} if the schedule has no such grade or step.
+     */
+    public long amount(int schedule, int grade, int step) {
+        if (schedule < 0 || schedule >= effectiveDays.length || grade < 1 || grade > maxGrade || step < 1 || step > maxStep) {
+            return MISSING;
+        }
+        return amounts[offset(schedule, grade, step)];
+    }
+
+    /**
+     * Lists the amounts that identify a grade: every amount it pays at any step under any schedule, except those some
+     * other grade also pays, since a salary with such an amount cannot be attributed to one grade.
+     *
+     * @param grade The salary grade (1-based).
+     * @return The distinct amounts in minor units, ascending; empty if the grade is unknown.
+     */
+    public long[] gradeAmounts(int grade) {
+        if (grade < 1 || grade > maxGrade) {
+            return new long[0];
+        }
+        var own = new TreeSet<Long>();
+        var others = new HashSet<Long>();
+        for (int schedule = 0; schedule < effectiveDays.length; schedule++) {
+            for (int g = 1; g <= maxGrade; g++) {
+                final var FROM = offset(schedule, g, 1);
+                for (int i = FROM; i < FROM + maxStep; i++) {
+                    if (amounts[i] != MISSING) {
+                        (g == grade ? own : others).add(amounts[i]);
+                    }
+                }
+            }
+        }
+        own.removeAll(others);
+        return own.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * @return The currency of every amount in the matrix.
+     */
+    public Currency currency() {
+        return currency;
+    }
+
+    public int scheduleCount() {
+        return effectiveDays.length;
+    }
+
+    public int maxGrade() {
+        return maxGrade;
+    }
+
+    public int maxStep() {
+        return maxStep;
+    }
+
+    public String legalBasis(int schedule) {
+        return legalBases[schedule];
+    }
+
+    public int tranche(int schedule) {
+        return tranches[schedule];
+    }
+
+    public LocalDate effectiveDate(int schedule) {
+        return LocalDate.ofEpochDay(effectiveDays[schedule]);
+    }
+
+    private boolean definesGrade(int schedule, int grade) {
+        final var FROM = offset(schedule, grade, 1);
+        for (int i = FROM; i < FROM + maxStep; i++) {
+            if (amounts[i] != MISSING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The position of the last element {@code <= key} in the ascending array, or {@link #NONE}.
+     */
+    private static int floor(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length - 1;
+        int found = NONE;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private int offset(int schedule, int grade, int step) {
+        return (schedule * maxGrade + (grade - 1)) * maxStep + (step - 1);
+    }
+
+    private record ScheduleKey(LocalDate effectiveDate, int tranche, String legalBasis) implements Comparable<ScheduleKey> {
+        private static final Comparator<ScheduleKey> ORDER = Comparator.comparing(ScheduleKey::effectiveDate)
+                .thenComparingInt(ScheduleKey::tranche)
+                .thenComparing(ScheduleKey::legalBasis);
+
+        @Override
+        public int compareTo(ScheduleKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeBatchRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeBatchResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeStepResponse;
+import dev.araopj.hrplatformapi.salary.repository.SalaryGradeRepository;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import dev.araopj.hrplatformapi.utils.mappers.SalaryGradeMapper;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY_DATA;
+
+/**
+ * Implementation of the {@link SalaryGradeService} interface.
+ * Keeps the whole schedule in an immutable {@link SalaryGradeMatrix} that is swapped atomically on rebuild. The
+ * schedule is in {@code hr-platform.salary.currency}; its amounts are kept as minor units and only converted back to
+ * decimals in responses.
+ *
+ * @see SalaryGradeRepository
+ * @see SalaryGradeMatrix
+ */
+@Slf4j
+@Service
+public class SalaryGradeServiceImp implements SalaryGradeService {
+
+    private final SalaryGradeRepository salaryGradeRepository;
+    private final Currency currency;
+    private final SalaryGradeMatrix empty;
+    private final AtomicReference<SalaryGradeMatrix> matrix;
+
+    public SalaryGradeServiceImp(
+            SalaryGradeRepository salaryGradeRepository,
+            @Value("${hr-platform.salary.currency}") String currency
+    ) {
+        this.salaryGradeRepository = salaryGradeRepository;
+        this.currency = Money.currency(currency);
+        this.empty = new SalaryGradeMatrix(List.of(), this.currency);
+        this.matrix = new AtomicReference<>(empty);
+    }
+
+    /**
+     * Builds the matrix on startup when the "salary-grades" warm set is not enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (matrix.get() == empty) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public List<SalaryGradeResponse> findAll() {
+        return salaryGradeRepository.findAllWithSalaryData()
+                .stream()
+                .map(SalaryGradeMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public SalaryGradeStepResponse findStep(int salaryGrade, int step, LocalDate asOf) throws NotFoundException {
+        final var MATRIX = matrix.get();
+        final var SCHEDULE = MATRIX.scheduleFor(salaryGrade, asOf.toEpochDay());
+        final var AMOUNT = MATRIX.amount(SCHEDULE, salaryGrade, step);
+
+        if (AMOUNT == SalaryGradeMatrix.MISSING) {
+            throw new NotFoundException("SG-%d step %d as of %s".formatted(salaryGrade, step, asOf), SALARY_DATA);
+        }
+
+        return toStepResponse(MATRIX, SCHEDULE, salaryGrade, step, AMOUNT);
+    }
+
+    @Override
+    public long findStepAmount(int salaryGrade, int step, LocalDate asOf) throws NotFoundException {
+        final var AMOUNT = matrix.get().amountAt(salaryGrade, step, asOf.toEpochDay());
+        if (AMOUNT == SalaryGradeMatrix.MISSING) {
+            throw new NotFoundException("SG-%d step %d as of %s".formatted(salaryGrade, step, asOf), SALARY_DATA);
+        }
+        return AMOUNT;
+    }
+
+    @Override
+    public List<SalaryGradeStepResponse> findStepHistory(int salaryGrade, int step, LocalDate from, LocalDate to) throws InvalidRequestException {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("from [%s] must not be after to [%s]".formatted(from, to));
+        }
+
+        final var MATRIX = matrix.get();
+        return Arrays.stream(MATRIX.schedulesBetween(salaryGrade, from.toEpochDay(), to.toEpochDay()))
+                .filter(schedule -> MATRIX.amount(schedule, salaryGrade, step) != SalaryGradeMatrix.MISSING)
+                .mapToObj(schedule -> toStepResponse(MATRIX, schedule, salaryGrade, step, MATRIX.amount(schedule, salaryGrade, step)))
+                .toList();
+    }
+
+    @Override
+    public long[] findGradeAmounts(int salaryGrade) {
+        return matrix.get().gradeAmounts(salaryGrade);
+    }
+
+    @Override
+    public Currency currency() {
+        return currency;
+    }
+
+    @Override
+    public SalaryGradeBatchResponse resolve(SalaryGradeBatchRequest batchRequest) throws InvalidRequestException {
+        final var GRADES = batchRequest.salaryGrades();
+        final var STEPS = batchRequest.steps();
+        final var DATES = batchRequest.dates();
+        if (GRADES.length != STEPS.length || GRADES.length != DATES.length) {
+            throw new InvalidRequestException("salaryGrades [%d], steps [%d] and dates [%d] must have the same length".formatted(
+                    GRADES.length,
+                    STEPS.length,
+                    DATES.length
+            ));
+        }
+
+        final var MATRIX = matrix.get();
+        final double MINOR_PER_MAJOR = Money.minorPerMajor(MATRIX.currency());
+        final var AMOUNTS = new double[GRADES.length];
+        final var TRANCHES = new int[GRADES.length];
+        var unresolved = new int[16];
+        int unresolvedCount = 0;
+
+        LocalDate previousDate = null;
+        long epochDay = 0;
+        for (int i = 0; i < GRADES.length; i++) {
+            // bulk recomputation is usually sorted or grouped by date, so only convert when the date changes
+            if (DATES[i] != null && DATES[i] != previousDate && !DATES[i].equals(previousDate)) {
+                epochDay = DATES[i].toEpochDay();
+                previousDate = DATES[i];
+            }
+            final var SCHEDULE = DATES[i] == null ? SalaryGradeMatrix.NONE : MATRIX.scheduleFor(GRADES[i], epochDay);
+            final var AMOUNT = MATRIX.amount(SCHEDULE, GRADES[i], STEPS[i]);
+            if (AMOUNT == SalaryGradeMatrix.MISSING) {
+                if (unresolvedCount == unresolved.length) {
+                    unresolved = Arrays.copyOf(unresolved, unresolvedCount * 2);
+                }
+                unresolved[unresolvedCount++] = i;
+                continue;
+            }
+            // one correctly rounded division, the same double as Money#toDouble() without a BigDecimal per tuple
+            AMOUNTS[i] = AMOUNT / MINOR_PER_MAJOR;
+            TRANCHES[i] = MATRIX.tranche(SCHEDULE);
+        }
+
+        return SalaryGradeBatchResponse.builder()
+                .amounts(AMOUNTS)
+                .tranches(TRANCHES)
+                .unresolved(Arrays.copyOf(unresolved, unresolvedCount))
+                .build();
+    }
+
+    @Override
+    public List<SalaryGradeResponse> create(List<SalaryGradeRequest> salaryGradeRequests) {
+        for (var request : salaryGradeRequests) {
+            salaryGradeRepository.findByLegalBasisAndTrancheAndSalaryGrade(
+                    request.legalBasis(),
+                    request.tranche(),
+                    request.salaryGrade()
+            ).ifPresent(salaryGrade -> {
+                throw new IllegalArgumentException("Salary grade [%d] already exists for legal basis [%s] tranche [%d]".formatted(
+                        salaryGrade.getSalaryGrade(),
+                        salaryGrade.getLegalBasis(),
+                        salaryGrade.getTranche()
+                ));
+            });
+        }
+
+        final var SAVED_SALARY_GRADES = salaryGradeRepository.saveAll(salaryGradeRequests
+                .stream()
+                .map(SalaryGradeMapper::toEntity)
+                .toList());
+        rebuild();
+
+        return SAVED_SALARY_GRADES.stream()
+                .map(SalaryGradeMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public synchronized int rebuild() {
+        final var SALARY_GRADES = salaryGradeRepository.findAllWithSalaryData();
+        final var COMPILED = new SalaryGradeMatrix(SALARY_GRADES, currency);
+        matrix.set(COMPILED);
+        log.info("Compiled salary grade matrix with [{}] schedules, [{}] grades and [{}] steps",
+                COMPILED.scheduleCount(),
+                COMPILED.maxGrade(),
+                COMPILED.maxStep()
+        );
+        return SALARY_GRADES.size();
+    }
+
+    private static SalaryGradeStepResponse toStepResponse(SalaryGradeMatrix matrix, int schedule, int salaryGrade, int step, long amount) {
+        return SalaryGradeStepResponse.builder()
+                .legalBasis(matrix.legalBasis(schedule))
+                .tranche(matrix.tranche(schedule))
+                .effectiveDate(matrix.effectiveDate(schedule))
+                .salaryGrade(salaryGrade)
+                .step(step)
+                .amount(Money.ofMinor(amount, matrix.currency()).toDouble())
+                .build();
+    }
+
+    @Override
+    public SalaryGradeMatrix snapshot() {
+        return matrix.get();
+    }
+}
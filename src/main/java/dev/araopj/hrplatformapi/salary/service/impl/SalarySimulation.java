@@ -0,0 +1,178 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import dev.araopj.hrplatformapi.utils.money.MinorUnits;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * Columnar snapshot of the active workforce for what-if simulations.
+ * <p>
+ * Element {@code i} of {@code grades}, {@code steps} and {@code current} describes employee {@code i}; grade
+ * {@code 0} means the employee's amount matched no schedule cell. A candidate schedule is flattened by
+ * {@link #table(SalaryGradeMatrix, int)} into a {@code long[]} of minor units indexed by
+ * {@code (grade - 1) * maxStep + (step - 1)}, so simulating is one pass that computes cell indexes and one
+ * {@link SimulationKernel} pass that gathers through them.
+ *
+ * @see SalarySimulationServiceImp
+ */
+final class SalarySimulation {
+
+    /**
+     * Table value of a cell the candidate schedule does not define.
+     */
+    static final long MISSING = SalaryGradeMatrix.MISSING;
+
+    static final double[] PERCENTILES = {10, 25, 50, 75, 90};
+
+    private final int[] grades;
+    private final int[] steps;
+    private final long[] current;
+    private final int size;
+
+    SalarySimulation(int[] grades, int[] steps, long[] current, int size) {
+        this.grades = grades;
+        this.steps = steps;
+        this.current = current;
+        this.size = size;
+    }
+
+    /**
+     * Finds the grade and step of every amount by matching it against every cell of every schedule.
+     * When several cells share an amount, the one of the most recent schedule wins.
+     *
+     * @param amounts the current amounts in minor units of the matrix currency
+     * @param size    the number of amounts in use
+     * @param matrix  the salary grade matrix
+     */
+    static SalarySimulation locate(long[] amounts, int size, SalaryGradeMatrix matrix) {
+        final var MAX_STEP = matrix.maxStep();
+        final var INDEX = new TreeMap<Long, Integer>();
+        for (int schedule = 0; schedule < matrix.scheduleCount(); schedule++) {
+            for (int grade = 1; grade <= matrix.maxGrade(); grade++) {
+                for (int step = 1; step <= MAX_STEP; step++) {
+                    final var AMOUNT = matrix.amount(schedule, grade, step);
+                    if (AMOUNT != SalaryGradeMatrix.MISSING) {
+                        INDEX.put(AMOUNT, (grade - 1) * MAX_STEP + (step - 1));
+                    }
+                }
+            }
+        }
+
+        final var KEYS = new long[INDEX.size()];
+        final var CELLS = new int[INDEX.size()];
+        int position = 0;
+        for (var entry : INDEX.entrySet()) {
+            KEYS[position] = entry.getKey();
+            CELLS[position] = entry.getValue();
+            position++;
+        }
+
+        final var GRADES = new int[size];
+        final var STEPS = new int[size];
+        for (int i = 0; i < size; i++) {
+            final var FOUND = Arrays.binarySearch(KEYS, amounts[i]);
+            if (FOUND >= 0) {
+                GRADES[i] = CELLS[FOUND] / MAX_STEP + 1;
+                STEPS[i] = CELLS[FOUND] % MAX_STEP + 1;
+            }
+        }
+        return new SalarySimulation(GRADES, STEPS, amounts, size);
+    }
+
+    /**
+     * Flattens a schedule into a table of minor units with one trailing {@link #MISSING} cell for unmatched
+     * employees. A grade the schedule does not publish falls back to the latest schedule of that grade in effect on
+     * the schedule's effective date, as {@link SalaryGradeMatrix#amountAt(int, int, long)} does.
+     */
+    static long[] table(SalaryGradeMatrix matrix, int schedule) {
+        final var MAX_STEP = matrix.maxStep();
+        final var EPOCH_DAY = matrix.effectiveDate(schedule).toEpochDay();
+        final var TABLE = new long[matrix.maxGrade() * MAX_STEP + 1];
+        Arrays.fill(TABLE, MISSING);
+        for (int grade = 1; grade <= matrix.maxGrade(); grade++) {
+            for (int step = 1; step <= MAX_STEP; step++) {
+                final var AMOUNT = matrix.amount(schedule, grade, step);
+                TABLE[(grade - 1) * MAX_STEP + (step - 1)] = AMOUNT != MISSING ? AMOUNT : matrix.amountAt(grade, step, EPOCH_DAY);
+            }
+        }
+        return TABLE;
+    }
+
+    /**
+     * Moves every matched employee {@code stepIncrement} steps up (capped at {@code maxStep}) on the candidate table.
+     *
+     * @param table         a table built by {@link #table(SalaryGradeMatrix, int)}
+     * @param maxGrade      the number of grades in the table
+     * @param maxStep       the number of steps per grade in the table
+     * @param stepIncrement the number of steps to move up
+     * @param kernel        the kernel for the gather pass
+     */
+    Result run(long[] table, int maxGrade, int maxStep, int stepIncrement, SimulationKernel kernel) {
+        final var SENTINEL = table.length - 1;
+        final var CELLS = new int[size];
+        long unmatched = 0;
+        long unresolved = 0;
+        for (int i = 0; i < size; i++) {
+            final var GRADE = grades[i];
+            if (GRADE < 1 || GRADE > maxGrade) {
+                CELLS[i] = SENTINEL;
+                unmatched++;
+                continue;
+            }
+            final var CELL = (GRADE - 1) * maxStep + Math.min(steps[i] + stepIncrement, maxStep) - 1;
+            CELLS[i] = CELL;
+            if (table[CELL] == MISSING) {
+                unresolved++;
+            }
+        }
+
+        final var SIMULATED = new long[size];
+        final var SIMULATED_TOTAL = kernel.apply(CELLS, table, current, SIMULATED, size);
+
+        final var HEADCOUNTS = new long[maxGrade + 1];
+        final var CURRENT_TOTALS = new long[maxGrade + 1];
+        final var SIMULATED_TOTALS = new long[maxGrade + 1];
+        final var INCREASES = new long[size];
+        long currentTotal = 0;
+        for (int i = 0; i < size; i++) {
+            final var GRADE = grades[i] > maxGrade ? 0 : grades[i];
+            HEADCOUNTS[GRADE]++;
+            CURRENT_TOTALS[GRADE] += current[i];
+            SIMULATED_TOTALS[GRADE] += SIMULATED[i];
+            currentTotal += current[i];
+            INCREASES[i] = SIMULATED[i] - current[i];
+        }
+
+        return new Result(
+                size,
+                currentTotal,
+                SIMULATED_TOTAL,
+                unmatched,
+                unresolved,
+                HEADCOUNTS,
+                CURRENT_TOTALS,
+                SIMULATED_TOTALS,
+                MinorUnits.percentiles(SIMULATED, PERCENTILES),
+                MinorUnits.percentiles(INCREASES, PERCENTILES)
+        );
+    }
+
+    /**
+     * Totals of a simulation, in minor units. The per-grade arrays are indexed by grade; index {@code 0} holds the
+     * unmatched employees. The percentile arrays follow {@link #PERCENTILES}.
+     */
+    record Result(
+            long headcount,
+            long currentTotal,
+            long simulatedTotal,
+            long unmatched,
+            long unresolved,
+            long[] gradeHeadcounts,
+            long[] gradeCurrentTotals,
+            long[] gradeSimulatedTotals,
+            long[] simulatedPercentiles,
+            long[] increasePercentiles
+    ) {
+    }
+}
@@ -0,0 +1,177 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalarySimulationRequest;
+import dev.araopj.hrplatformapi.salary.dto.response.SalarySimulationGradeResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalarySimulationResponse;
+import dev.araopj.hrplatformapi.salary.repository.SalaryAmountRepository;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import dev.araopj.hrplatformapi.salary.service.SalarySimulationService;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+import static dev.araopj.hrplatformapi.employee.model.EmploymentStatus.*;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY_GRADE;
+
+/**
+ * Implementation of the {@link SalarySimulationService} interface.
+ * <p>
+ * Employment records do not reference a grade and step, so the current amount of every active employee is located in
+ * the salary grade matrix (see {@link SalarySimulation#locate}). Amounts are read in primary-key chunks straight into
+ * one {@code long[]}, and the simulation runs on primitive columns with the best available {@link SimulationKernel}.
+ *
+ * @see SalarySimulation
+ */
+@Slf4j
+@Service
+public class SalarySimulationServiceImp implements SalarySimulationService {
+
+    static final Set<EmploymentStatus> SEPARATED_STATUSES = EnumSet.of(RESIGNED, TERMINATED, RETIRED);
+
+    private final SalaryAmountRepository salaryAmountRepository;
+    private final SalaryGradeService salaryGradeService;
+    private final int chunkSize;
+    private final String defaultCurrency;
+    private final SimulationKernel kernel;
+
+    @Autowired
+    public SalarySimulationServiceImp(SalaryAmountRepository salaryAmountRepository,
+                                      SalaryGradeService salaryGradeService,
+                                      @Value("${hr-platform.salary.simulation.chunk-size:10000}") int chunkSize,
+                                      @Value("${hr-platform.salary.currency}") String defaultCurrency) {
+        this(salaryAmountRepository, salaryGradeService, chunkSize, defaultCurrency, SimulationKernel.select());
+    }
+
+    SalarySimulationServiceImp(SalaryAmountRepository salaryAmountRepository,
+                               SalaryGradeService salaryGradeService,
+                               int chunkSize,
+                               String defaultCurrency,
+                               SimulationKernel kernel) {
+        this.salaryAmountRepository = salaryAmountRepository;
+        this.salaryGradeService = salaryGradeService;
+        this.chunkSize = chunkSize;
+        this.defaultCurrency = defaultCurrency;
+        this.kernel = kernel;
+        log.info("Salary simulations use the [{}] kernel", kernel.name());
+    }
+
+    @Override
+    public SalarySimulationResponse simulate(SalarySimulationRequest simulationRequest) throws NotFoundException {
+        final var AS_OF = simulationRequest.asOf() != null ? simulationRequest.asOf() : LocalDate.now();
+        final var CURRENCY = Money.currency(simulationRequest.currency() != null ? simulationRequest.currency() : defaultCurrency);
+        final var MATRIX = salaryGradeService.snapshot();
+        if (!CURRENCY.equals(MATRIX.currency())) {
+            throw new InvalidRequestException("currency [%s] must be the salary grade currency [%s]".formatted(CURRENCY, MATRIX.currency()));
+        }
+        final var SCHEDULE = candidate(MATRIX, simulationRequest, AS_OF);
+
+        var amounts = new long[chunkSize];
+        int size = 0;
+        var afterId = "";
+        while (true) {
+            final var CHUNK = salaryAmountRepository.findActiveAfter(afterId, AS_OF, CURRENCY, SEPARATED_STATUSES, Limit.of(chunkSize));
+            if (size + CHUNK.size() > amounts.length) {
+                amounts = Arrays.copyOf(amounts, Math.max(amounts.length * 2, size + CHUNK.size()));
+            }
+            for (var salaryAmount : CHUNK) {
+                amounts[size++] = salaryAmount.minorUnits();
+            }
+            if (CHUNK.size() < chunkSize) {
+                break;
+            }
+            afterId = CHUNK.getLast().employmentInformationId();
+        }
+
+        final var STARTED = System.nanoTime();
+        final var RESULT = SalarySimulation.locate(amounts, size, MATRIX).run(
+                SalarySimulation.table(MATRIX, SCHEDULE),
+                MATRIX.maxGrade(),
+                MATRIX.maxStep(),
+                simulationRequest.stepIncrement(),
+                kernel
+        );
+        log.debug("Simulated [{}] employees on schedule [{}] in [{}] ms", size, SCHEDULE, (System.nanoTime() - STARTED) / 1_000_000);
+
+        return toResponse(MATRIX, SCHEDULE, simulationRequest.stepIncrement(), CURRENCY, RESULT);
+    }
+
+    /**
+     * @return the latest schedule of the requested tranche (and legal basis), or the one in effect on {@code asOf}
+     * when no tranche is requested
+     */
+    private static int candidate(SalaryGradeMatrix matrix, SalarySimulationRequest simulationRequest, LocalDate asOf) throws NotFoundException {
+        if (simulationRequest.tranche() == null) {
+            final var SCHEDULE = matrix.scheduleAt(asOf);
+            if (SCHEDULE == SalaryGradeMatrix.NONE) {
+                throw new NotFoundException("schedule as of %s".formatted(asOf), SALARY_GRADE);
+            }
+            return SCHEDULE;
+        }
+
+        int found = SalaryGradeMatrix.NONE;
+        for (int schedule = 0; schedule < matrix.scheduleCount(); schedule++) {
+            if (matrix.tranche(schedule) == simulationRequest.tranche()
+                    && (simulationRequest.legalBasis() == null || simulationRequest.legalBasis().equals(matrix.legalBasis(schedule)))) {
+                found = schedule;
+            }
+        }
+        if (found == SalaryGradeMatrix.NONE) {
+            throw new NotFoundException("tranche %d".formatted(simulationRequest.tranche()), SALARY_GRADE);
+        }
+        return found;
+    }
+
+    private SalarySimulationResponse toResponse(SalaryGradeMatrix matrix, int schedule, int stepIncrement, Currency currency, SalarySimulation.Result result) {
+        final var GRADES = new ArrayList<SalarySimulationGradeResponse>();
+        for (int grade = 1; grade < result.gradeHeadcounts().length; grade++) {
+            if (result.gradeHeadcounts()[grade] > 0) {
+                GRADES.add(SalarySimulationGradeResponse.builder()
+                        .salaryGrade(grade)
+                        .headcount(result.gradeHeadcounts()[grade])
+                        .currentTotal(decimal(result.gradeCurrentTotals()[grade], currency))
+                        .simulatedTotal(decimal(result.gradeSimulatedTotals()[grade], currency))
+                        .build());
+            }
+        }
+
+        return SalarySimulationResponse.builder()
+                .legalBasis(matrix.legalBasis(schedule))
+                .tranche(matrix.tranche(schedule))
+                .effectiveDate(matrix.effectiveDate(schedule))
+                .stepIncrement(stepIncrement)
+                .currency(currency.getCurrencyCode())
+                .headcount(result.headcount())
+                .unmatched(result.unmatched())
+                .unresolved(result.unresolved())
+                .currentTotal(decimal(result.currentTotal(), currency))
+                .simulatedTotal(decimal(result.simulatedTotal(), currency))
+                .difference(decimal(result.simulatedTotal() - result.currentTotal(), currency))
+                .simulatedPercentiles(percentiles(result.simulatedPercentiles(), currency))
+                .increasePercentiles(percentiles(result.increasePercentiles(), currency))
+                .grades(GRADES)
+                .engine(kernel.name())
+                .build();
+    }
+
+    private static Map<String, BigDecimal> percentiles(long[] values, Currency currency) {
+        final var PERCENTILES = new LinkedHashMap<String, BigDecimal>();
+        for (int i = 0; i < SalarySimulation.PERCENTILES.length; i++) {
+            PERCENTILES.put("p%d".formatted((int) SalarySimulation.PERCENTILES[i]), decimal(values[i], currency));
+        }
+        return PERCENTILES;
+    }
+
+    private static BigDecimal decimal(long minorUnits, Currency currency) {
+        return Money.ofMinor(minorUnits, currency).toBigDecimal();
+    }
+}
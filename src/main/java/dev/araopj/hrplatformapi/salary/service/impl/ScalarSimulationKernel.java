@@ -0,0 +1,25 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+/**
+ * Portable {@link SimulationKernel}. The loop is branch-free apart from the select, which C2 can usually
+ * auto-vectorize on its own.
+ */
+final class ScalarSimulationKernel implements SimulationKernel {
+
+    @Override
+    public long apply(int[] cells, long[] table, long[] current, long[] simulated, int length) {
+        long total = 0;
+        for (int i = 0; i < length; i++) {
+            final var CANDIDATE = table[cells[i]];
+            final var AMOUNT = CANDIDATE < 0 ? current[i] : CANDIDATE;
+            simulated[i] = AMOUNT;
+            total += AMOUNT;
+        }
+        return total;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,40 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+/**
+ * The inner loop of a salary simulation: {@code simulated[i] = table[cells[i]]}, or {@code current[i]} when that
+ * table cell is {@link SalarySimulation#MISSING}.
+ * <p>
+ * Totals are plain (non-exact) additions: a million salaries of a billion minor units each is still four orders of
+ * magnitude below {@link Long#MAX_VALUE}.
+ */
+interface SimulationKernel {
+
+    /**
+     * @param cells     the table cell of every employee
+     * @param table     the candidate amounts in minor units, {@link SalarySimulation#MISSING} where undefined
+     * @param current   the current amount of every employee
+     * @param simulated receives the simulated amount of every employee
+     * @param length    the number of employees
+     * @return the simulated total
+     */
+    long apply(int[] cells, long[] table, long[] current, long[] simulated, int length);
+
+    String name();
+
+    /**
+     * @return the Vector API kernel if it was compiled in ({@code -Pvector}), the {@code jdk.incubator.vector} module
+     * is resolved and the CPU has more than one long lane, otherwise the scalar kernel
+     */
+    static SimulationKernel select() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (SimulationKernel) Class.forName(SimulationKernel.class.getPackageName() + ".VectorSimulationKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError ignored) {
+                // not compiled in, or unusable on this platform
+            }
+        }
+        return new ScalarSimulationKernel();
+    }
+}
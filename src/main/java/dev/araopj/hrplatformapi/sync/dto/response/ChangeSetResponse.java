@@ -0,0 +1,19 @@
+package dev.araopj.hrplatformapi.sync.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * One page of a delta sync: the rows changed and deleted after the request's cursor, oldest first.
+ * {@code cursor} is where the next request continues, also when {@code hasMore} is {@code false}: keep it to ask for
+ * what changes later.
+ */
+@Builder
+public record ChangeSetResponse<T>(
+        List<T> changed,
+        List<TombstoneResponse> deleted,
+        String cursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,12 @@
+package dev.araopj.hrplatformapi.sync.dto.response;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record TombstoneResponse(
+        String id,
+        Instant deletedAt
+) {
+}
@@ -0,0 +1,73 @@
+package dev.araopj.hrplatformapi.sync.listener;
+
+import dev.araopj.hrplatformapi.employee.model.Employee;
+import dev.araopj.hrplatformapi.employee.model.Position;
+import dev.araopj.hrplatformapi.employee.model.Salary;
+import dev.araopj.hrplatformapi.employee.model.Workplace;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.*;
+
+/**
+ * Writes a {@code tombstone} row for every deleted employee, salary, position and workplace, on the connection of the
+ * transaction that deletes it, so the tombstone commits or rolls back with the delete.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TombstoneListener implements PostDeleteEventListener {
+
+    private static final Map<Class<?>, EntityType> SYNCED_ENTITIES = Map.of(
+            Employee.class, EMPLOYEE,
+            Salary.class, SALARY,
+            Position.class, POSITION,
+            Workplace.class, WORKPLACE
+    );
+    private static final String INSERT = """
+            INSERT INTO tombstone (id, entity_type, entity_id, deleted_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_DELETE, this);
+        log.info("Writing tombstones for deleted {}", SYNCED_ENTITIES.values());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        final var ENTITY_TYPE = SYNCED_ENTITIES.get(event.getPersister().getMappedClass());
+        if (ENTITY_TYPE != null) {
+            final var NOW = Timestamp.from(Instant.now());
+            jdbcTemplate.update(INSERT, UUID.randomUUID().toString(), ENTITY_TYPE.name(), String.valueOf(event.getId()), NOW, NOW, NOW);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
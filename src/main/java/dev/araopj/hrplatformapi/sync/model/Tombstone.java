@@ -0,0 +1,45 @@
+package dev.araopj.hrplatformapi.sync.model;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.annotations.Uuid;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Records that a row was deleted, so delta-sync clients can drop it from their cache.
+ * <p>
+ * Inserted by {@link dev.araopj.hrplatformapi.sync.listener.TombstoneListener} in the transaction that deletes the
+ * row, and read in {@code (deleted_at, entity_id)} keyset order per entity type.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Immutable
+@Table(
+        name = "tombstone",
+        indexes = @Index(name = "idx_tombstone_entity_type_deleted_at", columnList = "entity_type, deleted_at, entity_id")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class Tombstone extends EntityTimestamp implements Serializable {
+
+    @Id
+    @Uuid
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private EntityType entityType;
+
+    @Column(nullable = false, updatable = false)
+    private String entityId;
+
+    @Column(nullable = false, updatable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,39 @@
+package dev.araopj.hrplatformapi.sync.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The keyset read behind the delta-sync change feed, shared by the repositories of every synced entity. The entity
+ * must extend {@link dev.araopj.hrplatformapi.utils.EntityTimestamp}, have a {@code String} id and an
+ * {@code (updated_at, id)} index.
+ *
+ * @param <T> the synced entity
+ */
+@NoRepositoryBean
+public interface ChangeFeedRepository<T> extends Repository<T, String> {
+
+    /**
+     * Reads the entities updated strictly after {@code (updatedAt, id)} and before {@code until}, in keyset order.
+     * A {@code null} id reads those updated strictly after {@code updatedAt}.
+     */
+    @Query("""
+            SELECT e FROM #{#entityName} e
+            WHERE e.updatedAt >= :updatedAt
+              AND (e.updatedAt > :updatedAt OR e.id > :id)
+              AND e.updatedAt < :until
+            ORDER BY e.updatedAt, e.id
+            """)
+    List<T> findChangedAfter(
+            @Param("updatedAt") Instant updatedAt,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Limit limit
+    );
+}
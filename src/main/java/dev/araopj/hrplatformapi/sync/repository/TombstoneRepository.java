@@ -0,0 +1,36 @@
+package dev.araopj.hrplatformapi.sync.repository;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.sync.model.Tombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, String> {
+
+    /**
+     * Reads the tombstones of one entity type strictly after {@code (deletedAt, entityId)} and before {@code until},
+     * in keyset order.
+     */
+    @Query("""
+            SELECT t FROM Tombstone t
+            WHERE t.entityType = :entityType
+              AND t.deletedAt >= :deletedAt
+              AND (t.deletedAt > :deletedAt OR t.entityId > :entityId)
+              AND t.deletedAt < :until
+            ORDER BY t.deletedAt, t.entityId
+            """)
+    List<Tombstone> findDeletedAfter(
+            @Param("entityType") EntityType entityType,
+            @Param("deletedAt") Instant deletedAt,
+            @Param("entityId") String entityId,
+            @Param("until") Instant until,
+            Limit limit
+    );
+}
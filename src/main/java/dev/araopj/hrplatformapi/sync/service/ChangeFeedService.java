@@ -0,0 +1,41 @@
+package dev.araopj.hrplatformapi.sync.service;
+
+import dev.araopj.hrplatformapi.employee.dto.response.EmployeeResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.PositionResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.WorkplaceResponse;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.sync.dto.response.ChangeSetResponse;
+
+import java.time.Instant;
+
+/**
+ * Service interface for delta sync: what changed and what was deleted after a point, so clients that cache rows
+ * locally only download the difference.
+ * <p>
+ * Pages are read in {@code (updatedAt, id)} keyset order, merged with the tombstones in {@code (deletedAt, id)} order.
+ * The first request passes {@code since} (rows changed strictly after it; all rows if {@code null}), later ones the
+ * {@code cursor} of the previous page, which takes precedence.
+ */
+public interface ChangeFeedService {
+
+    /**
+     * @throws InvalidRequestException if the size is out of range or the cursor is invalid
+     */
+    ChangeSetResponse<EmployeeResponse> employees(Instant since, String cursor, int size) throws InvalidRequestException;
+
+    /**
+     * @throws InvalidRequestException if the size is out of range or the cursor is invalid
+     */
+    ChangeSetResponse<SalaryResponse> salaries(Instant since, String cursor, int size) throws InvalidRequestException;
+
+    /**
+     * @throws InvalidRequestException if the size is out of range or the cursor is invalid
+     */
+    ChangeSetResponse<PositionResponse> positions(Instant since, String cursor, int size) throws InvalidRequestException;
+
+    /**
+     * @throws InvalidRequestException if the size is out of range or the cursor is invalid
+     */
+    ChangeSetResponse<WorkplaceResponse> workplaces(Instant since, String cursor, int size) throws InvalidRequestException;
+}
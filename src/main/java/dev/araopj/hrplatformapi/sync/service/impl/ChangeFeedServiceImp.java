@@ -0,0 +1,171 @@
+package dev.araopj.hrplatformapi.sync.service.impl;
+
+import dev.araopj.hrplatformapi.employee.dto.response.EmployeeResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.PositionResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.WorkplaceResponse;
+import dev.araopj.hrplatformapi.employee.model.Employee;
+import dev.araopj.hrplatformapi.employee.model.Position;
+import dev.araopj.hrplatformapi.employee.model.Salary;
+import dev.araopj.hrplatformapi.employee.model.Workplace;
+import dev.araopj.hrplatformapi.employee.repository.EmployeeRepository;
+import dev.araopj.hrplatformapi.employee.repository.PositionRepository;
+import dev.araopj.hrplatformapi.employee.repository.SalaryRepository;
+import dev.araopj.hrplatformapi.employee.repository.WorkplaceRepository;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.sync.dto.response.ChangeSetResponse;
+import dev.araopj.hrplatformapi.sync.dto.response.TombstoneResponse;
+import dev.araopj.hrplatformapi.sync.model.Tombstone;
+import dev.araopj.hrplatformapi.sync.repository.TombstoneRepository;
+import dev.araopj.hrplatformapi.sync.service.ChangeFeedService;
+import dev.araopj.hrplatformapi.utils.EntityTimestamp;
+import dev.araopj.hrplatformapi.utils.KeysetCursor;
+import dev.araopj.hrplatformapi.utils.mappers.EmployeeMapper;
+import dev.araopj.hrplatformapi.utils.mappers.PositionMapper;
+import dev.araopj.hrplatformapi.utils.mappers.SalaryMapper;
+import dev.araopj.hrplatformapi.utils.mappers.WorkplaceMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.*;
+
+/**
+ * Implementation of the {@link ChangeFeedService} interface.
+ * <p>
+ * A page reads at most {@code size + 1} changed rows and {@code size + 1} tombstones, each an index range scan on
+ * {@code (updated_at, id)} or {@code (entity_type, deleted_at, entity_id)}, and merges them. Rows are only returned
+ * once they are older than {@code hr-platform.sync.settle-time}: {@code updatedAt} is set when the row is flushed, not
+ * when it commits, so a transaction still open when a client syncs could otherwise commit a row behind its cursor.
+ */
+@Slf4j
+@Service
+public class ChangeFeedServiceImp implements ChangeFeedService {
+
+    private static final Comparator<KeysetCursor> KEYSET_ORDER = Comparator.comparing(KeysetCursor::timestamp)
+            .thenComparing(KeysetCursor::id);
+
+    private final EmployeeRepository employeeRepository;
+    private final SalaryRepository salaryRepository;
+    private final PositionRepository positionRepository;
+    private final WorkplaceRepository workplaceRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final Duration settleTime;
+    private final int maxSize;
+
+    public ChangeFeedServiceImp(
+            EmployeeRepository employeeRepository,
+            SalaryRepository salaryRepository,
+            PositionRepository positionRepository,
+            WorkplaceRepository workplaceRepository,
+            TombstoneRepository tombstoneRepository,
+            @Value("${hr-platform.sync.settle-time:PT5S}") Duration settleTime,
+            @Value("${hr-platform.sync.max-size:1000}") int maxSize
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.salaryRepository = salaryRepository;
+        this.positionRepository = positionRepository;
+        this.workplaceRepository = workplaceRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.settleTime = settleTime;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeSetResponse<EmployeeResponse> employees(Instant since, String cursor, int size) throws InvalidRequestException {
+        return changes(EMPLOYEE, since, cursor, size, employeeRepository::findChangedAfter, Employee::getId,
+                employee -> EmployeeMapper.toDto(employee, false, false));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeSetResponse<SalaryResponse> salaries(Instant since, String cursor, int size) throws InvalidRequestException {
+        return changes(SALARY, since, cursor, size, salaryRepository::findChangedAfter, Salary::getId, SalaryMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeSetResponse<PositionResponse> positions(Instant since, String cursor, int size) throws InvalidRequestException {
+        return changes(POSITION, since, cursor, size, positionRepository::findChangedAfter, Position::getId, PositionMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeSetResponse<WorkplaceResponse> workplaces(Instant since, String cursor, int size) throws InvalidRequestException {
+        return changes(WORKPLACE, since, cursor, size, workplaceRepository::findChangedAfter, Workplace::getId,
+                workplace -> WorkplaceMapper.toDto(workplace, false));
+    }
+
+    private <E extends EntityTimestamp, R> ChangeSetResponse<R> changes(
+            EntityType entityType,
+            Instant since,
+            String cursor,
+            int size,
+            ChangedRows<E> changedRows,
+            Function<E, String> idOf,
+            Function<E, R> toDto
+    ) throws InvalidRequestException {
+        if (size < 1 || size > maxSize) {
+            throw new InvalidRequestException("size must be between 1 and %d".formatted(maxSize));
+        }
+        // a null id reads strictly after the timestamp: (updated_at > since OR id > NULL)
+        final var AFTER = cursor != null && !cursor.isBlank()
+                ? KeysetCursor.decode(cursor)
+                : new KeysetCursor(since != null ? since : Instant.EPOCH, null);
+        final var UNTIL = Instant.now().minus(settleTime);
+        final var LIMIT = Limit.of(size + 1);
+
+        final var ROWS = changedRows.after(AFTER.timestamp(), AFTER.id(), UNTIL, LIMIT);
+        final var TOMBSTONES = tombstoneRepository.findDeletedAfter(entityType, AFTER.timestamp(), AFTER.id(), UNTIL, LIMIT);
+
+        final var CHANGED = new ArrayList<R>();
+        final var DELETED = new ArrayList<TombstoneResponse>();
+        var last = AFTER.id() != null ? AFTER : null;
+        int row = 0;
+        int tombstone = 0;
+        while (CHANGED.size() + DELETED.size() < size && (row < ROWS.size() || tombstone < TOMBSTONES.size())) {
+            final var ROW_POSITION = row < ROWS.size() ? position(ROWS.get(row), idOf) : null;
+            final var TOMBSTONE_POSITION = tombstone < TOMBSTONES.size() ? position(TOMBSTONES.get(tombstone)) : null;
+            if (TOMBSTONE_POSITION == null || (ROW_POSITION != null && KEYSET_ORDER.compare(ROW_POSITION, TOMBSTONE_POSITION) < 0)) {
+                CHANGED.add(toDto.apply(ROWS.get(row++)));
+                last = ROW_POSITION;
+            } else {
+                final var TOMBSTONE = TOMBSTONES.get(tombstone++);
+                DELETED.add(new TombstoneResponse(TOMBSTONE.getEntityId(), TOMBSTONE.getDeletedAt()));
+                last = TOMBSTONE_POSITION;
+            }
+        }
+
+        log.debug("Delta sync of [{}] after [{}] returned [{}] changed and [{}] deleted", entityType, AFTER, CHANGED.size(), DELETED.size());
+        return ChangeSetResponse.<R>builder()
+                .changed(CHANGED)
+                .deleted(DELETED)
+                .cursor(last != null ? last.encode() : null)
+                .hasMore(row < ROWS.size() || tombstone < TOMBSTONES.size())
+                .build();
+    }
+
+    private static <E extends EntityTimestamp> KeysetCursor position(E entity, Function<E, String> idOf) {
+        return new KeysetCursor(entity.getUpdatedAt(), idOf.apply(entity));
+    }
+
+    private static KeysetCursor position(Tombstone tombstone) {
+        return new KeysetCursor(tombstone.getDeletedAt(), tombstone.getEntityId());
+    }
+
+    @FunctionalInterface
+    interface ChangedRows<E> {
+        List<E> after(Instant updatedAt, String id, Instant until, Limit limit);
+    }
+}
@@ -0,0 +1,54 @@
+package dev.araopj.hrplatformapi.user.listener;
+
+import dev.araopj.hrplatformapi.user.model.Permission;
+import dev.araopj.hrplatformapi.user.model.Role;
+import dev.araopj.hrplatformapi.user.service.AuthorizationService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that recompiles the permission matrix whenever a {@link Role} or {@link Permission} is written.
+ * The rebuild runs after the surrounding transaction commits, so the new matrix reflects the committed state.
+ *
+ * @see AuthorizationService#rebuild()
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorizationMatrixListener {
+
+    private static final Object REBUILD_SCHEDULED = new Object();
+
+    private final ObjectProvider<AuthorizationService> authorizationService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // one rebuild per transaction, however many roles or permissions it touches
+            if (TransactionSynchronizationManager.hasResource(REBUILD_SCHEDULED)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(REBUILD_SCHEDULED, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    authorizationService.getObject().rebuild();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(REBUILD_SCHEDULED);
+                }
+            });
+        } else {
+            authorizationService.getObject().rebuild();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package dev.araopj.hrplatformapi.user.model;
 
+import dev.araopj.hrplatformapi.user.listener.AuthorizationMatrixListener;
 import dev.araopj.hrplatformapi.utils.EntityTimestamp;
 import dev.araopj.hrplatformapi.utils.annotations.Uuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -17,6 +19,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Builder
 @Data
+@EntityListeners(AuthorizationMatrixListener.class)
 public class Permission extends EntityTimestamp implements Serializable {
 
     @Id
@@ -1,11 +1,13 @@
 package dev.araopj.hrplatformapi.user.model;
 
+import dev.araopj.hrplatformapi.user.listener.AuthorizationMatrixListener;
 import dev.araopj.hrplatformapi.utils.EntityTimestamp;
 import dev.araopj.hrplatformapi.utils.annotations.Uuid;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.io.Serializable;
+import java.util.Set;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
@@ -13,6 +15,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Builder
 @Data
+@EntityListeners(AuthorizationMatrixListener.class)
 public class Role extends EntityTimestamp implements Serializable {
 
     @Id
@@ -31,4 +34,12 @@ public class Role extends EntityTimestamp implements Serializable {
 
     @OneToOne(mappedBy = "role", cascade = CascadeType.ALL)
     User user;
+
+    @ManyToMany
+    @JoinTable(
+            name = "role_permission",
+            joinColumns = @JoinColumn(name = "role_id"),
+            inverseJoinColumns = @JoinColumn(name = "permission_id")
+    )
+    Set<Permission> permissions;
 }
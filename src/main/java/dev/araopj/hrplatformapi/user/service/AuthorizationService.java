@@ -0,0 +1,74 @@
+package dev.araopj.hrplatformapi.user.service;
+
+import dev.araopj.hrplatformapi.user.model.UserRole;
+
+/**
+ * Service interface for evaluating role permissions.
+ * Implementations answer checks from a precompiled, in-memory matrix so that no query is issued on the request path.
+ * <p>
+ * Example Usage:
+ * <pre>
+ * {@code
+ * // resolve once the matrix is built, e.g. on ApplicationReadyEvent; indexes stay valid across rebuilds
+ * int employeeRead = authorizationService.permissionIndex("EMPLOYEE_READ");
+ *
+ * // per request
+ * if (!authorizationService.hasPermission(user.getRole().getId(), employeeRead)) {
+ *     throw new InvalidRequestException("Not allowed");
+ * }
+ * }
+ * </pre>
+ */
+public interface AuthorizationService {
+
+    /**
+     * Resolves the index of a permission code in the current matrix.
+     * Once assigned, an index always refers to the same code, even after rebuilds that add or remove permissions.
+     * A code that does not exist yet resolves to {@code -1} and must be resolved again after it is created.
+     *
+     * @param permissionCode The permission code.
+     * @return The permission index, or {@code -1} if the permission does not exist.
+     */
+    int permissionIndex(String permissionCode);
+
+    /**
+     * Checks whether a role holds a permission.
+     *
+     * @param roleId          The role ID.
+     * @param permissionIndex The permission index, see {@link #permissionIndex(String)}.
+     * @return {@code true} if the role holds the permission.
+     */
+    boolean hasPermission(String roleId, int permissionIndex);
+
+    /**
+     * Checks whether a role holds a permission.
+     *
+     * @param roleId         The role ID.
+     * @param permissionCode The permission code.
+     * @return {@code true} if the role holds the permission.
+     */
+    boolean hasPermission(String roleId, String permissionCode);
+
+    /**
+     * Checks whether any role of the given type holds a permission.
+     *
+     * @param userRole       The role type.
+     * @param permissionCode The permission code.
+     * @return {@code true} if a role of that type holds the permission.
+     */
+    boolean hasPermission(UserRole userRole, String permissionCode);
+
+    /**
+     * Checks whether a role holds at least one permission of a category.
+     *
+     * @param roleId   The role ID.
+     * @param category The permission category.
+     * @return {@code true} if the role holds any permission of the category.
+     */
+    boolean hasAnyPermissionInCategory(String roleId, String category);
+
+    /**
+     * Recompiles the matrix from the database and atomically replaces the current one.
+     */
+    void rebuild();
+}
@@ -0,0 +1,82 @@
+package dev.araopj.hrplatformapi.user.service.impl;
+
+import dev.araopj.hrplatformapi.user.model.UserRole;
+import dev.araopj.hrplatformapi.user.repository.PermissionRepository;
+import dev.araopj.hrplatformapi.user.repository.RoleRepository;
+import dev.araopj.hrplatformapi.user.service.AuthorizationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementation of {@link AuthorizationService} backed by an immutable {@link PermissionMatrix}.
+ * The matrix is compiled on startup and recompiled whenever a {@code Role} or {@code Permission} changes;
+ * readers always see either the old or the new matrix, never a partially built one. Each rebuild starts from the
+ * current matrix, so permission indexes handed out earlier stay valid.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthorizationServiceImp implements AuthorizationService {
+
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final AtomicReference<PermissionMatrix> matrix = new AtomicReference<>(PermissionMatrix.EMPTY);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Override
+    public int permissionIndex(String permissionCode) {
+        return matrix.get().indexOf(permissionCode);
+    }
+
+    @Override
+    public boolean hasPermission(String roleId, int permissionIndex) {
+        return matrix.get().hasPermission(roleId, permissionIndex);
+    }
+
+    @Override
+    public boolean hasPermission(String roleId, String permissionCode) {
+        final var MATRIX = matrix.get();
+        return MATRIX.hasPermission(roleId, MATRIX.indexOf(permissionCode));
+    }
+
+    @Override
+    public boolean hasPermission(UserRole userRole, String permissionCode) {
+        final var MATRIX = matrix.get();
+        return MATRIX.hasPermission(userRole, MATRIX.indexOf(permissionCode));
+    }
+
+    @Override
+    public boolean hasAnyPermissionInCategory(String roleId, String category) {
+        return matrix.get().hasAnyInCategory(roleId, category);
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        final var COMPILED = new PermissionMatrix(
+                matrix.get(),
+                permissionRepository.findAll(),
+                roleRepository.findAllWithPermissions()
+        );
+        matrix.set(COMPILED);
+        log.info("Compiled permission matrix with [{}] permissions and [{}] roles",
+                COMPILED.permissionCount(),
+                COMPILED.roleCount()
+        );
+    }
+
+    /**
+     * @return The currently active matrix, for callers that need several checks against one consistent snapshot.
+     */
+    public PermissionMatrix snapshot() {
+        return matrix.get();
+    }
+}
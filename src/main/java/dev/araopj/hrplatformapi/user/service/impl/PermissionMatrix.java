@@ -0,0 +1,186 @@
+package dev.araopj.hrplatformapi.user.service.impl;
+
+import dev.araopj.hrplatformapi.user.model.Permission;
+import dev.araopj.hrplatformapi.user.model.Role;
+import dev.araopj.hrplatformapi.user.model.UserRole;
+
+import java.util.*;
+
+/**
+ * Immutable, precompiled role/permission matrix.
+ * <p>
+ * Every distinct permission code is assigned an integer index, and every role is compiled into a {@code long[]}
+ * bit mask over those indexes. Checks are a map lookup plus a single bit test, and never allocate.
+ * <p>
+ * Indexes are append-only: a matrix built from a previous one keeps every index the previous one assigned and
+ * gives new codes the next free indexes, in code order. A removed code keeps its slot, no role holds it, and
+ * {@link #indexOf(String)} reports it as {@link #UNKNOWN} until it is added back under the same index. An index
+ * resolved once therefore never points at a different permission later.
+ *
+ * @see AuthorizationServiceImp
+ */
+public final class PermissionMatrix {
+
+    /**
+     * Returned by {@link #indexOf(String)} when the permission code is unknown.
+     */
+    public static final int UNKNOWN = -1;
+
+    static final PermissionMatrix EMPTY = new PermissionMatrix(List.of(), List.of());
+
+    private final Map<String, Integer> permissionIndexes;
+    private final String[] permissionCodes;
+    private final long[] liveMask;
+    private final int liveCount;
+    private final Map<String, long[]> categoryMasks;
+    private final Map<String, long[]> roleMasks;
+    private final EnumMap<UserRole, long[]> userRoleMasks = new EnumMap<>(UserRole.class);
+
+    PermissionMatrix(Collection<Permission> permissions, Collection<Role> roles) {
+        this(null, permissions, roles);
+    }
+
+    /**
+     * @param previous    The matrix being replaced, whose index assignments are kept; {@code null} for the first build.
+     * @param permissions All permissions.
+     * @param roles       All roles, with their permissions loaded.
+     */
+    PermissionMatrix(PermissionMatrix previous, Collection<Permission> permissions, Collection<Role> roles) {
+        var codes = new TreeSet<String>();
+        for (var permission : permissions) {
+            codes.add(permission.getCode());
+        }
+        for (var role : roles) {
+            if (role.getPermissions() != null) {
+                for (var permission : role.getPermissions()) {
+                    codes.add(permission.getCode());
+                }
+            }
+        }
+
+        var assigned = new ArrayList<String>(codes.size());
+        var indexes = new HashMap<String, Integer>(codes.size() * 2);
+        if (previous != null) {
+            Collections.addAll(assigned, previous.permissionCodes);
+            indexes.putAll(previous.permissionIndexes);
+        }
+        for (var code : codes) {
+            if (indexes.putIfAbsent(code, assigned.size()) == null) {
+                assigned.add(code);
+            }
+        }
+        permissionCodes = assigned.toArray(String[]::new);
+        permissionIndexes = Map.copyOf(indexes);
+
+        final var WORDS = words(permissionCodes.length);
+
+        liveMask = new long[WORDS];
+        for (var code : codes) {
+            set(liveMask, permissionIndexes.get(code));
+        }
+        liveCount = codes.size();
+
+        var categories = new HashMap<String, long[]>();
+        for (var permission : permissions) {
+            var mask = categories.computeIfAbsent(permission.getCategory(), category -> new long[WORDS]);
+            set(mask, permissionIndexes.get(permission.getCode()));
+        }
+        categoryMasks = Map.copyOf(categories);
+
+        var masks = new HashMap<String, long[]>(roles.size() * 2);
+        for (var userRole : UserRole.values()) {
+            userRoleMasks.put(userRole, new long[WORDS]);
+        }
+        for (var role : roles) {
+            var mask = new long[WORDS];
+            if (role.getPermissions() != null) {
+                for (var permission : role.getPermissions()) {
+                    set(mask, permissionIndexes.get(permission.getCode()));
+                }
+            }
+            masks.put(role.getId(), mask);
+            if (role.getRole() != null) {
+                var userRoleMask = userRoleMasks.get(role.getRole());
+                for (int i = 0; i < WORDS; i++) {
+                    userRoleMask[i] |= mask[i];
+                }
+            }
+        }
+        roleMasks = Map.copyOf(masks);
+    }
+
+    /**
+     * Resolves the index of a permission code.
+     * Indexes are stable across rebuilds, so callers on the request path may resolve them once and reuse them.
+     *
+     * @param permissionCode The permission code, e.g. "EMPLOYEE_READ".
+     * @return The index, or {@link #UNKNOWN} if no such permission exists.
+     */
+    public int indexOf(String permissionCode) {
+        var index = permissionIndexes.get(permissionCode);
+        return index == null || !test(liveMask, index) ? UNKNOWN : index;
+    }
+
+    /**
+     * @param index A permission index.
+     * @return The permission code at that index.
+     */
+    public String codeAt(int index) {
+        return permissionCodes[index];
+    }
+
+    /**
+     * @return The number of distinct permission codes in this matrix.
+     */
+    public int permissionCount() {
+        return liveCount;
+    }
+
+    /**
+     * @return The number of compiled roles in this matrix.
+     */
+    public int roleCount() {
+        return roleMasks.size();
+    }
+
+    public boolean hasPermission(String roleId, int permissionIndex) {
+        return test(roleMasks.get(roleId), permissionIndex);
+    }
+
+    public boolean hasPermission(UserRole userRole, int permissionIndex) {
+        return test(userRoleMasks.get(userRole), permissionIndex);
+    }
+
+    /**
+     * Checks whether a role holds at least one permission of the given category.
+     *
+     * @param roleId   The role ID.
+     * @param category The permission category, e.g. "EMPLOYEE".
+     * @return {@code true} if the role and category masks intersect.
+     */
+    public boolean hasAnyInCategory(String roleId, String category) {
+        var roleMask = roleMasks.get(roleId);
+        var categoryMask = categoryMasks.get(category);
+        if (roleMask == null || categoryMask == null) {
+            return false;
+        }
+        for (int i = 0; i < roleMask.length; i++) {
+            if ((roleMask[i] & categoryMask[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean test(long[] mask, int index) {
+        return mask != null && index >= 0 && index < mask.length << 6 && (mask[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] mask, int index) {
+        mask[index >>> 6] |= 1L << index;
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
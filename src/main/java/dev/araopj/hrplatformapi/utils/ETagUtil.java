@@ -0,0 +1,59 @@
+package dev.araopj.hrplatformapi.utils;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
+
+/**
+ * Utility class for mapping the {@link EntityTimestamp#getVersion() version} of an entity to and from the
+ * {@code ETag} and {@code If-Match} headers.
+ */
+public class ETagUtil {
+
+    /**
+     * Formats a version as a strong entity tag.
+     *
+     * @param version The version of the entity.
+     * @return The quoted version, e.g. {@code "5"}.
+     */
+    public static String eTag(long version) {
+        return "\"%d\"".formatted(version);
+    }
+
+    /**
+     * Parses the version from an {@code If-Match} header.
+     *
+     * @param ifMatch The header value, may be null.
+     * @return The version, or null if the header is absent or {@code *}.
+     * @throws InvalidRequestException if the header is not a single entity tag returned by {@link #eTag(long)}.
+     */
+    public static Long ifMatch(String ifMatch) throws InvalidRequestException {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        final var TAG = ifMatch.strip();
+        if (TAG.length() < 3 || TAG.charAt(0) != '"' || TAG.charAt(TAG.length() - 1) != '"') {
+            throw new InvalidRequestException("If-Match must be a single ETag returned by this API, got [%s]".formatted(ifMatch));
+        }
+        try {
+            return Long.parseLong(TAG.substring(1, TAG.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("If-Match must be a single ETag returned by this API, got [%s]".formatted(ifMatch), e);
+        }
+    }
+
+    /**
+     * Checks that an entity is still at the version the client read.
+     *
+     * @param entity          The entity as loaded for the update.
+     * @param expectedVersion The version from {@code If-Match}; null skips the check.
+     * @param id              The ID of the entity.
+     * @param entityType      The type of the entity.
+     * @throws PreconditionFailedException if the entity is at a different version.
+     */
+    public static void checkVersion(EntityTimestamp entity, Long expectedVersion, String id, EntityType entityType) throws PreconditionFailedException {
+        if (expectedVersion != null && expectedVersion != entity.getVersion()) {
+            throw new PreconditionFailedException(id, entityType, expectedVersion, entity.getVersion());
+        }
+    }
+}
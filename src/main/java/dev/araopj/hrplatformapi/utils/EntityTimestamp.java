@@ -2,7 +2,9 @@ package dev.araopj.hrplatformapi.utils;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,5 +21,15 @@ public abstract class EntityTimestamp {
     @Column(nullable = false)
     @UpdateTimestamp
     private Instant updatedAt;
+
+    /**
+     * Incremented by Hibernate on every update and checked in its {@code WHERE} clause, so a write based on a stale
+     * read fails instead of overwriting a concurrent one. Exposed as the ETag of single-entity responses. Rows that
+     * existed before the column, or are inserted through JDBC, start at the column default.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
 }
 
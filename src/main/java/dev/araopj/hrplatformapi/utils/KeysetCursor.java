@@ -0,0 +1,38 @@
+package dev.araopj.hrplatformapi.utils;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * The keyset position of the last row of a page, ordered by a timestamp and then the id: the next page starts
+ * strictly after {@code (timestamp, id)} in the order of the query. Sent to clients as an opaque URL-safe string.
+ */
+public record KeysetCursor(Instant timestamp, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((timestamp.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidRequestException if {@code cursor} was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String cursor) throws InvalidRequestException {
+        try {
+            final var VALUE = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var SEPARATOR_AT = VALUE.indexOf(SEPARATOR);
+            if (SEPARATOR_AT < 0 || SEPARATOR_AT == VALUE.length() - 1) {
+                throw new InvalidRequestException("Invalid cursor [%s]".formatted(cursor));
+            }
+            return new KeysetCursor(Instant.parse(VALUE.substring(0, SEPARATOR_AT)), VALUE.substring(SEPARATOR_AT + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor [%s]".formatted(cursor), e);
+        }
+    }
+}
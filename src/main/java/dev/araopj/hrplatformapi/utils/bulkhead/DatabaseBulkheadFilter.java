@@ -0,0 +1,146 @@
+package dev.araopj.hrplatformapi.utils.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import dev.araopj.hrplatformapi.utils.ApiError;
+import dev.araopj.hrplatformapi.utils.StandardApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Limits the API requests handled at once to what the connection pool can serve.
+ * <p>
+ * With {@code spring.threads.virtual.enabled}, Tomcat starts a virtual thread per request and no longer caps
+ * concurrency at its worker pool; thousands of requests would then queue inside Hikari and fail with connection
+ * timeouts after holding their memory for {@code connection-timeout}. This filter admits at most
+ * {@code hr-platform.bulkhead.permits} requests under {@code /api/} (by default the Hikari maximum pool size) and
+ * queues the rest in arrival order. A request still waiting after {@code hr-platform.bulkhead.max-wait} gets
+ * {@code 503 Service Unavailable} with a {@code Retry-After} header, so clients back off instead of piling up.
+ * <p>
+ * A permit is held until the handler returns; SSE streams and streamed exports release it when they go async.
+ * <p>
+ * Reports {@code hr_platform.bulkhead.available} (gauge), {@code hr_platform.bulkhead.queued} (gauge),
+ * {@code hr_platform.bulkhead.rejected} (counter) and {@code hr_platform.bulkhead.wait} (timer of the time spent
+ * waiting for a permit, tagged with {@code outcome} {@code admitted} or {@code rejected}).
+ */
+@Slf4j
+@Component
+public class DatabaseBulkheadFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH = "/api/";
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final Counter rejected;
+    private final Timer admittedWait;
+    private final Timer rejectedWait;
+
+    public DatabaseBulkheadFilter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${hr-platform.bulkhead.permits:0}") int permits,
+            @Value("${hr-platform.bulkhead.max-wait:PT2S}") Duration maxWait
+    ) {
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(permits > 0 ? permits : poolSize(dataSource), true);
+        this.maxWait = maxWait;
+        this.rejected = meterRegistry.counter("hr_platform.bulkhead.rejected");
+        this.admittedWait = meterRegistry.timer("hr_platform.bulkhead.wait", "outcome", "admitted");
+        this.rejectedWait = meterRegistry.timer("hr_platform.bulkhead.wait", "outcome", "rejected");
+        gauge(meterRegistry, "hr_platform.bulkhead.available", this.permits, Semaphore::availablePermits);
+        gauge(meterRegistry, "hr_platform.bulkhead.queued", this.permits, Semaphore::getQueueLength);
+        log.info("Database bulkhead admits [{}] concurrent API requests, waiting at most [{}]", this.permits.availablePermits(), maxWait);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("hr-platform.bulkhead.permits must be set when the data source is not a HikariDataSource");
+    }
+
+    /**
+     * Replaces any gauge of the same name, which would otherwise keep reporting the semaphore of an earlier instance
+     * (e.g. after a context refresh), and holds the semaphore strongly so the gauge does not go {@code NaN}.
+     */
+    private static void gauge(MeterRegistry meterRegistry, String name, Semaphore permits, ToDoubleFunction<Semaphore> value) {
+        meterRegistry.find(name).meters().forEach(meterRegistry::remove);
+        Gauge.builder(name, permits, value)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        final var WAIT_STARTED_AT = System.nanoTime();
+        final boolean ACQUIRED;
+        try {
+            ACQUIRED = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedWait.record(System.nanoTime() - WAIT_STARTED_AT, TimeUnit.NANOSECONDS);
+            reject(response);
+            return;
+        }
+        (ACQUIRED ? admittedWait : rejectedWait).record(System.nanoTime() - WAIT_STARTED_AT, TimeUnit.NANOSECONDS);
+        if (!ACQUIRED) {
+            log.warn("Rejected [{} {}]: no database capacity within [{}]", request.getMethod(), request.getRequestURI(), maxWait);
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        rejected.increment();
+        final var RETRY_AFTER = Math.max(1, maxWait.toSeconds());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), StandardApiResponse.failure(
+                ApiError.builder()
+                        .message("Service is at capacity")
+                        .details(List.of("Retry after %d seconds".formatted(RETRY_AFTER)))
+                        .build()
+        ));
+    }
+
+    /**
+     * @return the number of requests that can be admitted right now
+     */
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,220 @@
+package dev.araopj.hrplatformapi.utils.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Response cache for paginated list endpoints.
+ * <p>
+ * Entries are keyed by a namespace, the {@link Pageable} and any request flags, and hold the page content
+ * serialized to bytes together with the total element count. Every entry is stamped with the combined write
+ * version of the entity types it depends on; services call {@link #invalidate(EntityType...)} after each write,
+ * which bumps those versions so stale entries are rejected on the next read without scanning the cache. Inside a
+ * transaction the bump waits for the commit: a read that runs before the commit still sees the old rows, and must
+ * store them under the old version so they are rejected once the new rows are visible.
+ * <p>
+ * Memory is bounded by the total size of the stored bytes; the least recently used entries are evicted first.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * return pageResponseCache.getOrLoad(
+ *         PageResponseCache.key("salary", pageable),
+ *         pageable,
+ *         SalaryResponse.class,
+ *         () -> salaryRepository.findAll(pageable).map(SalaryMapper::toDto),
+ *         SALARY
+ * );
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PageResponseCache {
+
+    /**
+     * Rough per-entry bookkeeping overhead (map node, entry record, boxed fields) counted against the budget.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final Map<EntityType, AtomicLong> versions = new EnumMap<>(EntityType.class);
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes;
+
+    public PageResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${hr-platform.cache.page.max-bytes:33554432}") long maxBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        for (var entityType : EntityType.values()) {
+            versions.put(entityType, new AtomicLong());
+        }
+    }
+
+    /**
+     * Builds a cache key from a namespace, the pagination information and any additional request flags.
+     *
+     * @param namespace The logical name of the list endpoint (e.g. "employee").
+     * @param pageable  Pagination information.
+     * @param flags     Additional request parameters that change the response.
+     * @return The cache key.
+     */
+    public static String key(String namespace, Pageable pageable, Object... flags) {
+        var key = new StringBuilder(namespace).append('|');
+        if (pageable.isPaged()) {
+            key.append(pageable.getPageNumber()).append(':').append(pageable.getPageSize());
+        } else {
+            key.append("unpaged");
+        }
+        key.append('|').append(pageable.getSort());
+        for (var flag : flags) {
+            key.append('|').append(flag);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the cached page for the given key if it is still valid, otherwise loads it, stores it and returns it.
+     *
+     * @param key         The cache key, see {@link #key(String, Pageable, Object...)}.
+     * @param pageable    Pagination information used to rebuild the page on a hit.
+     * @param contentType The type of the page content.
+     * @param loader      Loads the page on a miss.
+     * @param dependsOn   The entity types whose writes invalidate this entry.
+     * @param <T>         The type of the page content.
+     * @return The cached or freshly loaded page.
+     */
+    public <T> Page<T> getOrLoad(String key, Pageable pageable, Class<T> contentType, Supplier<Page<T>> loader, EntityType... dependsOn) {
+        final var VERSION = version(dependsOn);
+
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+
+        if (cached != null && cached.version() == VERSION) {
+            try {
+                List<T> content = objectMapper.readValue(
+                        cached.content(),
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, contentType)
+                );
+                log.debug("Page cache hit for key [{}]", key);
+                return new PageImpl<>(content, pageable, cached.totalElements());
+            } catch (IOException e) {
+                log.warn("Unable to read cached page for key [{}], reloading", key, e);
+            }
+        }
+
+        final var PAGE = loader.get();
+        store(key, VERSION, PAGE);
+        return PAGE;
+    }
+
+    /**
+     * Bumps the write version of the given entity types, invalidating every entry that depends on them. Inside a
+     * transaction, the bump happens after it commits and not at all if it rolls back.
+     *
+     * @param entityTypes The entity types that were written.
+     */
+    public void invalidate(EntityType... entityTypes) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(entityTypes);
+                }
+            });
+        } else {
+            bump(entityTypes);
+        }
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            currentBytes = 0;
+        }
+    }
+
+    /**
+     * @return The number of bytes currently held by the cache, including bookkeeping overhead.
+     */
+    public long size() {
+        synchronized (entries) {
+            return currentBytes;
+        }
+    }
+
+    private void bump(EntityType... entityTypes) {
+        for (var entityType : entityTypes) {
+            versions.get(entityType).incrementAndGet();
+        }
+    }
+
+    private long version(EntityType... entityTypes) {
+        long version = 0;
+        for (var entityType : entityTypes) {
+            version += versions.get(entityType).get();
+        }
+        return version;
+    }
+
+    private <T> void store(String key, long version, Page<T> page) {
+        final byte[] CONTENT;
+        try {
+            CONTENT = objectMapper.writeValueAsBytes(page.getContent());
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to cache page for key [{}]", key, e);
+            return;
+        }
+
+        final var ENTRY = new Entry(version, CONTENT, page.getTotalElements(), weigh(key, CONTENT));
+        if (ENTRY.weight() > maxBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            var previous = entries.put(key, ENTRY);
+            if (previous != null) {
+                currentBytes -= previous.weight();
+            }
+            currentBytes += ENTRY.weight();
+
+            var iterator = entries.entrySet().iterator();
+            while (currentBytes > maxBytes && iterator.hasNext()) {
+                currentBytes -= iterator.next().getValue().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static long weigh(String key, byte[] content) {
+        return content.length + (long) key.length() * 2 + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private record Entry(long version, byte[] content, long totalElements, long weight) {
+    }
+}
@@ -91,6 +91,7 @@ public class EmployeeMapper {
                 .bankAccountNumber(employee.getBankAccountNumber())
                 .archived(employee.isArchived())
                 .userId(employee.getUserId())
+                .version(employee.getVersion())
                 .idDocumentResponses(includeIdDocuments ?
                         employee.getIdDocuments()
                                 .stream()
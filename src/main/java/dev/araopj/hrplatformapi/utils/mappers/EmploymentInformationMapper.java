@@ -109,6 +109,7 @@ public class EmploymentInformationMapper {
                         employmentInformation.getSalary() != null ?
                                 SalaryMapper.toDto(employmentInformation.getSalary()) : null
                 )
+                .version(employmentInformation.getVersion())
                 .build();
     }
 
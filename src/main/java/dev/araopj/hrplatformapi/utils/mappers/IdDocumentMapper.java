@@ -51,6 +51,7 @@ public class IdDocumentMapper {
                 .employee(includeEmployee ? idDocument.getEmployee() : null)
                 .createdAt(idDocument.getCreatedAt())
                 .updatedAt(idDocument.getUpdatedAt())
+                .version(idDocument.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,27 @@
+package dev.araopj.hrplatformapi.utils.mappers;
+
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollCounterResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounter;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class for mapping PayrollCounter entities to DTOs.
+ */
+@UtilityClass
+public class PayrollCounterMapper {
+
+    public PayrollCounterResponse toDto(PayrollCounter payrollCounter) {
+        if (payrollCounter == null) {
+            throw new IllegalArgumentException("payrollCounter cannot be null");
+        }
+        return PayrollCounterResponse.builder()
+                .dimension(payrollCounter.getDimension())
+                .groupKey(payrollCounter.getGroupKey())
+                .currency(payrollCounter.getCurrency().getCurrencyCode())
+                .headcount(payrollCounter.getHeadcount())
+                .totalAmount(Money.ofMinor(payrollCounter.getTotalMinorUnits(), payrollCounter.getCurrency()).toBigDecimal())
+                .updatedAt(payrollCounter.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package dev.araopj.hrplatformapi.utils.mappers;
+
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollRunResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollRun;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class for mapping PayrollRun entities to DTOs.
+ */
+@UtilityClass
+public class PayrollRunMapper {
+
+    public PayrollRunResponse toDto(PayrollRun payrollRun) {
+        if (payrollRun == null) {
+            throw new IllegalArgumentException("payrollRun cannot be null");
+        }
+        return PayrollRunResponse.builder()
+                .id(payrollRun.getId())
+                .runId(payrollRun.getRunId())
+                .periodStart(payrollRun.getPeriodStart())
+                .employmentInformationId(payrollRun.getEmploymentInformationId())
+                .employeeId(payrollRun.getEmployeeId())
+                .baseAmount(Money.ofMinor(payrollRun.getBaseAmountMinor(), payrollRun.getCurrency()).toDouble())
+                .grossAmount(Money.ofMinor(payrollRun.getGrossAmountMinor(), payrollRun.getCurrency()).toDouble())
+                .currency(payrollRun.getCurrency().getCurrencyCode())
+                .payableDays(payrollRun.getPayableDays())
+                .periodDays(payrollRun.getPeriodDays())
+                .createdAt(payrollRun.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package dev.araopj.hrplatformapi.utils.mappers;
+
+import dev.araopj.hrplatformapi.payroll.dto.response.PayrollSummaryResponse;
+import dev.araopj.hrplatformapi.payroll.model.PayrollAggregate;
+import dev.araopj.hrplatformapi.utils.money.MinorUnits;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class for mapping PayrollAggregate rows to DTOs.
+ */
+@UtilityClass
+public class PayrollSummaryMapper {
+
+    public PayrollSummaryResponse toDto(PayrollAggregate aggregate) {
+        if (aggregate == null) {
+            throw new IllegalArgumentException("aggregate cannot be null");
+        }
+        final var HEADCOUNT = aggregate.headcount() == null ? 0 : aggregate.headcount();
+        final var TOTAL = aggregate.totalMinorUnits() == null ? 0 : aggregate.totalMinorUnits();
+        return PayrollSummaryResponse.builder()
+                .groupKey(aggregate.groupKey())
+                .groupLabel(aggregate.groupLabel())
+                .currency(aggregate.currency().getCurrencyCode())
+                .headcount(HEADCOUNT)
+                .totalAmount(Money.ofMinor(TOTAL, aggregate.currency()).toBigDecimal())
+                .averageAmount(Money.ofMinor(HEADCOUNT == 0 ? 0 : MinorUnits.divideHalfUp(TOTAL, HEADCOUNT), aggregate.currency()).toBigDecimal())
+                .build();
+    }
+}
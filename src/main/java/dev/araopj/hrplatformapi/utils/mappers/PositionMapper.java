@@ -70,6 +70,7 @@ public class PositionMapper {
                 .description(position.getDescription())
                 .createdAt(position.getCreatedAt())
                 .updatedAt(position.getUpdatedAt())
+                .version(position.getVersion())
                 .build();
     }
 
@@ -0,0 +1,80 @@
+package dev.araopj.hrplatformapi.utils.mappers;
+
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryDataRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryDataResponse;
+import dev.araopj.hrplatformapi.salary.dto.response.SalaryGradeResponse;
+import dev.araopj.hrplatformapi.salary.model.SalaryData;
+import dev.araopj.hrplatformapi.salary.model.SalaryGrade;
+import lombok.experimental.UtilityClass;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class for mapping between SalaryGrade/SalaryData entities and DTOs.
+ */
+@UtilityClass
+public class SalaryGradeMapper {
+
+    public SalaryGrade toEntity(SalaryGradeRequest salaryGradeRequest) {
+        if (salaryGradeRequest == null) {
+            throw new IllegalArgumentException("salaryGradeRequest cannot be null");
+        }
+
+        final var SALARY_GRADE = SalaryGrade.builder()
+                .legalBasis(salaryGradeRequest.legalBasis())
+                .tranche(salaryGradeRequest.tranche())
+                .effectiveDate(salaryGradeRequest.effectiveDate())
+                .salaryGrade(salaryGradeRequest.salaryGrade())
+                .build();
+        SALARY_GRADE.setSalaryData(salaryGradeRequest.salaryData()
+                .stream()
+                .map(salaryDataRequest -> toEntity(salaryDataRequest, SALARY_GRADE))
+                .collect(Collectors.toSet()));
+        return SALARY_GRADE;
+    }
+
+    public SalaryData toEntity(SalaryDataRequest salaryDataRequest, SalaryGrade salaryGrade) {
+        if (salaryDataRequest == null) {
+            throw new IllegalArgumentException("salaryDataRequest cannot be null");
+        }
+        return SalaryData.builder()
+                .step(salaryDataRequest.step())
+                .amount(salaryDataRequest.amount())
+                .salaryGrade(salaryGrade)
+                .build();
+    }
+
+    public SalaryGradeResponse toDto(SalaryGrade salaryGrade) {
+        if (salaryGrade == null) {
+            throw new IllegalArgumentException("salaryGrade cannot be null");
+        }
+        return SalaryGradeResponse.builder()
+                .id(salaryGrade.getId())
+                .legalBasis(salaryGrade.getLegalBasis())
+                .tranche(salaryGrade.getTranche())
+                .effectiveDate(salaryGrade.getEffectiveDate())
+                .salaryGrade(salaryGrade.getSalaryGrade())
+                .salaryData(salaryGrade.getSalaryData() != null ?
+                        salaryGrade.getSalaryData()
+                                .stream()
+                                .sorted(Comparator.comparingInt(SalaryData::getStep))
+                                .map(SalaryGradeMapper::toDto)
+                                .toList() : null)
+                .createdAt(salaryGrade.getCreatedAt())
+                .updatedAt(salaryGrade.getUpdatedAt())
+                .build();
+    }
+
+    public SalaryDataResponse toDto(SalaryData salaryData) {
+        if (salaryData == null) {
+            throw new IllegalArgumentException("salaryData cannot be null");
+        }
+        return SalaryDataResponse.builder()
+                .id(salaryData.getId())
+                .step(salaryData.getStep())
+                .amount(salaryData.getAmount())
+                .build();
+    }
+}
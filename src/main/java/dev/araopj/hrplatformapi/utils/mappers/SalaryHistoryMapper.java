@@ -0,0 +1,67 @@
+package dev.araopj.hrplatformapi.utils.mappers;
+
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryAsOfResponse;
+import dev.araopj.hrplatformapi.employee.dto.response.SalaryHistoryResponse;
+import dev.araopj.hrplatformapi.employee.model.Salary;
+import dev.araopj.hrplatformapi.employee.model.SalaryAsOf;
+import dev.araopj.hrplatformapi.employee.model.SalaryChangeType;
+import dev.araopj.hrplatformapi.employee.model.SalaryHistory;
+import dev.araopj.hrplatformapi.utils.money.Money;
+import lombok.experimental.UtilityClass;
+
+import java.time.Instant;
+
+/**
+ * Utility class for mapping between SalaryHistory entities and DTOs.
+ */
+@UtilityClass
+public class SalaryHistoryMapper {
+
+    public SalaryHistory toEntity(String salaryId, Money amount, SalaryChangeType changeType, Instant validFrom) {
+        if (salaryId == null || amount == null) {
+            throw new IllegalArgumentException("salaryId and amount cannot be null");
+        }
+        return SalaryHistory.builder()
+                .salaryId(salaryId)
+                .amount(amount)
+                .changeType(changeType)
+                .validFrom(validFrom)
+                .build();
+    }
+
+    public SalaryHistory toEntity(Salary salary, SalaryChangeType changeType, Instant validFrom) {
+        if (salary == null) {
+            throw new IllegalArgumentException("salary cannot be null");
+        }
+        return toEntity(salary.getId(), salary.getAmount(), changeType, validFrom);
+    }
+
+    public SalaryHistoryResponse toDto(SalaryHistory salaryHistory) {
+        if (salaryHistory == null) {
+            throw new IllegalArgumentException("salaryHistory cannot be null");
+        }
+        return SalaryHistoryResponse.builder()
+                .id(salaryHistory.getId())
+                .salaryId(salaryHistory.getSalaryId())
+                .amount(salaryHistory.getAmount().toDouble())
+                .currency(salaryHistory.getAmount().currencyCode())
+                .changeType(salaryHistory.getChangeType())
+                .validFrom(salaryHistory.getValidFrom())
+                .build();
+    }
+
+    public SalaryAsOfResponse toDto(SalaryAsOf salaryAsOf) {
+        if (salaryAsOf == null) {
+            throw new IllegalArgumentException("salaryAsOf cannot be null");
+        }
+        final var RESOLVED = salaryAsOf.minorUnits() != null && salaryAsOf.currency() != null;
+        return SalaryAsOfResponse.builder()
+                .employmentInformationId(salaryAsOf.employmentInformationId())
+                .salaryId(salaryAsOf.salaryId())
+                .amount(RESOLVED ? Money.ofMinor(salaryAsOf.minorUnits(), salaryAsOf.currency()).toDouble() : null)
+                .currency(RESOLVED ? salaryAsOf.currency().getCurrencyCode() : null)
+                .changeType(salaryAsOf.changeType())
+                .validFrom(salaryAsOf.validFrom())
+                .build();
+    }
+}
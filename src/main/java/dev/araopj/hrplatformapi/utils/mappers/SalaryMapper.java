@@ -4,6 +4,7 @@ import dev.araopj.hrplatformapi.employee.dto.request.SalaryRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.SalaryResponse;
 import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
 import dev.araopj.hrplatformapi.employee.model.Salary;
+import dev.araopj.hrplatformapi.utils.money.Money;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -17,8 +18,7 @@ public class SalaryMapper {
             throw new IllegalArgumentException("salaryRequest cannot be null");
         }
         return Salary.builder()
-                .amount(salaryRequest.amount())
-                .currency(salaryRequest.currency())
+                .amount(Money.of(salaryRequest.amount(), salaryRequest.currency()))
                 .employmentInformation(employmentInformation)
                 .build();
     }
@@ -28,8 +28,7 @@ public class SalaryMapper {
             throw new IllegalArgumentException("salaryRequest cannot be null");
         }
         return Salary.builder()
-                .amount(salaryRequest.amount())
-                .currency(salaryRequest.currency())
+                .amount(Money.of(salaryRequest.amount(), salaryRequest.currency()))
                 .build();
     }
 
@@ -39,8 +38,7 @@ public class SalaryMapper {
         }
         return Salary.builder()
                 .id(salaryResponse.id())
-                .amount(salaryResponse.amount())
-                .currency(salaryResponse.currency())
+                .amount(Money.of(salaryResponse.amount(), salaryResponse.currency()))
                 .build();
     }
 
@@ -50,10 +48,11 @@ public class SalaryMapper {
         }
         return SalaryResponse.builder()
                 .id(salary.getId())
-                .amount(salary.getAmount())
-                .currency(salary.getCurrency())
+                .amount(salary.getAmount().toDouble())
+                .currency(salary.getAmount().currencyCode())
                 .createdAt(salary.getCreatedAt())
                 .updatedAt(salary.getUpdatedAt())
+                .version(salary.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,23 @@
+package dev.araopj.hrplatformapi.utils.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Currency;
+
+/**
+ * Stores a {@link Currency} as its three-letter ISO 4217 code.
+ */
+@Converter(autoApply = true)
+public class CurrencyConverter implements AttributeConverter<Currency, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Currency currency) {
+        return currency == null ? null : currency.getCurrencyCode();
+    }
+
+    @Override
+    public Currency convertToEntityAttribute(String currencyCode) {
+        return currencyCode == null ? null : Currency.getInstance(currencyCode.trim());
+    }
+}
@@ -0,0 +1,98 @@
+package dev.araopj.hrplatformapi.utils.money;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+
+/**
+ * Exact aggregation helpers over {@code long[]} minor units.
+ * <p>
+ * Every helper is a plain loop over a primitive array, so totals over hundreds of thousands of amounts neither box
+ * nor lose precision. Sums throw {@link ArithmeticException} on overflow instead of wrapping.
+ */
+@UtilityClass
+public class MinorUnits {
+
+    static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    public long sum(long[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    /**
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     */
+    public long sum(long[] values, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum = Math.addExact(sum, values[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * @return The mean, rounded half-up to the minor unit; {@code 0} for an empty array.
+     */
+    public long average(long[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        return divideHalfUp(sum(values), values.length);
+    }
+
+    /**
+     * Nearest-rank percentile. Sorts a copy, so the input is left untouched.
+     *
+     * @param percentile In {@code [0, 100]}.
+     * @return The smallest value such that at least {@code percentile}% of the values are less than or equal to it;
+     * {@code 0} for an empty array.
+     */
+    public long percentile(long[] values, double percentile) {
+        return percentiles(values, percentile)[0];
+    }
+
+    /**
+     * Computes several nearest-rank percentiles with a single sort.
+     *
+     * @see #percentile(long[], double)
+     */
+    public long[] percentiles(long[] values, double... percentiles) {
+        final var RESULT = new long[percentiles.length];
+        if (values.length == 0) {
+            return RESULT;
+        }
+        final var SORTED = values.clone();
+        Arrays.sort(SORTED);
+        for (int i = 0; i < percentiles.length; i++) {
+            if (percentiles[i] < 0 || percentiles[i] > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100 but was [%s]".formatted(percentiles[i]));
+            }
+            final var RANK = (int) Math.ceil(percentiles[i] / 100 * SORTED.length);
+            RESULT[i] = SORTED[Math.max(0, RANK - 1)];
+        }
+        return RESULT;
+    }
+
+    /**
+     * @return {@code amount * numerator / denominator}, rounded half-up (away from zero) to the minor unit.
+     */
+    public long prorate(long amount, long numerator, long denominator) {
+        return divideHalfUp(Math.multiplyExact(amount, numerator), denominator);
+    }
+
+    /**
+     * @return {@code dividend / divisor}, rounded half-up (away from zero).
+     */
+    public long divideHalfUp(long dividend, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("division by zero");
+        }
+        final var QUOTIENT = dividend / divisor;
+        final var REMAINDER = dividend % divisor;
+        if (Math.abs(REMAINDER) >= Math.abs(divisor) - Math.abs(REMAINDER)) {
+            return QUOTIENT + (Long.signum(dividend) * Long.signum(divisor));
+        }
+        return QUOTIENT;
+    }
+}
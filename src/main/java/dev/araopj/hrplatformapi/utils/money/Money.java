@@ -0,0 +1,134 @@
+package dev.araopj.hrplatformapi.utils.money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * An exact monetary amount: a {@code long} count of the currency's minor units (e.g. centavos) and its ISO 4217
+ * currency.
+ * <p>
+ * Amounts are embedded as two columns, {@code amount_minor} and a three-letter {@code currency} code (see
+ * {@link CurrencyConverter}), so equality lookups and SQL aggregates are exact. Decimal amounts entering the system
+ * are rounded to the currency's minor unit with {@link RoundingMode#HALF_EVEN}; aggregates over many amounts should
+ * work on {@code long[]} minor units with {@link MinorUnits}.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * var monthly = Money.of(28000.00, "PHP");     // 2_800_000 minor units
+ * var prorated = monthly.prorate(14, 28);       // PHP 14000.00
+ * }
+ * </pre>
+ */
+@Embeddable
+public record Money(
+        @Column(name = "amount_minor", nullable = false)
+        long minorUnits,
+        @Column(name = "currency", length = 3, nullable = false)
+        @Convert(converter = CurrencyConverter.class)
+        Currency currency
+) {
+
+    public Money {
+        Objects.requireNonNull(currency, "currency cannot be null");
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * @param amount       The decimal amount, rounded half-even to the currency's minor unit.
+     * @param currencyCode The ISO 4217 currency code, e.g. "PHP".
+     * @throws IllegalArgumentException If the currency code is unknown.
+     * @throws ArithmeticException      If the amount does not fit in a {@code long} of minor units.
+     */
+    public static Money of(BigDecimal amount, String currencyCode) {
+        final var CURRENCY = currency(currencyCode);
+        return new Money(amount.setScale(fractionDigits(CURRENCY), RoundingMode.HALF_EVEN).unscaledValue().longValueExact(), CURRENCY);
+    }
+
+    /**
+     * Converts a double through its shortest decimal representation, so {@code 12345.67} becomes exactly 1234567
+     * minor units rather than the nearest binary fraction.
+     *
+     * @see #of(BigDecimal, String)
+     */
+    public static Money of(double amount, String currencyCode) {
+        return of(BigDecimal.valueOf(amount), currencyCode);
+    }
+
+    /**
+     * @param currencyCode The ISO 4217 currency code, e.g. "PHP".
+     * @return The currency.
+     * @throws IllegalArgumentException If the currency code is null or unknown.
+     */
+    public static Currency currency(String currencyCode) {
+        if (currencyCode == null) {
+            throw new IllegalArgumentException("currency cannot be null");
+        }
+        return Currency.getInstance(currencyCode.trim().toUpperCase());
+    }
+
+    /**
+     * @return The scale factor between major and minor units of the currency, e.g. 100 for PHP and 1 for JPY.
+     */
+    public static long minorPerMajor(Currency currency) {
+        return MinorUnits.POWERS_OF_TEN[fractionDigits(currency)];
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Multiplies by {@code numerator / denominator}, rounding half-up to the minor unit.
+     * Used to prorate a monthly rate by days, e.g. {@code prorate(payableDays, periodDays)}.
+     */
+    public Money prorate(long numerator, long denominator) {
+        return new Money(MinorUnits.prorate(minorUnits, numerator, denominator), currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    /**
+     * @return The amount in major units, for response DTOs; never use the result for further arithmetic.
+     */
+    public double toDouble() {
+        return toBigDecimal().doubleValue();
+    }
+
+    public String currencyCode() {
+        return currency.getCurrencyCode();
+    }
+
+    @Override
+    public String toString() {
+        return "%s %s".formatted(currency.getCurrencyCode(), toBigDecimal().toPlainString());
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch [%s] and [%s]".formatted(currency, other.currency));
+        }
+    }
+
+    private static int fractionDigits(Currency currency) {
+        // pseudo-currencies such as XXX report -1
+        return Math.max(0, currency.getDefaultFractionDigits());
+    }
+}
@@ -0,0 +1,29 @@
+package dev.araopj.hrplatformapi.utils.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until {@link WarmUpRunner} has finished, then {@code UP} with the size of every
+ * warm set and any failures. A warm set that failed or timed out keeps it {@code OUT_OF_SERVICE} unless
+ * {@code hr-platform.warm-up.fail-open} is set. Included in the readiness health group.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpRunner warmUpRunner;
+
+    @Override
+    public Health health() {
+        if (!warmUpRunner.isCompleted()) {
+            return Health.outOfService().build();
+        }
+        return (warmUpRunner.isReady() ? Health.up() : Health.outOfService())
+                .withDetail("sizes", warmUpRunner.sizes())
+                .withDetail("failures", warmUpRunner.failures())
+                .build();
+    }
+}
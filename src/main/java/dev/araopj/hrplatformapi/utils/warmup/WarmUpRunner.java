@@ -0,0 +1,135 @@
+package dev.araopj.hrplatformapi.utils.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the configured {@link WarmUpTask}s in parallel on virtual threads while the application starts.
+ * <p>
+ * Spring Boot only publishes {@code ReadinessState.ACCEPTING_TRAFFIC} after every {@link ApplicationRunner} has
+ * returned, so blocking here keeps the readiness probe down until the warm sets are loaded. The wait is bounded by
+ * {@code hr-platform.warm-up.timeout}: a task still running at the deadline is interrupted and abandoned, and startup
+ * continues without waiting for it to notice. A task that fails or times out is logged and keeps
+ * {@link WarmUpHealthIndicator} {@code OUT_OF_SERVICE}, unless {@code hr-platform.warm-up.fail-open} is set, in which
+ * case the node reports {@code UP} with the failures listed.
+ * <p>
+ * Reports {@code hr_platform.warm_up.duration} (timer) and {@code hr_platform.warm_up.size} (gauge), both tagged
+ * with the warm set name.
+ */
+@Slf4j
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final List<WarmUpTask> tasks;
+    private final Set<String> enabledSets;
+    private final Duration timeout;
+    private final boolean failOpen;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> sizes = new ConcurrentHashMap<>();
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private volatile boolean completed;
+
+    public WarmUpRunner(
+            List<WarmUpTask> tasks,
+            @Value("${hr-platform.warm-up.sets:}") Set<String> enabledSets,
+            @Value("${hr-platform.warm-up.timeout:PT2M}") Duration timeout,
+            @Value("${hr-platform.warm-up.fail-open:false}") boolean failOpen,
+            MeterRegistry meterRegistry
+    ) {
+        this.tasks = tasks;
+        this.enabledSets = enabledSets;
+        this.timeout = timeout;
+        this.failOpen = failOpen;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        final var SELECTED = tasks.stream()
+                .filter(task -> enabledSets.contains(task.name()))
+                .toList();
+        final var STARTED_AT = System.nanoTime();
+
+        // not try-with-resources: close() would wait for tasks that ignore the interrupt, unbounding the timeout
+        final var EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("warm-up-", 0).factory());
+        try {
+            final var FUTURES = SELECTED.stream()
+                    .map(task -> EXECUTOR.submit(() -> warm(task)))
+                    .toList();
+
+            final var DEADLINE = STARTED_AT + timeout.toNanos();
+            for (int i = 0; i < FUTURES.size(); i++) {
+                final var TASK = SELECTED.get(i);
+                try {
+                    FUTURES.get(i).get(Math.max(0, DEADLINE - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    failures.put(TASK.name(), String.valueOf(e.getCause().getMessage()));
+                    log.warn("Warm-up of [{}] failed", TASK.name(), e.getCause());
+                } catch (TimeoutException e) {
+                    failures.put(TASK.name(), "timed out after %s".formatted(timeout));
+                    FUTURES.get(i).cancel(true);
+                    log.warn("Warm-up of [{}] did not finish within [{}]", TASK.name(), timeout);
+                }
+            }
+        } finally {
+            EXECUTOR.shutdownNow();
+            completed = true;
+        }
+
+        log.info("Warm-up of {} finished in [{}] ms", sizes, Duration.ofNanos(System.nanoTime() - STARTED_AT).toMillis());
+    }
+
+    private long warm(WarmUpTask task) throws Exception {
+        final var SAMPLE = Timer.start(meterRegistry);
+        final var SIZE = task.warm();
+        SAMPLE.stop(Timer.builder("hr_platform.warm_up.duration")
+                .description("Time taken to load a warm set on startup")
+                .tags(Tags.of("set", task.name()))
+                .register(meterRegistry));
+        meterRegistry.gauge("hr_platform.warm_up.size", Tags.of("set", task.name()),
+                sizes.computeIfAbsent(task.name(), name -> new AtomicLong())).set(SIZE);
+        log.debug("Warmed [{}] with [{}] records", task.name(), SIZE);
+        return SIZE;
+    }
+
+    /**
+     * @return {@code true} once every selected task has finished, failed or timed out.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return {@code true} once warm-up has completed and either every set loaded or fail-open is configured.
+     */
+    public boolean isReady() {
+        return completed && (failOpen || failures.isEmpty());
+    }
+
+    /**
+     * @return The number of records loaded per warm set.
+     */
+    public Map<String, Long> sizes() {
+        var result = new TreeMap<String, Long>();
+        sizes.forEach((name, size) -> result.put(name, size.get()));
+        return result;
+    }
+
+    /**
+     * @return The failure reason per warm set that could not be loaded.
+     */
+    public Map<String, String> failures() {
+        return Map.copyOf(failures);
+    }
+}
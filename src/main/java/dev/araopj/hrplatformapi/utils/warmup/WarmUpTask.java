@@ -0,0 +1,24 @@
+package dev.araopj.hrplatformapi.utils.warmup;
+
+/**
+ * A unit of work that preloads a set of data before the node starts taking traffic.
+ * Every {@code WarmUpTask} bean is picked up by {@link WarmUpRunner}; only the tasks whose {@link #name()}
+ * is listed in {@code hr-platform.warm-up.sets} are run.
+ *
+ * @see WarmUpRunner
+ */
+public interface WarmUpTask {
+
+    /**
+     * @return The name of the warm set, e.g. "positions".
+     */
+    String name();
+
+    /**
+     * Loads the warm set.
+     *
+     * @return The number of records loaded.
+     * @throws Exception if the set could not be loaded.
+     */
+    long warm() throws Exception;
+}
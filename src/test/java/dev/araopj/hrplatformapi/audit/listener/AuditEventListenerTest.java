@@ -0,0 +1,194 @@
+package dev.araopj.hrplatformapi.audit.listener;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.model.AuditLog;
+import dev.araopj.hrplatformapi.audit.service.AuditService;
+import dev.araopj.hrplatformapi.employee.model.Employee;
+import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
+import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYMENT_INFORMATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditEventListener Test")
+class AuditEventListenerTest {
+
+    private static final String[] NAMES = {"employmentStatus", "employee", "salaryHistory", "updatedAt"};
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private EntityPersister persister;
+
+    @Mock
+    private EntityPersister employeePersister;
+
+    @Mock
+    private EventSource session;
+
+    @Mock
+    private Type basicType;
+
+    @Mock
+    private Type entityType;
+
+    @Mock
+    private Type collectionType;
+
+    private AuditEventListener auditEventListener;
+    private Employee employee;
+    private Employee otherEmployee;
+
+    @BeforeEach
+    void setup() {
+        auditEventListener = new AuditEventListener(entityManagerFactory, auditService);
+        employee = Employee.builder().id("employee-1").build();
+        otherEmployee = Employee.builder().id("employee-2").build();
+    }
+
+    private void stubEntity(Class<?> mappedClass) {
+        doReturn(mappedClass).when(persister).getMappedClass();
+    }
+
+    private void stubProperties() {
+        when(persister.getPropertyNames()).thenReturn(NAMES);
+        when(persister.getPropertyTypes()).thenReturn(new Type[]{basicType, entityType, collectionType, basicType});
+    }
+
+    private void stubAssociations(Employee... employees) {
+        when(entityType.isEntityType()).thenReturn(true);
+        when(collectionType.isCollectionType()).thenReturn(true);
+        for (var associated : employees) {
+            when(session.getEntityPersister(null, associated)).thenReturn(employeePersister);
+            when(employeePersister.getIdentifier(associated, session)).thenReturn(associated.getId());
+        }
+    }
+
+    private Object[] state(EmploymentStatus status, Employee associated) {
+        return new Object[]{status, associated, List.of(), Instant.now()};
+    }
+
+    @Nested
+    @DisplayName("Post Insert Test")
+    class PostInsertTest {
+
+        @Test
+        @DisplayName("Should record the non-null properties with associations as ids")
+        void shouldRecordNonNullPropertiesWithAssociationsAsIds() {
+            stubEntity(EmploymentInformation.class);
+            stubProperties();
+            stubAssociations(employee);
+
+            auditEventListener.onPostInsert(new PostInsertEvent(
+                    new EmploymentInformation(), "emp-info-1", state(EmploymentStatus.PERMANENT, employee), persister, session));
+
+            verify(auditService).record(EMPLOYMENT_INFORMATION, "emp-info-1", AuditAction.CREATE, null,
+                    Map.of("employmentStatus", EmploymentStatus.PERMANENT, "employeeId", "employee-1"));
+        }
+
+        @Test
+        @DisplayName("Should ignore entities that are not audited")
+        void shouldIgnoreEntitiesNotAudited() {
+            stubEntity(AuditLog.class);
+
+            auditEventListener.onPostInsert(new PostInsertEvent(new AuditLog(), "log-1", new Object[0], persister, session));
+
+            verifyNoInteractions(auditService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Post Update Test")
+    class PostUpdateTest {
+
+        @Test
+        @DisplayName("Should record only the dirty properties before and after")
+        void shouldRecordOnlyDirtyProperties() {
+            stubEntity(EmploymentInformation.class);
+            stubProperties();
+            stubAssociations(employee, otherEmployee);
+
+            auditEventListener.onPostUpdate(new PostUpdateEvent(
+                    new EmploymentInformation(),
+                    "emp-info-1",
+                    state(EmploymentStatus.PERMANENT, otherEmployee),
+                    state(EmploymentStatus.TEMPORARY, employee),
+                    new int[]{0, 1, 2, 3},
+                    persister,
+                    session
+            ));
+
+            ArgumentCaptor<Supplier<Map<String, Object>>> fullState = ArgumentCaptor.forClass(Supplier.class);
+            verify(auditService).record(eq(EMPLOYMENT_INFORMATION), eq("emp-info-1"), eq(AuditAction.UPDATE),
+                    eq(Map.of("employmentStatus", EmploymentStatus.TEMPORARY, "employeeId", "employee-1")),
+                    eq(Map.of("employmentStatus", EmploymentStatus.PERMANENT, "employeeId", "employee-2")),
+                    fullState.capture());
+            assertEquals(Map.of("employmentStatus", EmploymentStatus.PERMANENT, "employeeId", "employee-2"), fullState.getValue().get());
+        }
+
+        @Test
+        @DisplayName("Should record nothing when only the timestamps changed")
+        void shouldRecordNothingWhenOnlyTimestampsChanged() {
+            stubEntity(EmploymentInformation.class);
+            stubProperties();
+
+            auditEventListener.onPostUpdate(new PostUpdateEvent(
+                    new EmploymentInformation(),
+                    "emp-info-1",
+                    state(EmploymentStatus.PERMANENT, employee),
+                    state(EmploymentStatus.PERMANENT, employee),
+                    new int[]{3},
+                    persister,
+                    session
+            ));
+
+            verifyNoInteractions(auditService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Post Delete Test")
+    class PostDeleteTest {
+
+        @Test
+        @DisplayName("Should record the properties as they were")
+        void shouldRecordPropertiesAsTheyWere() {
+            stubEntity(EmploymentInformation.class);
+            stubProperties();
+            stubAssociations(employee);
+
+            auditEventListener.onPostDelete(new PostDeleteEvent(
+                    new EmploymentInformation(), "emp-info-1", state(EmploymentStatus.RESIGNED, employee), persister, session));
+
+            verify(auditService).record(EMPLOYMENT_INFORMATION, "emp-info-1", AuditAction.DELETE,
+                    Map.of("employmentStatus", EmploymentStatus.RESIGNED, "employeeId", "employee-1"), null);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package dev.araopj.hrplatformapi.audit.segment;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import dev.araopj.hrplatformapi.audit.model.AuditSegmentRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.POSITION;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AuditSegmentStore Test")
+class AuditSegmentStoreTest {
+
+    private static final Instant START = Instant.parse("2024-01-31T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private AuditSegmentStore open() throws IOException {
+        // small segments so 100 events roll over several files
+        return new AuditSegmentStore(directory, DataSize.ofKilobytes(4), DataSize.ofBytes(512));
+    }
+
+    private static AuditEvent event(int i) {
+        return AuditEvent.builder()
+                .actor("user-" + (i % 3))
+                .entityType(i % 2 == 0 ? POSITION : EMPLOYEE)
+                .entityId("entity-" + (i % 10))
+                .action(AuditAction.UPDATE)
+                .changes("{\"after\":{\"code\":\"Ñ-%d\"}}".formatted(i))
+                .occurredAt(START.plusSeconds(i))
+                .build();
+    }
+
+    private static List<AuditEvent> events(int from, int to) {
+        var events = new ArrayList<AuditEvent>();
+        for (int i = from; i < to; i++) {
+            events.add(event(i));
+        }
+        return events;
+    }
+
+    private static List<Long> sequences(List<AuditSegmentRecord> records) {
+        return records.stream().map(AuditSegmentRecord::sequence).toList();
+    }
+
+    private long segmentFiles() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(AuditSegment.EXTENSION)).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Test")
+    class WriteTest {
+
+        @Test
+        @DisplayName("Should append events with consecutive sequences across rolled segments")
+        void shouldAppendAcrossRolledSegments() throws IOException {
+            var store = open();
+
+            assertEquals(100, store.write(events(0, 100)));
+
+            assertEquals(100, store.nextSequence());
+            assertTrue(segmentFiles() > 1);
+            var records = store.tail(0, 1000);
+            assertEquals(100, records.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, records.get(i).sequence());
+                assertEquals(event(i), records.get(i).event());
+            }
+        }
+
+        @Test
+        @DisplayName("Should continue the sequence after reopening")
+        void shouldContinueSequenceAfterReopening() throws IOException {
+            open().write(events(0, 60));
+
+            var store = open();
+            store.write(events(60, 70));
+
+            assertEquals(70, store.nextSequence());
+            assertEquals(70, store.tail(0, 1000).size());
+            assertEquals(event(65), store.tail(65, 1).getFirst().event());
+        }
+
+        @Test
+        @DisplayName("Should cut off a torn last record when reopening")
+        void shouldCutOffTornLastRecord() throws IOException {
+            open().write(events(0, 3));
+            var segment = directory.resolve("%020d%s".formatted(0, AuditSegment.EXTENSION));
+            try (var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // corrupt the last byte of the third record's body
+                var map = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                var end = 0;
+                for (int i = 0; i < 3; i++) {
+                    end += AuditSegment.HEADER_SIZE + map.getInt(end);
+                }
+                map.put(end - 1, (byte) (map.get(end - 1) ^ 0x7F));
+                map.force();
+            }
+
+            var store = open();
+
+            assertEquals(List.of(0L, 1L), sequences(store.tail(0, 10)));
+            store.write(events(3, 4));
+            assertEquals(List.of(0L, 1L, 2L), sequences(store.tail(0, 10)));
+            assertEquals(event(3), store.tail(2, 1).getFirst().event());
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Test")
+    class ReadTest {
+
+        @Test
+        @DisplayName("Should tail from a sequence with a limit")
+        void shouldTailFromSequence() throws IOException {
+            var store = open();
+            store.write(events(0, 100));
+
+            assertEquals(List.of(42L, 43L, 44L), sequences(store.tail(42, 3)));
+            assertTrue(store.tail(100, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should seek to the first event at or after a time")
+        void shouldSeekByTime() throws IOException {
+            var store = open();
+            store.write(events(0, 100));
+
+            assertEquals(List.of(70L, 71L), sequences(store.readSince(START.plusSeconds(70), 2)));
+            assertEquals(30, store.readSince(START.plusMillis(69_500), 1000).size());
+            assertTrue(store.readSince(START.plusSeconds(100), 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should find the events of one entity")
+        void shouldFindEventsOfOneEntity() throws IOException {
+            var store = open();
+            store.write(events(0, 100));
+
+            assertEquals(List.of(4L, 14L, 24L, 34L, 44L, 54L, 64L, 74L, 84L, 94L), sequences(store.findByEntity(POSITION, "entity-4", 100)));
+            assertEquals(List.of(4L, 14L), sequences(store.findByEntity(POSITION, "entity-4", 2)));
+            assertTrue(store.findByEntity(EMPLOYEE, "entity-4", 100).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import dev.araopj.hrplatformapi.audit.service.AuditSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.POSITION;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditDispatcher Test")
+class AuditDispatcherTest {
+
+    @TempDir
+    Path spillDir;
+    @Mock
+    private AuditSink auditSink;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditSpill auditSpill;
+    private AuditDispatcher auditDispatcher;
+
+    @BeforeEach
+    void setup() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        auditSpill = new AuditSpill(new ObjectMapper().findAndRegisterModules(), spillDir);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (auditDispatcher != null) {
+            auditDispatcher.stop();
+        }
+    }
+
+    private AuditDispatcher dispatcher(int queueCapacity, Duration retryInterval) {
+        auditDispatcher = new AuditDispatcher(auditSink, auditSpill, meterRegistry,
+                queueCapacity, 2, Duration.ofMillis(5), Duration.ofMillis(10), retryInterval);
+        return auditDispatcher;
+    }
+
+    private static AuditEvent event(int i) {
+        return AuditEvent.builder()
+                .actor("system")
+                .entityType(POSITION)
+                .entityId("position-" + i)
+                .action(AuditAction.CREATE)
+                .changes("{\"after\":{\"code\":\"ITO\"}}")
+                .occurredAt(Instant.parse("2024-01-31T00:00:00Z"))
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        final var DEADLINE = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - DEADLINE < 0, "condition not met within 5 seconds");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Should spill to disk when the queue stays full past the offer timeout")
+    void shouldSpillWhenQueueStaysFull() throws Exception {
+        var dispatcher = dispatcher(1, Duration.ofSeconds(5));
+
+        dispatcher.publish(event(1));
+        dispatcher.publish(event(2));
+
+        var lines = Files.readAllLines(spillDir.resolve(AuditSpill.SPILL_FILE));
+        assertEquals(1, lines.size());
+        assertTrue(lines.getFirst().contains("position-2"));
+        assertEquals(1, meterRegistry.counter("hr_platform.audit.spilled").count());
+        assertEquals(1, meterRegistry.get("hr_platform.audit.queue.size").gauge().value());
+        verifyNoInteractions(auditSink);
+    }
+
+    @Test
+    @DisplayName("Should write queued events in batches and drain the queue on stop")
+    void shouldWriteQueuedEventsInBatches() {
+        var written = new AtomicInteger();
+        when(auditSink.write(anyList())).thenAnswer(invocation -> {
+            var batch = invocation.<List<AuditEvent>>getArgument(0);
+            assertTrue(batch.size() <= 2);
+            written.addAndGet(batch.size());
+            return batch.size();
+        });
+        var dispatcher = dispatcher(100, Duration.ofSeconds(5));
+        dispatcher.start();
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.publish(event(i));
+        }
+        dispatcher.stop();
+
+        assertEquals(5, written.get());
+        assertEquals(5, meterRegistry.counter("hr_platform.audit.written").count());
+        assertFalse(auditSpill.isPending());
+    }
+
+    @Test
+    @DisplayName("Should spill a batch the database rejects and replay it once writes succeed")
+    void shouldSpillRejectedBatchAndReplayIt() throws Exception {
+        var written = new AtomicInteger();
+        when(auditSink.write(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenAnswer(invocation -> {
+                    var batch = invocation.<List<AuditEvent>>getArgument(0);
+                    written.addAndGet(batch.size());
+                    return batch.size();
+                });
+        var dispatcher = dispatcher(100, Duration.ofMillis(20));
+        dispatcher.start();
+
+        dispatcher.publish(event(1));
+        dispatcher.publish(event(2));
+        await(() -> written.get() == 2);
+
+        assertEquals(2, meterRegistry.counter("hr_platform.audit.spilled").count());
+        await(() -> {
+            try (var files = Files.list(spillDir)) {
+                return files.findAny().isEmpty();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertFalse(auditSpill.isPending());
+    }
+}
@@ -0,0 +1,309 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.audit.dto.request.AuditLogQuery;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.NotSupportedException;
+import dev.araopj.hrplatformapi.utils.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogServiceImp Test")
+class AuditLogServiceImpTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Instant NOW = Instant.parse("2025-03-01T08:00:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private AuditLogServiceImp auditLogServiceImp;
+
+    @BeforeEach
+    void setup() {
+        auditLogServiceImp = new AuditLogServiceImp(jdbcTemplate, OBJECT_MAPPER, transactionManager, 1000, "jdbc");
+    }
+
+    /**
+     * Streams {@code rows} rows, newest first a second apart, whose IDs count down from {@code log-<rows>}.
+     */
+    private void stubRows(int rows) throws Exception {
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        final var ROW = new int[1];
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> switch (invocation.<Integer>getArgument(0)) {
+            case 1 -> "log-" + (rows - ROW[0]);
+            case 2 -> "user-1";
+            case 3 -> "EMPLOYEE";
+            case 4 -> "employee-1";
+            default -> "UPDATE";
+        });
+        when(resultSet.getBytes(6)).thenReturn(encode("{\"after\":{\"firstName\":\"Juan\"}}"));
+        when(resultSet.getTimestamp(7)).thenAnswer(invocation -> Timestamp.from(NOW.minusSeconds(ROW[0])));
+        doAnswer(invocation -> {
+            invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+            final RowCallbackHandler HANDLER = invocation.getArgument(1);
+            for (ROW[0] = 0; ROW[0] < rows; ROW[0]++) {
+                HANDLER.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private static JsonNode read(ByteArrayOutputStream output) throws Exception {
+        return OBJECT_MAPPER.readTree(output.toByteArray());
+    }
+
+    private static byte[] encode(String json) {
+        try (var codec = new AuditPayloadCodec()) {
+            return codec.encode(json);
+        }
+    }
+
+    private static ResultSet version(String id, AuditAction action, String payload, String snapshot, Instant occurredAt) throws Exception {
+        final var ROW = mock(ResultSet.class);
+        when(ROW.getString(1)).thenReturn(id);
+        when(ROW.getString(2)).thenReturn(action.name());
+        when(ROW.getBytes(3)).thenReturn(encode(payload));
+        when(ROW.getBytes(4)).thenReturn(snapshot != null ? encode(snapshot) : null);
+        when(ROW.getTimestamp(5)).thenReturn(Timestamp.from(occurredAt));
+        return ROW;
+    }
+
+    /**
+     * Answers the checkpoint query (three arguments) and the query for the versions after it (five arguments).
+     */
+    private void stubVersions(List<ResultSet> checkpoint, List<ResultSet> after) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("EMPLOYEE"), eq("employee-1"), any(Timestamp.class)))
+                .thenAnswer(invocation -> map(invocation.getArgument(1), checkpoint));
+        if (after != null) {
+            when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("EMPLOYEE"), eq("employee-1"), any(Timestamp.class), anyString(), any(Timestamp.class)))
+                    .thenAnswer(invocation -> map(invocation.getArgument(1), after));
+        }
+    }
+
+    private static List<Object> map(RowMapper<?> mapper, List<ResultSet> rows) throws Exception {
+        final var MAPPED = new ArrayList<Object>();
+        for (var row : rows) {
+            MAPPED.add(mapper.mapRow(row, MAPPED.size()));
+        }
+        return MAPPED;
+    }
+
+    @Nested
+    @DisplayName("Search Test")
+    class SearchTest {
+
+        @Test
+        @DisplayName("Should stream one page and return the cursor of its last row when there are more rows")
+        void shouldStreamPageWithNextCursor() throws Exception {
+            stubRows(3);
+            final var OUTPUT = new ByteArrayOutputStream();
+
+            final var WRITTEN = auditLogServiceImp.search(AuditLogQuery.builder().size(2).build()).writeTo(OUTPUT);
+
+            assertEquals(2, WRITTEN);
+            final var BODY = read(OUTPUT);
+            assertEquals(2, BODY.get("data").size());
+            assertEquals("log-3", BODY.get("data").get(0).get("id").asText());
+            assertEquals("Juan", BODY.get("data").get(0).get("changes").get("after").get("firstName").asText());
+            assertEquals(NOW.minusSeconds(1).toString(), BODY.get("data").get(1).get("occurredAt").asText());
+            assertEquals(
+                    new KeysetCursor(NOW.minusSeconds(1), "log-2"),
+                    KeysetCursor.decode(BODY.get("pagination").get("nextCursor").asText())
+            );
+            verify(statement).setObject(1, 3);
+        }
+
+        @Test
+        @DisplayName("Should return a null cursor on the last page")
+        void shouldReturnNullCursorOnLastPage() throws Exception {
+            stubRows(2);
+            final var OUTPUT = new ByteArrayOutputStream();
+
+            auditLogServiceImp.search(AuditLogQuery.builder().size(2).build()).writeTo(OUTPUT);
+
+            final var BODY = read(OUTPUT);
+            assertEquals(2, BODY.get("data").size());
+            assertTrue(BODY.get("pagination").get("nextCursor").isNull());
+        }
+
+        @Test
+        @DisplayName("Should filter by every given filter and seek past the cursor")
+        void shouldFilterAndSeekPastCursor() throws Exception {
+            final var SQL = new String[1];
+            when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenAnswer(invocation -> {
+                SQL[0] = invocation.getArgument(0);
+                return statement;
+            });
+            doAnswer(invocation -> invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection))
+                    .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+            final var CURSOR = new KeysetCursor(NOW, "log-9");
+
+            auditLogServiceImp.search(AuditLogQuery.builder()
+                    .entityType(EMPLOYEE)
+                    .entityId("employee-1")
+                    .actor("user-1")
+                    .from(NOW.minusSeconds(60))
+                    .to(NOW.plusSeconds(60))
+                    .cursor(CURSOR.encode())
+                    .size(10)
+                    .build()).writeTo(new ByteArrayOutputStream());
+
+            assertEquals(
+                    "SELECT id, actor, entity_type, entity_id, action, payload, occurred_at FROM audit_log"
+                            + " WHERE entity_type = ? AND entity_id = ? AND actor = ? AND occurred_at >= ? AND occurred_at < ?"
+                            + " AND (occurred_at, id) < (?, ?) ORDER BY occurred_at DESC, id DESC LIMIT ?",
+                    SQL[0]
+            );
+            verify(statement).setObject(1, "EMPLOYEE");
+            verify(statement).setObject(6, Timestamp.from(NOW));
+            verify(statement).setObject(7, "log-9");
+            verify(statement).setObject(8, 11);
+            verify(statement).setFetchSize(11);
+        }
+
+        @Test
+        @DisplayName("Should reject a size out of range, an empty range and an invalid cursor")
+        void shouldRejectInvalidQueries() {
+            assertThrows(InvalidRequestException.class, () -> auditLogServiceImp.search(AuditLogQuery.builder().size(0).build()));
+            assertThrows(InvalidRequestException.class, () -> auditLogServiceImp.search(AuditLogQuery.builder().size(1001).build()));
+            assertThrows(InvalidRequestException.class, () -> auditLogServiceImp.search(AuditLogQuery.builder()
+                    .from(NOW)
+                    .to(NOW)
+                    .size(10)
+                    .build()));
+            assertThrows(InvalidRequestException.class, () -> auditLogServiceImp.search(AuditLogQuery.builder()
+                    .cursor("not a cursor")
+                    .size(10)
+                    .build()));
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("State At Test")
+    class StateAtTest {
+
+        @Test
+        @DisplayName("Should refuse to read when audit events go to segment files")
+        void shouldRefuseWithoutJdbcSink() {
+            final var SEGMENT_SINK = new AuditLogServiceImp(jdbcTemplate, OBJECT_MAPPER, transactionManager, 1000, "segment");
+
+            assertThrows(NotSupportedException.class, () -> SEGMENT_SINK.stateAt(EMPLOYEE, "employee-1", NOW));
+            assertThrows(NotSupportedException.class, () -> SEGMENT_SINK.search(AuditLogQuery.builder().size(10).build()));
+            verifyNoInteractions(jdbcTemplate, transactionManager);
+        }
+
+        @Test
+        @DisplayName("Should apply the updates after the create")
+        void shouldApplyUpdatesAfterCreate() throws Exception {
+            stubVersions(
+                    List.of(version("log-1", AuditAction.CREATE, "{\"after\":{\"firstName\":\"Juan\",\"lastName\":\"Dela Cruz\"}}", null, NOW)),
+                    List.of(
+                            version("log-2", AuditAction.UPDATE, "{\"before\":{\"lastName\":\"Dela Cruz\"},\"after\":{\"lastName\":\"Santos\"}}", null, NOW.plusSeconds(1)),
+                            version("log-3", AuditAction.UPDATE, "{\"before\":{\"middleName\":null},\"after\":{\"middleName\":\"Reyes\"}}", null, NOW.plusSeconds(2))
+                    )
+            );
+
+            final var STATE = auditLogServiceImp.stateAt(EMPLOYEE, "employee-1", NOW.plusSeconds(60));
+
+            assertEquals("log-3", STATE.auditLogId());
+            assertEquals(NOW.plusSeconds(2), STATE.occurredAt());
+            assertEquals(OBJECT_MAPPER.readTree("{\"firstName\":\"Juan\",\"lastName\":\"Santos\",\"middleName\":\"Reyes\"}"), STATE.state());
+        }
+
+        @Test
+        @DisplayName("Should start from the snapshot of a checkpoint update")
+        void shouldStartFromCheckpointSnapshot() throws Exception {
+            stubVersions(
+                    List.of(version("log-7", AuditAction.UPDATE, "{\"before\":{\"lastName\":\"Santos\"},\"after\":{\"lastName\":\"Cruz\"}}",
+                            "{\"firstName\":\"Juan\",\"lastName\":\"Cruz\"}", NOW)),
+                    List.of()
+            );
+
+            final var STATE = auditLogServiceImp.stateAt(EMPLOYEE, "employee-1", NOW);
+
+            assertEquals("log-7", STATE.auditLogId());
+            assertEquals(OBJECT_MAPPER.readTree("{\"firstName\":\"Juan\",\"lastName\":\"Cruz\"}"), STATE.state());
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException when the entity was deleted")
+        void shouldThrowWhenDeleted() throws Exception {
+            stubVersions(
+                    List.of(version("log-1", AuditAction.CREATE, "{\"after\":{\"firstName\":\"Juan\"}}", null, NOW)),
+                    List.of(version("log-2", AuditAction.DELETE, "{\"before\":{\"firstName\":\"Juan\"}}", null, NOW.plusSeconds(1)))
+            );
+
+            assertThrows(NotFoundException.class, () -> auditLogServiceImp.stateAt(EMPLOYEE, "employee-1", NOW.plusSeconds(1)));
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException when there is no create or checkpoint before the time")
+        void shouldThrowWithoutCheckpoint() {
+            stubVersions(List.of(), null);
+
+            assertThrows(NotFoundException.class, () -> auditLogServiceImp.stateAt(EMPLOYEE, "employee-1", NOW));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor Test")
+    class CursorTest {
+
+        @Test
+        @DisplayName("Should decode what it encodes, including IDs containing the separator")
+        void shouldRoundTrip() {
+            final var CURSOR = new KeysetCursor(Instant.parse("2025-03-01T08:00:00.123456Z"), "a|b");
+
+            assertEquals(CURSOR, KeysetCursor.decode(CURSOR.encode()));
+            assertThrows(InvalidRequestException.class, () -> KeysetCursor.decode(
+                    Base64.getUrlEncoder().encodeToString("no-separator".getBytes(StandardCharsets.UTF_8))));
+        }
+    }
+}
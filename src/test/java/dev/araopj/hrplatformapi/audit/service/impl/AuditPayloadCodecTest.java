@@ -0,0 +1,160 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AuditPayloadCodec Test")
+class AuditPayloadCodecTest {
+
+    private static final String CREATE = """
+            {"after":{"employeeNumber":"EMP-001","itemNumber":"ITEM-7","firstName":"Juan","middleName":"Santos",\
+            "lastName":"Dela Cruz","dateOfBirth":"****","email":"****","phoneNumber":"****","gender":"MALE",\
+            "taxPayerIdentificationNumber":"****","civilStatus":"SINGLE","bankAccountNumber":"****",\
+            "userId":"5f0c3e1a-7d2b-4c1e-9a7f-2b8e6d4c1a90"}}""";
+    private static final String UPDATE = """
+            {"before":{"lastName":"Dela Cruz","civilStatus":"SINGLE"},"after":{"lastName":"Santos","civilStatus":"MARRIED"}}""";
+
+    private AuditPayloadCodec codec;
+
+    @BeforeEach
+    void setup() {
+        codec = new AuditPayloadCodec();
+    }
+
+    @AfterEach
+    void tearDown() {
+        codec.close();
+    }
+
+    private static byte[] deflate(String json, byte[] dictionary) {
+        final var DEFLATER = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            if (dictionary != null) {
+                DEFLATER.setDictionary(dictionary);
+            }
+            DEFLATER.setInput(json.getBytes(StandardCharsets.UTF_8));
+            DEFLATER.finish();
+            final var OUTPUT = new ByteArrayOutputStream();
+            final var BUFFER = new byte[1024];
+            while (!DEFLATER.finished()) {
+                OUTPUT.write(BUFFER, 0, DEFLATER.deflate(BUFFER));
+            }
+            return OUTPUT.toByteArray();
+        } finally {
+            DEFLATER.end();
+        }
+    }
+
+    @Nested
+    @DisplayName("Round Trip Test")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("Should decode what it encodes, reusing the same instance")
+        void shouldDecodeWhatItEncodes() {
+            for (var json : new String[]{CREATE, UPDATE, "{\"after\":{\"remarks\":\"Résumé ✓\"}}", "{}"}) {
+                assertEquals(json, codec.decode(codec.encode(json)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should compress to less than half, and smaller than Deflate without the dictionary")
+        void shouldCompressBetterThanPlainDeflate() {
+            for (var json : new String[]{CREATE, UPDATE}) {
+                final var ENCODED = codec.encode(json);
+
+                assertTrue(ENCODED.length * 2 < json.length(), "%d of %d bytes".formatted(ENCODED.length, json.length()));
+                assertTrue(ENCODED.length < deflate(json, null).length);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Storage Test")
+    class StorageTest {
+
+        private static final int CHECKPOINT_INTERVAL = 20;
+        private static final String[] CHANGED_FIELDS = {"lastName", "civilStatus", "itemNumber", "middleName", "photo"};
+
+        private static String json(LinkedHashMap<String, String> row) {
+            return row.entrySet().stream()
+                    .map(field -> "\"%s\":\"%s\"".formatted(field.getKey(), field.getValue()))
+                    .collect(Collectors.joining(",", "{", "}"));
+        }
+
+        /**
+         * Bytes stored for a create followed by {@code updates} single-field updates, relative to keeping the full
+         * row of every version uncompressed.
+         */
+        private double ratio(int updates) {
+            final var ROW = new LinkedHashMap<String, String>();
+            final var VALUES = new String[]{"EMP-001", "ITEM-7", "Juan", "Santos", "Dela Cruz", "****", "****", "****",
+                    "MALE", "****", "SINGLE", "****", "https://cdn.example.com/photos/5f0c3e1a.jpg",
+                    "5f0c3e1a-7d2b-4c1e-9a7f-2b8e6d4c1a90"};
+            final var FIELDS = new String[]{"employeeNumber", "itemNumber", "firstName", "middleName", "lastName",
+                    "dateOfBirth", "email", "phoneNumber", "gender", "taxPayerIdentificationNumber", "civilStatus",
+                    "bankAccountNumber", "photo", "userId"};
+            for (int i = 0; i < FIELDS.length; i++) {
+                ROW.put(FIELDS[i], VALUES[i]);
+            }
+
+            long fullRows = json(ROW).length();
+            long stored = codec.encode("{\"after\":" + json(ROW) + "}").length;
+            for (int i = 1; i <= updates; i++) {
+                final var FIELD = CHANGED_FIELDS[i % CHANGED_FIELDS.length];
+                final var BEFORE = ROW.put(FIELD, FIELD.substring(0, 3) + "-" + i);
+                fullRows += json(ROW).length();
+                stored += codec.encode("{\"before\":{\"%s\":\"%s\"},\"after\":{\"%s\":\"%s\"}}"
+                        .formatted(FIELD, BEFORE, FIELD, ROW.get(FIELD))).length;
+                if (i % CHECKPOINT_INTERVAL == 0) {
+                    stored += codec.encode(json(ROW)).length;
+                }
+            }
+            return (double) fullRows / stored;
+        }
+
+        @Test
+        @DisplayName("Should store at least 5x less than a full row per version, from the first few updates on")
+        void shouldStoreFiveTimesLessThanFullRows() {
+            for (var updates : new int[]{5, 20, 100}) {
+                final var RATIO = ratio(updates);
+
+                assertTrue(RATIO >= 5, "%.1fx after %d updates".formatted(RATIO, updates));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Decode Test")
+    class DecodeTest {
+
+        @Test
+        @DisplayName("Should reject a payload compressed with an unknown dictionary")
+        void shouldRejectUnknownDictionary() {
+            final var PAYLOAD = deflate(UPDATE, "{\"other\":".getBytes(StandardCharsets.UTF_8));
+
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(PAYLOAD));
+        }
+
+        @Test
+        @DisplayName("Should reject a truncated or malformed payload")
+        void shouldRejectTruncatedOrMalformedPayload() {
+            final var ENCODED = codec.encode(CREATE);
+
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(Arrays.copyOf(ENCODED, ENCODED.length / 2)));
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(UPDATE.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
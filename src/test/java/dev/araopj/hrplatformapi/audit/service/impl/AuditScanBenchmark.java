@@ -0,0 +1,121 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans the history of 10,000 employees of 21 versions each, stored either as the full row of every version or as
+ * encoded deltas with a checkpoint every 20th update.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}. Each benchmark reads every row of its table in an in-memory
+ * H2 database and parses it, so it measures the CPU side of a sequential scan: reading fewer bytes against inflating
+ * them. The I/O side scales with the stored bytes, which {@code setup} prints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditScanBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final int UPDATES = 20;
+    private static final String[] CHANGED_FIELDS = {"lastName", "civilStatus", "itemNumber", "middleName", "photo"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AuditPayloadCodec codec;
+
+    @Setup
+    public void setup() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        codec = new AuditPayloadCodec();
+        jdbcTemplate.execute("CREATE TABLE full_row (id BIGINT PRIMARY KEY, payload VARCHAR)");
+        jdbcTemplate.execute("CREATE TABLE audit_log (id BIGINT PRIMARY KEY, payload VARBINARY, snapshot VARBINARY)");
+
+        final var FULL_ROWS = new ArrayList<Object[]>();
+        final var AUDIT_LOGS = new ArrayList<Object[]>();
+        for (int employee = 0; employee < EMPLOYEES; employee++) {
+            final var ROW = row(employee);
+            FULL_ROWS.add(new Object[]{(long) FULL_ROWS.size(), ROW.toString()});
+            AUDIT_LOGS.add(new Object[]{(long) AUDIT_LOGS.size(), codec.encode("{\"after\":" + ROW + "}"), null});
+            for (int i = 1; i <= UPDATES; i++) {
+                final var FIELD = CHANGED_FIELDS[i % CHANGED_FIELDS.length];
+                final var BEFORE = ROW.get(FIELD).toString();
+                ROW.put(FIELD, FIELD.substring(0, 3) + "-" + i);
+                final var DELTA = "{\"before\":{\"%s\":%s},\"after\":{\"%s\":%s}}".formatted(FIELD, BEFORE, FIELD, ROW.get(FIELD));
+                FULL_ROWS.add(new Object[]{(long) FULL_ROWS.size(), ROW.toString()});
+                AUDIT_LOGS.add(new Object[]{(long) AUDIT_LOGS.size(), codec.encode(DELTA),
+                        i % UPDATES == 0 ? codec.encode(ROW.toString()) : null});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO full_row VALUES (?, ?)", FULL_ROWS);
+        jdbcTemplate.batchUpdate("INSERT INTO audit_log VALUES (?, ?, ?)", AUDIT_LOGS);
+
+        final var FULL_ROW_BYTES = jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(payload)) FROM full_row", Long.class);
+        final var AUDIT_LOG_BYTES = jdbcTemplate.queryForObject(
+                "SELECT SUM(OCTET_LENGTH(payload)) + SUM(COALESCE(OCTET_LENGTH(snapshot), 0)) FROM audit_log", Long.class);
+        System.out.printf("%nfull_row: %d bytes, audit_log: %d bytes (%.1fx less)%n",
+                FULL_ROW_BYTES, AUDIT_LOG_BYTES, (double) FULL_ROW_BYTES / AUDIT_LOG_BYTES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        codec.close();
+        dataSource.destroy();
+    }
+
+    private ObjectNode row(int employee) {
+        return objectMapper.createObjectNode()
+                .put("employeeNumber", "EMP-%06d".formatted(employee))
+                .put("itemNumber", "ITEM-" + employee % 300)
+                .put("firstName", "Juan")
+                .put("middleName", "Santos")
+                .put("lastName", "Dela Cruz")
+                .put("dateOfBirth", "****")
+                .put("email", "****")
+                .put("phoneNumber", "****")
+                .put("gender", employee % 2 == 0 ? "MALE" : "FEMALE")
+                .put("taxPayerIdentificationNumber", "****")
+                .put("civilStatus", "SINGLE")
+                .put("bankAccountNumber", "****")
+                .put("photo", "https://cdn.example.com/photos/%08x.jpg".formatted(employee))
+                .put("userId", UUID.nameUUIDFromBytes(("employee-" + employee).getBytes()).toString());
+    }
+
+    @Benchmark
+    public long fullRows() {
+        final long[] FIELDS = {0};
+        jdbcTemplate.query("SELECT payload FROM full_row ORDER BY id", resultSet -> {
+            try {
+                FIELDS[0] += objectMapper.readTree(resultSet.getString(1)).size();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return FIELDS[0];
+    }
+
+    @Benchmark
+    public long encodedRows() {
+        final long[] FIELDS = {0};
+        jdbcTemplate.query("SELECT payload FROM audit_log ORDER BY id", resultSet -> {
+            try {
+                FIELDS[0] += objectMapper.readTree(codec.decode(resultSet.getBytes(1))).size();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return FIELDS[0];
+    }
+}
@@ -0,0 +1,205 @@
+package dev.araopj.hrplatformapi.audit.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.model.AuditEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditServiceImp Test")
+class AuditServiceImpTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private AuditDispatcher auditDispatcher;
+
+    private AuditServiceImp auditServiceImp;
+    private Map<String, Object> employee;
+
+    @BeforeEach
+    void setup() {
+        auditServiceImp = new AuditServiceImp(auditDispatcher, "X-User-Id", Set.of("taxPayerIdentificationNumber"), 3, 2);
+        employee = new LinkedHashMap<>();
+        employee.put("employeeNumber", "EMP-001");
+        employee.put("firstName", "Juan");
+        employee.put("lastName", "Dela Cruz");
+        employee.put("dateOfBirth", LocalDate.of(1990, 5, 17));
+        employee.put("taxPayerIdentificationNumber", "123-456-789");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private AuditEvent published() {
+        var captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditDispatcher).publish(captor.capture());
+        return captor.getValue();
+    }
+
+    private List<AuditEvent> allPublished() {
+        var captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditDispatcher, atLeastOnce()).publish(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private void update(String entityId) {
+        auditServiceImp.record(EMPLOYEE, entityId, AuditAction.UPDATE, Map.of("lastName", "Dela Cruz"), Map.of("lastName", "Santos"), () -> employee);
+    }
+
+    private static JsonNode changes(AuditEvent event) throws Exception {
+        return OBJECT_MAPPER.readTree(event.changes());
+    }
+
+    @Nested
+    @DisplayName("Record Test")
+    class RecordTest {
+
+        @Test
+        @DisplayName("Should publish a create with sensitive fields redacted")
+        void shouldPublishCreateRedacted() throws Exception {
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.CREATE, null, employee);
+
+            var event = published();
+            assertEquals(AuditAction.CREATE, event.action());
+            assertEquals(EMPLOYEE, event.entityType());
+            assertEquals("employee-1", event.entityId());
+            assertEquals(AuditServiceImp.SYSTEM_ACTOR, event.actor());
+            assertNotNull(event.occurredAt());
+
+            var changes = changes(event);
+            assertFalse(changes.has("before"));
+            var after = changes.get("after");
+            assertEquals("EMP-001", after.get("employeeNumber").asText());
+            assertEquals("1990-05-17", after.get("dateOfBirth").asText());
+            assertEquals("****", after.get("taxPayerIdentificationNumber").asText());
+        }
+
+        @Test
+        @DisplayName("Should publish an update with both sides redacted")
+        void shouldPublishUpdateWithBothSidesRedacted() throws Exception {
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.UPDATE,
+                    Map.of("lastName", "Dela Cruz", "taxPayerIdentificationNumber", "123-456-789"),
+                    Map.of("lastName", "Santos", "taxPayerIdentificationNumber", "987-654-321"));
+
+            var changes = changes(published());
+            assertEquals("Dela Cruz", changes.get("before").get("lastName").asText());
+            assertEquals("Santos", changes.get("after").get("lastName").asText());
+            assertEquals("****", changes.get("before").get("taxPayerIdentificationNumber").asText());
+            assertEquals("****", changes.get("after").get("taxPayerIdentificationNumber").asText());
+        }
+
+        @Test
+        @DisplayName("Should publish the values before a delete")
+        void shouldPublishValuesBeforeDelete() throws Exception {
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.DELETE, employee, null);
+
+            var event = published();
+            assertEquals(AuditAction.DELETE, event.action());
+            var changes = changes(event);
+            assertFalse(changes.has("after"));
+            assertEquals("Juan", changes.get("before").get("firstName").asText());
+        }
+
+        @Test
+        @DisplayName("Should use the actor header of the current request")
+        void shouldUseActorHeaderOfCurrentRequest() {
+            var request = new MockHttpServletRequest();
+            request.addHeader("X-User-Id", "user-42");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.CREATE, null, employee);
+
+            assertEquals("user-42", published().actor());
+        }
+
+        @Test
+        @DisplayName("Should publish after commit inside a transaction")
+        void shouldPublishAfterCommitInsideTransaction() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.UPDATE, Map.of("lastName", "Dela Cruz"), Map.of("lastName", "Santos"));
+                verifyNoInteractions(auditDispatcher);
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertEquals("employee-1", published().entityId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Checkpoint Test")
+    class CheckpointTest {
+
+        @Test
+        @DisplayName("Should snapshot every checkpoint-interval-th update after a create")
+        void shouldSnapshotEveryIntervalAfterCreate() throws Exception {
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.CREATE, null, employee);
+            for (int i = 0; i < 6; i++) {
+                update("employee-1");
+            }
+
+            var events = allPublished();
+            assertEquals(
+                    List.of(false, false, false, true, false, false, true),
+                    events.stream().map(event -> event.snapshot() != null).toList()
+            );
+            var snapshot = OBJECT_MAPPER.readTree(events.get(3).snapshot());
+            assertEquals("Dela Cruz", snapshot.get("lastName").asText());
+            assertEquals("****", snapshot.get("taxPayerIdentificationNumber").asText());
+        }
+
+        @Test
+        @DisplayName("Should snapshot the first update of an entity it has no count for")
+        void shouldSnapshotFirstUpdateOfUnknownEntity() {
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.CREATE, null, employee);
+            update("employee-2");
+            update("employee-3");
+            // employee-1 was evicted from the two-entry cache
+            update("employee-1");
+
+            assertEquals(
+                    List.of(false, true, true, true),
+                    allPublished().stream().map(event -> event.snapshot() != null).toList()
+            );
+        }
+
+        @Test
+        @DisplayName("Should not snapshot without the state, a create or a delete")
+        void shouldNotSnapshotWithoutState() {
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.UPDATE, null, Map.of("lastName", "Santos"));
+            auditServiceImp.record(EMPLOYEE, "employee-1", AuditAction.DELETE, employee, null);
+
+            assertTrue(allPublished().stream().allMatch(event -> event.snapshot() == null));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.araopj.hrplatformapi.employee.runner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("SalaryHistorySeedRunner Test")
+class SalaryHistorySeedRunnerTest {
+
+    @Nested
+    @DisplayName("Seed Test")
+    class SeedTest {
+
+        private static final Instant CREATED_AT = Instant.now().minus(400, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+
+        private JdbcTemplate database;
+
+        @BeforeEach
+        void createTables() {
+            database = new JdbcTemplate(new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL", true));
+            database.execute("""
+                    CREATE TABLE salary (
+                        id VARCHAR(36) PRIMARY KEY, amount_minor BIGINT, currency VARCHAR(3),
+                        created_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                        version BIGINT DEFAULT 0 NOT NULL
+                    )
+                    """);
+            database.execute("""
+                    CREATE TABLE salary_history (
+                        id VARCHAR(36) PRIMARY KEY, salary_id VARCHAR(36) NOT NULL, amount_minor BIGINT, currency VARCHAR(3),
+                        change_type VARCHAR(16) NOT NULL, valid_from TIMESTAMP WITH TIME ZONE NOT NULL,
+                        created_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                        version BIGINT DEFAULT 0 NOT NULL
+                    )
+                    """);
+        }
+
+        private void salary(String id, long amountMinor) {
+            database.update("INSERT INTO salary (id, amount_minor, currency, created_at, updated_at) VALUES (?, ?, 'PHP', ?, ?)",
+                    id, amountMinor, Timestamp.from(CREATED_AT), Timestamp.from(Instant.now()));
+        }
+
+        @Test
+        @DisplayName("Should seed a CREATED row valid from creation for salaries without history, once")
+        void shouldSeedCreatedRowForSalariesWithoutHistoryOnce() {
+            salary("salary-1", 3_000_000);
+            salary("salary-2", 4_000_000);
+            database.update("""
+                    INSERT INTO salary_history (id, salary_id, amount_minor, currency, change_type, valid_from, created_at, updated_at)
+                    VALUES ('history-1', 'salary-2', 4_000_000, 'PHP', 'UPDATED', ?, ?, ?)
+                    """, Timestamp.from(CREATED_AT), Timestamp.from(CREATED_AT), Timestamp.from(CREATED_AT));
+            final var RUNNER = new SalaryHistorySeedRunner(database);
+
+            RUNNER.run(new DefaultApplicationArguments());
+            RUNNER.run(new DefaultApplicationArguments());
+
+            assertEquals(List.of(
+                            Map.of("SALARY_ID", "salary-1", "AMOUNT_MINOR", 3_000_000L, "CHANGE_TYPE", "CREATED"),
+                            Map.of("SALARY_ID", "salary-2", "AMOUNT_MINOR", 4_000_000L, "CHANGE_TYPE", "UPDATED")),
+                    database.queryForList("SELECT salary_id, amount_minor, change_type FROM salary_history ORDER BY salary_id"));
+            assertEquals(CREATED_AT, database.queryForObject(
+                    "SELECT valid_from FROM salary_history WHERE salary_id = 'salary-1'", Timestamp.class).toInstant());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package dev.araopj.hrplatformapi.employee.service.impl;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.employee.dto.response.EmployeeChangeNotification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeChangeBroadcaster Test")
+class EmployeeChangeBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeChangeBroadcaster employeeChangeBroadcaster;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeChangeBroadcaster = new EmployeeChangeBroadcaster(meterRegistry, 2, Duration.ofMinutes(1), Duration.ofSeconds(15));
+    }
+
+    private static EmployeeChangeNotification notification(String id) {
+        return EmployeeChangeNotification.builder()
+                .id(id)
+                .type(EMPLOYEE)
+                .action(AuditAction.UPDATE)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Publish Test")
+    class PublishTest {
+
+        @Test
+        @DisplayName("Should buffer notifications for every subscriber")
+        void shouldBufferForEverySubscriber() {
+            final var FIRST = employeeChangeBroadcaster.register(new SseEmitter());
+            final var SECOND = employeeChangeBroadcaster.register(new SseEmitter());
+
+            employeeChangeBroadcaster.publish(List.of(notification("employee-1"), notification("employee-2")));
+
+            assertEquals(2, FIRST.buffered());
+            assertEquals(2, SECOND.buffered());
+            assertEquals(2, employeeChangeBroadcaster.subscriberCount());
+        }
+
+        @Test
+        @DisplayName("Should drop a subscriber whose buffer is full instead of waiting")
+        void shouldDropSubscriberWithFullBuffer() {
+            final var SLOW = employeeChangeBroadcaster.register(new SseEmitter());
+            employeeChangeBroadcaster.publish(List.of(notification("employee-1"), notification("employee-2")));
+            final var FAST = employeeChangeBroadcaster.register(new SseEmitter());
+
+            assertTimeoutPreemptively(Duration.ofSeconds(1),
+                    () -> employeeChangeBroadcaster.publish(List.of(notification("employee-3"))));
+
+            assertEquals(1, employeeChangeBroadcaster.subscriberCount());
+            assertEquals(1, FAST.buffered());
+            assertEquals(2, SLOW.buffered());
+            assertEquals(1, meterRegistry.counter("hr_platform.employee_stream.dropped").count());
+        }
+
+        @Test
+        @DisplayName("Should hand buffered notifications to the subscriber's sender")
+        void shouldDrainBufferThroughSender() throws Exception {
+            employeeChangeBroadcaster.subscribe();
+
+            // twice the buffer size: only stays subscribed if the sender keeps draining
+            for (int i = 0; i < 4; i++) {
+                employeeChangeBroadcaster.publish(List.of(notification("employee-" + i)));
+                Thread.sleep(50);
+            }
+
+            assertEquals(1, employeeChangeBroadcaster.subscriberCount());
+            assertEquals(0, meterRegistry.counter("hr_platform.employee_stream.dropped").count());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.araopj.hrplatformapi.employee.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.araopj.hrplatformapi.employee.dto.request.EmployeeRequest;
 import dev.araopj.hrplatformapi.employee.dto.request.EmploymentInformationRequest;
 import dev.araopj.hrplatformapi.employee.dto.request.IdDocumentRequest;
@@ -9,7 +10,11 @@ import dev.araopj.hrplatformapi.employee.model.*;
 import dev.araopj.hrplatformapi.employee.repository.EmployeeRepository;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
+import dev.araopj.hrplatformapi.payroll.model.PayrollContribution;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.EmployeeMapper;
 import dev.araopj.hrplatformapi.utils.mappers.EmploymentInformationMapper;
 import dev.araopj.hrplatformapi.utils.mappers.IdDocumentMapper;
@@ -20,12 +25,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -39,6 +46,10 @@ class EmployeeServiceImpTest {
 
     @Mock
     private EmployeeRepository employeeRepository;
+    @Mock
+    private PayrollCounterService payrollCounterService;
+    @Spy
+    private PageResponseCache pageResponseCache = new PageResponseCache(new ObjectMapper().findAndRegisterModules(), 1 << 20);
     @InjectMocks
     private EmployeeServiceImp employeeServiceImp;
 
@@ -51,6 +62,9 @@ class EmployeeServiceImpTest {
     private EmploymentInformationRequest employmentInformationRequest;
     private Pageable pageable;
 
+    private static final PayrollContribution CONTRIBUTION = new PayrollContribution(
+            "workplace-1", EmploymentStatus.PERMANENT, Currency.getInstance("PHP"), 3_000_000L);
+
     @BeforeEach
     void setup() {
         var idDocumentType = IdDocumentType.builder()
@@ -487,6 +501,7 @@ class EmployeeServiceImpTest {
                 mapperMock.when(() -> EmployeeMapper.toEntity(eq(employeeRequest), anySet(), anySet()))
                         .thenReturn(employee);
                 when(employeeRepository.saveAll(anyList())).thenReturn(List.of(employee));
+                when(payrollCounterService.contributionOf(employmentInformation.getId())).thenReturn(CONTRIBUTION);
                 mapperMock.when(() -> EmployeeMapper.toDto(employee, false, false))
                         .thenReturn(employeeResponse);
 
@@ -495,6 +510,7 @@ class EmployeeServiceImpTest {
                 assertNotNull(result);
                 assertEquals(1, result.size());
                 assertEquals(employeeResponse, result.getFirst());
+                verify(payrollCounterService).record(null, CONTRIBUTION);
                 verify(employeeRepository).findByEmployeeNumberOrEmailOrTaxPayerIdentificationNumberOrFirstNameAndLastNameOrFirstNameAndMiddleNameAndLastName(
                         employeeRequest.employeeNumber(),
                         employeeRequest.email(),
@@ -826,6 +842,19 @@ class EmployeeServiceImpTest {
             verify(employeeRepository).findById("non-existent-id");
             verifyNoMoreInteractions(employeeRepository);
         }
+
+        @Test
+        @DisplayName("Should throw PreconditionFailedException when If-Match names another version")
+        void shouldThrowPreconditionFailedExceptionWhenVersionIsStale() {
+            when(employeeRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+            var exception = assertThrows(PreconditionFailedException.class,
+                    () -> employeeServiceImp.update(employee.getId(), employeeRequest, 3L));
+            assertTrue(exception.getMessage().contains("is at version 0, not 3"));
+
+            verify(employeeRepository).findById(employee.getId());
+            verifyNoMoreInteractions(employeeRepository);
+        }
     }
 
     @Nested
@@ -835,19 +864,17 @@ class EmployeeServiceImpTest {
         @Test
         @DisplayName("Should delete employee successfully when exists")
         void shouldDeleteEmployeeSuccessfullyWhenExists() {
-            try (var mapperMock = mockStatic(EmployeeMapper.class)) {
-                when(employeeRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
-                mapperMock.when(() -> EmployeeMapper.toDto(employee, false, false))
-                        .thenReturn(employeeResponse);
-                when(employeeRepository.existsById(employee.getId())).thenReturn(false);
+            when(employeeRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+            when(payrollCounterService.contributionOf(employmentInformation.getId())).thenReturn(CONTRIBUTION);
+            when(employeeRepository.existsById(employee.getId())).thenReturn(false);
 
-                var result = employeeServiceImp.delete(employee.getId());
+            var result = employeeServiceImp.delete(employee.getId());
 
-                assertTrue(result);
-                verify(employeeRepository).findById(employee.getId());
-                verify(employeeRepository).deleteById(employee.getId());
-                verify(employeeRepository).existsById(employee.getId());
-            }
+            assertTrue(result);
+            verify(employeeRepository).findById(employee.getId());
+            verify(employeeRepository).deleteById(employee.getId());
+            verify(employeeRepository).existsById(employee.getId());
+            verify(payrollCounterService).record(CONTRIBUTION, null);
         }
 
         @Test
@@ -865,19 +892,15 @@ class EmployeeServiceImpTest {
         @Test
         @DisplayName("Should return false when employee not deleted")
         void shouldReturnFalseWhenEmployeeNotDeleted() {
-            try (var mapperMock = mockStatic(EmployeeMapper.class)) {
-                when(employeeRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
-                mapperMock.when(() -> EmployeeMapper.toDto(employee, false, false))
-                        .thenReturn(employeeResponse);
-                when(employeeRepository.existsById(employee.getId())).thenReturn(true);
+            when(employeeRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+            when(employeeRepository.existsById(employee.getId())).thenReturn(true);
 
-                var result = employeeServiceImp.delete(employee.getId());
+            var result = employeeServiceImp.delete(employee.getId());
 
-                assertFalse(result);
-                verify(employeeRepository).findById(employee.getId());
-                verify(employeeRepository).deleteById(employee.getId());
-                verify(employeeRepository).existsById(employee.getId());
-            }
+            assertFalse(result);
+            verify(employeeRepository).findById(employee.getId());
+            verify(employeeRepository).deleteById(employee.getId());
+            verify(employeeRepository).existsById(employee.getId());
         }
     }
 }
\ No newline at end of file
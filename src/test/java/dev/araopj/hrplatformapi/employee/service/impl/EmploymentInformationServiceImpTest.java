@@ -6,7 +6,10 @@ import dev.araopj.hrplatformapi.employee.model.*;
 import dev.araopj.hrplatformapi.employee.repository.*;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.model.PayrollContribution;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.formatter.DateFormatter;
 import dev.araopj.hrplatformapi.utils.mappers.EmploymentInformationMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +47,10 @@ class EmploymentInformationServiceImpTest {
     private WorkplaceRepository workplaceRepository;
     @Mock
     private SalaryRepository salaryRepository;
+    @Mock
+    private PageResponseCache pageResponseCache;
+    @Mock
+    private PayrollCounterService payrollCounterService;
     @InjectMocks
     private EmploymentInformationServiceImp employmentInformationServiceImp;
 
@@ -562,6 +570,27 @@ class EmploymentInformationServiceImpTest {
             }
         }
 
+        @Test
+        @DisplayName("Should remove the deleted record from the payroll counters")
+        void shouldRemoveDeletedRecordFromPayrollCounters() {
+            var contribution = new PayrollContribution("work-1", EmploymentStatus.PERMANENT, Currency.getInstance("PHP"), 5_000_000);
+            try (var mapperMock = mockStatic(EmploymentInformationMapper.class)) {
+                when(employmentInformationRepository.findById(employmentInformation.getId()))
+                        .thenReturn(Optional.of(employmentInformation));
+                mapperMock.when(() -> EmploymentInformationMapper.toDto(employmentInformation, false))
+                        .thenReturn(employmentInformationResponse);
+                when(payrollCounterService.contributionOf(employmentInformation.getId()))
+                        .thenReturn(contribution);
+
+                employmentInformationServiceImp.delete(employmentInformation.getId());
+
+                var order = inOrder(payrollCounterService, employmentInformationRepository);
+                order.verify(payrollCounterService).contributionOf(employmentInformation.getId());
+                order.verify(employmentInformationRepository).deleteById(employmentInformation.getId());
+                order.verify(payrollCounterService).record(contribution, null);
+            }
+        }
+
         @Test
         @DisplayName("Should throw NotFoundException when EmploymentInformation not found")
         void shouldThrowNotFoundExceptionWhenEmploymentInformationNotFound() {
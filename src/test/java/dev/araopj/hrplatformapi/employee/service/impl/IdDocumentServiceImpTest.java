@@ -9,6 +9,7 @@ import dev.araopj.hrplatformapi.employee.repository.IdDocumentRepository;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.IdDocumentMapper;
 import dev.araopj.hrplatformapi.utils.mappers.IdDocumentTypeMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,8 @@ class IdDocumentServiceImpTest {
 
     @Mock
     private IdDocumentRepository idDocumentRepository;
+    @Mock
+    private PageResponseCache pageResponseCache;
     @InjectMocks
     private IdDocumentServiceImp idDocumentServiceImp;
 
@@ -8,6 +8,7 @@ import dev.araopj.hrplatformapi.employee.repository.IdDocumentRepository;
 import dev.araopj.hrplatformapi.employee.repository.IdDocumentTypeRepository;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.IdDocumentTypeMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +34,8 @@ class IdDocumentTypeServiceImpTest {
     private IdDocumentTypeRepository idDocumentTypeRepository;
     @Mock
     private IdDocumentRepository idDocumentRepository;
+    @Mock
+    private PageResponseCache pageResponseCache;
     @InjectMocks
     private IdDocumentTypeServiceImp idDocumentTypeServiceImp;
 
@@ -1,5 +1,6 @@
 package dev.araopj.hrplatformapi.employee.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.araopj.hrplatformapi.employee.dto.request.PositionRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.PositionResponse;
 import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
@@ -10,6 +11,7 @@ import dev.araopj.hrplatformapi.employee.repository.PositionRepository;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.PositionMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +41,8 @@ class PositionServiceImpTest {
     private EmploymentInformationRepository employmentInformationRepository;
     @Mock
     private PositionRepository positionRepository;
+    @Spy
+    private PageResponseCache pageResponseCache = new PageResponseCache(new ObjectMapper().findAndRegisterModules(), 1 << 20);
     @InjectMocks
     private PositionServiceImp positionServiceImp;
 
@@ -0,0 +1,213 @@
+package dev.araopj.hrplatformapi.employee.service.impl;
+
+import dev.araopj.hrplatformapi.employee.dto.request.SalaryAdjustmentRequest;
+import dev.araopj.hrplatformapi.employee.model.SalaryAdjustmentType;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalaryAdjustmentServiceImp Test")
+class SalaryAdjustmentServiceImpTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private SalaryAdjustmentWriter salaryAdjustmentWriter;
+    @Mock
+    private SalaryGradeService salaryGradeService;
+    @Mock
+    private PayrollCounterService payrollCounterService;
+    @Mock
+    private PageResponseCache pageResponseCache;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SalaryAdjustmentServiceImp salaryAdjustmentServiceImp;
+
+    @BeforeEach
+    void setup() {
+        salaryAdjustmentServiceImp = new SalaryAdjustmentServiceImp(
+                salaryAdjustmentWriter,
+                salaryGradeService,
+                payrollCounterService,
+                pageResponseCache,
+                transactionTemplate,
+                CHUNK_SIZE,
+                "PHP"
+        );
+    }
+
+    private void givenTransactions() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Nested
+    @DisplayName("Adjust Test")
+    class AdjustTest {
+
+        @Test
+        @DisplayName("Should adjust every chunk until one is not full")
+        void shouldAdjustEveryChunkUntilOneIsNotFull() {
+            givenTransactions();
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.PERCENTAGE)
+                    .value(new BigDecimal("5.25"))
+                    .build();
+            when(salaryAdjustmentWriter.adjust(eq(""), eq(request), eq("PHP"), any(), eq(CHUNK_SIZE)))
+                    .thenReturn(new SalaryAdjustmentWriter.Chunk("s-2", 2, 2));
+            when(salaryAdjustmentWriter.adjust(eq("s-2"), eq(request), eq("PHP"), any(), eq(CHUNK_SIZE)))
+                    .thenReturn(new SalaryAdjustmentWriter.Chunk("s-3", 1, 0));
+
+            var result = salaryAdjustmentServiceImp.adjust(request);
+
+            assertEquals("PHP", result.currency());
+            assertEquals(3, result.matched());
+            assertEquals(2, result.updated());
+            assertEquals(2, result.chunks());
+            var rule = ArgumentCaptor.forClass(SalaryAdjustmentWriter.Rule.class);
+            verify(salaryAdjustmentWriter).adjust(eq(""), eq(request), eq("PHP"), rule.capture(), eq(CHUNK_SIZE));
+            assertEquals(1_052_500, rule.getValue().value());
+            assertNull(rule.getValue().gradeMinorUnits());
+            verify(transactionTemplate, times(2)).execute(any());
+            verify(pageResponseCache).invalidate(SALARY);
+            verify(payrollCounterService).reconcile();
+        }
+
+        @Test
+        @DisplayName("Should not invalidate or reconcile when nothing changed")
+        void shouldNotInvalidateOrReconcileWhenNothingChanged() {
+            givenTransactions();
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.FIXED_AMOUNT)
+                    .value(new BigDecimal("1000"))
+                    .minAmount(new BigDecimal("100000"))
+                    .build();
+            when(salaryAdjustmentWriter.adjust(eq(""), eq(request), eq("PHP"), any(), eq(CHUNK_SIZE)))
+                    .thenReturn(new SalaryAdjustmentWriter.Chunk("", 0, 0));
+
+            var result = salaryAdjustmentServiceImp.adjust(request);
+
+            assertEquals(0, result.matched());
+            assertEquals(0, result.chunks());
+            var rule = ArgumentCaptor.forClass(SalaryAdjustmentWriter.Rule.class);
+            verify(salaryAdjustmentWriter).adjust(eq(""), eq(request), eq("PHP"), rule.capture(), eq(CHUNK_SIZE));
+            assertEquals(100_000, rule.getValue().value());
+            assertEquals(10_000_000L, rule.getValue().minMinorUnits());
+            verifyNoInteractions(pageResponseCache, payrollCounterService);
+        }
+
+        @Test
+        @DisplayName("Should set salaries on the grade to the salary grade step amount")
+        void shouldSetSalariesOnGradeToSalaryGradeStepAmount() {
+            givenTransactions();
+            var effectiveDate = LocalDate.of(2024, 1, 1);
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.SALARY_GRADE_STEP)
+                    .salaryGrade(11)
+                    .step(2)
+                    .effectiveDate(effectiveDate)
+                    .build();
+            when(salaryGradeService.currency()).thenReturn(Currency.getInstance("PHP"));
+            when(salaryGradeService.findStepAmount(11, 2, effectiveDate)).thenReturn(2_700_050L);
+            when(salaryGradeService.findGradeAmounts(11)).thenReturn(new long[]{2_500_000, 2_700_050, 2_800_025});
+            when(salaryAdjustmentWriter.adjust(eq(""), eq(request), eq("PHP"), any(), eq(CHUNK_SIZE)))
+                    .thenReturn(new SalaryAdjustmentWriter.Chunk("s-1", 1, 1));
+
+            salaryAdjustmentServiceImp.adjust(request);
+
+            var rule = ArgumentCaptor.forClass(SalaryAdjustmentWriter.Rule.class);
+            verify(salaryAdjustmentWriter).adjust(eq(""), eq(request), eq("PHP"), rule.capture(), eq(CHUNK_SIZE));
+            assertEquals(2_700_050, rule.getValue().value());
+            assertEquals(List.of(2_500_000L, 2_700_050L, 2_800_025L), rule.getValue().gradeMinorUnits());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the salaries are not in the salary grade currency")
+        void shouldThrowInvalidRequestExceptionWhenCurrencyIsNotSalaryGradeCurrency() {
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.SALARY_GRADE_STEP)
+                    .salaryGrade(11)
+                    .step(2)
+                    .currency("USD")
+                    .build();
+            when(salaryGradeService.currency()).thenReturn(Currency.getInstance("PHP"));
+
+            assertThrows(InvalidRequestException.class, () -> salaryAdjustmentServiceImp.adjust(request));
+            verifyNoInteractions(transactionTemplate, salaryAdjustmentWriter);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the percentage would remove the whole salary")
+        void shouldThrowInvalidRequestExceptionWhenPercentageRemovesWholeSalary() {
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.PERCENTAGE)
+                    .value(new BigDecimal("-100"))
+                    .build();
+
+            assertThrows(InvalidRequestException.class, () -> salaryAdjustmentServiceImp.adjust(request));
+            verifyNoInteractions(transactionTemplate, salaryAdjustmentWriter);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the percentage has more than 4 decimal places")
+        void shouldThrowInvalidRequestExceptionWhenPercentageHasTooManyDecimals() {
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.PERCENTAGE)
+                    .value(new BigDecimal("1.23456"))
+                    .build();
+
+            assertThrows(InvalidRequestException.class, () -> salaryAdjustmentServiceImp.adjust(request));
+            verifyNoInteractions(transactionTemplate, salaryAdjustmentWriter);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the step is missing")
+        void shouldThrowInvalidRequestExceptionWhenStepIsMissing() {
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.SALARY_GRADE_STEP)
+                    .salaryGrade(11)
+                    .build();
+
+            assertThrows(InvalidRequestException.class, () -> salaryAdjustmentServiceImp.adjust(request));
+            verifyNoInteractions(salaryGradeService, transactionTemplate);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when minAmount is greater than maxAmount")
+        void shouldThrowInvalidRequestExceptionWhenMinAmountIsGreaterThanMaxAmount() {
+            var request = SalaryAdjustmentRequest.builder()
+                    .type(SalaryAdjustmentType.FIXED_AMOUNT)
+                    .value(BigDecimal.TEN)
+                    .minAmount(new BigDecimal("200"))
+                    .maxAmount(new BigDecimal("100"))
+                    .build();
+
+            assertThrows(InvalidRequestException.class, () -> salaryAdjustmentServiceImp.adjust(request));
+            verifyNoInteractions(transactionTemplate);
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package dev.araopj.hrplatformapi.employee.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.araopj.hrplatformapi.employee.dto.request.SalaryRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.SalaryResponse;
 import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
 import dev.araopj.hrplatformapi.employee.model.EmploymentStatus;
 import dev.araopj.hrplatformapi.employee.model.Salary;
+import dev.araopj.hrplatformapi.employee.model.SalaryAsOf;
+import dev.araopj.hrplatformapi.employee.model.SalaryHistory;
 import dev.araopj.hrplatformapi.employee.repository.EmploymentInformationRepository;
+import dev.araopj.hrplatformapi.employee.repository.SalaryHistoryRepository;
 import dev.araopj.hrplatformapi.employee.repository.SalaryRepository;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.PreconditionFailedException;
+import dev.araopj.hrplatformapi.payroll.service.PayrollCounterService;
 import dev.araopj.hrplatformapi.utils.MergeUtil;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.SalaryMapper;
+import dev.araopj.hrplatformapi.utils.money.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,14 +26,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 
+import static dev.araopj.hrplatformapi.employee.model.SalaryChangeType.*;
 import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYMENT_INFORMATION;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +51,12 @@ class SalaryServiceImpTest {
     private EmploymentInformationRepository employmentInformationRepository;
     @Mock
     private SalaryRepository salaryRepository;
+    @Mock
+    private SalaryHistoryRepository salaryHistoryRepository;
+    @Spy
+    private PageResponseCache pageResponseCache = new PageResponseCache(new ObjectMapper().findAndRegisterModules(), 1 << 20);
+    @Mock
+    private PayrollCounterService payrollCounterService;
     @InjectMocks
     private SalaryServiceImp salaryServiceImp;
 
@@ -51,8 +70,7 @@ class SalaryServiceImpTest {
     void setup() {
         salary = Salary.builder()
                 .id("salary-1")
-                .amount(50000.0)
-                .currency("PHP")
+                .amount(Money.of(50000.0, "PHP"))
                 .employmentInformation(null)
                 .build();
 
@@ -88,13 +106,12 @@ class SalaryServiceImpTest {
             try (var salaryMapperMock = mockStatic(SalaryMapper.class)) {
                 var salaryToSave = Salary.builder()
                         .id("salary-1")
-                        .amount(salaryRequest.amount())
-                        .currency(salaryRequest.currency())
+                        .amount(Money.of(salaryRequest.amount(), salaryRequest.currency()))
                         .employmentInformation(employmentInformation)
                         .build();
 
-                when(salaryRepository.findByAmountAndCurrencyAndEmploymentInformationId(
-                        eq(salaryRequest.amount()), eq(salaryRequest.currency()), eq(salaryRequest.employmentInformationId())))
+                when(salaryRepository.findByAmountAndEmploymentInformationId(
+                        eq(Money.of(salaryRequest.amount(), salaryRequest.currency())), eq(salaryRequest.employmentInformationId())))
                         .thenReturn(Optional.empty());
                 when(employmentInformationRepository.findById(salaryRequest.employmentInformationId()))
                         .thenReturn(Optional.of(employmentInformation));
@@ -111,18 +128,21 @@ class SalaryServiceImpTest {
                 assertEquals(salaryResponse.amount(), result.amount());
                 assertEquals(salaryResponse.currency(), result.currency());
 
-                verify(salaryRepository).findByAmountAndCurrencyAndEmploymentInformationId(
-                        salaryRequest.amount(), salaryRequest.currency(), salaryRequest.employmentInformationId());
+                verify(salaryRepository).findByAmountAndEmploymentInformationId(
+                        Money.of(salaryRequest.amount(), salaryRequest.currency()), salaryRequest.employmentInformationId());
                 verify(employmentInformationRepository).findById(salaryRequest.employmentInformationId());
                 verify(salaryRepository).save(salaryToSave);
+                verify(salaryHistoryRepository).save(argThat(history -> history.getChangeType() == CREATED
+                        && history.getSalaryId().equals("salary-1")
+                        && history.getAmount().equals(salary.getAmount())));
             }
         }
 
         @Test
         @DisplayName("Should throw exception when salary already exists")
         void shouldThrowExceptionWhenSalaryAlreadyExists() {
-            when(salaryRepository.findByAmountAndCurrencyAndEmploymentInformationId(
-                    salaryRequest.amount(), salaryRequest.currency(), salaryRequest.employmentInformationId()))
+            when(salaryRepository.findByAmountAndEmploymentInformationId(
+                    Money.of(salaryRequest.amount(), salaryRequest.currency()), salaryRequest.employmentInformationId()))
                     .thenReturn(Optional.of(salary));
 
             var exception = assertThrows(IllegalArgumentException.class,
@@ -130,8 +150,8 @@ class SalaryServiceImpTest {
             assertEquals("Salary with amount [50000.0] and currency [PHP] already exists for EmploymentInformation with id [emp-info-1]",
                     exception.getMessage());
 
-            verify(salaryRepository).findByAmountAndCurrencyAndEmploymentInformationId(
-                    salaryRequest.amount(), salaryRequest.currency(), salaryRequest.employmentInformationId());
+            verify(salaryRepository).findByAmountAndEmploymentInformationId(
+                    Money.of(salaryRequest.amount(), salaryRequest.currency()), salaryRequest.employmentInformationId());
             verifyNoMoreInteractions(salaryRepository);
             verifyNoInteractions(employmentInformationRepository);
         }
@@ -139,8 +159,8 @@ class SalaryServiceImpTest {
         @Test
         @DisplayName("Should throw exception when employment information not found")
         void shouldThrowExceptionWhenEmploymentInformationNotFound() {
-            when(salaryRepository.findByAmountAndCurrencyAndEmploymentInformationId(
-                    salaryRequest.amount(), salaryRequest.currency(), salaryRequest.employmentInformationId()))
+            when(salaryRepository.findByAmountAndEmploymentInformationId(
+                    Money.of(salaryRequest.amount(), salaryRequest.currency()), salaryRequest.employmentInformationId()))
                     .thenReturn(Optional.empty());
             when(employmentInformationRepository.findById(salaryRequest.employmentInformationId()))
                     .thenReturn(Optional.empty());
@@ -150,8 +170,8 @@ class SalaryServiceImpTest {
             assertEquals(new NotFoundException(salaryRequest.employmentInformationId(), EMPLOYMENT_INFORMATION).getMessage(),
                     exception.getMessage());
 
-            verify(salaryRepository).findByAmountAndCurrencyAndEmploymentInformationId(
-                    salaryRequest.amount(), salaryRequest.currency(), salaryRequest.employmentInformationId());
+            verify(salaryRepository).findByAmountAndEmploymentInformationId(
+                    Money.of(salaryRequest.amount(), salaryRequest.currency()), salaryRequest.employmentInformationId());
             verify(employmentInformationRepository).findById(salaryRequest.employmentInformationId());
             verifyNoMoreInteractions(salaryRepository);
             verifyNoMoreInteractions(employmentInformationRepository);
@@ -217,6 +237,30 @@ class SalaryServiceImpTest {
             }
         }
 
+        @Test
+        @DisplayName("Should serve repeated find all from cache until a salary is written")
+        void shouldServeRepeatedFindAllFromCacheUntilSalaryIsWritten() {
+            var page = new PageImpl<>(List.of(salary));
+            try (var salaryMapperMock = mockStatic(SalaryMapper.class)) {
+                when(salaryRepository.findAll(pageable))
+                        .thenReturn(page);
+                salaryMapperMock.when(() -> SalaryMapper.toDto(salary))
+                        .thenReturn(salaryResponse);
+
+                var first = salaryServiceImp.findAll(pageable);
+                var second = salaryServiceImp.findAll(pageable);
+
+                assertEquals(first.getContent(), second.getContent());
+                assertEquals(first.getTotalElements(), second.getTotalElements());
+                verify(salaryRepository, times(1)).findAll(pageable);
+
+                pageResponseCache.invalidate(NotFoundException.EntityType.SALARY);
+                salaryServiceImp.findAll(pageable);
+
+                verify(salaryRepository, times(2)).findAll(pageable);
+            }
+        }
+
         @Test
         @DisplayName("Should throw NotFoundException when salary not found by id")
         void shouldThrowNotFoundExceptionWhenSalaryNotFoundById() {
@@ -245,8 +289,7 @@ class SalaryServiceImpTest {
 
             var updatedSalary = Salary.builder()
                     .id("salary-1")
-                    .amount(updatedSalaryRequest.amount())
-                    .currency(updatedSalaryRequest.currency())
+                    .amount(Money.of(updatedSalaryRequest.amount(), updatedSalaryRequest.currency()))
                     .employmentInformation(employmentInformation)
                     .build();
 
@@ -277,6 +320,8 @@ class SalaryServiceImpTest {
 
                 verify(salaryRepository).findById(salary.getId());
                 verify(salaryRepository).save(updatedSalary);
+                verify(salaryHistoryRepository).save(argThat(history -> history.getChangeType() == UPDATED
+                        && history.getAmount().equals(Money.of(60000.0, "USD"))));
             }
         }
 
@@ -310,6 +355,20 @@ class SalaryServiceImpTest {
             verify(salaryRepository).findById("non-existent-id");
             verifyNoMoreInteractions(salaryRepository);
         }
+
+        @Test
+        @DisplayName("Should throw PreconditionFailedException when If-Match names another version")
+        void shouldThrowPreconditionFailedExceptionWhenVersionIsStale() {
+            when(salaryRepository.findById(salary.getId()))
+                    .thenReturn(Optional.of(salary));
+
+            assertThrows(PreconditionFailedException.class,
+                    () -> salaryServiceImp.update(salary.getId(), salaryRequest, 3L));
+
+            verify(salaryRepository).findById(salary.getId());
+            verifyNoMoreInteractions(salaryRepository);
+            verifyNoInteractions(payrollCounterService);
+        }
     }
 
     @Nested
@@ -333,6 +392,9 @@ class SalaryServiceImpTest {
                 verify(salaryRepository).findById(salary.getId());
                 verify(salaryRepository).deleteById(salary.getId());
                 verify(salaryRepository).existsById(salary.getId());
+                verify(salaryHistoryRepository).save(argThat(history -> history.getChangeType() == DELETED
+                        && history.getSalaryId().equals(salary.getId())
+                        && history.getAmount().equals(Money.of(50000.0, "PHP"))));
             }
         }
 
@@ -369,4 +431,84 @@ class SalaryServiceImpTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Salary History Test")
+    class SalaryHistoryTest {
+
+        @Test
+        @DisplayName("Should not append history when the amount is unchanged")
+        void shouldNotAppendHistoryWhenAmountIsUnchanged() {
+            var unchangedSalary = Salary.builder()
+                    .id("salary-1")
+                    .amount(Money.of(50000.0, "PHP"))
+                    .build();
+
+            try (var salaryMapperMock = mockStatic(SalaryMapper.class);
+                 var mergeUtilMock = mockStatic(MergeUtil.class)) {
+                when(salaryRepository.findById(salary.getId()))
+                        .thenReturn(Optional.of(salary));
+                salaryMapperMock.when(() -> SalaryMapper.toEntity(salaryRequest))
+                        .thenReturn(unchangedSalary);
+                mergeUtilMock.when(() -> MergeUtil.merge(salary, unchangedSalary))
+                        .thenReturn(unchangedSalary);
+                when(salaryRepository.save(unchangedSalary)).thenReturn(unchangedSalary);
+                salaryMapperMock.when(() -> SalaryMapper.toDto(unchangedSalary))
+                        .thenReturn(salaryResponse);
+
+                salaryServiceImp.update(salary.getId(), salaryRequest);
+
+                verifyNoInteractions(salaryHistoryRepository);
+            }
+        }
+
+        @Test
+        @DisplayName("Should return the versions in effect during the range")
+        void shouldReturnVersionsInEffectDuringRange() {
+            var history = SalaryHistory.builder()
+                    .id("history-1")
+                    .salaryId("salary-1")
+                    .amount(Money.of(50000.0, "PHP"))
+                    .changeType(CREATED)
+                    .validFrom(Instant.parse("2023-12-15T00:00:00Z"))
+                    .build();
+            when(salaryHistoryRepository.findBetween(eq("salary-1"), any(Instant.class), any(Instant.class)))
+                    .thenReturn(List.of(history));
+
+            var result = salaryServiceImp.findHistory("salary-1", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+
+            assertEquals(1, result.size());
+            assertEquals(50000.0, result.getFirst().amount());
+            assertEquals("PHP", result.getFirst().currency());
+            assertEquals(CREATED, result.getFirst().changeType());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when from is after to")
+        void shouldThrowInvalidRequestExceptionWhenFromIsAfterTo() {
+            assertThrows(InvalidRequestException.class,
+                    () -> salaryServiceImp.findHistory("salary-1", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+
+            verifyNoInteractions(salaryHistoryRepository);
+        }
+
+        @Test
+        @DisplayName("Should resolve a page of salaries as of the end of the date")
+        void shouldResolvePageOfSalariesAsOfEndOfDate() {
+            var asOf = LocalDate.of(2024, 6, 30);
+            when(salaryHistoryRepository.findAllAsOf(asOf.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant(), pageable))
+                    .thenReturn(new PageImpl<>(List.of(
+                            new SalaryAsOf("emp-info-1", "salary-1", 5_000_000L, Currency.getInstance("PHP"), UPDATED, Instant.parse("2024-03-01T00:00:00Z")),
+                            new SalaryAsOf("emp-info-2", null, null, null, null, null)
+                    ), pageable, 2));
+
+            var result = salaryServiceImp.findAllAsOf(asOf, pageable);
+
+            assertEquals(2, result.getTotalElements());
+            assertEquals(50000.0, result.getContent().getFirst().amount());
+            assertEquals("PHP", result.getContent().getFirst().currency());
+            assertNull(result.getContent().get(1).amount());
+            assertNull(result.getContent().get(1).currency());
+        }
+    }
+}
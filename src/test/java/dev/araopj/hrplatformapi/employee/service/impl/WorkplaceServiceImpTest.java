@@ -1,5 +1,6 @@
 package dev.araopj.hrplatformapi.employee.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.araopj.hrplatformapi.employee.dto.request.WorkplaceRequest;
 import dev.araopj.hrplatformapi.employee.dto.response.WorkplaceResponse;
 import dev.araopj.hrplatformapi.employee.model.EmploymentInformation;
@@ -9,6 +10,7 @@ import dev.araopj.hrplatformapi.employee.repository.EmploymentInformationReposit
 import dev.araopj.hrplatformapi.employee.repository.WorkplaceRepository;
 import dev.araopj.hrplatformapi.exception.InvalidRequestException;
 import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.utils.cache.PageResponseCache;
 import dev.araopj.hrplatformapi.utils.mappers.WorkplaceMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +40,8 @@ class WorkplaceServiceImpTest {
     private EmploymentInformationRepository employmentInformationRepository;
     @Mock
     private WorkplaceRepository workplaceRepository;
+    @Spy
+    private PageResponseCache pageResponseCache = new PageResponseCache(new ObjectMapper().findAndRegisterModules(), 1 << 20);
     @InjectMocks
     private WorkplaceServiceImp workplaceServiceImp;
 
@@ -0,0 +1,153 @@
+package dev.araopj.hrplatformapi.outbox.service.impl;
+
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.outbox.model.OutboxMessage;
+import dev.araopj.hrplatformapi.outbox.service.OutboxSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Test")
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(jdbcTemplate, outboxSink, transactionManager, meterRegistry, BATCH_SIZE, MAX_ATTEMPTS,
+                Duration.ZERO, Duration.ZERO);
+    }
+
+    private static OutboxMessage message(String id) {
+        return OutboxMessage.builder()
+                .id(id)
+                .aggregateType(EMPLOYEE)
+                .aggregateId("employee-" + id)
+                .eventType(AuditAction.UPDATE)
+                .payload("{\"changedProperties\":[\"lastName\"]}")
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private void stubClaims(List<OutboxMessage> first, List<OutboxMessage> second) {
+        stubClaims(BATCH_SIZE, first, second);
+    }
+
+    @SafeVarargs
+    private void stubClaims(int limit, List<OutboxMessage> first, List<OutboxMessage>... next) {
+        when(jdbcTemplate.query(contains("FOR UPDATE SKIP LOCKED"), ArgumentMatchers.<RowMapper<OutboxMessage>>any(), eq(limit)))
+                .thenReturn(first, next);
+    }
+
+    private void stubFailureRecorded(String id, boolean deadLettered) {
+        when(jdbcTemplate.update(contains("attempts = attempts + 1"), eq("downstream rejected"), eq(id))).thenReturn(1);
+        when(jdbcTemplate.update(contains("SET dead_lettered_at"), any(Timestamp.class), eq(id), eq(MAX_ATTEMPTS)))
+                .thenReturn(deadLettered ? 1 : 0);
+    }
+
+    private void stubOldest(Instant oldest) {
+        when(jdbcTemplate.queryForObject(contains("MIN(occurred_at)"), eq(Timestamp.class)))
+                .thenReturn(oldest != null ? Timestamp.from(oldest) : null);
+    }
+
+    @Nested
+    @DisplayName("Poll Test")
+    class PollTest {
+
+        @Test
+        @DisplayName("Should publish and delete full batches until one comes back short")
+        void shouldRelayBatchesUntilShort() {
+            final var FIRST = List.of(message("1"), message("2"));
+            final var SECOND = List.of(message("3"));
+            stubClaims(FIRST, SECOND);
+            stubOldest(null);
+
+            outboxRelay.poll();
+
+            verify(outboxSink).publish(FIRST);
+            verify(outboxSink).publish(SECOND);
+            verify(jdbcTemplate).batchUpdate(contains("DELETE"), argThat((List<Object[]> ids) -> ids.size() == 2 && "1".equals(ids.get(0)[0])));
+            verify(jdbcTemplate).batchUpdate(contains("DELETE"), argThat((List<Object[]> ids) -> ids.size() == 1 && "3".equals(ids.get(0)[0])));
+            verify(transactionManager, times(2)).commit(any());
+            assertEquals(3, meterRegistry.counter("hr_platform.outbox.relayed").count());
+            assertEquals(0, meterRegistry.get("hr_platform.outbox.lag").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should keep the batch, roll back and count an attempt when the sink fails")
+        void shouldKeepBatchWhenSinkFails() {
+            final var BATCH = List.of(message("1"));
+            stubClaims(BATCH, List.of());
+            stubClaims(1, BATCH);
+            stubOldest(Instant.now().minusSeconds(30));
+            stubFailureRecorded("1", false);
+            doThrow(new IllegalStateException("downstream rejected")).when(outboxSink).publish(BATCH);
+
+            assertDoesNotThrow(() -> outboxRelay.poll());
+
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), ArgumentMatchers.<List<Object[]>>any());
+            verify(transactionManager, times(2)).rollback(any());
+            assertEquals(0, meterRegistry.counter("hr_platform.outbox.relayed").count());
+            assertEquals(0, meterRegistry.counter("hr_platform.outbox.dead_lettered").count());
+            assertTrue(meterRegistry.get("hr_platform.outbox.lag").gauge().value() >= 30);
+        }
+
+        @Test
+        @DisplayName("Should dead-letter an event out of attempts and relay the events behind it")
+        void shouldDeadLetterPoisonEventAndRelayTheRest() {
+            final var POISON = message("1");
+            final var NEXT = message("2");
+            stubClaims(List.of(POISON, NEXT), List.of());
+            stubClaims(1, List.of(POISON), List.of(NEXT));
+            stubOldest(null);
+            stubFailureRecorded("1", true);
+            doAnswer(invocation -> {
+                if (invocation.<List<OutboxMessage>>getArgument(0).contains(POISON)) {
+                    throw new IllegalStateException("downstream rejected");
+                }
+                return null;
+            }).when(outboxSink).publish(anyList());
+
+            outboxRelay.poll();
+
+            verify(outboxSink).publish(List.of(NEXT));
+            verify(jdbcTemplate).batchUpdate(contains("DELETE"), argThat((List<Object[]> ids) -> ids.size() == 1 && "2".equals(ids.get(0)[0])));
+            assertEquals(1, meterRegistry.counter("hr_platform.outbox.relayed").count());
+            assertEquals(1, meterRegistry.counter("hr_platform.outbox.dead_lettered").count());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.araopj.hrplatformapi.outbox.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.outbox.model.OutboxMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OutboxSink Test")
+class OutboxSinkTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @TempDir
+    Path directory;
+
+    private static OutboxMessage message(String id) {
+        return OutboxMessage.builder()
+                .id(id)
+                .aggregateType(SALARY)
+                .aggregateId("salary-" + id)
+                .eventType(AuditAction.UPDATE)
+                .payload("{\"changedProperties\":[\"amount\"]}")
+                .occurredAt(Instant.parse("2025-03-01T08:00:00Z"))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("NDJSON Test")
+    class NdjsonTest {
+
+        @Test
+        @DisplayName("Should append one line of JSON per message with the payload inlined")
+        void shouldAppendOneLinePerMessage() throws Exception {
+            final var FILE = directory.resolve("outbox/outbox.ndjson");
+            final var SINK = new NdjsonOutboxSink(OBJECT_MAPPER, FILE);
+
+            SINK.publish(List.of(message("1"), message("2")));
+            SINK.publish(List.of(message("3")));
+            SINK.close();
+
+            final var LINES = Files.readAllLines(FILE);
+            assertEquals(3, LINES.size());
+            final var FIRST = OBJECT_MAPPER.readTree(LINES.getFirst());
+            assertEquals("1", FIRST.get("id").asText());
+            assertEquals("SALARY", FIRST.get("aggregateType").asText());
+            assertEquals("2025-03-01T08:00:00Z", FIRST.get("occurredAt").asText());
+            assertEquals("amount", FIRST.get("payload").get("changedProperties").get(0).asText());
+            assertEquals("3", OBJECT_MAPPER.readTree(LINES.getLast()).get("id").asText());
+        }
+    }
+
+    @Nested
+    @DisplayName("In Memory Test")
+    class InMemoryTest {
+
+        @Test
+        @DisplayName("Should keep only the newest messages up to its capacity")
+        void shouldKeepNewestMessagesUpToCapacity() {
+            final var SINK = new InMemoryOutboxSink(2);
+
+            SINK.publish(List.of(message("1"), message("2")));
+            SINK.publish(List.of(message("3")));
+
+            assertEquals(List.of("2", "3"), SINK.messages().stream().map(OutboxMessage::id).toList());
+        }
+    }
+}
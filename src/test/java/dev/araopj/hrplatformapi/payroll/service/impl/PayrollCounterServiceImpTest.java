@@ -0,0 +1,134 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.payroll.model.PayrollAggregate;
+import dev.araopj.hrplatformapi.payroll.model.PayrollContribution;
+import dev.araopj.hrplatformapi.payroll.model.PayrollCounter;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollCounterRepository;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.employee.model.EmploymentStatus.CONTRACTUAL;
+import static dev.araopj.hrplatformapi.employee.model.EmploymentStatus.PERMANENT;
+import static dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension.STATUS;
+import static dev.araopj.hrplatformapi.payroll.model.PayrollCounterDimension.WORKPLACE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PayrollCounterServiceImp Test")
+class PayrollCounterServiceImpTest {
+
+    private static final Currency PHP = Currency.getInstance("PHP");
+
+    @Mock
+    private PayrollCounterRepository payrollCounterRepository;
+    @Mock
+    private PayrollSummaryRepository payrollSummaryRepository;
+    @InjectMocks
+    private PayrollCounterServiceImp payrollCounterServiceImp;
+
+    @Nested
+    @DisplayName("Record Test")
+    class RecordTest {
+
+        @Test
+        @DisplayName("Should move headcount and salary from the old groups to the new ones")
+        void shouldMoveHeadcountAndSalaryFromOldGroupsToNewOnes() {
+            when(payrollCounterRepository.increment(anyString(), anyLong(), anyLong(), any(Instant.class))).thenReturn(1);
+
+            payrollCounterServiceImp.record(
+                    new PayrollContribution("wp-1", PERMANENT, PHP, 3_000_000),
+                    new PayrollContribution("wp-2", CONTRACTUAL, PHP, 3_500_000)
+            );
+
+            verify(payrollCounterRepository).increment(eq(PayrollCounter.id(WORKPLACE, "wp-1", PHP)), eq(-1L), eq(-3_000_000L), any(Instant.class));
+            verify(payrollCounterRepository).increment(eq(PayrollCounter.id(STATUS, "PERMANENT", PHP)), eq(-1L), eq(-3_000_000L), any(Instant.class));
+            verify(payrollCounterRepository).increment(eq(PayrollCounter.id(WORKPLACE, "wp-2", PHP)), eq(1L), eq(3_500_000L), any(Instant.class));
+            verify(payrollCounterRepository).increment(eq(PayrollCounter.id(STATUS, "CONTRACTUAL", PHP)), eq(1L), eq(3_500_000L), any(Instant.class));
+            verify(payrollCounterRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should create the counter of a group seen for the first time")
+        void shouldCreateCounterOfGroupSeenForFirstTime() {
+            when(payrollCounterRepository.increment(anyString(), anyLong(), anyLong(), any(Instant.class))).thenReturn(0);
+
+            payrollCounterServiceImp.record(null, new PayrollContribution("wp-1", PERMANENT, PHP, 3_000_000));
+
+            var saved = ArgumentCaptor.forClass(PayrollCounter.class);
+            verify(payrollCounterRepository, times(2)).save(saved.capture());
+            assertEquals(WORKPLACE, saved.getAllValues().getFirst().getDimension());
+            assertEquals(1, saved.getAllValues().getFirst().getHeadcount());
+            assertEquals(3_000_000, saved.getAllValues().getFirst().getTotalMinorUnits());
+        }
+
+        @Test
+        @DisplayName("Should not touch counters when the contribution is unchanged")
+        void shouldNotTouchCountersWhenContributionIsUnchanged() {
+            var contribution = new PayrollContribution("wp-1", PERMANENT, PHP, 3_000_000);
+
+            payrollCounterServiceImp.record(contribution, contribution);
+            payrollCounterServiceImp.record(null, null);
+
+            verifyNoInteractions(payrollCounterRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconcile Test")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("Should correct drifted counters and create missing ones")
+        void shouldCorrectDriftedCountersAndCreateMissingOnes() {
+            var drifted = PayrollCounter.builder()
+                    .id(PayrollCounter.id(WORKPLACE, "wp-1", PHP))
+                    .dimension(WORKPLACE)
+                    .groupKey("wp-1")
+                    .currency(PHP)
+                    .headcount(3)
+                    .totalMinorUnits(9_000_000)
+                    .build();
+            var stale = PayrollCounter.builder()
+                    .id(PayrollCounter.id(WORKPLACE, "wp-9", PHP))
+                    .dimension(WORKPLACE)
+                    .groupKey("wp-9")
+                    .currency(PHP)
+                    .headcount(1)
+                    .totalMinorUnits(1_000_000)
+                    .build();
+            when(payrollSummaryRepository.aggregateByWorkplace(any(LocalDate.class)))
+                    .thenReturn(List.of(new PayrollAggregate("wp-1", "Main Office", PHP, 2L, 6_000_000L)));
+            when(payrollSummaryRepository.aggregateByStatus(any(LocalDate.class)))
+                    .thenReturn(List.of(new PayrollAggregate(PERMANENT, PHP, 2L, 6_000_000L)));
+            when(payrollCounterRepository.findAll()).thenReturn(List.of(drifted, stale));
+
+            var corrected = payrollCounterServiceImp.reconcile();
+
+            assertEquals(3, corrected);
+            assertEquals(2, drifted.getHeadcount());
+            assertEquals(6_000_000, drifted.getTotalMinorUnits());
+            assertEquals(0, stale.getHeadcount());
+            assertEquals(0, stale.getTotalMinorUnits());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<PayrollCounter>> created = ArgumentCaptor.forClass(List.class);
+            verify(payrollCounterRepository).saveAll(created.capture());
+            assertEquals(1, created.getValue().size());
+            assertEquals(PayrollCounter.id(STATUS, "PERMANENT", PHP), created.getValue().getFirst().getId());
+            assertEquals(2, created.getValue().getFirst().getHeadcount());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.payroll.model.PayrollRunStatus;
+import dev.araopj.hrplatformapi.payroll.model.PayrollSource;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollRunRepository;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollSourceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PayrollRunServiceImp Test")
+class PayrollRunServiceImpTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2025, 2);
+    private static final LocalDate PERIOD_START = PERIOD.atDay(1);
+    private static final LocalDate PERIOD_END = PERIOD.atEndOfMonth();
+    private static final Currency PHP = Currency.getInstance("PHP");
+
+    @Mock
+    private PayrollSourceRepository payrollSourceRepository;
+    @Mock
+    private PayrollRunRepository payrollRunRepository;
+    @Mock
+    private PayrollRunWriter payrollRunWriter;
+
+    private PayrollRunServiceImp payrollRunServiceImp;
+
+    @BeforeEach
+    void setup() {
+        payrollRunServiceImp = new PayrollRunServiceImp(payrollSourceRepository, payrollRunRepository, payrollRunWriter, 2, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        payrollRunServiceImp.shutdown();
+    }
+
+    private static PayrollSource source(String id, LocalDate startDate, LocalDate endDate, long minorUnits) {
+        return new PayrollSource(id, "emp-" + id, startDate, endDate, minorUnits, PHP);
+    }
+
+    @Nested
+    @DisplayName("Execute Test")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("Should compute every chunk and complete the run")
+        void shouldComputeEveryChunkAndCompleteRun() {
+            var first = List.of(
+                    source("ei-1", LocalDate.of(2020, 1, 1), null, 2_800_000),
+                    source("ei-2", LocalDate.of(2025, 2, 15), null, 2_800_000)
+            );
+            var second = List.of(source("ei-3", LocalDate.of(2019, 1, 1), LocalDate.of(2025, 2, 7), 3_000_000));
+            when(payrollSourceRepository.countPayable(eq(PERIOD_START), eq(PERIOD_END), anyCollection())).thenReturn(3L);
+            when(payrollSourceRepository.findPayableAfter(eq(""), eq(PERIOD_START), eq(PERIOD_END), anyCollection(), any(Limit.class)))
+                    .thenReturn(first);
+            when(payrollSourceRepository.findPayableAfter(eq("ei-2"), eq(PERIOD_START), eq(PERIOD_END), anyCollection(), any(Limit.class)))
+                    .thenReturn(second);
+            when(payrollRunWriter.write(anyString(), eq(PERIOD_START), eq(28), anyList(), any(int[].class), any(long[].class)))
+                    .thenAnswer(invocation -> invocation.<List<?>>getArgument(3).size());
+
+            var progress = new PayrollRunProgress("run-1", PERIOD);
+            payrollRunServiceImp.execute(progress);
+
+            var result = progress.toResponse();
+            assertEquals(PayrollRunStatus.COMPLETED, result.status());
+            assertEquals(3, result.totalEmployees());
+            assertEquals(3, result.processed());
+            assertEquals(3, result.written());
+            // 28000 + 28000 * 14 / 28 + 30000 * 7 / 28
+            assertEquals(Map.of("PHP", new BigDecimal("49500.00")), result.grossTotals());
+
+            var gross = ArgumentCaptor.forClass(long[].class);
+            verify(payrollRunWriter, times(2)).write(eq("run-1"), eq(PERIOD_START), eq(28), anyList(), any(int[].class), gross.capture());
+            assertTrue(gross.getAllValues().stream().anyMatch(values -> values.length == 1 && values[0] == 750_000));
+            verify(payrollRunWriter, never()).delete(anyString());
+        }
+
+        @Test
+        @DisplayName("Should mark the run failed when a chunk cannot be written")
+        void shouldMarkRunFailedWhenChunkCannotBeWritten() {
+            when(payrollSourceRepository.countPayable(eq(PERIOD_START), eq(PERIOD_END), anyCollection())).thenReturn(1L);
+            when(payrollSourceRepository.findPayableAfter(eq(""), eq(PERIOD_START), eq(PERIOD_END), anyCollection(), any(Limit.class)))
+                    .thenReturn(List.of(source("ei-1", LocalDate.of(2020, 1, 1), null, 2_800_000)));
+            when(payrollRunWriter.write(anyString(), any(), anyInt(), anyList(), any(int[].class), any(long[].class)))
+                    .thenThrow(new IllegalStateException("connection reset"));
+
+            var progress = new PayrollRunProgress("run-1", PERIOD);
+            payrollRunServiceImp.execute(progress);
+
+            var result = progress.toResponse();
+            assertEquals(PayrollRunStatus.FAILED, result.status());
+            assertEquals("connection reset", result.error());
+            assertNotNull(result.finishedAt());
+            verify(payrollRunWriter).delete("run-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Gross Computation Test")
+    class GrossComputationTest {
+
+        @Test
+        @DisplayName("Should pay only the days of the period the employment covers")
+        void shouldPayOnlyDaysOfPeriodEmploymentCovers() {
+            var start = PERIOD_START.toEpochDay();
+            var end = PERIOD_END.toEpochDay();
+
+            assertEquals(28, GrossComputation.payableDays(source("ei-1", LocalDate.of(2020, 1, 1), null, 1), start, end));
+            assertEquals(14, GrossComputation.payableDays(source("ei-2", LocalDate.of(2025, 2, 15), null, 1), start, end));
+            assertEquals(7, GrossComputation.payableDays(source("ei-3", LocalDate.of(2019, 1, 1), LocalDate.of(2025, 2, 7), 1), start, end));
+            assertEquals(0, GrossComputation.payableDays(source("ei-4", LocalDate.of(2025, 3, 1), null, 1), start, end));
+        }
+
+        @Test
+        @DisplayName("Should round prorated gross half-up to the minor unit")
+        void shouldRoundProratedGrossHalfUpToMinorUnit() {
+            assertEquals(1_000_000, GrossComputation.gross(1_000_000, 30, 30));
+            assertEquals(333_333, GrossComputation.gross(1_000_000, 10, 30));
+            assertEquals(666_667, GrossComputation.gross(1_000_000, 20, 30));
+            assertEquals(50, GrossComputation.gross(100, 15, 30));
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException for unknown run")
+    void shouldThrowNotFoundExceptionForUnknownRun() {
+        assertThrows(NotFoundException.class, () -> payrollRunServiceImp.findProgress("missing"));
+    }
+}
@@ -0,0 +1,66 @@
+package dev.araopj.hrplatformapi.payroll.service.impl;
+
+import dev.araopj.hrplatformapi.payroll.model.PayrollAggregate;
+import dev.araopj.hrplatformapi.payroll.repository.PayrollSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.employee.model.EmploymentStatus.PERMANENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PayrollSummaryServiceImp Test")
+class PayrollSummaryServiceImpTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 1, 31);
+    private static final Currency PHP = Currency.getInstance("PHP");
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Mock
+    private PayrollSummaryRepository payrollSummaryRepository;
+    @InjectMocks
+    private PayrollSummaryServiceImp payrollSummaryServiceImp;
+
+    @Test
+    @DisplayName("Should keep one row per workplace and currency with exact totals")
+    void shouldKeepOneRowPerWorkplaceAndCurrencyWithExactTotals() {
+        when(payrollSummaryRepository.aggregateByWorkplace(AS_OF)).thenReturn(List.of(
+                new PayrollAggregate("wp-1", "Main Office", PHP, 3L, 10_000_001L),
+                new PayrollAggregate("wp-1", "Main Office", USD, 1L, 500_000L)
+        ));
+
+        var result = payrollSummaryServiceImp.summarizeByWorkplace(AS_OF);
+
+        assertEquals(2, result.size());
+        assertEquals("PHP", result.getFirst().currency());
+        assertEquals(3, result.getFirst().headcount());
+        assertEquals(new BigDecimal("100000.01"), result.getFirst().totalAmount());
+        assertEquals(new BigDecimal("33333.34"), result.getFirst().averageAmount());
+        assertEquals(new BigDecimal("5000.00"), result.getLast().totalAmount());
+        verify(payrollSummaryRepository).aggregateByWorkplace(AS_OF);
+    }
+
+    @Test
+    @DisplayName("Should label status rows with the status description")
+    void shouldLabelStatusRowsWithStatusDescription() {
+        when(payrollSummaryRepository.aggregateByStatus(AS_OF)).thenReturn(List.of(
+                new PayrollAggregate(PERMANENT, PHP, 2L, 5_600_000L)
+        ));
+
+        var result = payrollSummaryServiceImp.summarizeByStatus(AS_OF);
+
+        assertEquals("PERMANENT", result.getFirst().groupKey());
+        assertEquals("Permanent", result.getFirst().groupLabel());
+        assertEquals(new BigDecimal("28000.00"), result.getFirst().averageAmount());
+    }
+}
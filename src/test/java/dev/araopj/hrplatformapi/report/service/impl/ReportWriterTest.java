@@ -0,0 +1,129 @@
+package dev.araopj.hrplatformapi.report.service.impl;
+
+import dev.araopj.hrplatformapi.report.model.ReportColumn;
+import dev.araopj.hrplatformapi.report.model.ReportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipInputStream;
+
+import static dev.araopj.hrplatformapi.report.model.ReportColumn.Type.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReportWriter Test")
+class ReportWriterTest {
+
+    private static final List<ReportColumn> COLUMNS = List.of(
+            new ReportColumn("Name", TEXT),
+            new ReportColumn("Salary", DECIMAL),
+            new ReportColumn("Start Date", DATE),
+            new ReportColumn("Days", INTEGER)
+    );
+
+    private static byte[] write(ReportFormat format) throws IOException {
+        final var OUTPUT = new ByteArrayOutputStream();
+        final var WRITER = ReportWriter.open(format, OUTPUT, "Employees", COLUMNS);
+        final var ROW = new ReportRow(COLUMNS.size());
+
+        ROW.clear();
+        ROW.text(0, "Dela Cruz, \"Juan\" <&>").decimal(1, 2_500_050, 2).date(2, LocalDate.of(2024, 1, 31)).integer(3, 22);
+        WRITER.row(ROW);
+        ROW.clear();
+        ROW.text(0, "=HYPERLINK(\"x\")").decimal(1, -5, 2).date(2, null).integer(3, 0);
+        WRITER.row(ROW);
+        ROW.clear();
+        WRITER.row(ROW);
+
+        WRITER.finish();
+        return OUTPUT.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("CSV Test")
+    class CsvTest {
+
+        @Test
+        @DisplayName("Should write a BOM, a header and one quoted line per row")
+        void shouldWriteBomHeaderAndQuotedLines() throws IOException {
+            var csv = new String(write(ReportFormat.CSV), StandardCharsets.UTF_8);
+
+            assertEquals("\uFEFF" + """
+                    Name,Salary,Start Date,Days\r
+                    "Dela Cruz, ""Juan"" <&>",25000.50,2024-01-31,22\r
+                    "'=HYPERLINK(""x"")",-0.05,,0\r
+                    ,,,\r
+                    """, csv);
+        }
+    }
+
+    @Nested
+    @DisplayName("XLSX Test")
+    class XlsxTest {
+
+        @Test
+        @DisplayName("Should write a workbook of well-formed parts with inline strings and typed cells")
+        void shouldWriteWorkbookOfWellFormedParts() throws Exception {
+            var parts = unzip(write(ReportFormat.XLSX));
+
+            assertEquals(
+                    Set.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml", "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml"),
+                    parts.keySet()
+            );
+            final var BUILDER = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+            for (var part : parts.values()) {
+                BUILDER.parse(new ByteArrayInputStream(part.getBytes(StandardCharsets.UTF_8)));
+            }
+
+            var sheet = parts.get("xl/worksheets/sheet1.xml");
+            assertTrue(sheet.contains("<t xml:space=\"preserve\">Dela Cruz, &quot;Juan&quot; &lt;&amp;&gt;</t>"));
+            assertTrue(sheet.contains("<c s=\"1\"><v>25000.50</v></c>"));
+            // 2024-01-31 is serial 45322 in the 1900 date system
+            assertTrue(sheet.contains("<c s=\"2\"><v>45322</v></c>"));
+            assertTrue(sheet.contains("<c><v>22</v></c>"));
+            assertTrue(sheet.contains("<row r=\"4\"><c/><c/><c/><c/></row>"));
+            assertTrue(parts.get("xl/workbook.xml").contains("<sheet name=\"Employees\" sheetId=\"1\" r:id=\"rId1\"/>"));
+        }
+
+        private static Map<String, String> unzip(byte[] bytes) throws IOException {
+            var parts = new HashMap<String, String>();
+            try (var zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+                for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                    parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+            return parts;
+        }
+    }
+
+    @Nested
+    @DisplayName("Decimal Test")
+    class DecimalTest {
+
+        @Test
+        @DisplayName("Should format unscaled values in plain notation")
+        void shouldFormatUnscaledValuesInPlainNotation() {
+            assertEquals("0.05", decimal(5, 2));
+            assertEquals("-0.05", decimal(-5, 2));
+            assertEquals("123.456", decimal(123_456, 3));
+            assertEquals("-1200", decimal(-1200, 0));
+            assertEquals("-92233720368547758.08", decimal(Long.MIN_VALUE, 2));
+        }
+
+        private static String decimal(long unscaled, int scale) {
+            var target = new StringBuilder();
+            ReportRow.appendDecimal(target, unscaled, scale);
+            return target.toString();
+        }
+    }
+}
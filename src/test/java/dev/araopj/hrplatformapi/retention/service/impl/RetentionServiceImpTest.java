@@ -0,0 +1,298 @@
+package dev.araopj.hrplatformapi.retention.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.araopj.hrplatformapi.audit.model.AuditAction;
+import dev.araopj.hrplatformapi.audit.service.impl.AuditLogServiceImp;
+import dev.araopj.hrplatformapi.audit.service.impl.AuditPayloadCodec;
+import dev.araopj.hrplatformapi.config.RetentionProperties;
+import dev.araopj.hrplatformapi.config.RetentionProperties.Archive;
+import dev.araopj.hrplatformapi.config.RetentionProperties.Audit;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.exception.NotFoundException.EntityType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.EMPLOYEE;
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetentionServiceImp Test")
+class RetentionServiceImpTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path archiveDir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private RetentionServiceImp retentionService(Duration tombstones, boolean archive) throws Exception {
+        return retentionService(jdbcTemplate, transactionManager, Map.of(SALARY, Duration.ofDays(3650)), tombstones, archive);
+    }
+
+    private RetentionServiceImp retentionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            Map<EntityType, Duration> auditPeriods,
+            Duration tombstones,
+            boolean archive
+    ) throws Exception {
+        final var PROPERTIES = new RetentionProperties(BATCH_SIZE, Duration.ZERO,
+                new Audit(null, auditPeriods), tombstones, null, new Archive(archive, archiveDir));
+        return new RetentionServiceImp(jdbcTemplate, OBJECT_MAPPER, transactionManager, meterRegistry, PROPERTIES, "jdbc");
+    }
+
+    private double purgedCounter(String table, String entityType) {
+        return meterRegistry.counter("hr_platform.retention.purged", "table", table, "entity_type", entityType).count();
+    }
+
+    @Nested
+    @DisplayName("Purge Test")
+    class PurgeTest {
+
+        @Test
+        @DisplayName("Should delete full batches until one comes back short, only for types with a period")
+        void shouldPurgeBatchesUntilShort() throws Exception {
+            when(jdbcTemplate.queryForList(contains("FROM audit_log"), eq(String.class), eq("SALARY"), any(Timestamp.class), any(Timestamp.class), any(Timestamp.class), eq(BATCH_SIZE)))
+                    .thenReturn(List.of("1", "2"), List.of("3"));
+            final var BEFORE = Instant.now();
+
+            final var REPORT = retentionService(null, false).purge();
+
+            verify(jdbcTemplate).batchUpdate(contains("DELETE FROM audit_log"), argThat((List<Object[]> ids) -> ids.size() == 2 && "1".equals(ids.get(0)[0])));
+            verify(jdbcTemplate).batchUpdate(contains("DELETE FROM audit_log"), argThat((List<Object[]> ids) -> ids.size() == 1 && "3".equals(ids.get(0)[0])));
+            verify(transactionManager, times(2)).commit(any());
+            assertEquals(Map.of("audit_log:SALARY", 3L), REPORT.purged());
+            assertEquals(3, REPORT.total());
+            assertFalse(REPORT.startedAt().isBefore(BEFORE));
+            assertEquals(3, purgedCounter(RetentionServiceImp.AUDIT_LOG, "SALARY"));
+        }
+
+        @Test
+        @DisplayName("Should cut off audit logs at the period before the run")
+        void shouldCutOffAtPeriod() throws Exception {
+            final var BEFORE = Instant.now();
+
+            retentionService(null, false).purge();
+
+            verify(jdbcTemplate).queryForList(contains("FROM audit_log"), eq(String.class), eq("SALARY"),
+                    argThat((Timestamp cutoff) -> !cutoff.toInstant().isBefore(BEFORE.minus(Duration.ofDays(3650)))
+                            && cutoff.toInstant().isBefore(Instant.now().minus(Duration.ofDays(3649)))),
+                    any(Timestamp.class), any(Timestamp.class), eq(BATCH_SIZE));
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), ArgumentMatchers.<List<Object[]>>any());
+        }
+
+        @Test
+        @DisplayName("Should purge tombstones of every entity type")
+        void shouldPurgeTombstones() throws Exception {
+            when(jdbcTemplate.queryForList(contains("FROM tombstone"), eq(String.class), anyString(), any(Timestamp.class), eq(BATCH_SIZE)))
+                    .thenAnswer(invocation -> "EMPLOYEE".equals(invocation.getArgument(2)) ? List.of("t-1") : List.of());
+
+            final var REPORT = retentionService(jdbcTemplate, transactionManager, Map.of(), Duration.ofDays(90), false).purge();
+
+            verify(jdbcTemplate).batchUpdate(contains("DELETE FROM tombstone"), argThat((List<Object[]> ids) -> ids.size() == 1 && "t-1".equals(ids.get(0)[0])));
+            assertEquals(1L, REPORT.purged().get("tombstone:EMPLOYEE"));
+            assertEquals(1, purgedCounter(RetentionServiceImp.TOMBSTONE, EMPLOYEE.name()));
+        }
+
+        @Test
+        @DisplayName("Should purge only dead-lettered outbox events older than the period")
+        void shouldPurgeDeadLetters() throws Exception {
+            final var DATABASE = new JdbcTemplate(new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL", true));
+            DATABASE.execute("CREATE TABLE outbox_event (id VARCHAR(36) PRIMARY KEY, aggregate_type VARCHAR(255) NOT NULL, dead_lettered_at TIMESTAMP WITH TIME ZONE)");
+            final var NOW = Instant.now();
+            DATABASE.update("INSERT INTO outbox_event VALUES ('event-1', 'EMPLOYEE', ?)", Timestamp.from(NOW.minus(Duration.ofDays(40))));
+            DATABASE.update("INSERT INTO outbox_event VALUES ('event-2', 'SALARY', ?)", Timestamp.from(NOW.minus(Duration.ofDays(31))));
+            DATABASE.update("INSERT INTO outbox_event VALUES ('event-3', 'SALARY', ?)", Timestamp.from(NOW.minus(Duration.ofDays(5))));
+            DATABASE.update("INSERT INTO outbox_event VALUES ('event-4', 'SALARY', NULL)");
+            final var PROPERTIES = new RetentionProperties(BATCH_SIZE, Duration.ZERO, new Audit(null, Map.of()), null, Duration.ofDays(30), new Archive(false, null));
+
+            final var REPORT = new RetentionServiceImp(DATABASE, OBJECT_MAPPER, new DataSourceTransactionManager(DATABASE.getDataSource()),
+                    meterRegistry, PROPERTIES, "jdbc").purge();
+
+            assertEquals(Map.of("outbox_event:EMPLOYEE", 1L, "outbox_event:SALARY", 1L), REPORT.purged());
+            assertEquals(List.of("event-3", "event-4"), DATABASE.queryForList("SELECT id FROM outbox_event ORDER BY id", String.class));
+            assertEquals(1, purgedCounter(RetentionServiceImp.OUTBOX_EVENT, SALARY.name()));
+        }
+
+        @Test
+        @DisplayName("Should reject a batch size below one")
+        void shouldRejectNonPositiveBatchSize() {
+            final var PROPERTIES = new RetentionProperties(0, Duration.ZERO, new Audit(null, Map.of()), null, null, new Archive(false, null));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new RetentionServiceImp(jdbcTemplate, OBJECT_MAPPER, transactionManager, meterRegistry, PROPERTIES, "jdbc"));
+        }
+
+        @Test
+        @DisplayName("Should reject audit periods when audit events are not written to audit_log")
+        void shouldRejectAuditPeriodsWithoutJdbcSink() {
+            final var PROPERTIES = new RetentionProperties(BATCH_SIZE, Duration.ZERO, new Audit(null, Map.of(SALARY, Duration.ofDays(3650))), null, null, new Archive(false, null));
+
+            final var EXCEPTION = assertThrows(IllegalArgumentException.class,
+                    () -> new RetentionServiceImp(jdbcTemplate, OBJECT_MAPPER, transactionManager, meterRegistry, PROPERTIES, "segment"));
+            assertTrue(EXCEPTION.getMessage().contains("hr-platform.audit.sink=jdbc"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Replay Test")
+    class ReplayTest {
+
+        private static final Instant NOW = Instant.now();
+
+        private JdbcTemplate database;
+        private DataSourceTransactionManager databaseTransactionManager;
+
+        @BeforeEach
+        void createAuditLog() {
+            database = new JdbcTemplate(new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL", true));
+            databaseTransactionManager = new DataSourceTransactionManager(database.getDataSource());
+            database.execute("""
+                    CREATE TABLE audit_log (
+                        id VARCHAR(36) PRIMARY KEY, actor VARCHAR(255) NOT NULL, entity_type VARCHAR(255) NOT NULL,
+                        entity_id VARCHAR(255) NOT NULL, action VARCHAR(255) NOT NULL, payload BYTEA NOT NULL, snapshot BYTEA,
+                        occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+                    )
+                    """);
+        }
+
+        private void auditLog(String id, String entityId, AuditAction action, String payload, String snapshot, int daysAgo) {
+            try (var codec = new AuditPayloadCodec()) {
+                database.update("INSERT INTO audit_log VALUES (?, 'user-42', 'SALARY', ?, ?, ?, ?, ?)", id, entityId, action.name(),
+                        codec.encode(payload), snapshot != null ? codec.encode(snapshot) : null,
+                        Timestamp.from(NOW.minus(Duration.ofDays(daysAgo))));
+            }
+        }
+
+        private List<String> remaining() {
+            return database.queryForList("SELECT id FROM audit_log ORDER BY occurred_at, id", String.class);
+        }
+
+        @Test
+        @DisplayName("Should keep the newest checkpoint before the cutoff so the state since the cutoff can be rebuilt, and purge entities deleted before it")
+        void shouldKeepNewestCheckpointBeforeCutoff() throws Exception {
+            auditLog("log-1", "salary-1", AuditAction.CREATE, "{\"after\":{\"amount\":100,\"currency\":\"PHP\"}}", null, 40);
+            auditLog("log-2", "salary-1", AuditAction.UPDATE, "{\"after\":{\"amount\":200}}", null, 30);
+            auditLog("log-3", "salary-1", AuditAction.UPDATE, "{\"after\":{\"amount\":300}}", "{\"amount\":300,\"currency\":\"PHP\"}", 20);
+            auditLog("log-4", "salary-1", AuditAction.UPDATE, "{\"after\":{\"amount\":400}}", null, 15);
+            auditLog("log-5", "salary-1", AuditAction.UPDATE, "{\"after\":{\"amount\":500}}", null, 5);
+            auditLog("log-6", "salary-2", AuditAction.CREATE, "{\"after\":{\"amount\":100,\"currency\":\"PHP\"}}", null, 40);
+            auditLog("log-7", "salary-3", AuditAction.CREATE, "{\"after\":{\"amount\":700,\"currency\":\"PHP\"}}", null, 35);
+            auditLog("log-8", "salary-3", AuditAction.DELETE, "{\"before\":{\"amount\":700}}", null, 25);
+
+            auditLog("log-9", "salary-4", AuditAction.CREATE, "{\"after\":{\"amount\":900,\"currency\":\"PHP\"}}", null, 30);
+            auditLog("log-10", "salary-4", AuditAction.DELETE, "{\"before\":{\"amount\":900}}", null, 3);
+
+            final var REPORT = retentionService(database, databaseTransactionManager, Map.of(SALARY, Duration.ofDays(10)), null, false).purge();
+
+            assertEquals(Map.of("audit_log:SALARY", 4L), REPORT.purged());
+            assertEquals(List.of("log-6", "log-9", "log-3", "log-4", "log-5", "log-10"), remaining());
+            final var AUDIT_LOG_SERVICE = new AuditLogServiceImp(database, OBJECT_MAPPER, databaseTransactionManager, 1000, "jdbc");
+            assertEquals(OBJECT_MAPPER.readTree("{\"amount\":400,\"currency\":\"PHP\"}"),
+                    AUDIT_LOG_SERVICE.stateAt(SALARY, "salary-1", NOW.minus(Duration.ofDays(10))).state());
+            assertEquals(OBJECT_MAPPER.readTree("{\"amount\":500,\"currency\":\"PHP\"}"),
+                    AUDIT_LOG_SERVICE.stateAt(SALARY, "salary-1", NOW).state());
+            assertEquals(OBJECT_MAPPER.readTree("{\"amount\":100,\"currency\":\"PHP\"}"),
+                    AUDIT_LOG_SERVICE.stateAt(SALARY, "salary-2", NOW).state());
+            assertThrows(NotFoundException.class, () -> AUDIT_LOG_SERVICE.stateAt(SALARY, "salary-3", NOW));
+            assertEquals(OBJECT_MAPPER.readTree("{\"amount\":900,\"currency\":\"PHP\"}"),
+                    AUDIT_LOG_SERVICE.stateAt(SALARY, "salary-4", NOW.minus(Duration.ofDays(10))).state());
+            assertThrows(NotFoundException.class, () -> AUDIT_LOG_SERVICE.stateAt(SALARY, "salary-4", NOW));
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive Test")
+    class ArchiveTest {
+
+        private ResultSet auditLog(AuditPayloadCodec codec) throws Exception {
+            final var ROW = mock(ResultSet.class);
+            when(ROW.getString(1)).thenReturn("audit-1");
+            when(ROW.getString(2)).thenReturn("user-42");
+            when(ROW.getString(3)).thenReturn("SALARY");
+            when(ROW.getString(4)).thenReturn("salary-1");
+            when(ROW.getString(5)).thenReturn("UPDATE");
+            when(ROW.getBytes(6)).thenReturn(codec.encode("{\"after\":{\"amount\":25000}}"));
+            when(ROW.getBytes(7)).thenReturn(null);
+            when(ROW.getTimestamp(8)).thenReturn(Timestamp.from(Instant.parse("2015-01-02T03:04:05Z")));
+            return ROW;
+        }
+
+        @Test
+        @DisplayName("Should append decoded audit logs to a gzip NDJSON file before deleting them")
+        void shouldArchiveBeforeDelete() throws Exception {
+            final ResultSet ROW;
+            try (var codec = new AuditPayloadCodec()) {
+                ROW = auditLog(codec);
+            }
+            when(jdbcTemplate.query(contains("payload"), ArgumentMatchers.<RowMapper<ObjectNode>>any(), eq("SALARY"), any(Timestamp.class), any(Timestamp.class), any(Timestamp.class), eq(BATCH_SIZE)))
+                    .thenAnswer(invocation -> List.of(invocation.<RowMapper<ObjectNode>>getArgument(1).mapRow(ROW, 0)));
+
+            final var REPORT = retentionService(null, true).purge();
+
+            verify(jdbcTemplate).batchUpdate(contains("DELETE FROM audit_log"), argThat((List<Object[]> ids) -> ids.size() == 1 && "audit-1".equals(ids.get(0)[0])));
+            assertEquals(1, REPORT.total());
+
+            final List<Path> FILES;
+            try (var files = Files.list(archiveDir)) {
+                FILES = files.toList();
+            }
+            assertEquals(1, FILES.size());
+            assertTrue(FILES.getFirst().getFileName().toString().matches("audit_log-SALARY-\\d{8}T\\d{6}Z\\.ndjson\\.gz"));
+            try (var reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(FILES.getFirst())), StandardCharsets.UTF_8))) {
+                final var LINES = reader.lines().toList();
+                assertEquals(1, LINES.size());
+                final var ARCHIVED = OBJECT_MAPPER.readTree(LINES.getFirst());
+                assertEquals("audit-1", ARCHIVED.get("id").asText());
+                assertEquals("user-42", ARCHIVED.get("actor").asText());
+                assertEquals(25000, ARCHIVED.get("changes").get("after").get("amount").asInt());
+                assertTrue(ARCHIVED.get("snapshot").isNull());
+                assertEquals("2015-01-02T03:04:05Z", ARCHIVED.get("occurredAt").asText());
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalaryGradeImportServiceImp Test")
+class SalaryGradeImportServiceImpTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private SalaryGradeImportWriter salaryGradeImportWriter;
+    @Mock
+    private SalaryGradeService salaryGradeService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SalaryGradeImportServiceImp salaryGradeImportServiceImp;
+
+    @BeforeEach
+    void setup() {
+        salaryGradeImportServiceImp = new SalaryGradeImportServiceImp(
+                salaryGradeImportWriter,
+                salaryGradeService,
+                transactionTemplate,
+                new ObjectMapper(),
+                BATCH_SIZE
+        );
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String grade(int salaryGrade, String steps) {
+        return """
+                {"legalBasis": "NBC591", "tranche": 1, "effectiveDate": "2021-01-01", "salaryGrade": %d, "remarks": {"source": "DBM"}, "salaryData": [%s]}
+                """.formatted(salaryGrade, steps);
+    }
+
+    @Nested
+    @DisplayName("Import Test")
+    class ImportTest {
+
+        @Test
+        @DisplayName("Should write grades in chunks of the batch size and rebuild the matrix once")
+        void shouldWriteGradesInChunksAndRebuildOnce() throws Exception {
+            when(salaryGradeImportWriter.write(anyList()))
+                    .thenReturn(new SalaryGradeImportWriter.Counts(1, 1, 2, 2, 1))
+                    .thenReturn(new SalaryGradeImportWriter.Counts(1, 0, 2, 0, 0));
+
+            var result = salaryGradeImportServiceImp.importFrom(json("[%s,%s,%s]".formatted(
+                    grade(1, "{\"step\": \"1\", \"amount\": 12034}, {\"step\": \"2\", \"amount\": 12134}"),
+                    grade(2, "{\"step\": 2, \"amount\": 12888.5}, {\"step\": 1, \"amount\": 12790}"),
+                    grade(3, "{\"step\": 1, \"amount\": 13572}, {\"step\": 2, \"amount\": 13677}")
+            )));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<SalaryGradeRequest>> chunks = ArgumentCaptor.forClass(List.class);
+            verify(salaryGradeImportWriter, times(2)).write(chunks.capture());
+            assertEquals(2, chunks.getAllValues().get(0).size());
+            assertEquals(1, chunks.getAllValues().get(1).size());
+            var first = chunks.getAllValues().get(0).get(0);
+            assertEquals("NBC591", first.legalBasis());
+            assertEquals(LocalDate.of(2021, 1, 1), first.effectiveDate());
+            assertEquals(2, first.salaryData().get(1).step());
+            assertEquals(12888.5, chunks.getAllValues().get(0).get(1).salaryData().get(0).amount());
+
+            assertEquals(3, result.grades());
+            assertEquals(6, result.steps());
+            assertEquals(2, result.insertedGrades());
+            assertEquals(1, result.updatedGrades());
+            assertEquals(1, result.removedSteps());
+            assertTrue(result.rowsPerSecond() > 0);
+            verify(salaryGradeService).rebuild();
+        }
+
+        @Test
+        @DisplayName("Should keep the last occurrence of a grade repeated within a chunk")
+        void shouldKeepLastOccurrenceOfRepeatedGrade() throws Exception {
+            when(salaryGradeImportWriter.write(anyList())).thenReturn(new SalaryGradeImportWriter.Counts(1, 0, 1, 0, 0));
+
+            var result = salaryGradeImportServiceImp.importFrom(json("[%s,%s]".formatted(
+                    grade(1, "{\"step\": 1, \"amount\": 100}"),
+                    grade(1, "{\"step\": 1, \"amount\": 200}")
+            )));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<SalaryGradeRequest>> chunk = ArgumentCaptor.forClass(List.class);
+            verify(salaryGradeImportWriter).write(chunk.capture());
+            assertEquals(1, chunk.getValue().size());
+            assertEquals(200, chunk.getValue().getFirst().salaryData().getFirst().amount());
+            assertEquals(1, result.grades());
+        }
+
+        @Test
+        @DisplayName("Should import the sample merged salary grade file")
+        void shouldImportSampleFile() throws Exception {
+            when(salaryGradeImportWriter.write(anyList())).thenReturn(new SalaryGradeImportWriter.Counts(0, 0, 0, 0, 0));
+
+            try (var inputStream = Files.newInputStream(Path.of("sample_files/merged-salary-grade-with-data.json"))) {
+                var result = salaryGradeImportServiceImp.importFrom(inputStream);
+
+                assertEquals(99, result.grades());
+                assertEquals(792, result.steps());
+            }
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when a grade skips a step")
+        void shouldThrowInvalidRequestExceptionWhenGradeSkipsStep() {
+            var inputStream = json("[%s]".formatted(grade(1, "{\"step\": 1, \"amount\": 100}, {\"step\": 3, \"amount\": 300}")));
+
+            var exception = assertThrows(InvalidRequestException.class, () -> salaryGradeImportServiceImp.importFrom(inputStream));
+            assertTrue(exception.getMessage().startsWith("Salary grade #1"));
+            verifyNoInteractions(salaryGradeImportWriter, salaryGradeService);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when a grade repeats a step")
+        void shouldThrowInvalidRequestExceptionWhenGradeRepeatsStep() {
+            var inputStream = json("[%s]".formatted(grade(1, "{\"step\": 1, \"amount\": 100}, {\"step\": 1, \"amount\": 100}")));
+
+            assertThrows(InvalidRequestException.class, () -> salaryGradeImportServiceImp.importFrom(inputStream));
+            verifyNoInteractions(salaryGradeImportWriter, salaryGradeService);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the JSON is truncated")
+        void shouldThrowInvalidRequestExceptionWhenJsonIsTruncated() {
+            var inputStream = json("[%s, {\"legalBasis\": \"NBC591\", \"tranche\": ".formatted(grade(1, "{\"step\": 1, \"amount\": 100}")));
+
+            assertThrows(InvalidRequestException.class, () -> salaryGradeImportServiceImp.importFrom(inputStream));
+            verifyNoInteractions(salaryGradeImportWriter, salaryGradeService);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the body is not an array")
+        void shouldThrowInvalidRequestExceptionWhenBodyIsNotAnArray() {
+            var inputStream = json(grade(1, "{\"step\": 1, \"amount\": 100}"));
+
+            assertThrows(InvalidRequestException.class, () -> salaryGradeImportServiceImp.importFrom(inputStream));
+            verifyNoInteractions(salaryGradeImportWriter, salaryGradeService);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryDataRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeBatchRequest;
+import dev.araopj.hrplatformapi.salary.dto.request.SalaryGradeRequest;
+import dev.araopj.hrplatformapi.salary.model.SalaryData;
+import dev.araopj.hrplatformapi.salary.model.SalaryGrade;
+import dev.araopj.hrplatformapi.salary.repository.SalaryGradeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalaryGradeServiceImp Test")
+class SalaryGradeServiceImpTest {
+
+    @Mock
+    private SalaryGradeRepository salaryGradeRepository;
+    private SalaryGradeServiceImp salaryGradeServiceImp;
+
+    private List<SalaryGrade> salaryGrades;
+
+    @BeforeEach
+    void setup() {
+        salaryGradeServiceImp = new SalaryGradeServiceImp(salaryGradeRepository, "PHP");
+        salaryGrades = List.of(
+                salaryGrade(1, LocalDate.of(2021, 1, 1), 1, 12034, 12134),
+                salaryGrade(1, LocalDate.of(2021, 1, 1), 2, 12790, 12888),
+                salaryGrade(2, LocalDate.of(2022, 1, 1), 1, 12517, 12621),
+                salaryGrade(2, LocalDate.of(2022, 1, 1), 2, 13305, 13406),
+                salaryGrade(1, LocalDate.of(2021, 1, 1), 3, 13572, 13677)
+        );
+    }
+
+    private static SalaryGrade salaryGrade(int tranche, LocalDate effectiveDate, int grade, double... amounts) {
+        var salaryGrade = SalaryGrade.builder()
+                .id("sg-%d-%d".formatted(tranche, grade))
+                .legalBasis("NBC591")
+                .tranche(tranche)
+                .effectiveDate(effectiveDate)
+                .salaryGrade(grade)
+                .salaryData(new HashSet<>())
+                .build();
+        for (int step = 1; step <= amounts.length; step++) {
+            salaryGrade.getSalaryData().add(SalaryData.builder()
+                    .id("sd-%d-%d-%d".formatted(tranche, grade, step))
+                    .step(step)
+                    .amount(amounts[step - 1])
+                    .salaryGrade(salaryGrade)
+                    .build());
+        }
+        return salaryGrade;
+    }
+
+    @Nested
+    @DisplayName("Find Step Test")
+    class FindStepTest {
+
+        @BeforeEach
+        void compile() {
+            when(salaryGradeRepository.findAllWithSalaryData()).thenReturn(salaryGrades);
+            salaryGradeServiceImp.rebuild();
+        }
+
+        @Test
+        @DisplayName("Should resolve step under the tranche in effect on the date")
+        void shouldResolveStepUnderTrancheInEffectOnDate() {
+            var result = salaryGradeServiceImp.findStep(2, 2, LocalDate.of(2021, 6, 30));
+
+            assertEquals(1, result.tranche());
+            assertEquals("NBC591", result.legalBasis());
+            assertEquals(LocalDate.of(2021, 1, 1), result.effectiveDate());
+            assertEquals(12888, result.amount());
+        }
+
+        @Test
+        @DisplayName("Should resolve the latest tranche on or after its effective date")
+        void shouldResolveLatestTrancheOnOrAfterEffectiveDate() {
+            assertEquals(13305, salaryGradeServiceImp.findStep(2, 1, LocalDate.of(2022, 1, 1)).amount());
+            assertEquals(12621, salaryGradeServiceImp.findStep(1, 2, LocalDate.of(2030, 1, 1)).amount());
+        }
+
+        @Test
+        @DisplayName("Should resolve the step amount in exact minor units")
+        void shouldResolveStepAmountInExactMinorUnits() {
+            var fractional = new ArrayList<>(salaryGrades);
+            fractional.add(salaryGrade(3, LocalDate.of(2023, 1, 1), 1, 12888.35, 13001.1));
+            when(salaryGradeRepository.findAllWithSalaryData()).thenReturn(fractional);
+            salaryGradeServiceImp.rebuild();
+
+            assertEquals(1_288_835, salaryGradeServiceImp.findStepAmount(1, 1, LocalDate.of(2023, 1, 1)));
+            assertEquals(1_300_110, salaryGradeServiceImp.findStepAmount(1, 2, LocalDate.of(2023, 6, 1)));
+            assertEquals(13001.1, salaryGradeServiceImp.findStep(1, 2, LocalDate.of(2023, 6, 1)).amount());
+            assertEquals(1_213_400, salaryGradeServiceImp.findStepAmount(1, 2, LocalDate.of(2021, 12, 31)));
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException before the first effective date")
+        void shouldThrowNotFoundExceptionBeforeFirstEffectiveDate() {
+            assertThrows(NotFoundException.class,
+                    () -> salaryGradeServiceImp.findStep(1, 1, LocalDate.of(2020, 12, 31)));
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException for unknown grade or step")
+        void shouldThrowNotFoundExceptionForUnknownGradeOrStep() {
+            assertThrows(NotFoundException.class,
+                    () -> salaryGradeServiceImp.findStep(33, 1, LocalDate.of(2022, 1, 1)));
+            assertThrows(NotFoundException.class,
+                    () -> salaryGradeServiceImp.findStep(1, 9, LocalDate.of(2022, 1, 1)));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the latest tranche that defines the grade")
+        void shouldFallBackToLatestTrancheThatDefinesGrade() {
+            var result = salaryGradeServiceImp.findStep(3, 2, LocalDate.of(2022, 6, 30));
+
+            assertEquals(1, result.tranche());
+            assertEquals(13677, result.amount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Step History Test")
+    class FindStepHistoryTest {
+
+        @BeforeEach
+        void compile() {
+            when(salaryGradeRepository.findAllWithSalaryData()).thenReturn(salaryGrades);
+            salaryGradeServiceImp.rebuild();
+        }
+
+        @Test
+        @DisplayName("Should list every tranche in effect during the range")
+        void shouldListEveryTrancheInEffectDuringRange() {
+            var result = salaryGradeServiceImp.findStepHistory(1, 2, LocalDate.of(2021, 6, 1), LocalDate.of(2022, 6, 1));
+
+            assertEquals(2, result.size());
+            assertEquals(12134, result.getFirst().amount());
+            assertEquals(12621, result.getLast().amount());
+        }
+
+        @Test
+        @DisplayName("Should list only the tranche in effect when the range starts after it")
+        void shouldListOnlyTrancheInEffectWhenRangeStartsAfterIt() {
+            var result = salaryGradeServiceImp.findStepHistory(1, 1, LocalDate.of(2022, 3, 1), LocalDate.of(2022, 4, 1));
+
+            assertEquals(1, result.size());
+            assertEquals(2, result.getFirst().tranche());
+        }
+
+        @Test
+        @DisplayName("Should return empty list before the first effective date")
+        void shouldReturnEmptyListBeforeFirstEffectiveDate() {
+            assertTrue(salaryGradeServiceImp.findStepHistory(1, 1, LocalDate.of(2019, 1, 1), LocalDate.of(2020, 12, 31)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when from is after to")
+        void shouldThrowInvalidRequestExceptionWhenFromIsAfterTo() {
+            assertThrows(InvalidRequestException.class,
+                    () -> salaryGradeServiceImp.findStepHistory(1, 1, LocalDate.of(2022, 1, 2), LocalDate.of(2022, 1, 1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Grade Amounts Test")
+    class FindGradeAmountsTest {
+
+        @Test
+        @DisplayName("Should list the amounts of a grade across every tranche")
+        void shouldListAmountsOfGradeAcrossEveryTranche() {
+            when(salaryGradeRepository.findAllWithSalaryData()).thenReturn(salaryGrades);
+            salaryGradeServiceImp.rebuild();
+
+            assertArrayEquals(new long[]{1_203_400, 1_213_400, 1_251_700, 1_262_100}, salaryGradeServiceImp.findGradeAmounts(1));
+            assertArrayEquals(new long[0], salaryGradeServiceImp.findGradeAmounts(33));
+        }
+
+        @Test
+        @DisplayName("Should leave out amounts another grade also pays")
+        void shouldLeaveOutAmountsAnotherGradeAlsoPays() {
+            var overlapping = new ArrayList<>(salaryGrades);
+            overlapping.add(salaryGrade(2, LocalDate.of(2022, 1, 1), 3, 13406, 14000));
+            when(salaryGradeRepository.findAllWithSalaryData()).thenReturn(overlapping);
+            salaryGradeServiceImp.rebuild();
+
+            assertArrayEquals(new long[]{1_279_000, 1_288_800, 1_330_500}, salaryGradeServiceImp.findGradeAmounts(2));
+            assertArrayEquals(new long[]{1_357_200, 1_367_700, 1_400_000}, salaryGradeServiceImp.findGradeAmounts(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Resolve Test")
+    class ResolveTest {
+
+        @Test
+        @DisplayName("Should resolve every tuple and report unresolved positions")
+        void shouldResolveEveryTupleAndReportUnresolvedPositions() {
+            when(salaryGradeRepository.findAllWithSalaryData()).thenReturn(salaryGrades);
+            salaryGradeServiceImp.rebuild();
+
+            var result = salaryGradeServiceImp.resolve(SalaryGradeBatchRequest.builder()
+                    .salaryGrades(new int[]{1, 2, 33, 3, 1})
+                    .steps(new int[]{1, 2, 1, 1, 1})
+                    .dates(new LocalDate[]{
+                            LocalDate.of(2021, 6, 1),
+                            LocalDate.of(2022, 6, 1),
+                            LocalDate.of(2022, 6, 1),
+                            LocalDate.of(2022, 6, 1),
+                            LocalDate.of(2020, 1, 1)
+                    })
+                    .build());
+
+            assertArrayEquals(new double[]{12034, 13406, 0, 13572, 0}, result.amounts());
+            assertArrayEquals(new int[]{1, 2, 0, 1, 0}, result.tranches());
+            assertArrayEquals(new int[]{2, 4}, result.unresolved());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when arrays have different lengths")
+        void shouldThrowInvalidRequestExceptionWhenArraysHaveDifferentLengths() {
+            assertThrows(InvalidRequestException.class, () -> salaryGradeServiceImp.resolve(SalaryGradeBatchRequest.builder()
+                    .salaryGrades(new int[]{1, 2})
+                    .steps(new int[]{1})
+                    .dates(new LocalDate[]{LocalDate.of(2022, 1, 1)})
+                    .build()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Create Salary Grade Test")
+    class CreateSalaryGradeTest {
+
+        private SalaryGradeRequest salaryGradeRequest;
+
+        @BeforeEach
+        void setup() {
+            salaryGradeRequest = SalaryGradeRequest.builder()
+                    .legalBasis("NBC591")
+                    .tranche(3)
+                    .effectiveDate(LocalDate.of(2023, 1, 1))
+                    .salaryGrade(1)
+                    .salaryData(List.of(
+                            SalaryDataRequest.builder().step(1).amount(13000).build(),
+                            SalaryDataRequest.builder().step(2).amount(13109).build()
+                    ))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should create salary grades and rebuild the matrix")
+        void shouldCreateSalaryGradesAndRebuildMatrix() {
+            var created = salaryGrade(3, LocalDate.of(2023, 1, 1), 1, 13000, 13109);
+            when(salaryGradeRepository.findByLegalBasisAndTrancheAndSalaryGrade("NBC591", 3, 1))
+                    .thenReturn(Optional.empty());
+            when(salaryGradeRepository.saveAll(anyList())).thenReturn(List.of(created));
+            when(salaryGradeRepository.findAllWithSalaryData()).thenReturn(List.of(created));
+
+            var result = salaryGradeServiceImp.create(List.of(salaryGradeRequest));
+
+            assertEquals(1, result.size());
+            assertEquals(2, result.getFirst().salaryData().size());
+            assertEquals(13109, salaryGradeServiceImp.findStep(1, 2, LocalDate.of(2023, 1, 1)).amount());
+            verify(salaryGradeRepository).findAllWithSalaryData();
+        }
+
+        @Test
+        @DisplayName("Should throw exception when salary grade already exists")
+        void shouldThrowExceptionWhenSalaryGradeAlreadyExists() {
+            when(salaryGradeRepository.findByLegalBasisAndTrancheAndSalaryGrade("NBC591", 3, 1))
+                    .thenReturn(Optional.of(salaryGrade(3, LocalDate.of(2023, 1, 1), 1, 13000)));
+
+            var exception = assertThrows(IllegalArgumentException.class,
+                    () -> salaryGradeServiceImp.create(List.of(salaryGradeRequest)));
+            assertEquals("Salary grade [1] already exists for legal basis [NBC591] tranche [3]", exception.getMessage());
+
+            verify(salaryGradeRepository, never()).saveAll(anyList());
+        }
+    }
+}
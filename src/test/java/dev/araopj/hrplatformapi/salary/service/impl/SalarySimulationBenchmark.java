@@ -0,0 +1,73 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a tranche change for one million employees on 33 grades of 8 steps.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}. {@code run} is the whole simulation (cell indexes, gather,
+ * per-grade totals and percentiles); the kernel benchmarks isolate the gather pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SalarySimulationBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+    private static final int MAX_GRADE = 33;
+    private static final int MAX_STEP = 8;
+
+    private SalarySimulation simulation;
+    private long[] table;
+    private int[] cells;
+    private long[] current;
+    private long[] simulated;
+    private SimulationKernel scalar;
+    private SimulationKernel selected;
+
+    @Setup
+    public void setup() {
+        final var RANDOM = new Random(42);
+        table = new long[MAX_GRADE * MAX_STEP + 1];
+        for (int i = 0; i < table.length - 1; i++) {
+            table[i] = 1_300_000 + i * 25_000L;
+        }
+        table[table.length - 1] = SalarySimulation.MISSING;
+
+        final var GRADES = new int[EMPLOYEES];
+        final var STEPS = new int[EMPLOYEES];
+        current = new long[EMPLOYEES];
+        cells = new int[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            GRADES[i] = RANDOM.nextInt(MAX_GRADE) + 1;
+            STEPS[i] = RANDOM.nextInt(MAX_STEP) + 1;
+            cells[i] = (GRADES[i] - 1) * MAX_STEP + STEPS[i] - 1;
+            current[i] = 1_200_000 + cells[i] * 24_000L;
+        }
+        simulation = new SalarySimulation(GRADES, STEPS, current, EMPLOYEES);
+        simulated = new long[EMPLOYEES];
+        scalar = new ScalarSimulationKernel();
+        selected = SimulationKernel.select();
+    }
+
+    @Benchmark
+    public long run() {
+        return simulation.run(table, MAX_GRADE, MAX_STEP, 1, selected).simulatedTotal();
+    }
+
+    @Benchmark
+    public long scalarKernel() {
+        return scalar.apply(cells, table, current, simulated, EMPLOYEES);
+    }
+
+    @Benchmark
+    public long selectedKernel() {
+        return selected.apply(cells, table, current, simulated, EMPLOYEES);
+    }
+}
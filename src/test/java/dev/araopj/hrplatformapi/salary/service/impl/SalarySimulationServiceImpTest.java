@@ -0,0 +1,182 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.exception.NotFoundException;
+import dev.araopj.hrplatformapi.salary.dto.request.SalarySimulationRequest;
+import dev.araopj.hrplatformapi.salary.model.SalaryAmount;
+import dev.araopj.hrplatformapi.salary.model.SalaryData;
+import dev.araopj.hrplatformapi.salary.model.SalaryGrade;
+import dev.araopj.hrplatformapi.salary.repository.SalaryAmountRepository;
+import dev.araopj.hrplatformapi.salary.service.SalaryGradeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalarySimulationServiceImp Test")
+class SalarySimulationServiceImpTest {
+
+    @Mock
+    private SalaryAmountRepository salaryAmountRepository;
+    @Mock
+    private SalaryGradeService salaryGradeService;
+
+    private SalarySimulationServiceImp salarySimulationServiceImp;
+
+    @BeforeEach
+    void setup() {
+        salarySimulationServiceImp = new SalarySimulationServiceImp(salaryAmountRepository, salaryGradeService, 10_000, "PHP", new ScalarSimulationKernel());
+    }
+
+    private static SalaryGrade salaryGrade(int tranche, LocalDate effectiveDate, int grade, double... amounts) {
+        var salaryGrade = SalaryGrade.builder()
+                .id("sg-%d-%d".formatted(tranche, grade))
+                .legalBasis("NBC591")
+                .tranche(tranche)
+                .effectiveDate(effectiveDate)
+                .salaryGrade(grade)
+                .salaryData(new HashSet<>())
+                .build();
+        for (int step = 1; step <= amounts.length; step++) {
+            salaryGrade.getSalaryData().add(SalaryData.builder()
+                    .id("sd-%d-%d-%d".formatted(tranche, grade, step))
+                    .step(step)
+                    .amount(amounts[step - 1])
+                    .salaryGrade(salaryGrade)
+                    .build());
+        }
+        return salaryGrade;
+    }
+
+    private void givenEmployees(long... minorUnits) {
+        when(salaryAmountRepository.findActiveAfter(eq(""), any(), any(), any(), any())).thenReturn(Arrays.stream(minorUnits)
+                .mapToObj(amount -> new SalaryAmount("ei-" + amount, amount))
+                .toList());
+    }
+
+    @Nested
+    @DisplayName("Simulate Test")
+    class SimulateTest {
+
+        @BeforeEach
+        void compile() {
+            when(salaryGradeService.snapshot()).thenReturn(new SalaryGradeMatrix(List.of(
+                    salaryGrade(1, LocalDate.of(2021, 1, 1), 1, 12034, 12134),
+                    salaryGrade(1, LocalDate.of(2021, 1, 1), 2, 12790, 12888),
+                    salaryGrade(1, LocalDate.of(2021, 1, 1), 3, 13572, 13677),
+                    salaryGrade(2, LocalDate.of(2022, 1, 1), 1, 12517, 12621),
+                    salaryGrade(2, LocalDate.of(2022, 1, 1), 2, 13305, 13406)
+            ), Currency.getInstance("PHP")));
+        }
+
+        @Test
+        @DisplayName("Should move every matched employee to the candidate tranche")
+        void shouldMoveEveryMatchedEmployeeToCandidateTranche() {
+            givenEmployees(1_203_400, 1_279_000, 1_357_200, 999_900);
+
+            var result = salarySimulationServiceImp.simulate(SalarySimulationRequest.builder()
+                    .tranche(2)
+                    .asOf(LocalDate.of(2021, 6, 30))
+                    .build());
+
+            assertEquals(2, result.tranche());
+            assertEquals(LocalDate.of(2022, 1, 1), result.effectiveDate());
+            assertEquals(4, result.headcount());
+            assertEquals(1, result.unmatched());
+            assertEquals(0, result.unresolved());
+            assertEquals(new BigDecimal("48395.00"), result.currentTotal());
+            // grade 3 is only published in tranche 1, so it keeps its amount
+            assertEquals(new BigDecimal("49393.00"), result.simulatedTotal());
+            assertEquals(new BigDecimal("998.00"), result.difference());
+            assertEquals(new BigDecimal("12517.00"), result.simulatedPercentiles().get("p50"));
+            assertEquals(3, result.grades().size());
+            assertEquals(new BigDecimal("13305.00"), result.grades().get(1).simulatedTotal());
+            assertEquals("scalar", result.engine());
+        }
+
+        @Test
+        @DisplayName("Should move employees up steps on the schedule in effect, capped at the last step")
+        void shouldMoveEmployeesUpStepsCappedAtLastStep() {
+            givenEmployees(1_203_400, 1_288_800);
+
+            var result = salarySimulationServiceImp.simulate(SalarySimulationRequest.builder()
+                    .stepIncrement(5)
+                    .asOf(LocalDate.of(2021, 6, 30))
+                    .build());
+
+            assertEquals(1, result.tranche());
+            assertEquals(0, result.unmatched());
+            assertEquals(new BigDecimal("25022.00"), result.simulatedTotal());
+            assertEquals(new BigDecimal("100.00"), result.difference());
+            assertEquals(new BigDecimal("0.00"), result.increasePercentiles().get("p50"));
+            assertEquals(new BigDecimal("100.00"), result.increasePercentiles().get("p90"));
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the currency is not the salary grade currency")
+        void shouldThrowInvalidRequestExceptionWhenCurrencyIsNotSalaryGradeCurrency() {
+            var request = SalarySimulationRequest.builder()
+                    .currency("USD")
+                    .build();
+
+            assertThrows(InvalidRequestException.class, () -> salarySimulationServiceImp.simulate(request));
+            verifyNoInteractions(salaryAmountRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException when no schedule has the tranche")
+        void shouldThrowNotFoundExceptionWhenNoScheduleHasTranche() {
+            var request = SalarySimulationRequest.builder()
+                    .tranche(9)
+                    .build();
+
+            assertThrows(NotFoundException.class, () -> salarySimulationServiceImp.simulate(request));
+            verifyNoInteractions(salaryAmountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Kernel Test")
+    class KernelTest {
+
+        @Test
+        @DisplayName("Should produce the same amounts and total with every kernel")
+        void shouldProduceSameAmountsAndTotalWithEveryKernel() {
+            final var SIZE = 10_003;
+            final var RANDOM = new Random(42);
+            final var TABLE = new long[33 * 8 + 1];
+            for (int i = 0; i < TABLE.length - 1; i++) {
+                TABLE[i] = i % 17 == 0 ? SalarySimulation.MISSING : 1_000_000 + i * 10_000L;
+            }
+            TABLE[TABLE.length - 1] = SalarySimulation.MISSING;
+            final var CELLS = RANDOM.ints(SIZE, 0, TABLE.length).toArray();
+            final var CURRENT = RANDOM.longs(SIZE, 1_000_000, 20_000_000).toArray();
+
+            final var SCALAR = new long[SIZE];
+            final var SELECTED = new long[SIZE];
+            final var SCALAR_TOTAL = new ScalarSimulationKernel().apply(CELLS, TABLE, CURRENT, SCALAR, SIZE);
+            final var SELECTED_TOTAL = SimulationKernel.select().apply(CELLS, TABLE, CURRENT, SELECTED, SIZE);
+
+            assertArrayEquals(SCALAR, SELECTED);
+            assertEquals(SCALAR_TOTAL, SELECTED_TOTAL);
+            assertEquals(Arrays.stream(SCALAR).sum(), SCALAR_TOTAL);
+        }
+    }
+}
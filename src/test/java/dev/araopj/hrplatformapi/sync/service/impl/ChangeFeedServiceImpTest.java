@@ -0,0 +1,169 @@
+package dev.araopj.hrplatformapi.sync.service.impl;
+
+import dev.araopj.hrplatformapi.employee.dto.response.PositionResponse;
+import dev.araopj.hrplatformapi.employee.model.Position;
+import dev.araopj.hrplatformapi.employee.repository.EmployeeRepository;
+import dev.araopj.hrplatformapi.employee.repository.PositionRepository;
+import dev.araopj.hrplatformapi.employee.repository.SalaryRepository;
+import dev.araopj.hrplatformapi.employee.repository.WorkplaceRepository;
+import dev.araopj.hrplatformapi.exception.InvalidRequestException;
+import dev.araopj.hrplatformapi.sync.dto.response.TombstoneResponse;
+import dev.araopj.hrplatformapi.sync.model.Tombstone;
+import dev.araopj.hrplatformapi.sync.repository.TombstoneRepository;
+import dev.araopj.hrplatformapi.utils.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.POSITION;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeFeedServiceImp Test")
+class ChangeFeedServiceImpTest {
+
+    private static final Instant SINCE = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private SalaryRepository salaryRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    @Mock
+    private WorkplaceRepository workplaceRepository;
+
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    private ChangeFeedServiceImp changeFeedServiceImp;
+
+    @BeforeEach
+    void setup() {
+        changeFeedServiceImp = new ChangeFeedServiceImp(employeeRepository, salaryRepository, positionRepository,
+                workplaceRepository, tombstoneRepository, Duration.ofSeconds(5), 10);
+    }
+
+    private static Position position(String id, int secondsAfterSince) {
+        final var POSITION_ENTITY = mock(Position.class);
+        when(POSITION_ENTITY.getId()).thenReturn(id);
+        when(POSITION_ENTITY.getUpdatedAt()).thenReturn(SINCE.plusSeconds(secondsAfterSince));
+        return POSITION_ENTITY;
+    }
+
+    private static Tombstone tombstone(String entityId, int secondsAfterSince) {
+        return Tombstone.builder()
+                .entityType(POSITION)
+                .entityId(entityId)
+                .deletedAt(SINCE.plusSeconds(secondsAfterSince))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Changes Test")
+    class ChangesTest {
+
+        @Test
+        @DisplayName("Should read strictly after 'since' when no cursor is given")
+        void shouldReadStrictlyAfterSinceWithoutCursor() throws InvalidRequestException {
+            when(positionRepository.findChangedAfter(eq(SINCE), isNull(), any(Instant.class), eq(Limit.of(3)))).thenReturn(List.of());
+            when(tombstoneRepository.findDeletedAfter(eq(POSITION), eq(SINCE), isNull(), any(Instant.class), eq(Limit.of(3)))).thenReturn(List.of());
+
+            var result = changeFeedServiceImp.positions(SINCE, null, 2);
+
+            assertTrue(result.changed().isEmpty());
+            assertTrue(result.deleted().isEmpty());
+            assertNull(result.cursor());
+            assertFalse(result.hasMore());
+        }
+
+        @Test
+        @DisplayName("Should merge changed rows and tombstones in keyset order")
+        void shouldMergeInKeysetOrder() throws InvalidRequestException {
+            var first = position("position-1", 1);
+            var third = position("position-3", 3);
+            when(positionRepository.findChangedAfter(eq(Instant.EPOCH), isNull(), any(Instant.class), eq(Limit.of(11))))
+                    .thenReturn(List.of(first, third));
+            when(tombstoneRepository.findDeletedAfter(eq(POSITION), eq(Instant.EPOCH), isNull(), any(Instant.class), eq(Limit.of(11))))
+                    .thenReturn(List.of(tombstone("position-2", 2)));
+
+            var result = changeFeedServiceImp.positions(null, null, 10);
+
+            assertEquals(List.of("position-1", "position-3"), result.changed().stream().map(PositionResponse::id).toList());
+            assertEquals(List.of(new TombstoneResponse("position-2", SINCE.plusSeconds(2))), result.deleted());
+            assertEquals(new KeysetCursor(SINCE.plusSeconds(3), "position-3"), KeysetCursor.decode(result.cursor()));
+            assertFalse(result.hasMore());
+        }
+
+        @Test
+        @DisplayName("Should stop at the page size and continue after the last item returned")
+        void shouldStopAtPageSize() throws InvalidRequestException {
+            final var CURSOR = new KeysetCursor(SINCE, "position-0");
+            var first = position("position-1", 1);
+            var third = position("position-3", 3);
+            when(positionRepository.findChangedAfter(eq(SINCE), eq("position-0"), any(Instant.class), eq(Limit.of(3))))
+                    .thenReturn(List.of(first, third));
+            when(tombstoneRepository.findDeletedAfter(eq(POSITION), eq(SINCE), eq("position-0"), any(Instant.class), eq(Limit.of(3))))
+                    .thenReturn(List.of(tombstone("position-2", 2)));
+
+            var result = changeFeedServiceImp.positions(null, CURSOR.encode(), 2);
+
+            assertEquals(1, result.changed().size());
+            assertEquals(1, result.deleted().size());
+            assertEquals(new KeysetCursor(SINCE.plusSeconds(2), "position-2"), KeysetCursor.decode(result.cursor()));
+            assertTrue(result.hasMore());
+        }
+
+        @Test
+        @DisplayName("Should keep the request cursor when nothing changed")
+        void shouldKeepRequestCursorWhenNothingChanged() throws InvalidRequestException {
+            final var CURSOR = new KeysetCursor(SINCE, "position-0").encode();
+            when(positionRepository.findChangedAfter(eq(SINCE), eq("position-0"), any(Instant.class), any(Limit.class))).thenReturn(List.of());
+            when(tombstoneRepository.findDeletedAfter(eq(POSITION), eq(SINCE), eq("position-0"), any(Instant.class), any(Limit.class))).thenReturn(List.of());
+
+            assertEquals(CURSOR, changeFeedServiceImp.positions(null, CURSOR, 5).cursor());
+        }
+
+        @Test
+        @DisplayName("Should not read rows younger than the settle time")
+        void shouldNotReadRowsYoungerThanSettleTime() throws InvalidRequestException {
+            final var BEFORE = Instant.now().minusSeconds(5);
+            when(positionRepository.findChangedAfter(eq(SINCE), isNull(), any(Instant.class), any(Limit.class))).thenReturn(List.of());
+            when(tombstoneRepository.findDeletedAfter(eq(POSITION), eq(SINCE), isNull(), any(Instant.class), any(Limit.class))).thenReturn(List.of());
+
+            changeFeedServiceImp.positions(SINCE, null, 5);
+
+            verify(positionRepository).findChangedAfter(eq(SINCE), isNull(),
+                    argThat(until -> !until.isBefore(BEFORE) && !until.isAfter(Instant.now().minusSeconds(5))), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("Should reject a size out of range")
+        void shouldRejectSizeOutOfRange() {
+            assertThrows(InvalidRequestException.class, () -> changeFeedServiceImp.positions(SINCE, null, 0));
+            assertThrows(InvalidRequestException.class, () -> changeFeedServiceImp.positions(SINCE, null, 11));
+            verifyNoInteractions(positionRepository, tombstoneRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid cursor")
+        void shouldRejectInvalidCursor() {
+            assertThrows(InvalidRequestException.class, () -> changeFeedServiceImp.positions(null, "not a cursor", 5));
+            verifyNoInteractions(positionRepository, tombstoneRepository);
+        }
+    }
+}
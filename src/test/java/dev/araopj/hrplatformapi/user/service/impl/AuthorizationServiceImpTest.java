@@ -0,0 +1,201 @@
+package dev.araopj.hrplatformapi.user.service.impl;
+
+import dev.araopj.hrplatformapi.user.model.Permission;
+import dev.araopj.hrplatformapi.user.model.Role;
+import dev.araopj.hrplatformapi.user.model.UserRole;
+import dev.araopj.hrplatformapi.user.repository.PermissionRepository;
+import dev.araopj.hrplatformapi.user.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthorizationServiceImp Test")
+class AuthorizationServiceImpTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private PermissionRepository permissionRepository;
+    @InjectMocks
+    private AuthorizationServiceImp authorizationServiceImp;
+
+    private Permission employeeRead;
+    private Permission employeeWrite;
+    private Permission salaryRead;
+    private Role hrAdmin;
+    private Role employee;
+
+    @BeforeEach
+    void setup() {
+        employeeRead = permission("perm-1", "EMPLOYEE_READ", "EMPLOYEE");
+        employeeWrite = permission("perm-2", "EMPLOYEE_WRITE", "EMPLOYEE");
+        salaryRead = permission("perm-3", "SALARY_READ", "SALARY");
+
+        hrAdmin = Role.builder()
+                .id("role-1")
+                .role(UserRole.HR_ADMIN)
+                .description("HR Administrator")
+                .permissions(Set.of(employeeRead, employeeWrite, salaryRead))
+                .build();
+
+        employee = Role.builder()
+                .id("role-2")
+                .role(UserRole.EMPLOYEE)
+                .description("Employee")
+                .permissions(Set.of(employeeRead))
+                .build();
+    }
+
+    private static Permission permission(String id, String code, String category) {
+        return Permission.builder()
+                .id(id)
+                .code(code)
+                .description(code.toLowerCase())
+                .category(category)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Permission Check Test")
+    class PermissionCheckTest {
+
+        @BeforeEach
+        void compile() {
+            when(permissionRepository.findAll()).thenReturn(List.of(employeeRead, employeeWrite, salaryRead));
+            when(roleRepository.findAllWithPermissions()).thenReturn(List.of(hrAdmin, employee));
+            authorizationServiceImp.rebuild();
+        }
+
+        @Test
+        @DisplayName("Should grant permissions assigned to the role")
+        void shouldGrantPermissionsAssignedToRole() {
+            assertTrue(authorizationServiceImp.hasPermission("role-1", "EMPLOYEE_WRITE"));
+            assertTrue(authorizationServiceImp.hasPermission("role-2", "EMPLOYEE_READ"));
+            assertTrue(authorizationServiceImp.hasPermission(UserRole.HR_ADMIN, "SALARY_READ"));
+        }
+
+        @Test
+        @DisplayName("Should deny permissions not assigned to the role")
+        void shouldDenyPermissionsNotAssignedToRole() {
+            assertFalse(authorizationServiceImp.hasPermission("role-2", "EMPLOYEE_WRITE"));
+            assertFalse(authorizationServiceImp.hasPermission(UserRole.COORDINATOR, "EMPLOYEE_READ"));
+        }
+
+        @Test
+        @DisplayName("Should deny unknown roles and permissions")
+        void shouldDenyUnknownRolesAndPermissions() {
+            assertEquals(PermissionMatrix.UNKNOWN, authorizationServiceImp.permissionIndex("PAYROLL_RUN"));
+            assertFalse(authorizationServiceImp.hasPermission("role-1", "PAYROLL_RUN"));
+            assertFalse(authorizationServiceImp.hasPermission("role-unknown", "EMPLOYEE_READ"));
+        }
+
+        @Test
+        @DisplayName("Should check permissions by category")
+        void shouldCheckPermissionsByCategory() {
+            assertTrue(authorizationServiceImp.hasAnyPermissionInCategory("role-1", "SALARY"));
+            assertFalse(authorizationServiceImp.hasAnyPermissionInCategory("role-2", "SALARY"));
+        }
+
+        @Test
+        @DisplayName("Should assign dense indexes sorted by permission code")
+        void shouldAssignDenseIndexesSortedByPermissionCode() {
+            assertEquals(0, authorizationServiceImp.permissionIndex("EMPLOYEE_READ"));
+            assertEquals(1, authorizationServiceImp.permissionIndex("EMPLOYEE_WRITE"));
+            assertEquals(2, authorizationServiceImp.permissionIndex("SALARY_READ"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild Test")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("Should deny everything before the first rebuild")
+        void shouldDenyEverythingBeforeFirstRebuild() {
+            assertFalse(authorizationServiceImp.hasPermission("role-1", "EMPLOYEE_READ"));
+            verifyNoInteractions(roleRepository, permissionRepository);
+        }
+
+        @Test
+        @DisplayName("Should replace the matrix when roles change")
+        void shouldReplaceMatrixWhenRolesChange() {
+            when(permissionRepository.findAll()).thenReturn(List.of(employeeRead, employeeWrite, salaryRead));
+            when(roleRepository.findAllWithPermissions()).thenReturn(List.of(hrAdmin, employee));
+            authorizationServiceImp.rebuild();
+            assertFalse(authorizationServiceImp.hasPermission("role-2", "EMPLOYEE_WRITE"));
+
+            employee.setPermissions(Set.of(employeeRead, employeeWrite));
+            authorizationServiceImp.rebuild();
+
+            assertTrue(authorizationServiceImp.hasPermission("role-2", "EMPLOYEE_WRITE"));
+            verify(roleRepository, times(2)).findAllWithPermissions();
+        }
+
+        @Test
+        @DisplayName("Should keep permission indexes stable across rebuilds")
+        void shouldKeepPermissionIndexesStableAcrossRebuilds() {
+            var attendanceRead = permission("perm-4", "ATTENDANCE_READ", "ATTENDANCE");
+            when(permissionRepository.findAll())
+                    .thenReturn(List.of(employeeRead, employeeWrite, salaryRead))
+                    .thenReturn(List.of(attendanceRead, employeeRead, salaryRead))
+                    .thenReturn(List.of(attendanceRead, employeeRead, employeeWrite, salaryRead));
+            when(roleRepository.findAllWithPermissions()).thenReturn(List.of(hrAdmin));
+            hrAdmin.setPermissions(Set.of(employeeRead, employeeWrite, salaryRead));
+            authorizationServiceImp.rebuild();
+            final var EMPLOYEE_WRITE = authorizationServiceImp.permissionIndex("EMPLOYEE_WRITE");
+
+            hrAdmin.setPermissions(Set.of(attendanceRead, salaryRead));
+            authorizationServiceImp.rebuild();
+
+            assertEquals(0, authorizationServiceImp.permissionIndex("EMPLOYEE_READ"));
+            assertEquals(2, authorizationServiceImp.permissionIndex("SALARY_READ"));
+            assertEquals(3, authorizationServiceImp.permissionIndex("ATTENDANCE_READ"));
+            assertEquals(PermissionMatrix.UNKNOWN, authorizationServiceImp.permissionIndex("EMPLOYEE_WRITE"));
+            assertFalse(authorizationServiceImp.hasPermission("role-1", EMPLOYEE_WRITE));
+            assertTrue(authorizationServiceImp.hasPermission("role-1", 2));
+            assertEquals(3, authorizationServiceImp.snapshot().permissionCount());
+
+            hrAdmin.setPermissions(Set.of(employeeWrite));
+            authorizationServiceImp.rebuild();
+
+            assertEquals(EMPLOYEE_WRITE, authorizationServiceImp.permissionIndex("EMPLOYEE_WRITE"));
+            assertTrue(authorizationServiceImp.hasPermission("role-1", EMPLOYEE_WRITE));
+            assertFalse(authorizationServiceImp.hasPermission("role-1", 3));
+        }
+
+        @Test
+        @DisplayName("Should handle more than 64 permissions")
+        void shouldHandleMoreThan64Permissions() {
+            var permissions = IntStream.range(0, 130)
+                    .mapToObj(i -> permission("perm-" + i, "PERMISSION_%03d".formatted(i), "BULK"))
+                    .toList();
+            var role = Role.builder()
+                    .id("role-bulk")
+                    .role(UserRole.IT_ADMIN)
+                    .description("Bulk")
+                    .permissions(Set.of(permissions.get(0), permissions.get(129)))
+                    .build();
+            when(permissionRepository.findAll()).thenReturn(permissions);
+            when(roleRepository.findAllWithPermissions()).thenReturn(List.of(role));
+
+            authorizationServiceImp.rebuild();
+
+            assertTrue(authorizationServiceImp.hasPermission("role-bulk", "PERMISSION_000"));
+            assertTrue(authorizationServiceImp.hasPermission("role-bulk", "PERMISSION_129"));
+            assertFalse(authorizationServiceImp.hasPermission("role-bulk", "PERMISSION_064"));
+        }
+    }
+}
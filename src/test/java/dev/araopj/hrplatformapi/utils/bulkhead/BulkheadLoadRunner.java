@@ -0,0 +1,120 @@
+package dev.araopj.hrplatformapi.utils.bulkhead;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator for comparing request handling with and without virtual threads.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:exec} against an application that is already up, once with
+ * {@code spring.threads.virtual.enabled=true} and once with {@code false}. Each of {@code loadtest.clients} clients
+ * sends {@code GET loadtest.url}, waits for the response and sends the next, for {@code loadtest.warm-up} and then
+ * {@code loadtest.duration}. Only requests completed during the measured window are reported: throughput, latency
+ * percentiles, and counts by status ({@code 503} is the bulkhead shedding load).
+ */
+public class BulkheadLoadRunner {
+
+    public static void main(String[] args) throws Exception {
+        final var URL = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/v1/employees?page=1&size=10");
+        final var CLIENTS = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        final var WARM_UP = args.length > 2 ? Duration.parse(args[2]) : Duration.ofSeconds(15);
+        final var DURATION = args.length > 3 ? Duration.parse(args[3]) : Duration.ofSeconds(60);
+
+        System.out.printf("GET %s with %d clients, %s warm-up, %s measured%n", URL, CLIENTS, WARM_UP, DURATION);
+        final var STARTED_AT = System.nanoTime();
+        final var MEASURE_FROM = STARTED_AT + WARM_UP.toNanos();
+        final var MEASURE_TO = MEASURE_FROM + DURATION.toNanos();
+        final var READY = new CountDownLatch(CLIENTS);
+        final var RESULTS = new ArrayList<Future<Client>>(CLIENTS);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor();
+             var httpClient = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+            final var REQUEST = HttpRequest.newBuilder(URL).timeout(Duration.ofSeconds(60)).GET().build();
+            for (int i = 0; i < CLIENTS; i++) {
+                RESULTS.add(executor.submit(() -> {
+                    final var CLIENT = new Client();
+                    READY.countDown();
+                    READY.await();
+                    while (System.nanoTime() < MEASURE_TO) {
+                        final var SENT_AT = System.nanoTime();
+                        int status;
+                        try {
+                            status = httpClient.send(REQUEST, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        final var RECEIVED_AT = System.nanoTime();
+                        if (SENT_AT >= MEASURE_FROM && RECEIVED_AT <= MEASURE_TO) {
+                            CLIENT.record(status, RECEIVED_AT - SENT_AT);
+                        }
+                    }
+                    return CLIENT;
+                }));
+            }
+
+            final var TOTAL = new Client();
+            for (var result : RESULTS) {
+                TOTAL.merge(result.get());
+            }
+            TOTAL.report(DURATION);
+        }
+    }
+
+    /**
+     * Latencies and status counts of one client; merged into one after the run, so the hot loop shares nothing.
+     */
+    private static final class Client {
+
+        private final TreeMap<Integer, Long> statuses = new TreeMap<>();
+        private long[] okNanos = new long[1024];
+        private int ok;
+
+        void record(int status, long nanos) {
+            statuses.merge(status, 1L, Long::sum);
+            if (status == 200) {
+                if (ok == okNanos.length) {
+                    okNanos = Arrays.copyOf(okNanos, ok * 2);
+                }
+                okNanos[ok++] = nanos;
+            }
+        }
+
+        void merge(Client other) {
+            other.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+            okNanos = Arrays.copyOf(okNanos, ok + other.ok);
+            System.arraycopy(other.okNanos, 0, okNanos, ok, other.ok);
+            ok += other.ok;
+        }
+
+        void report(Duration duration) {
+            final var LATENCIES = Arrays.copyOf(okNanos, ok);
+            Arrays.sort(LATENCIES);
+            final var TOTAL = statuses.values().stream().mapToLong(Long::longValue).sum();
+            System.out.printf("requests: %d (%.1f/s), 200: %d (%.1f/s)%n", TOTAL, TOTAL / seconds(duration), ok, ok / seconds(duration));
+            System.out.printf("statuses: %s (-1 = I/O error or timeout)%n", statuses);
+            if (ok > 0) {
+                System.out.printf("200 latency ms: p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+                        millis(LATENCIES, 0.50), millis(LATENCIES, 0.90), millis(LATENCIES, 0.99), LATENCIES[ok - 1] / 1e6);
+            }
+        }
+
+        private static double seconds(Duration duration) {
+            return duration.toNanos() / 1e9;
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
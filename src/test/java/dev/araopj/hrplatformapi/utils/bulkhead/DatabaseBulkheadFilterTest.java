@@ -0,0 +1,137 @@
+package dev.araopj.hrplatformapi.utils.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("DatabaseBulkheadFilter Test")
+class DatabaseBulkheadFilterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseBulkheadFilter bulkhead;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new DatabaseBulkheadFilter(mock(DataSource.class), OBJECT_MAPPER, meterRegistry, 1, Duration.ZERO);
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    @Nested
+    @DisplayName("Permits Test")
+    class PermitsTest {
+
+        @Test
+        @DisplayName("Should size the bulkhead from the Hikari maximum pool size")
+        void shouldSizeFromHikariPool() {
+            final var METER_REGISTRY = new SimpleMeterRegistry();
+            try (var dataSource = new HikariDataSource()) {
+                dataSource.setMaximumPoolSize(7);
+
+                final var FILTER = new DatabaseBulkheadFilter(dataSource, OBJECT_MAPPER, METER_REGISTRY, 0, Duration.ZERO);
+
+                assertEquals(7, FILTER.availablePermits());
+                assertEquals(7, METER_REGISTRY.get("hr_platform.bulkhead.available").gauge().value());
+            }
+        }
+
+        @Test
+        @DisplayName("Should report the permits of the latest filter registered on a registry")
+        void shouldReplaceGaugesOfEarlierFilter() {
+            final var FILTER = new DatabaseBulkheadFilter(mock(DataSource.class), OBJECT_MAPPER, meterRegistry, 5, Duration.ZERO);
+
+            assertEquals(5, FILTER.availablePermits());
+            assertEquals(5, meterRegistry.get("hr_platform.bulkhead.available").gauge().value());
+            assertEquals(1, meterRegistry.find("hr_platform.bulkhead.available").gauges().size());
+            assertEquals(0, meterRegistry.get("hr_platform.bulkhead.queued").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should require explicit permits for a data source other than Hikari")
+        void shouldRequirePermitsWithoutHikari() {
+            assertThrows(IllegalStateException.class,
+                    () -> new DatabaseBulkheadFilter(mock(DataSource.class), OBJECT_MAPPER, meterRegistry, 0, Duration.ZERO));
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter Test")
+    class FilterTest {
+
+        @Test
+        @DisplayName("Should hold a permit while the request is handled and release it after")
+        void shouldHoldPermitWhileHandling() throws Exception {
+            final var RESPONSE = new MockHttpServletResponse();
+            final FilterChain CHAIN = (request, response) -> assertEquals(0, bulkhead.availablePermits());
+
+            bulkhead.doFilter(request("/api/v1/employees"), RESPONSE, CHAIN);
+
+            assertEquals(200, RESPONSE.getStatus());
+            assertEquals(1, bulkhead.availablePermits());
+        }
+
+        @Test
+        @DisplayName("Should reject with 503 and Retry-After when no permit frees up within max-wait")
+        void shouldRejectWhenFull() throws Exception {
+            final var REJECTED = new MockHttpServletResponse();
+            final FilterChain HANDLED = (request, response) -> {
+            };
+
+            bulkhead.doFilter(request("/api/v1/employees"), new MockHttpServletResponse(),
+                    (req, res) -> bulkhead.doFilter(request("/api/v1/salaries"), REJECTED, HANDLED));
+
+            assertEquals(503, REJECTED.getStatus());
+            assertEquals("1", REJECTED.getHeader(HttpHeaders.RETRY_AFTER));
+            assertEquals("Service is at capacity", OBJECT_MAPPER.readTree(REJECTED.getContentAsString()).get("error").get("message").asText());
+            assertEquals(1, meterRegistry.counter("hr_platform.bulkhead.rejected").count());
+            assertEquals(1, meterRegistry.timer("hr_platform.bulkhead.wait", "outcome", "admitted").count());
+            assertEquals(1, meterRegistry.timer("hr_platform.bulkhead.wait", "outcome", "rejected").count());
+            assertEquals(1, bulkhead.availablePermits());
+        }
+
+        @Test
+        @DisplayName("Should let requests outside the API through without a permit")
+        void shouldSkipNonApiRequests() throws Exception {
+            final var HEALTH = new MockHttpServletResponse();
+
+            bulkhead.doFilter(request("/api/v1/employees"), new MockHttpServletResponse(),
+                    (req, res) -> bulkhead.doFilter(request("/actuator/health"), HEALTH, (r, s) -> {
+                    }));
+
+            assertEquals(200, HEALTH.getStatus());
+            assertEquals(0, meterRegistry.counter("hr_platform.bulkhead.rejected").count());
+        }
+
+        @Test
+        @DisplayName("Should release the permit when the handler throws")
+        void shouldReleasePermitWhenHandlerThrows() {
+            final FilterChain FAILING = (request, response) -> {
+                throw new IllegalStateException("handler failed");
+            };
+
+            assertThrows(IllegalStateException.class,
+                    () -> bulkhead.doFilter(request("/api/v1/employees"), new MockHttpServletResponse(), FAILING));
+            assertEquals(1, bulkhead.availablePermits());
+        }
+    }
+}
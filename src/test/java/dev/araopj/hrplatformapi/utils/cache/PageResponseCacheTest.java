@@ -0,0 +1,86 @@
+package dev.araopj.hrplatformapi.utils.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static dev.araopj.hrplatformapi.exception.NotFoundException.EntityType.SALARY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("PageResponseCache Test")
+class PageResponseCacheTest {
+
+    private static final PageRequest PAGEABLE = PageRequest.of(0, 10);
+    private static final String KEY = PageResponseCache.key("salary", PAGEABLE);
+
+    private PageResponseCache pageResponseCache;
+
+    @BeforeEach
+    void setup() {
+        pageResponseCache = new PageResponseCache(new ObjectMapper(), 1 << 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<String> load(String row) {
+        return pageResponseCache.getOrLoad(KEY, PAGEABLE, String.class, () -> new PageImpl<>(List.of(row), PAGEABLE, 1), SALARY)
+                .getContent();
+    }
+
+    @Nested
+    @DisplayName("Invalidate Test")
+    class InvalidateTest {
+
+        @Test
+        @DisplayName("Should reload after an invalidation outside a transaction")
+        void shouldReloadAfterInvalidation() {
+            load("old");
+
+            pageResponseCache.invalidate(SALARY);
+
+            assertEquals(List.of("new"), load("new"));
+        }
+
+        @Test
+        @DisplayName("Should reject a page cached before the commit once the transaction commits")
+        void shouldRejectPageCachedBeforeCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            pageResponseCache.invalidate(SALARY);
+
+            // a concurrent reader still sees the uncommitted rows
+            assertEquals(List.of("old"), load("old"));
+            assertEquals(List.of("old"), load("new"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+
+            assertEquals(List.of("new"), load("new"));
+        }
+
+        @Test
+        @DisplayName("Should keep the cached page when the transaction rolls back")
+        void shouldKeepPageOnRollback() {
+            load("old");
+            TransactionSynchronizationManager.initSynchronization();
+
+            pageResponseCache.invalidate(SALARY);
+            TransactionSynchronizationManager.clearSynchronization();
+
+            assertEquals(List.of("old"), load("new"));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.araopj.hrplatformapi.utils.warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WarmUpRunner Test")
+class WarmUpRunnerTest {
+
+    private static WarmUpRunner runner(Duration timeout, boolean failOpen, WarmUpTask... tasks) {
+        var names = new HashSet<String>();
+        for (var task : tasks) {
+            names.add(task.name());
+        }
+        return new WarmUpRunner(List.of(tasks), Set.copyOf(names), timeout, failOpen, new SimpleMeterRegistry());
+    }
+
+    private static WarmUpTask task(String name, WarmUpTaskBody body) {
+        return new WarmUpTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public long warm() throws Exception {
+                return body.warm();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface WarmUpTaskBody {
+        long warm() throws Exception;
+    }
+
+    @Nested
+    @DisplayName("Readiness Test")
+    class ReadinessTest {
+
+        @Test
+        @DisplayName("Should report UP when every warm set loads")
+        void shouldReportUpWhenEveryWarmSetLoads() throws InterruptedException {
+            var runner = runner(Duration.ofSeconds(5), false, task("positions", () -> 3));
+
+            runner.run(new DefaultApplicationArguments());
+
+            assertTrue(runner.isReady());
+            assertEquals(3L, runner.sizes().get("positions"));
+            assertEquals(Status.UP, new WarmUpHealthIndicator(runner).health().getStatus());
+        }
+
+        @Test
+        @DisplayName("Should stay out of service when a warm set fails")
+        void shouldStayOutOfServiceWhenWarmSetFails() throws InterruptedException {
+            var runner = runner(Duration.ofSeconds(5), false,
+                    task("positions", () -> 3),
+                    task("workplaces", () -> {
+                        throw new IllegalStateException("database down");
+                    }));
+
+            runner.run(new DefaultApplicationArguments());
+
+            assertTrue(runner.isCompleted());
+            assertFalse(runner.isReady());
+            assertEquals("database down", runner.failures().get("workplaces"));
+            assertEquals(Status.OUT_OF_SERVICE, new WarmUpHealthIndicator(runner).health().getStatus());
+        }
+
+        @Test
+        @DisplayName("Should report UP with failures when fail-open is configured")
+        void shouldReportUpWithFailuresWhenFailOpen() throws InterruptedException {
+            var runner = runner(Duration.ofSeconds(5), true, task("workplaces", () -> {
+                throw new IllegalStateException("database down");
+            }));
+
+            runner.run(new DefaultApplicationArguments());
+
+            var health = new WarmUpHealthIndicator(runner).health();
+            assertEquals(Status.UP, health.getStatus());
+            assertEquals(Map.of("workplaces", "database down"), health.getDetails().get("failures"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Timeout Test")
+    class TimeoutTest {
+
+        @Test
+        @DisplayName("Should return at the deadline even if a task ignores interrupts")
+        void shouldReturnAtDeadlineWhenTaskIgnoresInterrupts() throws InterruptedException {
+            var release = new CountDownLatch(1);
+            var runner = runner(Duration.ofMillis(200), false, task("positions", () -> {
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                        // keep waiting, like a blocking driver call that does not honour interrupts
+                    }
+                }
+                return 1;
+            }));
+
+            final var STARTED_AT = System.nanoTime();
+            try {
+                runner.run(new DefaultApplicationArguments());
+            } finally {
+                release.countDown();
+            }
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - STARTED_AT).compareTo(Duration.ofSeconds(2)) < 0);
+            assertTrue(runner.isCompleted());
+            assertFalse(runner.isReady());
+            assertEquals("timed out after PT0.2S", runner.failures().get("positions"));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.araopj.hrplatformapi.salary.service.impl;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link SimulationKernel} on the JDK Vector API: each iteration gathers a full vector of candidate amounts through
+ * the cell indexes, blends in the current amounts where the candidate is missing, and accumulates lane-wise.
+ * <p>
+ * Lives outside {@code src/main/java} and is only compiled with {@code -Pvector}; {@link SimulationKernel#select()}
+ * loads it reflectively when it is on the classpath and {@code jdk.incubator.vector} is resolved.
+ */
+final class VectorSimulationKernel implements SimulationKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    VectorSimulationKernel() {
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("one long lane, no faster than the scalar kernel");
+        }
+    }
+
+    @Override
+    public long apply(int[] cells, long[] table, long[] current, long[] simulated, int length) {
+        var totals = LongVector.zero(SPECIES);
+        final var BOUND = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < BOUND; i += SPECIES.length()) {
+            final var CANDIDATE = LongVector.fromArray(SPECIES, table, 0, cells, i);
+            final var CURRENT = LongVector.fromArray(SPECIES, current, i);
+            final var AMOUNT = CANDIDATE.blend(CURRENT, CANDIDATE.compare(VectorOperators.LT, 0));
+            AMOUNT.intoArray(simulated, i);
+            totals = totals.add(AMOUNT);
+        }
+
+        long total = totals.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            final var CANDIDATE = table[cells[i]];
+            final var AMOUNT = CANDIDATE < 0 ? current[i] : CANDIDATE;
+            simulated[i] = AMOUNT;
+            total += AMOUNT;
+        }
+        return total;
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+}